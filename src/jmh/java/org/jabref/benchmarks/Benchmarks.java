@@ -1,22 +1,31 @@
 package org.jabref.benchmarks;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.jabref.gui.Globals;
 import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.bst.BstVM;
 import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutCache;
+import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.format.HTMLChars;
 import org.jabref.logic.layout.format.LatexToUnicodeFormatter;
 import org.jabref.logic.search.SearchQuery;
@@ -29,15 +38,25 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
+import org.jabref.model.groups.AllEntriesGroup;
 import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembership;
+import org.jabref.model.groups.GroupMembershipEvaluator;
+import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.groups.KeywordGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.MetaData;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.strings.LatexToUnicodeAdapter;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
+import com.github.tomtung.latex2unicode.LaTeX2Unicode;
 import org.openjdk.jmh.Main;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -52,6 +71,19 @@ public class Benchmarks {
     private final BibDatabase database = new BibDatabase();
     private String latexConversionString;
     private String htmlConversionString;
+    private List<String> fieldValues;
+    private final List<BibEntry> entriesToSort = new ArrayList<>();
+    private final SelfContainedSaveOrder authorYearTitleOrder = new SelfContainedSaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(
+            new SaveOrder.SortCriterion(StandardField.AUTHOR),
+            new SaveOrder.SortCriterion(StandardField.YEAR, true),
+            new SaveOrder.SortCriterion(StandardField.TITLE)));
+    private final GroupTreeNode groupTree = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+    private String htmlLayoutText;
+    private Layout htmlLayout;
+    private Layout docBookLayout;
+    private Layout risLayout;
+    private String ieeeTranBstText;
+    private BstVM ieeeTranBst;
 
     @Setup
     public void init() throws Exception {
@@ -72,9 +104,55 @@ public class Benchmarks {
 
         bibtexString = getOutputWriter().toString();
 
+        for (int i = 0; i < 100_000; i++) {
+            int author = randomizer.nextInt(5_000);
+            entriesToSort.add(new BibEntry()
+                    .withCitationKey("sort" + i)
+                    .withField(StandardField.AUTHOR, "M{\\\"{u}}ller" + author + ", Firstname and Lastname" + (author % 7) + ", Firstname")
+                    .withField(StandardField.YEAR, String.valueOf(1950 + randomizer.nextInt(75)))
+                    .withField(StandardField.TITLE, "The {T}itle of paper " + randomizer.nextInt(50_000)));
+        }
+
         latexConversionString = "{A} \\textbf{bold} approach {\\it to} ${{\\Sigma}}{\\Delta}$ modulator \\textsuperscript{2} \\$";
 
+        fieldValues = database.getEntries().stream()
+                              .flatMap(entry -> entry.getFields().stream().map(entry::getField).flatMap(Optional::stream))
+                              .toList();
+
         htmlConversionString = "<b>&Ouml;sterreich</b> &#8211; &amp; characters &#x2aa2; <i>italic</i>";
+
+        for (int i = 0; i < 100; i++) {
+            GroupTreeNode node = groupTree.addSubgroup(new WordKeywordGroup("group" + i, GroupHierarchyType.INCLUDING, StandardField.TITLE, String.valueOf(i), false, ',', false));
+            node.addSubgroup(new WordKeywordGroup("subgroup" + i, GroupHierarchyType.REFINING, StandardField.KEYWORDS, "testkeyword", false, ',', true));
+        }
+
+        htmlLayoutText = readLayout("html.layout");
+        htmlLayout = getLayout(htmlLayoutText);
+        docBookLayout = getLayout(readLayout("docbook5.layout"));
+        risLayout = getLayout(readLayout("ris/ris.layout"));
+
+        try (InputStream stream = Benchmarks.class.getResourceAsStream("/bst/IEEEtran.bst")) {
+            ieeeTranBstText = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        ieeeTranBst = new BstVM(ieeeTranBstText);
+    }
+
+    private static String readLayout(String name) throws IOException {
+        try (InputStream stream = Benchmarks.class.getResourceAsStream("/resource/layout/" + name)) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static Layout getLayout(String text) throws IOException {
+        return LayoutCache.getLayout(text, List.of(), Globals.prefs.getLayoutFormatterPreferences(), Globals.getJournalAbbreviationRepository());
+    }
+
+    private String doLayout(Layout layout) {
+        StringBuilder builder = new StringBuilder();
+        for (BibEntry entry : database.getEntries()) {
+            layout.doLayout(entry, database, builder);
+        }
+        return builder.toString();
     }
 
     private StringWriter getOutputWriter() throws IOException {
@@ -96,6 +174,12 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseWithFieldValueDeduplication() throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor(), true);
+        return parser.parse(new StringReader(bibtexString));
+    }
+
     @Benchmark
     public String write() throws Exception {
         return getOutputWriter().toString();
@@ -115,6 +199,38 @@ public class Benchmarks {
         return database.getEntries().parallelStream().filter(searchQuery::isMatch).collect(Collectors.toList());
     }
 
+    @Benchmark
+    public List<BibEntry> grammarSearch() {
+        // The expensive comparison with all fields is written first
+        SearchQuery searchQuery = new SearchQuery("anyfield=paper and author=lastname3 and year==1990", EnumSet.noneOf(SearchFlags.class));
+        return entriesToSort.stream().filter(searchQuery::isMatch).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<BibEntry> sortByAuthorYearTitle() {
+        return BibDatabaseWriter.getSortedEntries(entriesToSort, authorYearTitleOrder);
+    }
+
+    @Benchmark
+    public List<BibEntry> sortByAuthorYearTitleWithoutCachedKeys(UncachedEntries uncachedEntries) {
+        return BibDatabaseWriter.getSortedEntries(uncachedEntries.copies, authorYearTitleOrder);
+    }
+
+    /**
+     * Fresh copies of the entries to sort for every invocation, so that the copying is not measured
+     */
+    @State(Scope.Thread)
+    public static class UncachedEntries {
+
+        List<BibEntry> copies;
+
+        @Setup(Level.Invocation)
+        public void copy(Benchmarks benchmarks) {
+            // Copies do not share the sort keys of their originals
+            copies = benchmarks.entriesToSort.stream().map(entry -> (BibEntry) entry.clone()).toList();
+        }
+    }
+
     @Benchmark
     public BibDatabaseMode inferBibDatabaseMode() {
         return BibDatabaseModeDetection.inferMode(database);
@@ -126,6 +242,24 @@ public class Benchmarks {
         return f.format(latexConversionString);
     }
 
+    @Benchmark
+    public int latexToUnicodeOfFieldValues() {
+        int length = 0;
+        for (String value : fieldValues) {
+            length += LatexToUnicodeAdapter.format(value).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int latexToUnicodeOfFieldValuesWithParser() {
+        int length = 0;
+        for (String value : fieldValues) {
+            length += LaTeX2Unicode.convert(value).length();
+        }
+        return length;
+    }
+
     @Benchmark
     public String latexToHTMLConversion() {
         HTMLChars f = new HTMLChars();
@@ -144,6 +278,60 @@ public class Benchmarks {
         return group.containsAll(database.getEntries());
     }
 
+    @Benchmark
+    public int groupTreeMatchesPerGroup() {
+        int matches = 0;
+        for (GroupTreeNode node : groupTree.getChildren()) {
+            matches += node.findMatches(database).size();
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public GroupMembership groupTreeMembership() {
+        return GroupMembershipEvaluator.evaluate(groupTree, database.getEntries());
+    }
+
+    @Benchmark
+    public Layout compileHtmlLayout() throws IOException {
+        return new LayoutHelper(new StringReader(htmlLayoutText), Globals.prefs.getLayoutFormatterPreferences(), Globals.getJournalAbbreviationRepository()).getLayoutFromText();
+    }
+
+    @Benchmark
+    public Layout cachedHtmlLayout() throws IOException {
+        return getLayout(htmlLayoutText);
+    }
+
+    @Benchmark
+    public String htmlExportLayout() {
+        return doLayout(htmlLayout);
+    }
+
+    @Benchmark
+    public String docBookExportLayout() {
+        return doLayout(docBookLayout);
+    }
+
+    @Benchmark
+    public String risExportLayout() {
+        return doLayout(risLayout);
+    }
+
+    @Benchmark
+    public BstVM compileIeeeTranBst() {
+        return new BstVM(ieeeTranBstText);
+    }
+
+    @Benchmark
+    public String ieeeTranBstSingleEntry() {
+        return ieeeTranBst.render(database.getEntries().subList(0, 1), database);
+    }
+
+    @Benchmark
+    public String ieeeTranBstAllEntries() {
+        return ieeeTranBst.render(database.getEntries(), database);
+    }
+
     public static void main(String[] args) throws IOException, RunnerException {
         Main.main(args);
     }
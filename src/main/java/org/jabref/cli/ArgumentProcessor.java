@@ -41,6 +41,8 @@ import org.jabref.logic.importer.fileformat.BibtexParser;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.URLDownload;
+import org.jabref.logic.remote.DaemonToken;
+import org.jabref.logic.remote.server.DaemonServer;
 import org.jabref.logic.search.DatabaseSearcher;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
@@ -211,6 +213,20 @@ public class ArgumentProcessor {
             importPreferences();
         }
 
+        if ((startupMode == Mode.INITIAL_START) && cli.isDaemon()) {
+            runDaemon(cli.getDaemonPort());
+            noGUINeeded = true;
+            this.parserResults = Collections.emptyList();
+            return;
+        }
+
+        if (cli.isBatch()) {
+            convertBatch(cli.getBatch().split(","));
+            noGUINeeded = true;
+            this.parserResults = Collections.emptyList();
+            return;
+        }
+
         // List to put imported/loaded database(s) in.
         List<ParserResult> loaded = importAndOpenFiles();
 
@@ -250,7 +266,7 @@ public class ArgumentProcessor {
                         preferencesService.getLibraryPreferences().getDefaultBibDatabaseMode(),
                         Globals.entryTypesManager,
                         preferencesService.getFieldPreferences(),
-                        Globals.journalAbbreviationRepository,
+                        Globals.getJournalAbbreviationRepository(),
                         cli.isWriteXMPtoPdf() || cli.isWriteMetadatatoPdf(),
                         cli.isEmbeddBibfileInPdf() || cli.isWriteMetadatatoPdf());
             }
@@ -280,6 +296,51 @@ public class ArgumentProcessor {
         this.parserResults = loaded;
     }
 
+    private void convertBatch(String[] data) {
+        if (data.length < 2) {
+            System.err.println(Localization.lang("Usage") + ": --batch DIRECTORY|MANIFEST,OUTPUT_DIRECTORY[,FORMAT1][,FORMATn]");
+            return;
+        }
+        List<String> formats = data.length > 2 ? List.of(data).subList(2, data.length) : List.of(BatchConverter.BIBTEX_FORMAT);
+        Path outputDirectory = Path.of(data[1]);
+        try {
+            BatchConverter converter = new BatchConverter(
+                    preferencesService,
+                    entryTypesManager,
+                    Globals.getJournalAbbreviationRepository(),
+                    cli.isGenerateCitationKeys(),
+                    cli.getBatchThreads());
+            List<Path> inputFiles = BatchConverter.collectInputFiles(Path.of(data[0]));
+            BatchConverter.Summary summary = converter.convert(inputFiles, outputDirectory, formats);
+            System.out.println(Localization.lang("Converted %0 of %1 libraries in %2 s. See %3 for details.",
+                    String.valueOf(summary.files() - summary.failed()),
+                    String.valueOf(summary.files()),
+                    String.valueOf(summary.duration().toSeconds()),
+                    outputDirectory.resolve(BatchConverter.REPORT_FILE_NAME).toString()));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println(Localization.lang("Could not convert libraries (reason: %0)", e.getLocalizedMessage()));
+        }
+    }
+
+    /**
+     * Serves requests of scripts until a client requests the shutdown. Only clients able to read the token file of the
+     * user are served.
+     */
+    private void runDaemon(int port) {
+        JabRefDaemon daemon = new JabRefDaemon(
+                preferencesService,
+                Globals.entryTypesManager,
+                Globals.getJournalAbbreviationRepository());
+        Path tokenFile = OS.getNativeDesktop().getDaemonTokenFile();
+        try (DaemonServer server = new DaemonServer(daemon, port, Runtime.getRuntime().availableProcessors(), DaemonToken.create(tokenFile))) {
+            System.out.println(Localization.lang("Listening for requests on port %0", String.valueOf(server.getPort())));
+            System.out.println(Localization.lang("Clients have to authenticate with the token stored in %0", tokenFile.toString()));
+            server.run();
+        } catch (IOException e) {
+            System.err.println(Localization.lang("Could not start daemon (reason: %0)", e.getLocalizedMessage()));
+        }
+    }
+
     private void writeMetadataToPdf(List<ParserResult> loaded,
                                     String filesAndCitekeys,
                                     XmpPreferences xmpPreferences,
@@ -482,7 +543,7 @@ public class ArgumentProcessor {
                     // We have an TemplateExporter instance:
                     try {
                         System.out.println(Localization.lang("Exporting %0", data[1]));
-                        exporter.get().export(databaseContext, Path.of(data[1]), matches, Collections.emptyList(), Globals.journalAbbreviationRepository);
+                        exporter.get().export(databaseContext, Path.of(data[1]), matches, Collections.emptyList(), Globals.getJournalAbbreviationRepository());
                     } catch (Exception ex) {
                         System.err.println(Localization.lang("Could not export file '%0' (reason: %1)", data[1], Throwables.getStackTraceAsString(ex)));
                     }
@@ -657,7 +718,7 @@ public class ArgumentProcessor {
                             Path.of(data[0]),
                             parserResult.getDatabaseContext().getDatabase().getEntries(),
                             fileDirForDatabase,
-                            Globals.journalAbbreviationRepository);
+                            Globals.getJournalAbbreviationRepository());
                 } catch (Exception ex) {
                     System.err.println(Localization.lang("Could not export file '%0' (reason: %1)", data[0], Throwables.getStackTraceAsString(ex)));
                 }
@@ -0,0 +1,309 @@
+package org.jabref.cli;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.BibWriter;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.Exporter;
+import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.util.OS;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.PreferencesService;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Converts many libraries at once (command line option {@code --batch}).
+ * <p>
+ * The input is either a directory (all .bib files in it and its subdirectories) or a manifest file listing one library
+ * per line. The libraries are converted concurrently by a bounded number of threads. Each library is released as soon
+ * as it is exported, thus the memory needed does not grow with the number of libraries.
+ * <p>
+ * For each library, a line with the outcome and the timings is written to {@value #REPORT_FILE_NAME} in the output
+ * directory as soon as the library is finished.
+ */
+public class BatchConverter {
+
+    public static final String REPORT_FILE_NAME = "batch-report.csv";
+    public static final String BIBTEX_FORMAT = "bib";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchConverter.class);
+    private static final String[] REPORT_HEADER = {"file", "status", "entries", "loadMillis", "exportMillis", "totalMillis", "message"};
+
+    private final PreferencesService preferencesService;
+    private final BibEntryTypesManager entryTypesManager;
+    private final JournalAbbreviationRepository abbreviationRepository;
+    private final boolean generateCitationKeys;
+    private final int threads;
+
+    public BatchConverter(PreferencesService preferencesService,
+                          BibEntryTypesManager entryTypesManager,
+                          JournalAbbreviationRepository abbreviationRepository,
+                          boolean generateCitationKeys,
+                          int threads) {
+        this.preferencesService = Objects.requireNonNull(preferencesService);
+        this.entryTypesManager = Objects.requireNonNull(entryTypesManager);
+        this.abbreviationRepository = abbreviationRepository;
+        this.generateCitationKeys = generateCitationKeys;
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Determines the libraries to convert.
+     *
+     * @param input a directory (searched recursively for .bib files) or a manifest file with one library per line.
+     *              In a manifest, empty lines and lines starting with # are ignored and relative paths are resolved
+     *              against the directory of the manifest.
+     */
+    public static List<Path> collectInputFiles(Path input) throws IOException {
+        if (Files.isDirectory(input)) {
+            try (Stream<Path> files = Files.walk(input)) {
+                return files.filter(Files::isRegularFile)
+                            .filter(file -> FileUtil.getFileExtension(file).map(BIBTEX_FORMAT::equalsIgnoreCase).orElse(false))
+                            .sorted()
+                            .toList();
+            }
+        }
+
+        Path baseDirectory = input.toAbsolutePath().getParent();
+        try (Stream<String> lines = Files.lines(input, StandardCharsets.UTF_8)) {
+            return lines.map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .map(baseDirectory::resolve)
+                        .toList();
+        }
+    }
+
+    /**
+     * Converts all given libraries to all given formats and writes the report.
+     *
+     * @param formats the names of the export formats, {@value #BIBTEX_FORMAT} stands for BibTeX
+     * @throws IllegalArgumentException if one of the formats is unknown
+     */
+    public Summary convert(List<Path> inputFiles, Path outputDirectory, List<String> formats) throws IOException {
+        ExporterFactory exporterFactory = ExporterFactory.create(preferencesService, entryTypesManager);
+        Map<String, String> extensions = determineExtensions(exporterFactory, formats);
+        Map<Path, String> outputNames = determineOutputNames(inputFiles);
+
+        Files.createDirectories(outputDirectory);
+        ImportFormatPreferences importFormatPreferences = preferencesService.getImportFormatPreferences();
+        // Exporters are not guaranteed to be thread-safe, thus each thread creates its own ones once for all its libraries
+        ThreadLocal<Map<String, Exporter>> exporters = ThreadLocal.withInitial(() -> createExporters(formats));
+
+        long start = System.nanoTime();
+        AtomicInteger failed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (BufferedWriter writer = Files.newBufferedWriter(outputDirectory.resolve(REPORT_FILE_NAME), StandardCharsets.UTF_8);
+             CSVPrinter report = new CSVPrinter(writer, CSVFormat.DEFAULT.builder().setHeader(REPORT_HEADER).build())) {
+            for (Path inputFile : inputFiles) {
+                executor.execute(() -> {
+                    ReportLine line = convertFile(inputFile, outputDirectory, outputNames.get(inputFile), extensions, exporters.get(), importFormatPreferences);
+                    if (line.status() == Status.ERROR) {
+                        failed.incrementAndGet();
+                    }
+                    writeReportLine(report, line);
+                });
+            }
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Summary(inputFiles.size(), failed.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static Map<String, String> determineExtensions(ExporterFactory exporterFactory, List<String> formats) {
+        Map<String, String> extensions = new LinkedHashMap<>();
+        Set<String> usedExtensions = new HashSet<>();
+        for (String format : formats) {
+            String extension;
+            if (BIBTEX_FORMAT.equals(format)) {
+                extension = BIBTEX_FORMAT;
+            } else {
+                Exporter exporter = exporterFactory.getExporterByName(format)
+                                                   .orElseThrow(() -> new IllegalArgumentException("Unknown export format " + format));
+                extension = exporter.getFileType().getExtensions().get(0);
+            }
+            // Two formats may share an extension (e.g., several HTML formats)
+            extensions.put(format, usedExtensions.add(extension) ? extension : format + "." + extension);
+        }
+        return extensions;
+    }
+
+    /**
+     * Creates the exporters of the given formats, except for BibTeX, which is written directly
+     */
+    private Map<String, Exporter> createExporters(List<String> formats) {
+        ExporterFactory exporterFactory = ExporterFactory.create(preferencesService, entryTypesManager);
+        Map<String, Exporter> exporters = new HashMap<>();
+        for (String format : formats) {
+            if (!BIBTEX_FORMAT.equals(format)) {
+                exporterFactory.getExporterByName(format).ifPresent(exporter -> exporters.put(format, exporter));
+            }
+        }
+        return exporters;
+    }
+
+    /**
+     * Uses the file name without extension. Libraries with the same name (from different directories) are numbered.
+     */
+    private static Map<Path, String> determineOutputNames(List<Path> inputFiles) {
+        Map<Path, String> outputNames = new HashMap<>();
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (Path inputFile : inputFiles) {
+            String baseName = FileUtil.getBaseName(inputFile);
+            int occurrence = occurrences.merge(baseName, 1, Integer::sum);
+            outputNames.put(inputFile, occurrence == 1 ? baseName : baseName + "-" + occurrence);
+        }
+        return outputNames;
+    }
+
+    private ReportLine convertFile(Path inputFile, Path outputDirectory, String outputName, Map<String, String> extensions, Map<String, Exporter> exporters, ImportFormatPreferences importFormatPreferences) {
+        long start = System.nanoTime();
+        long loaded = start;
+        int numberOfEntries = 0;
+        try {
+            ParserResult result = OpenDatabase.loadDatabase(inputFile, importFormatPreferences, new DummyFileUpdateMonitor());
+            loaded = System.nanoTime();
+            if (result.isInvalid()) {
+                return new ReportLine(inputFile, Status.ERROR, 0, loaded - start, 0, result.getErrorMessage());
+            }
+
+            BibDatabaseContext databaseContext = result.getDatabaseContext();
+            databaseContext.setDatabasePath(inputFile.toAbsolutePath());
+            List<BibEntry> entries = databaseContext.getDatabase().getEntries();
+            numberOfEntries = entries.size();
+            if (generateCitationKeys) {
+                CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
+                entries.forEach(keyGenerator::generateAndSetKey);
+            }
+
+            List<Path> fileDirectories = databaseContext.getFileDirectories(preferencesService.getFilePreferences());
+            for (Map.Entry<String, String> formatAndExtension : extensions.entrySet()) {
+                Path outputFile = outputDirectory.resolve(outputName + "." + formatAndExtension.getValue());
+                if (BIBTEX_FORMAT.equals(formatAndExtension.getKey())) {
+                    saveAsBibtex(databaseContext, outputFile, preferencesService, entryTypesManager);
+                } else {
+                    Exporter exporter = exporters.get(formatAndExtension.getKey());
+                    if (exporter != null) {
+                        exporter.export(databaseContext, outputFile, entries, fileDirectories, abbreviationRepository);
+                    }
+                }
+            }
+
+            long exported = System.nanoTime();
+            if (result.hasWarnings()) {
+                return new ReportLine(inputFile, Status.WARNING, numberOfEntries, loaded - start, exported - loaded, result.getErrorMessage());
+            }
+            return new ReportLine(inputFile, Status.OK, numberOfEntries, loaded - start, exported - loaded, "");
+        } catch (Exception e) {
+            LOGGER.debug("Could not convert {}", inputFile, e);
+            return new ReportLine(inputFile, Status.ERROR, numberOfEntries, loaded - start, System.nanoTime() - loaded, String.valueOf(e.getMessage()));
+        }
+    }
+
+    /**
+     * Writes the complete library as BibTeX.
+     */
+    static void saveAsBibtex(BibDatabaseContext databaseContext, Path outputFile, PreferencesService preferencesService, BibEntryTypesManager entryTypesManager) throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(outputFile, StandardCharsets.UTF_8)) {
+            createBibtexWriter(fileWriter, preferencesService, entryTypesManager).saveDatabase(databaseContext);
+        }
+    }
+
+    /**
+     * Writes the given entries of the library as BibTeX.
+     */
+    static void saveAsBibtex(BibDatabaseContext databaseContext, List<BibEntry> entries, Path outputFile, PreferencesService preferencesService, BibEntryTypesManager entryTypesManager) throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(outputFile, StandardCharsets.UTF_8)) {
+            createBibtexWriter(fileWriter, preferencesService, entryTypesManager).savePartOfDatabase(databaseContext, entries);
+        }
+    }
+
+    private static BibDatabaseWriter createBibtexWriter(AtomicFileWriter fileWriter, PreferencesService preferencesService, BibEntryTypesManager entryTypesManager) {
+        BibWriter bibWriter = new BibWriter(fileWriter, OS.NEWLINE);
+        SelfContainedSaveConfiguration saveConfiguration = (SelfContainedSaveConfiguration) new SelfContainedSaveConfiguration()
+                .withReformatOnSave(preferencesService.getLibraryPreferences().shouldAlwaysReformatOnSave());
+        return new BibtexDatabaseWriter(
+                bibWriter,
+                saveConfiguration,
+                preferencesService.getFieldPreferences(),
+                preferencesService.getCitationKeyPatternPreferences(),
+                entryTypesManager);
+    }
+
+    private static void writeReportLine(CSVPrinter report, ReportLine line) {
+        List<Object> values = new ArrayList<>(List.of(
+                line.file().toString(),
+                line.status(),
+                line.entries(),
+                TimeUnit.NANOSECONDS.toMillis(line.loadNanos()),
+                TimeUnit.NANOSECONDS.toMillis(line.exportNanos()),
+                TimeUnit.NANOSECONDS.toMillis(line.loadNanos() + line.exportNanos()),
+                line.message()));
+        synchronized (report) {
+            try {
+                report.printRecord(values);
+                // Make the progress visible to tools watching the report
+                report.flush();
+            } catch (IOException e) {
+                LOGGER.error("Could not write report line for {}", line.file(), e);
+            }
+        }
+    }
+
+    public enum Status {
+        OK, WARNING, ERROR
+    }
+
+    private record ReportLine(Path file, Status status, int entries, long loadNanos, long exportNanos, String message) {
+    }
+
+    /**
+     * @param files  the number of libraries processed
+     * @param failed the number of libraries which could not be converted
+     */
+    public record Summary(int files, int failed, Duration duration) {
+    }
+}
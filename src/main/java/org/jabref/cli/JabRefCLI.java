@@ -9,6 +9,7 @@ import org.jabref.gui.Globals;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.remote.server.DaemonServer;
 import org.jabref.logic.util.OS;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.DummyFileUpdateMonitor;
@@ -143,6 +144,26 @@ public class JabRefCLI {
         return cl.getOptionValue("exportMatches");
     }
 
+    public boolean isBatch() {
+        return cl.hasOption("batch");
+    }
+
+    public String getBatch() {
+        return cl.getOptionValue("batch");
+    }
+
+    public int getBatchThreads() {
+        return Integer.parseInt(cl.getOptionValue("batchThreads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+    }
+
+    public boolean isDaemon() {
+        return cl.hasOption("daemon");
+    }
+
+    public int getDaemonPort() {
+        return Integer.parseInt(cl.getOptionValue("daemon", String.valueOf(DaemonServer.DEFAULT_PORT)));
+    }
+
     public boolean isGenerateCitationKeys() {
         return cl.hasOption("generateCitationKeys");
     }
@@ -224,6 +245,31 @@ public class JabRefCLI {
                 .argName("QUERY,FILE[,FORMAT]")
                 .build());
 
+        options.addOption(Option
+                .builder()
+                .longOpt("batch")
+                .desc(String.format("%s: '%s'", Localization.lang("Convert all libraries of a directory or manifest file"), "--batch libraries,out,bib,html"))
+                .hasArg()
+                .argName("DIRECTORY|MANIFEST,OUTPUT_DIRECTORY[,FORMAT1][,FORMATn]")
+                .build());
+
+        options.addOption(Option
+                .builder()
+                .longOpt("batchThreads")
+                .desc(String.format("%s: '%s'", Localization.lang("Number of libraries converted concurrently"), "--batchThreads 4"))
+                .hasArg()
+                .argName("NUMBER")
+                .build());
+
+        options.addOption(Option
+                .builder()
+                .longOpt("daemon")
+                .desc(String.format("%s: '%s'", Localization.lang("Keep running without window and answer conversion, search, export, and key generation requests"), "--daemon 6051"))
+                .hasArg()
+                .optionalArg(true)
+                .argName("PORT")
+                .build());
+
         options.addOption(Option
                 .builder("f")
                 .longOpt("fetch")
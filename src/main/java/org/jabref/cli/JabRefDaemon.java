@@ -0,0 +1,140 @@
+package org.jabref.cli;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.exporter.Exporter;
+import org.jabref.logic.exporter.ExporterFactory;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.OpenDatabase;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.remote.DaemonCommand;
+import org.jabref.logic.remote.DaemonRequest;
+import org.jabref.logic.remote.DaemonResponse;
+import org.jabref.logic.remote.server.DaemonRequestHandler;
+import org.jabref.logic.search.LibraryCache;
+import org.jabref.logic.search.LibraryCache.CachedLibrary;
+import org.jabref.logic.search.MetadataIndex;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.PreferencesService;
+
+/**
+ * Answers the requests of the headless daemon (command line option {@code --daemon}).
+ * <p>
+ * The preferences, the entry types, and the journal abbreviations are loaded once. Parsed libraries are kept and
+ * reused as long as the file on disk is unchanged. Cached libraries are only read, never modified: BibTeX is written
+ * from copies of the entries, as writing applies the save actions and may generate keys, and {@link
+ * DaemonCommand#KEYGEN} works on a freshly parsed copy.
+ */
+public class JabRefDaemon implements DaemonRequestHandler {
+
+    private final PreferencesService preferencesService;
+    private final BibEntryTypesManager entryTypesManager;
+    private final JournalAbbreviationRepository abbreviationRepository;
+    private final ImportFormatPreferences importFormatPreferences;
+    private final LibraryCache libraries;
+
+    public JabRefDaemon(PreferencesService preferencesService,
+                        BibEntryTypesManager entryTypesManager,
+                        JournalAbbreviationRepository abbreviationRepository) {
+        this.preferencesService = Objects.requireNonNull(preferencesService);
+        this.entryTypesManager = Objects.requireNonNull(entryTypesManager);
+        this.abbreviationRepository = abbreviationRepository;
+        this.importFormatPreferences = preferencesService.getImportFormatPreferences();
+        // The persistent index only indexes the entries changed since the library was last indexed
+        LibraryCache.IndexOpener indexOpener = preferencesService.getSearchPreferences().shouldStoreMetadataIndex()
+                ? MetadataIndex::of
+                : databaseContext -> MetadataIndex.inMemory(databaseContext.getEntries());
+        this.libraries = new LibraryCache(file -> load(file).getDatabaseContext(), indexOpener);
+    }
+
+    @Override
+    public DaemonResponse handle(DaemonRequest request) throws Exception {
+        List<String> arguments = request.arguments();
+        return switch (request.command()) {
+            case CONVERT -> {
+                checkArguments(arguments, 2, 3, "CONVERT INPUT OUTPUT [FORMAT]");
+                BibDatabaseContext databaseContext = libraries.get(Path.of(arguments.get(0))).getDatabaseContext();
+                List<BibEntry> entries = databaseContext.getEntries();
+                export(databaseContext, entries, Path.of(arguments.get(1)), getFormat(arguments, 2));
+                yield DaemonResponse.ok("Exported " + entries.size() + " entries");
+            }
+            case SEARCH -> {
+                checkArguments(arguments, 2, 2, "SEARCH LIBRARY QUERY");
+                List<BibEntry> matches = search(libraries.get(Path.of(arguments.get(0))), arguments.get(1));
+                yield DaemonResponse.ok(matches.stream()
+                                               .map(BibEntry::getCitationKey)
+                                               .flatMap(Optional::stream)
+                                               .collect(Collectors.joining("\n")));
+            }
+            case EXPORT -> {
+                checkArguments(arguments, 3, 4, "EXPORT LIBRARY QUERY OUTPUT [FORMAT]");
+                CachedLibrary library = libraries.get(Path.of(arguments.get(0)));
+                List<BibEntry> matches = search(library, arguments.get(1));
+                export(library.getDatabaseContext(), matches, Path.of(arguments.get(2)), getFormat(arguments, 3));
+                yield DaemonResponse.ok("Exported " + matches.size() + " entries");
+            }
+            case KEYGEN -> {
+                checkArguments(arguments, 1, 2, "KEYGEN LIBRARY [OUTPUT]");
+                Path outputFile = Path.of(arguments.size() > 1 ? arguments.get(1) : arguments.get(0));
+                BibDatabaseContext databaseContext = load(Path.of(arguments.get(0))).getDatabaseContext();
+                CitationKeyGenerator keyGenerator = new CitationKeyGenerator(databaseContext, preferencesService.getCitationKeyPatternPreferences());
+                databaseContext.getEntries().forEach(keyGenerator::generateAndSetKey);
+                BatchConverter.saveAsBibtex(databaseContext, outputFile, preferencesService, entryTypesManager);
+                // The modification time might not have changed within its resolution
+                libraries.invalidate(outputFile);
+                yield DaemonResponse.ok("Generated keys for " + databaseContext.getEntries().size() + " entries");
+            }
+            default ->
+                    DaemonResponse.error("Unsupported command " + request.command());
+        };
+    }
+
+    private static void checkArguments(List<String> arguments, int min, int max, String usage) {
+        if ((arguments.size() < min) || (arguments.size() > max)) {
+            throw new IllegalArgumentException("Usage: " + usage);
+        }
+    }
+
+    private static String getFormat(List<String> arguments, int index) {
+        return arguments.size() > index ? arguments.get(index) : BatchConverter.BIBTEX_FORMAT;
+    }
+
+    private List<BibEntry> search(CachedLibrary library, String query) {
+        SearchQuery searchQuery = new SearchQuery(query, preferencesService.getSearchPreferences().getSearchFlags());
+        return library.getMatches(Optional.of(searchQuery), Optional.empty(), false);
+    }
+
+    private void export(BibDatabaseContext databaseContext, List<BibEntry> entries, Path outputFile, String format) throws Exception {
+        if (BatchConverter.BIBTEX_FORMAT.equals(format)) {
+            // Writing modifies the entries, which are shared with other requests
+            List<BibEntry> copies = entries.stream().map(entry -> (BibEntry) entry.clone()).toList();
+            BatchConverter.saveAsBibtex(databaseContext, copies, outputFile, preferencesService, entryTypesManager);
+            return;
+        }
+        // Exporters are not guaranteed to be thread-safe, thus each request gets its own ones
+        ExporterFactory exporterFactory = ExporterFactory.create(preferencesService, entryTypesManager);
+        Exporter exporter = exporterFactory.getExporterByName(format)
+                                           .orElseThrow(() -> new IllegalArgumentException("Unknown export format " + format));
+        exporter.export(databaseContext, outputFile, entries, databaseContext.getFileDirectories(preferencesService.getFilePreferences()), abbreviationRepository);
+    }
+
+    private ParserResult load(Path file) throws IOException {
+        ParserResult result = OpenDatabase.loadDatabase(file, importFormatPreferences, new DummyFileUpdateMonitor());
+        if (result.isInvalid()) {
+            throw new IOException(result.getErrorMessage());
+        }
+        result.getDatabaseContext().setDatabasePath(file.toAbsolutePath());
+        return result;
+    }
+}
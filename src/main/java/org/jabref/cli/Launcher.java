@@ -10,23 +10,24 @@ import java.util.Comparator;
 import java.util.Map;
 
 import org.jabref.gui.Globals;
+import org.jabref.gui.JabRefExecutorService;
 import org.jabref.gui.MainApplication;
-import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
 import org.jabref.logic.net.ssl.SSLPreferences;
 import org.jabref.logic.net.ssl.TrustStoreManager;
-import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
+import org.jabref.logic.search.MetadataIndex;
 import org.jabref.logic.util.OS;
+import org.jabref.logic.util.StartupTaskGraph;
+import org.jabref.logic.util.StartupTimeline;
 import org.jabref.migrations.PreferencesMigrations;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
-import org.jabref.preferences.PreferencesService;
 
 import org.apache.commons.cli.ParseException;
 import org.slf4j.Logger;
@@ -42,9 +43,13 @@ import org.tinylog.configuration.Configuration;
  * - Start the JavaFX application (if not in cli mode)
  */
 public class Launcher {
+    private static final StartupTimeline STARTUP_TIMELINE = new StartupTimeline();
+    private static final String MIGRATIONS = "Migrate preferences";
+
     private static Logger LOGGER;
     private static String[] ARGUMENTS;
     private static boolean isDebugEnabled;
+    private static boolean isDaemon;
 
     public static void main(String[] args) {
         routeLoggingToSlf4J();
@@ -56,6 +61,7 @@ public class Launcher {
         try {
             jabRefCLI = new JabRefCLI(ARGUMENTS);
             isDebugEnabled = jabRefCLI.isDebugLogging();
+            isDaemon = jabRefCLI.isDaemon();
         } catch (ParseException e) {
             isDebugEnabled = false;
         }
@@ -66,21 +72,18 @@ public class Launcher {
             Globals.entryTypesManager = entryTypesManager;
 
             // Initialize preferences
-            final JabRefPreferences preferences = JabRefPreferences.getInstance();
+            final JabRefPreferences preferences = STARTUP_TIMELINE.measure("Load preferences", JabRefPreferences::getInstance);
 
             // Early exit in case another instance is already running
-            if (!handleMultipleAppInstances(ARGUMENTS, preferences.getRemotePreferences())) {
+            if (!STARTUP_TIMELINE.measure("Contact running instance", () -> handleMultipleAppInstances(ARGUMENTS, preferences.getRemotePreferences()))) {
                 return;
             }
 
             Globals.prefs = preferences;
-            PreferencesMigrations.runMigrations(preferences, entryTypesManager);
+            initGlobals(preferences, entryTypesManager);
 
-            // Initialize rest of preferences
-            configureProxy(preferences.getProxyPreferences());
-            configureSSL(preferences.getSSLPreferences());
-            initGlobals(preferences);
-            clearOldSearchIndices();
+            // Not needed for the first window
+            JabRefExecutorService.INSTANCE.execute(() -> STARTUP_TIMELINE.measure("Clear old search indices", () -> clearOldSearchIndices(preferences.getSearchPreferences().shouldStoreMetadataIndex())));
 
             try {
                 FileUpdateMonitor fileUpdateMonitor = Globals.getFileUpdateMonitor();
@@ -92,7 +95,7 @@ public class Launcher {
                         preferences,
                         fileUpdateMonitor,
                         entryTypesManager);
-                argumentProcessor.processArguments();
+                STARTUP_TIMELINE.measure("Process command line arguments", argumentProcessor::processArguments);
                 if (argumentProcessor.shouldShutDown()) {
                     LOGGER.debug("JabRef shut down after processing command line arguments");
                     // A clean shutdown takes 60s time
@@ -100,7 +103,7 @@ public class Launcher {
                     System.exit(0);
                 }
 
-                MainApplication.main(argumentProcessor.getParserResults(), argumentProcessor.isBlank(), preferences, fileUpdateMonitor, ARGUMENTS);
+                MainApplication.main(argumentProcessor.getParserResults(), argumentProcessor.isBlank(), preferences, fileUpdateMonitor, STARTUP_TIMELINE, ARGUMENTS);
             } catch (ParseException e) {
                 LOGGER.error("Problem parsing arguments", e);
                 JabRefCLI.printUsage(preferences);
@@ -147,7 +150,8 @@ public class Launcher {
     }
 
     private static boolean handleMultipleAppInstances(String[] args, RemotePreferences remotePreferences) {
-        if (remotePreferences.useRemoteServer()) {
+        // The daemon runs independently of a running JabRef instance
+        if (remotePreferences.useRemoteServer() && !isDaemon) {
             // Try to contact already running JabRef
             RemoteClient remoteClient = new RemoteClient(remotePreferences.getPort());
             if (remoteClient.ping()) {
@@ -165,13 +169,19 @@ public class Launcher {
         return true;
     }
 
-    private static void initGlobals(PreferencesService preferences) {
-        // Read list(s) of journal names and abbreviations
-        Globals.journalAbbreviationRepository = JournalAbbreviationLoader
-                .loadRepository(preferences.getJournalAbbreviationPreferences());
-
-        Globals.entryTypesManager = preferences.getCustomEntryTypesRepository();
-        Globals.protectedTermsLoader = new ProtectedTermsLoader(preferences.getProtectedTermsPreferences());
+    /**
+     * Initializes everything needed before the command line is processed. Independent steps run concurrently.
+     * Services not needed for the first window (journal abbreviations, protected terms) are loaded lazily by
+     * {@link Globals}.
+     */
+    private static void initGlobals(JabRefPreferences preferences, BibEntryTypesManager entryTypesManager) {
+        StartupTaskGraph startupTasks = new StartupTaskGraph(JabRefExecutorService.INSTANCE::execute, STARTUP_TIMELINE);
+        startupTasks.add(MIGRATIONS, () -> PreferencesMigrations.runMigrations(preferences, entryTypesManager));
+        startupTasks.add("Configure proxy", () -> configureProxy(preferences.getProxyPreferences()), MIGRATIONS);
+        startupTasks.add("Configure SSL", () -> configureSSL(preferences.getSSLPreferences()), MIGRATIONS);
+        startupTasks.add("Load custom entry types", () -> Globals.entryTypesManager = preferences.getCustomEntryTypesRepository(), MIGRATIONS);
+        startupTasks.add("Start file update monitor", Globals::getFileUpdateMonitor);
+        startupTasks.awaitAll();
     }
 
     private static void configureProxy(ProxyPreferences proxyPreferences) {
@@ -185,8 +195,13 @@ public class Launcher {
         TrustStoreManager.createTruststoreFileIfNotExist(Path.of(sslPreferences.getTruststorePath()));
     }
 
-    private static void clearOldSearchIndices() {
+    /**
+     * Deletes the indices of former versions, and the metadata indices of libraries which are gone (or all of them, if
+     * they are not to be stored)
+     */
+    private static void clearOldSearchIndices(boolean keepMetadataIndices) {
         Path currentIndexPath = OS.getNativeDesktop().getFulltextIndexBaseDirectory();
+        MetadataIndex.deleteStaleIndices(currentIndexPath, keepMetadataIndices);
         Path appData = currentIndexPath.getParent();
 
         try {
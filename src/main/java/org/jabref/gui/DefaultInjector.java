@@ -37,7 +37,7 @@ public class DefaultInjector implements PresenterFactory {
         } else if (clazz == KeyBindingRepository.class) {
             return Globals.getKeyPrefs();
         } else if (clazz == JournalAbbreviationRepository.class) {
-            return Globals.journalAbbreviationRepository;
+            return Globals.getJournalAbbreviationRepository();
         } else if (clazz == StateManager.class) {
             return Globals.stateManager;
         } else if (clazz == ThemeManager.class) {
@@ -45,7 +45,7 @@ public class DefaultInjector implements PresenterFactory {
         } else if (clazz == FileUpdateMonitor.class) {
             return Globals.getFileUpdateMonitor();
         } else if (clazz == ProtectedTermsLoader.class) {
-            return Globals.protectedTermsLoader;
+            return Globals.getProtectedTermsLoader();
         } else if (clazz == ClipBoardManager.class) {
             return Globals.getClipboardManager();
         } else if (clazz == UndoManager.class) {
@@ -1,5 +1,7 @@
 package org.jabref.gui;
 
+import javafx.application.Platform;
+
 import org.jabref.architecture.AllowedToUseAwt;
 import org.jabref.gui.keyboard.KeyBindingRepository;
 import org.jabref.gui.remote.CLIMessageHandler;
@@ -8,6 +10,8 @@ import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
 import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationPreferences;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
@@ -45,28 +49,29 @@ public class Globals {
      */
     public static PreferencesService prefs;
 
+    public static CountingUndoManager undoManager = new CountingUndoManager();
+    public static BibEntryTypesManager entryTypesManager;
+
+    private static ClipBoardManager clipBoardManager = null;
+    private static KeyBindingRepository keyBindingRepository;
+    private static ThemeManager themeManager;
+
+    private static DefaultFileUpdateMonitor fileUpdateMonitor;
+
     /**
-     * This field is initialized upon startup.
+     * Handed out on first use and loaded in the background, so that the main window does not wait for it.
      * <p>
      * Only GUI code is allowed to access it, logic code should use dependency injection.
      */
-    public static JournalAbbreviationRepository journalAbbreviationRepository;
+    private static volatile JournalAbbreviationRepository journalAbbreviationRepository;
+    private static final Object JOURNAL_ABBREVIATION_REPOSITORY_LOCK = new Object();
 
     /**
-     * This field is initialized upon startup.
+     * Loaded on first use (or in the background after the main window is shown).
      * <p>
      * Only GUI code is allowed to access it, logic code should use dependency injection.
      */
-    public static ProtectedTermsLoader protectedTermsLoader;
-
-    public static CountingUndoManager undoManager = new CountingUndoManager();
-    public static BibEntryTypesManager entryTypesManager;
-
-    private static ClipBoardManager clipBoardManager = null;
-    private static KeyBindingRepository keyBindingRepository;
-    private static ThemeManager themeManager;
-
-    private static DefaultFileUpdateMonitor fileUpdateMonitor;
+    private static ProtectedTermsLoader protectedTermsLoader;
 
     private Globals() {
     }
@@ -96,6 +101,52 @@ public class Globals {
         return themeManager;
     }
 
+    public static JournalAbbreviationRepository getJournalAbbreviationRepository() {
+        JournalAbbreviationRepository repository = journalAbbreviationRepository;
+        if (repository != null) {
+            return repository;
+        }
+        // The preferences are read outside of the lock, because they call this method while holding their own lock
+        JournalAbbreviationPreferences journalAbbreviationPreferences = prefs.getJournalAbbreviationPreferences();
+        synchronized (JOURNAL_ABBREVIATION_REPOSITORY_LOCK) {
+            if (journalAbbreviationRepository == null) {
+                journalAbbreviationRepository = JournalAbbreviationLoader.loadRepositoryInBackground(journalAbbreviationPreferences, JabRefExecutorService.INSTANCE::execute,
+                        // The JavaFX thread must not be blocked
+                        () -> !Platform.isFxApplicationThread());
+            }
+            return journalAbbreviationRepository;
+        }
+    }
+
+    public static void setJournalAbbreviationRepository(JournalAbbreviationRepository repository) {
+        synchronized (JOURNAL_ABBREVIATION_REPOSITORY_LOCK) {
+            if ((journalAbbreviationRepository != null) && (journalAbbreviationRepository != repository)) {
+                journalAbbreviationRepository.close();
+            }
+            journalAbbreviationRepository = repository;
+        }
+    }
+
+    /**
+     * Closes the journal abbreviations, including the built-in list shared by all repositories
+     */
+    public static void closeJournalAbbreviationRepository() {
+        synchronized (JOURNAL_ABBREVIATION_REPOSITORY_LOCK) {
+            if (journalAbbreviationRepository != null) {
+                journalAbbreviationRepository.close();
+                journalAbbreviationRepository = null;
+            }
+            JournalAbbreviationLoader.closeBuiltInJournalList();
+        }
+    }
+
+    public static synchronized ProtectedTermsLoader getProtectedTermsLoader() {
+        if (protectedTermsLoader == null) {
+            protectedTermsLoader = new ProtectedTermsLoader(prefs.getProtectedTermsPreferences());
+        }
+        return protectedTermsLoader;
+    }
+
     public static synchronized FileUpdateMonitor getFileUpdateMonitor() {
         if (fileUpdateMonitor == null) {
             fileUpdateMonitor = new DefaultFileUpdateMonitor();
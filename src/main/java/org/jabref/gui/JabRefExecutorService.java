@@ -4,13 +4,15 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -25,22 +27,25 @@ public class JabRefExecutorService {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JabRefExecutorService.class);
 
-    private final ExecutorService executorService = Executors.newCachedThreadPool(r -> {
-        Thread thread = new Thread(r);
-        thread.setName("JabRef CachedThreadPool");
-        thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
-        return thread;
-    });
+    /**
+     * Some tasks run as long as JabRef does (e.g., the listeners of shared databases), hence the pools are larger than
+     * the number of cores. Further tasks wait until a thread is free.
+     */
+    private static final int POOL_SIZE = 32;
+    private static final int LOW_PRIORITY_POOL_SIZE = 8;
+
+    private final ExecutorService executorService = createExecutor("JabRef ThreadPool", POOL_SIZE);
 
-    private final ExecutorService lowPriorityExecutorService = Executors.newCachedThreadPool(r -> {
+    private final ExecutorService lowPriorityExecutorService = createExecutor("JabRef LowPriorityThreadPool", LOW_PRIORITY_POOL_SIZE);
+
+    private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(r -> {
         Thread thread = new Thread(r);
-        thread.setName("JabRef LowPriorityCachedThreadPool");
+        thread.setName("JabRef Scheduler");
+        thread.setDaemon(true);
         thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
         return thread;
     });
 
-    private final Timer timer = new Timer("timer", true);
-
     private Thread remoteThread;
 
     private JabRefExecutorService() {
@@ -133,8 +138,21 @@ public class JabRefExecutorService {
         }
     }
 
-    public void submit(TimerTask timerTask, long millisecondsDelay) {
-        timer.schedule(timerTask, millisecondsDelay);
+    /**
+     * Runs the given task once after the given delay. Exceptions thrown by the task are logged.
+     *
+     * @return a future which cancels the task if it did not start yet
+     */
+    public ScheduledFuture<?> schedule(Runnable task, long millisecondsDelay) {
+        Objects.requireNonNull(task);
+        return scheduledExecutorService.schedule(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                // The scheduled executor would keep the exception in the future, which nobody waits for
+                LOGGER.error("Problem executing scheduled task", e);
+            }
+        }, millisecondsDelay, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -146,7 +164,19 @@ public class JabRefExecutorService {
         gracefullyShutdown(this.executorService);
         gracefullyShutdown(this.lowPriorityExecutorService);
 
-        timer.cancel();
+        scheduledExecutorService.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor createExecutor(String threadName, int poolSize) {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName(threadName);
+            thread.setUncaughtExceptionHandler(new FallbackExceptionHandler());
+            return thread;
+        });
+        // Idle threads are released as in a cached thread pool
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private static class NamedRunnable implements Runnable {
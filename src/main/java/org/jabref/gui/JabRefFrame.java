@@ -7,7 +7,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TimerTask;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -309,12 +308,9 @@ public class JabRefFrame extends BorderPane implements LibraryTabContainer {
 
     private void initShowTrackingNotification() {
         if (prefs.getTelemetryPreferences().shouldAskToCollectTelemetry()) {
-            JabRefExecutorService.INSTANCE.submit(new TimerTask() {
-                @Override
-                public void run() {
-                    DefaultTaskExecutor.runInJavaFXThread(JabRefFrame.this::showTrackingNotification);
-                }
-            }, 60000); // run in one minute
+            JabRefExecutorService.INSTANCE.schedule(
+                    () -> DefaultTaskExecutor.runInJavaFXThread(this::showTrackingNotification),
+                    60000); // run in one minute
         }
     }
 
@@ -485,7 +481,7 @@ public class JabRefFrame extends BorderPane implements LibraryTabContainer {
                 fileUpdateMonitor,
                 taskExecutor,
                 dialogService,
-                Globals.journalAbbreviationRepository,
+                Globals.getJournalAbbreviationRepository(),
                 entryTypesManager,
                 undoManager,
                 Globals.getClipboardManager());
@@ -568,7 +564,7 @@ public class JabRefFrame extends BorderPane implements LibraryTabContainer {
         sidePane = new SidePane(
                 this,
                 prefs,
-                Globals.journalAbbreviationRepository,
+                Globals.getJournalAbbreviationRepository(),
                 taskExecutor,
                 dialogService,
                 stateManager,
@@ -53,6 +53,7 @@ import org.jabref.logic.pdf.FileAnnotationCache;
 import org.jabref.logic.pdf.search.indexing.IndexingTaskManager;
 import org.jabref.logic.pdf.search.indexing.PdfIndexer;
 import org.jabref.logic.search.SearchQuery;
+import org.jabref.logic.shared.DBMSConnectionStatistics;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.util.UpdateField;
 import org.jabref.logic.util.io.FileUtil;
@@ -148,7 +149,7 @@ public class LibraryTab extends Tab {
         bibDatabaseContext.getDatabase().registerListener(this);
         bibDatabaseContext.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, taskExecutor);
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
         annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
@@ -198,6 +199,21 @@ public class LibraryTab extends Tab {
         text.append("]");
     }
 
+    private static void addSharedDbStatistics(StringBuilder text, DBMSConnectionStatistics statistics) {
+        text.append("\n");
+        if (statistics.isHealthy()) {
+            statistics.getLastHealthCheckLatency().ifPresentOrElse(
+                    latency -> text.append(Localization.lang("Connected, round trip %0 ms", String.valueOf(latency.toMillis()))),
+                    () -> text.append(Localization.lang("Connected")));
+        } else {
+            text.append(Localization.lang("Connection lost"));
+        }
+        statistics.getAverageReadLatency().ifPresent(latency -> text.append("\n").append(
+                Localization.lang("Average read time: %0 ms (%1 reads)", String.valueOf(latency.toMillis()), String.valueOf(statistics.getReads()))));
+        statistics.getAverageWriteLatency().ifPresent(latency -> text.append("\n").append(
+                Localization.lang("Average write time: %0 ms (%1 writes)", String.valueOf(latency.toMillis()), String.valueOf(statistics.getWrites()))));
+    }
+
     public void setDataLoadingTask(BackgroundTask<ParserResult> dataLoadingTask) {
         this.dataLoadingTask = dataLoadingTask;
     }
@@ -270,7 +286,8 @@ public class LibraryTab extends Tab {
         bibDatabaseContextFromParserResult.getDatabase().registerListener(this);
         bibDatabaseContextFromParserResult.getMetaData().registerListener(this);
 
-        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager);
+        this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, stateManager, taskExecutor);
+        tableModel.openSearchIndex();
         citationStyleCache = new CitationStyleCache(bibDatabaseContextFromParserResult);
         annotationCache = new FileAnnotationCache(bibDatabaseContextFromParserResult, preferencesService.getFilePreferences());
 
@@ -386,7 +403,18 @@ public class LibraryTab extends Tab {
 
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             textProperty().setValue(tabTitle.toString());
-            setTooltip(new Tooltip(toolTipText.toString()));
+            Tooltip tooltip = new Tooltip(toolTipText.toString());
+            if (databaseLocation == DatabaseLocation.SHARED) {
+                // The statistics of the connection change continuously, thus they are read whenever the tooltip is shown
+                tooltip.setOnShowing(event -> {
+                    StringBuilder text = new StringBuilder(toolTipText);
+                    if (bibDatabaseContext.getLocation() == DatabaseLocation.SHARED) {
+                        addSharedDbStatistics(text, bibDatabaseContext.getDBMSSynchronizer().getConnectionStatistics());
+                    }
+                    tooltip.setText(text.toString());
+                });
+            }
+            setTooltip(tooltip);
         });
 
         if (preferencesService.getFilePreferences().shouldFulltextIndexLinkedFiles()) {
@@ -566,7 +594,7 @@ public class LibraryTab extends Tab {
     private void setupAutoCompletion() {
         AutoCompletePreferences autoCompletePreferences = preferencesService.getAutoCompletePreferences();
         if (autoCompletePreferences.shouldAutoComplete()) {
-            suggestionProviders = new SuggestionProviders(getDatabase(), Globals.journalAbbreviationRepository, autoCompletePreferences);
+            suggestionProviders = new SuggestionProviders(getDatabase(), Globals.getJournalAbbreviationRepository(), autoCompletePreferences);
         } else {
             // Create empty suggestion providers if auto completion is deactivated
             suggestionProviders = new SuggestionProviders();
@@ -717,6 +745,7 @@ public class LibraryTab extends Tab {
      */
     public void cleanUp() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
+        tableModel.close();
         AutosaveManager.shutdown(bibDatabaseContext);
         BackupManager.shutdown(bibDatabaseContext, preferencesService.getFilePreferences().getBackupDirectory(), preferencesService.getFilePreferences().shouldCreateBackup());
     }
@@ -889,6 +918,8 @@ public class LibraryTab extends Tab {
                 entryTypesManager,
                 (CountingUndoManager) undoManager,
                 taskExecutor);
+        // The library is loaded already
+        libraryTab.tableModel.openSearchIndex();
 
         return libraryTab;
     }
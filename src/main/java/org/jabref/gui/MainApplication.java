@@ -7,6 +7,7 @@ import javafx.stage.Stage;
 
 import org.jabref.gui.openoffice.OOBibBaseConnect;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.util.StartupTimeline;
 import org.jabref.model.util.FileUpdateMonitor;
 import org.jabref.preferences.JabRefPreferences;
 
@@ -18,24 +19,34 @@ public class MainApplication extends Application {
     private static boolean isBlank;
     private static JabRefPreferences preferences;
     private static FileUpdateMonitor fileUpdateMonitor;
+    private static StartupTimeline startupTimeline;
 
     public static void main(List<ParserResult> parserResults,
                             boolean blank,
                             JabRefPreferences preferences,
                             FileUpdateMonitor fileUpdateMonitor,
+                            StartupTimeline startupTimeline,
                             String[] args) {
         MainApplication.parserResults = parserResults;
         MainApplication.isBlank = blank;
         MainApplication.preferences = preferences;
         MainApplication.fileUpdateMonitor = fileUpdateMonitor;
+        MainApplication.startupTimeline = startupTimeline;
         launch(args);
     }
 
     @Override
     public void start(Stage mainStage) {
         FallbackExceptionHandler.installExceptionHandler();
-        Globals.startBackgroundTasks();
-        new JabRefGUI(mainStage, parserResults, isBlank, preferences, fileUpdateMonitor);
+        startupTimeline.measure("Show main window", () -> new JabRefGUI(mainStage, parserResults, isBlank, preferences, fileUpdateMonitor));
+        startupTimeline.log();
+
+        // Services not needed for the first window are started afterwards
+        JabRefExecutorService.INSTANCE.execute(() -> {
+            startupTimeline.measure("Start remote listener", Globals::startBackgroundTasks);
+            startupTimeline.measure("Start loading journal abbreviations", Globals::getJournalAbbreviationRepository);
+            startupTimeline.measure("Load protected terms", Globals::getProtectedTermsLoader);
+        });
     }
 
     @Override
@@ -43,5 +54,6 @@ public class MainApplication extends Application {
         OOBibBaseConnect.closeOfficeConnection();
         Globals.stopBackgroundTasks();
         Globals.shutdownThreadPools();
+        Globals.closeJournalAbbreviationRepository();
     }
 }
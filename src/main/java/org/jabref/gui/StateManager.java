@@ -2,8 +2,11 @@ package org.jabref.gui;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javafx.beans.Observable;
@@ -15,6 +18,7 @@ import javafx.beans.property.ReadOnlyListWrapper;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
 import javafx.concurrent.Task;
@@ -27,12 +31,16 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.CustomLocalDragboard;
 import org.jabref.gui.util.DialogWindowState;
 import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFingerprintIndex;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.util.OptionalUtil;
 
+import com.google.common.base.Suppliers;
 import com.tobiasdiez.easybind.EasyBind;
 import com.tobiasdiez.easybind.EasyBinding;
 import org.slf4j.Logger;
@@ -73,8 +81,15 @@ public class StateManager {
 
     private final ObservableList<String> searchHistory = FXCollections.observableArrayList();
 
+    private final Map<BibDatabaseContext, Supplier<DuplicateFingerprintIndex>> duplicateIndexes = new ConcurrentHashMap<>();
+
     public StateManager() {
         activeGroups.bind(Bindings.valueAt(selectedGroups, activeDatabase.orElseOpt(null)));
+        openDatabases.addListener((ListChangeListener<BibDatabaseContext>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(duplicateIndexes::remove);
+            }
+        });
     }
 
     public ObservableList<SidePaneType> getVisibleSidePaneComponents() {
@@ -131,6 +146,18 @@ public class StateManager {
         selectedGroups.remove(database);
     }
 
+    /**
+     * Returns the index of the entries of the given library for finding duplicates. There is one index per library. It
+     * is built on first use and follows the changes of the library afterwards, thus the first call should not happen
+     * on the JavaFX thread.
+     */
+    public DuplicateFingerprintIndex getDuplicateIndex(BibDatabaseContext database, BibEntryTypesManager entryTypesManager) {
+        // The index is built outside the map, so that building the index of one library does not block other libraries
+        Supplier<DuplicateFingerprintIndex> index = duplicateIndexes.computeIfAbsent(database, key -> Suppliers.memoize(
+                () -> DuplicateFingerprintIndex.ofLibrary(key, new DuplicateCheck(entryTypesManager))));
+        return index.get();
+    }
+
     public Optional<BibDatabaseContext> getActiveDatabase() {
         return activeDatabase.get();
     }
@@ -56,6 +56,7 @@ public class GenerateCitationKeyAction extends SimpleCommand {
         if (!this.isCanceled) {
             BackgroundTask<Void> backgroundTask = this.generateKeysInBackground();
             backgroundTask.showToUser(true);
+            backgroundTask.withWorkload(BackgroundTask.Workload.CPU_BOUND);
             backgroundTask.titleProperty().set(Localization.lang("Autogenerate citation keys"));
             backgroundTask.messageProperty().set(Localization.lang("%0/%1 entries", 0, entries.size()));
 
@@ -12,11 +12,11 @@ import org.jabref.gui.undo.NamedCompound;
 import org.jabref.gui.undo.UndoableFieldChange;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.cleanup.CleanupResult;
 import org.jabref.logic.cleanup.CleanupWorker;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.entry.BibEntry;
 import org.jabref.preferences.CleanupPreferences;
 import org.jabref.preferences.PreferencesService;
 
@@ -94,24 +94,6 @@ public class CleanupAction extends SimpleCommand {
         });
     }
 
-    /**
-     * Runs the cleanup on the entry and records the change.
-     */
-    private void doCleanup(BibDatabaseContext databaseContext, CleanupPreferences preset, BibEntry entry, NamedCompound ce) {
-        // Create and run cleaner
-        CleanupWorker cleaner = new CleanupWorker(
-                databaseContext,
-                preferences.getFilePreferences(),
-                preferences.getTimestampPreferences());
-
-        List<FieldChange> changes = cleaner.cleanup(preset, entry);
-
-        // Register undo action
-        for (FieldChange change : changes) {
-            ce.addEdit(new UndoableFieldChange(change));
-        }
-    }
-
     private void showResults() {
         if (isCanceled) {
             return;
@@ -132,17 +114,23 @@ public class CleanupAction extends SimpleCommand {
     }
 
     private void cleanup(BibDatabaseContext databaseContext, CleanupPreferences cleanupPreferences) {
-        for (BibEntry entry : stateManager.getSelectedEntries()) {
-            // undo granularity is on entry level
-            NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entry"));
+        CleanupWorker cleaner = new CleanupWorker(
+                databaseContext,
+                preferences.getFilePreferences(),
+                preferences.getTimestampPreferences());
 
-            doCleanup(databaseContext, cleanupPreferences, entry, ce);
+        CleanupResult result = cleaner.cleanup(cleanupPreferences, List.copyOf(stateManager.getSelectedEntries()));
 
-            ce.end();
-            if (ce.hasEdits()) {
-                modifiedEntriesCount++;
-                frame.getUndoManager().addEdit(ce);
-            }
+        // All changes are undone at once
+        NamedCompound ce = new NamedCompound(Localization.lang("Cleanup entries"));
+        for (FieldChange change : result.changes()) {
+            ce.addEdit(new UndoableFieldChange(change));
+        }
+        ce.end();
+
+        modifiedEntriesCount = result.modifiedEntries();
+        if (ce.hasEdits()) {
+            frame.getUndoManager().addEdit(ce);
         }
     }
 }
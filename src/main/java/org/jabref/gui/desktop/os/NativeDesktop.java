@@ -100,6 +100,34 @@ public abstract class NativeDesktop {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    public Path getLatexCitationIndexBaseDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "latex-citations",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    /**
+     * Returns the directory the built-in journal abbreviations are extracted to
+     */
+    public Path getJournalListDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "journals",
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
+    /**
+     * Returns the file the headless daemon writes the token its clients authenticate with to
+     */
+    public Path getDaemonTokenFile() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "daemon",
+                                             OS.APP_DIR_APP_AUTHOR))
+                   .resolve("token");
+    }
+
     public Path getSslDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                                      .getUserDataDir(OS.APP_DIR_APP_NAME,
@@ -92,6 +92,7 @@ public class DuplicateSearch extends SimpleCommand {
 
         JabRefExecutorService.INSTANCE.executeInterruptableTask(() -> searchPossibleDuplicates(entries, database.getMode()), "DuplicateSearcher");
         BackgroundTask.wrap(this::verifyDuplicates)
+                      .withWorkload(BackgroundTask.Workload.CPU_BOUND)
                       .onSuccess(this::handleDuplicates)
                       .executeWith(taskExecutor);
     }
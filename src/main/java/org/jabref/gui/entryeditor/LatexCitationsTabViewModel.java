@@ -23,6 +23,8 @@ import org.jabref.gui.util.DirectoryDialogConfiguration;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexCitationIndex;
+import org.jabref.logic.util.OS;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -138,7 +140,7 @@ public class LatexCitationsTabViewModel extends AbstractViewModel {
 
             List<Path> texFiles = searchDirectory(newDirectory);
             LOGGER.debug("Found tex files: {}", texFiles);
-            latexParserResult = new DefaultLatexParser().parse(texFiles);
+            latexParserResult = new DefaultLatexParser(new LatexCitationIndex(OS.getNativeDesktop().getLatexCitationIndexBaseDirectory(), newDirectory)).parse(texFiles);
         }
 
         return latexParserResult.getCitationsByKey(citeKey);
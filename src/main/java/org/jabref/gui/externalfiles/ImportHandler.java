@@ -24,6 +24,7 @@ import org.jabref.gui.util.DefaultTaskExecutor;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFingerprintIndex;
 import org.jabref.logic.externalfiles.ExternalFilesContentImporter;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.ImportCleanup;
@@ -58,6 +59,7 @@ import org.slf4j.LoggerFactory;
 public class ImportHandler {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ImportHandler.class);
+
     private final BibDatabaseContext bibDatabaseContext;
     private final PreferencesService preferencesService;
     private final FileUpdateMonitor fileUpdateMonitor;
@@ -194,44 +196,100 @@ public class ImportHandler {
     }
 
     public void importEntryWithDuplicateCheck(BibDatabaseContext bibDatabaseContext, BibEntry entry) {
+        importEntriesWithDuplicateCheck(bibDatabaseContext, List.of(entry));
+    }
+
+    /**
+     * Imports the given entries. Entries without a duplicate in the library or among the entries before them are
+     * inserted at once. Afterwards, the user resolves the duplicates of the other entries one after another.
+     * <p>
+     * The duplicates are looked up in the background, in the index of the library kept by the {@link StateManager}.
+     */
+    public void importEntriesWithDuplicateCheck(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) {
+        BackgroundTask.wrap(() -> findDuplicates(bibDatabaseContext, entries))
+                      .onSuccess(importedEntries -> {
+                          insertImportedEntries(bibDatabaseContext, importedEntries.entriesToInsert());
+                          for (ImportedDuplicate duplicate : importedEntries.duplicates()) {
+                              resolveDuplicate(bibDatabaseContext, duplicate.existingEntry(), duplicate.entry())
+                                      .ifPresent(entryToInsert -> insertImportedEntries(bibDatabaseContext, List.of(entryToInsert)));
+                          }
+                      })
+                      .onFailure(exception -> {
+                          LOGGER.error("Could not check the entries for duplicates", exception);
+                          dialogService.showErrorDialogAndWait(exception);
+                      })
+                      .executeWith(taskExecutor);
+    }
+
+    private ImportedEntries findDuplicates(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) {
         ImportCleanup cleanup = new ImportCleanup(bibDatabaseContext.getMode());
-        BibEntry cleanedEntry = cleanup.doPostCleanup(entry);
-        BibEntry entryToInsert = cleanedEntry;
-
-        Optional<BibEntry> existingDuplicateInLibrary = new DuplicateCheck(Globals.entryTypesManager).containsDuplicate(bibDatabaseContext.getDatabase(), entryToInsert, bibDatabaseContext.getMode());
-        if (existingDuplicateInLibrary.isPresent()) {
-            DuplicateResolverDialog dialog = new DuplicateResolverDialog(existingDuplicateInLibrary.get(), entryToInsert, DuplicateResolverDialog.DuplicateResolverType.IMPORT_CHECK, bibDatabaseContext, stateManager, dialogService, preferencesService);
-            switch (dialogService.showCustomDialogAndWait(dialog).orElse(DuplicateResolverDialog.DuplicateResolverResult.BREAK)) {
-                case KEEP_RIGHT:
-                    bibDatabaseContext.getDatabase().removeEntry(existingDuplicateInLibrary.get());
-                    break;
-                case KEEP_BOTH:
-                    break;
-                case KEEP_MERGE:
-                    bibDatabaseContext.getDatabase().removeEntry(existingDuplicateInLibrary.get());
-                    entryToInsert = dialog.getMergedEntry();
-                    break;
-                case KEEP_LEFT:
-                case AUTOREMOVE_EXACT:
-                case BREAK:
-                default:
-                   return;
+        List<BibEntry> cleanedEntries = entries.stream().map(cleanup::doPostCleanup).toList();
+
+        DuplicateFingerprintIndex libraryIndex = stateManager.getDuplicateIndex(bibDatabaseContext, Globals.entryTypesManager);
+        List<Optional<BibEntry>> duplicatesInLibrary = cleanedEntries.parallelStream()
+                                                                     .map(libraryIndex::findDuplicate)
+                                                                     .toList();
+
+        DuplicateFingerprintIndex importedIndex = new DuplicateFingerprintIndex(new DuplicateCheck(Globals.entryTypesManager), bibDatabaseContext.getMode());
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        List<ImportedDuplicate> duplicates = new ArrayList<>();
+        for (int i = 0; i < cleanedEntries.size(); i++) {
+            BibEntry entry = cleanedEntries.get(i);
+            Optional<BibEntry> duplicate = duplicatesInLibrary.get(i).or(() -> importedIndex.findDuplicate(entry));
+            if (duplicate.isPresent()) {
+                duplicates.add(new ImportedDuplicate(entry, duplicate.get()));
+            } else {
+                entriesToInsert.add(entry);
+                importedIndex.add(entry);
             }
         }
+        return new ImportedEntries(entriesToInsert, duplicates);
+    }
+
+    /**
+     * Asks the user how to resolve the duplicate
+     *
+     * @return the entry to insert, if any
+     */
+    private Optional<BibEntry> resolveDuplicate(BibDatabaseContext bibDatabaseContext, BibEntry existingEntry, BibEntry entry) {
+        DuplicateResolverDialog dialog = new DuplicateResolverDialog(existingEntry, entry, DuplicateResolverDialog.DuplicateResolverType.IMPORT_CHECK, bibDatabaseContext, stateManager, dialogService, preferencesService);
+        switch (dialogService.showCustomDialogAndWait(dialog).orElse(DuplicateResolverDialog.DuplicateResolverResult.BREAK)) {
+            case KEEP_RIGHT:
+                bibDatabaseContext.getDatabase().removeEntry(existingEntry);
+                return Optional.of(entry);
+            case KEEP_BOTH:
+                return Optional.of(entry);
+            case KEEP_MERGE:
+                bibDatabaseContext.getDatabase().removeEntry(existingEntry);
+                return Optional.of(dialog.getMergedEntry());
+            case KEEP_LEFT:
+            case AUTOREMOVE_EXACT:
+            case BREAK:
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private void insertImportedEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
         // Regenerate CiteKey of imported BibEntry
         if (preferencesService.getImporterPreferences().isGenerateNewKeyOnImport()) {
-            generateKeys(List.of(entryToInsert));
+            generateKeys(entries);
         }
-        bibDatabaseContext.getDatabase().insertEntry(entryToInsert);
+        bibDatabaseContext.getDatabase().insertEntries(entries);
 
         // Set owner/timestamp
-        UpdateField.setAutomaticFields(List.of(entryToInsert),
+        UpdateField.setAutomaticFields(entries,
                                        preferencesService.getOwnerPreferences(),
                                        preferencesService.getTimestampPreferences());
 
-        addToGroups(List.of(entry), stateManager.getSelectedGroup(this.bibDatabaseContext));
+        addToGroups(entries, stateManager.getSelectedGroup(this.bibDatabaseContext));
 
         if (preferencesService.getFilePreferences().shouldDownloadLinkedFiles()) {
+            for (BibEntry entry : entries) {
                 entry.getFiles().stream().filter(LinkedFile::isOnlineLink).forEach(linkedFile ->
                         new LinkedFileViewModel(
                                 linkedFile,
@@ -240,6 +298,7 @@ public class ImportHandler {
                                 taskExecutor,
                                 dialogService,
                                 preferencesService).download());
+            }
         }
     }
 
@@ -337,4 +396,10 @@ public class ImportHandler {
         Optional<BibEntry> entry = new IsbnFetcher(preferencesService.getImportFormatPreferences()).performSearchById(isbn.getNormalized());
         return OptionalUtil.toList(entry);
     }
+
+    private record ImportedDuplicate(BibEntry entry, BibEntry existingEntry) {
+    }
+
+    private record ImportedEntries(List<BibEntry> entriesToInsert, List<ImportedDuplicate> duplicates) {
+    }
 }
@@ -22,7 +22,7 @@ import org.jabref.logic.protectedterms.ProtectedTermsList;
 
 class ProtectedTermsMenu extends Menu {
 
-    private static final Formatter FORMATTER = new ProtectTermsFormatter(Globals.protectedTermsLoader);
+    private static final Formatter FORMATTER = new ProtectTermsFormatter(Globals.getProtectedTermsLoader());
     private final TextInputControl textInputControl;
     private final ActionFactory factory = new ActionFactory(Globals.getKeyPrefs());
 
@@ -122,7 +122,7 @@ class ProtectedTermsMenu extends Menu {
     private Menu getExternalFilesMenu() {
         Menu protectedTermsMenu = factory.createSubMenu(() -> Localization.lang("Add selected text to list"));
 
-        Globals.protectedTermsLoader.getProtectedTermsLists().stream()
+        Globals.getProtectedTermsLoader().getProtectedTermsLists().stream()
                                     .filter(list -> !list.isInternalList())
                                     .forEach(list -> protectedTermsMenu.getItems().add(
                                             factory.createMenuItem(list::getDescription, new AddToProtectedTermsAction(list))));
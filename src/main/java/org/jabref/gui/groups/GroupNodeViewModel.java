@@ -276,6 +276,8 @@ public class GroupNodeViewModel {
         if (preferencesService.getGroupsPreferences().shouldDisplayGroupCount()) {
             BackgroundTask
                     .wrap(() -> groupNode.findMatches(databaseContext.getDatabase()))
+                    .withWorkload(BackgroundTask.Workload.CPU_BOUND)
+                    .withPriority(BackgroundTask.Priority.LOW)
                     .onSuccess(entries -> {
                         matchedEntries.clear();
                         matchedEntries.addAll(entries);
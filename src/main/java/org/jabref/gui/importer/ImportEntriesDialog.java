@@ -1,6 +1,7 @@
 package org.jabref.gui.importer;
 
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
 
 import javax.swing.undo.UndoManager;
@@ -218,12 +219,13 @@ public class ImportEntriesDialog extends BaseDialog<Boolean> {
     }
 
     public void selectAllNewEntries() {
-        unselectAll();
-        for (BibEntry entry : entriesListView.getItems()) {
-            if (!viewModel.hasDuplicate(entry)) {
-                entriesListView.getCheckModel().check(entry);
-            }
-        }
+        List<BibEntry> entries = List.copyOf(entriesListView.getItems());
+        BackgroundTask.wrap(() -> entries.parallelStream().filter(entry -> !viewModel.hasDuplicate(entry)).toList())
+                      .onSuccess(newEntries -> {
+                          unselectAll();
+                          newEntries.forEach(entriesListView.getCheckModel()::check);
+                      })
+                      .executeWith(taskExecutor);
     }
 
     public void selectAllEntries() {
@@ -10,6 +10,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 import org.jabref.gui.AbstractViewModel;
@@ -22,6 +23,7 @@ import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.database.DatabaseMerger;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFingerprintIndex;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
@@ -50,6 +52,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
     private final PreferencesService preferences;
     private final BibEntryTypesManager entryTypesManager;
     private final ObjectProperty<BibDatabaseContext> selectedDb;
+    private final DuplicateFingerprintIndex entriesIndex;
 
     /**
      * @param databaseContext the database to import into
@@ -77,6 +80,15 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         this.message.bind(task.messageProperty());
         this.selectedDb = new SimpleObjectProperty<>();
 
+        // Follows the list, so that the entries to import are not compared with each other for each lookup
+        this.entriesIndex = new DuplicateFingerprintIndex(new DuplicateCheck(entryTypesManager), databaseContext.getMode());
+        entries.addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                change.getRemoved().forEach(entriesIndex::remove);
+                entriesIndex.addAll(change.getAddedSubList());
+            }
+        });
+
         task.onSuccess(parserResult -> {
             // store the complete parser result (to import groups, ... later on)
             this.parserResult = parserResult;
@@ -111,10 +123,16 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         return entries;
     }
 
+    /**
+     * Checks whether the given entry has a duplicate in the selected library or among the entries to import. The index
+     * of the library is built on first use, thus this method should not be called on the JavaFX thread.
+     */
     public boolean hasDuplicate(BibEntry entry) {
-        return findInternalDuplicate(entry).isPresent() ||
-                new DuplicateCheck(entryTypesManager)
-                .containsDuplicate(selectedDb.getValue().getDatabase(), entry, selectedDb.getValue().getMode()).isPresent();
+        return findInternalDuplicate(entry).isPresent() || findDuplicateInLibrary(entry).isPresent();
+    }
+
+    private Optional<BibEntry> findDuplicateInLibrary(BibEntry entry) {
+        return stateManager.getDuplicateIndex(selectedDb.getValue(), entryTypesManager).findDuplicate(entry);
     }
 
     /**
@@ -126,8 +144,7 @@ public class ImportEntriesViewModel extends AbstractViewModel {
         // Check if we are supposed to warn about duplicates.
         // If so, then see if there are duplicates, and warn if yes.
         if (preferences.getImporterPreferences().shouldWarnAboutDuplicatesOnImport()) {
-            BackgroundTask.wrap(() -> entriesToImport.stream()
-                                                     .anyMatch(this::hasDuplicate)).onSuccess(duplicateFound -> {
+            BackgroundTask.wrap(() -> entriesToImport.parallelStream().anyMatch(this::hasDuplicate)).onSuccess(duplicateFound -> {
                 if (duplicateFound) {
                     boolean continueImport = dialogService.showConfirmationDialogWithOptOutAndWait(Localization.lang("Duplicates found"),
                             Localization.lang("There are possible duplicates that haven't been resolved. Continue?"),
@@ -197,20 +214,12 @@ public class ImportEntriesViewModel extends AbstractViewModel {
      * @return A possible duplicate, if any, or null if none were found.
      */
     private Optional<BibEntry> findInternalDuplicate(BibEntry entry) {
-        for (BibEntry othEntry : entries) {
-            if (othEntry.equals(entry)) {
-                continue; // Don't compare the entry to itself
-            }
-            if (new DuplicateCheck(entryTypesManager).isDuplicate(entry, othEntry, databaseContext.getMode())) {
-                return Optional.of(othEntry);
-            }
-        }
-        return Optional.empty();
+        return entriesIndex.findDuplicate(entry);
     }
 
     public void resolveDuplicate(BibEntry entry) {
         // First, try to find duplicate in the existing library
-        Optional<BibEntry> other = new DuplicateCheck(entryTypesManager).containsDuplicate(databaseContext.getDatabase(), entry, databaseContext.getMode());
+        Optional<BibEntry> other = findDuplicateInLibrary(entry);
         if (other.isPresent()) {
             DuplicateResolverDialog dialog = new DuplicateResolverDialog(other.get(),
                     entry, DuplicateResolverDialog.DuplicateResolverType.IMPORT_CHECK, databaseContext, stateManager, dialogService, preferences);
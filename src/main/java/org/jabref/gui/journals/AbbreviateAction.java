@@ -129,7 +129,7 @@ public class AbbreviateAction extends SimpleCommand {
     }
 
     private String unabbreviate(BibDatabaseContext databaseContext, List<BibEntry> entries) {
-        UndoableUnabbreviator undoableAbbreviator = new UndoableUnabbreviator(Globals.journalAbbreviationRepository);
+        UndoableUnabbreviator undoableAbbreviator = new UndoableUnabbreviator(Globals.getJournalAbbreviationRepository());
 
         NamedCompound ce = new NamedCompound(Localization.lang("Unabbreviate journal names"));
         int count = entries.stream().mapToInt(entry ->
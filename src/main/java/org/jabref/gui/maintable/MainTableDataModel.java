@@ -16,13 +16,14 @@ import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
 import org.jabref.gui.groups.GroupsPreferences;
 import org.jabref.gui.util.BindingsHelper;
-import org.jabref.logic.search.SearchQuery;
+import org.jabref.gui.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.search.matchers.MatcherSet;
 import org.jabref.model.search.matchers.MatcherSets;
 import org.jabref.preferences.PreferencesService;
+import org.jabref.preferences.SearchPreferences;
 
 import com.tobiasdiez.easybind.EasyBind;
 
@@ -32,25 +33,31 @@ public class MainTableDataModel {
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final GroupsPreferences groupsPreferences;
     private final NameDisplayPreferences nameDisplayPreferences;
+    private final SearchPreferences searchPreferences;
     private final BibDatabaseContext bibDatabaseContext;
+    // The index only listens weakly to the search query and the library
+    private final SearchMatchesIndex searchMatchesIndex;
 
-    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
+    public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager, TaskExecutor taskExecutor) {
         this.groupsPreferences = preferencesService.getGroupsPreferences();
         this.nameDisplayPreferences = preferencesService.getNameDisplayPreferences();
+        this.searchPreferences = preferencesService.getSearchPreferences();
         this.bibDatabaseContext = context;
         this.fieldValueFormatter = new SimpleObjectProperty<>(
                 new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
 
+        this.searchMatchesIndex = new SearchMatchesIndex(bibDatabaseContext, stateManager.activeSearchQueryProperty(), taskExecutor);
         ObservableList<BibEntry> allEntries = BindingsHelper.forUI(context.getDatabase().getEntries());
+        MatchedGroupsIndex matchedGroupsIndex = new MatchedGroupsIndex(bibDatabaseContext, taskExecutor);
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
-                new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
+                new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter, matchedGroupsIndex));
 
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
                 EasyBind.combine(stateManager.activeGroupProperty(),
-                        stateManager.activeSearchQueryProperty(),
+                        searchMatchesIndex.matchesProperty(),
                         groupsPreferences.groupViewModeProperty(),
-                        (groups, query, groupViewMode) -> entry -> isMatched(groups, query, entry))
+                        (groups, searchMatches, groupViewMode) -> entry -> isMatched(groups, searchMatches, entry))
         );
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
@@ -60,13 +67,8 @@ public class MainTableDataModel {
         entriesFilteredAndSorted = new SortedList<>(entriesFiltered);
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
-    }
-
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
-                    .orElse(true);
+    private boolean isMatched(ObservableList<GroupTreeNode> groups, SearchMatchesIndex.SearchMatches searchMatches, BibEntryTableViewModel entry) {
+        return isMatchedByGroup(groups, entry) && searchMatches.isMatch(entry.getEntry());
     }
 
     private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
@@ -96,6 +98,23 @@ public class MainTableDataModel {
         return entriesFilteredAndSorted;
     }
 
+    /**
+     * Opens the search index of the library, which has to be loaded completely. If the index is not to be stored on
+     * disk, all entries are searched instead.
+     */
+    public void openSearchIndex() {
+        if (searchPreferences.shouldStoreMetadataIndex()) {
+            searchMatchesIndex.openMetadataIndex();
+        }
+    }
+
+    /**
+     * Releases the search index of the library
+     */
+    public void close() {
+        searchMatchesIndex.close();
+    }
+
     public void refresh() {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
     }
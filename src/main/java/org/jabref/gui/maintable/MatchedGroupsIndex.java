@@ -0,0 +1,225 @@
+package org.jabref.gui.maintable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.AbstractGroup;
+import org.jabref.model.groups.GroupMembership;
+import org.jabref.model.groups.GroupMembershipEvaluator;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.metadata.MetaData;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the groups (except the root group) each entry of a library belongs to. This is the data source of the
+ * "groups" column of the main table.
+ * <p>
+ * The index is shared by all rows of a table. If the group tree changes, the membership of the entries is computed in
+ * the background using {@link GroupMembershipEvaluator}, instead of every row walking the whole tree on its own. Only
+ * the groups which were added or edited are evaluated for all entries, the results of the other groups are taken over
+ * from the previous evaluation. Until the evaluation is done, rows keep showing their previous groups. If an entry
+ * changes, only the membership of this entry is recomputed. In both cases, only the rows whose groups actually changed
+ * are notified.
+ * <p>
+ * The index only listens weakly to the library, so it can be garbage collected together with the table using it.
+ */
+public class MatchedGroupsIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MatchedGroupsIndex.class);
+
+    private final MetaData metaData;
+    private final ObservableList<BibEntry> entries;
+    private final TaskExecutor taskExecutor;
+    private final Map<BibEntry, ObjectProperty<List<AbstractGroup>>> matchedGroups = new IdentityHashMap<>();
+
+    /**
+     * The latest evaluation of the whole library, possibly for an outdated group tree
+     */
+    private GroupMembership membership;
+    /**
+     * Whether {@link #membership} was computed for the current group tree
+     */
+    private boolean membershipUpToDate;
+    /**
+     * Entries which changed after {@link #membership} was computed
+     */
+    private Set<BibEntry> changedEntries = newIdentitySet();
+    /**
+     * The running evaluation, or null if no evaluation is running
+     */
+    private Evaluation evaluation;
+
+    private final InvalidationListener groupsListener = observable -> onGroupsChanged();
+    private final ListChangeListener<BibEntry> entriesListener = this::onEntriesChanged;
+
+    public MatchedGroupsIndex(BibDatabaseContext databaseContext, TaskExecutor taskExecutor) {
+        this.metaData = databaseContext.getMetaData();
+        // Keep a reference to the list, because the unmodifiable wrapper only listens weakly to the underlying list
+        this.entries = databaseContext.getDatabase().getEntries();
+        this.taskExecutor = taskExecutor;
+
+        metaData.groupsBinding().addListener(new WeakInvalidationListener(groupsListener));
+        entries.addListener(new WeakListChangeListener<>(entriesListener));
+        // Validate the binding, otherwise the first change would not be reported
+        metaData.getGroups();
+    }
+
+    /**
+     * Returns the groups the given entry belongs to. The value is updated whenever the membership of the entry changes.
+     * Updates may be triggered from a background thread.
+     */
+    public synchronized ObservableValue<List<AbstractGroup>> getMatchedGroups(BibEntry entry) {
+        if (!membershipUpToDate && (evaluation == null)) {
+            // Evaluated lazily, as the groups column may be hidden
+            metaData.getGroups().ifPresent(this::startEvaluation);
+        }
+        return matchedGroups.computeIfAbsent(entry, key -> new SimpleObjectProperty<>(computeMatchedGroups(key)));
+    }
+
+    private synchronized void onGroupsChanged() {
+        // Querying the groups re-validates the binding, so that we get notified about the next change
+        Optional<GroupTreeNode> root = metaData.getGroups();
+        membershipUpToDate = false;
+        // A running evaluation is outdated, its result is discarded
+        evaluation = null;
+        if (root.isEmpty()) {
+            membership = null;
+            changedEntries = newIdentitySet();
+            matchedGroups.forEach(this::update);
+        } else if (!matchedGroups.isEmpty()) {
+            startEvaluation(root.get());
+        }
+    }
+
+    private void startEvaluation(GroupTreeNode root) {
+        Evaluation started = new Evaluation();
+        evaluation = started;
+        GroupMembership previous = membership;
+        // The evaluation runs concurrently to changes of entries, thus it works on copies
+        Set<BibEntry> changedBefore = newIdentitySet();
+        changedBefore.addAll(changedEntries);
+        List<BibEntry> entriesToEvaluate = new ArrayList<>(entries);
+
+        BackgroundTask.wrap(() -> (previous == null)
+                              ? GroupMembershipEvaluator.evaluate(root, entriesToEvaluate)
+                              : GroupMembershipEvaluator.reevaluate(previous, root, entriesToEvaluate, changedBefore))
+                      .withWorkload(BackgroundTask.Workload.CPU_BOUND)
+                      .onSuccess(result -> onEvaluated(started, result))
+                      .onFailure(exception -> LOGGER.error("Could not evaluate the groups of the entries", exception))
+                      .executeWith(taskExecutor);
+    }
+
+    private synchronized void onEvaluated(Evaluation finished, GroupMembership result) {
+        if (evaluation != finished) {
+            return;
+        }
+        evaluation = null;
+        membership = result;
+        membershipUpToDate = true;
+        changedEntries = finished.changedEntries;
+        matchedGroups.forEach(this::update);
+    }
+
+    private synchronized void onEntriesChanged(ListChangeListener.Change<? extends BibEntry> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    BibEntry entry = change.getList().get(i);
+                    markChanged(entry);
+                    ObjectProperty<List<AbstractGroup>> property = matchedGroups.get(entry);
+                    if (property != null) {
+                        update(entry, property);
+                    }
+                }
+            } else if (change.wasRemoved()) {
+                for (BibEntry entry : change.getRemoved()) {
+                    matchedGroups.remove(entry);
+                    // The entry may be added again later (e.g., by undo), possibly with different content
+                    markChanged(entry);
+                }
+            }
+        }
+    }
+
+    private void markChanged(BibEntry entry) {
+        if (membership != null) {
+            changedEntries.add(entry);
+        }
+        if (evaluation != null) {
+            evaluation.changedEntries.add(entry);
+        }
+    }
+
+    private void update(BibEntry entry, ObjectProperty<List<AbstractGroup>> property) {
+        List<AbstractGroup> groups = computeMatchedGroups(entry);
+        if (!containSameGroups(property.get(), groups)) {
+            property.set(groups);
+        }
+    }
+
+    private List<AbstractGroup> computeMatchedGroups(BibEntry entry) {
+        Optional<GroupTreeNode> root = metaData.getGroups();
+        if (root.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<GroupTreeNode> matchingNodes;
+        if (membershipUpToDate && membership.containsEntry(entry) && !changedEntries.contains(entry)) {
+            matchingNodes = membership.getMatchingGroups(entry);
+        } else {
+            matchingNodes = root.get().getMatchingGroups(entry);
+        }
+
+        List<AbstractGroup> groups = new ArrayList<>(matchingNodes.size());
+        for (GroupTreeNode node : matchingNodes) {
+            if (!node.isRoot()) {
+                groups.add(node.getGroup());
+            }
+        }
+        return groups;
+    }
+
+    private static boolean containSameGroups(List<AbstractGroup> oldGroups, List<AbstractGroup> newGroups) {
+        if (oldGroups.size() != newGroups.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldGroups.size(); i++) {
+            // Groups are replaced (and not modified) when edited, thus identity is what matters for the display
+            if (oldGroups.get(i) != newGroups.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<BibEntry> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * An evaluation running in the background, together with the entries which changed since it started
+     */
+    private static class Evaluation {
+        private final Set<BibEntry> changedEntries = newIdentitySet();
+    }
+}
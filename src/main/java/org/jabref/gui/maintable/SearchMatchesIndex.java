@@ -0,0 +1,324 @@
+package org.jabref.gui.maintable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.search.MetadataIndex;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the entries of a library matching the active search query. This is the search part of the filter of
+ * the main table.
+ * <p>
+ * When the query changes, the entries are evaluated in parallel in the background and the matches are published at
+ * once, so that the table is filtered only once per query. Until then, the matches of the previous query are kept.
+ * An evaluation which is superseded by a newer query is cancelled. If the new query is a refinement of the previous one
+ * (e.g., the user typed another character), only the matches of the previous query are evaluated.
+ * <p>
+ * Entries which are added or changed after an evaluation started are evaluated on their own whenever they are
+ * filtered, so that edits are reflected immediately.
+ * <p>
+ * A new query is evaluated only on the candidates found in the persistent {@link MetadataIndex} of the library, plus the
+ * entries changed since the index was last synchronized. Until the index is opened, and for queries the index cannot
+ * answer, all entries are evaluated. Once many entries changed, the index is synchronized again in the background.
+ * Removed entries are no candidates anymore.
+ */
+public class SearchMatchesIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchMatchesIndex.class);
+
+    /**
+     * If more entries changed since they were indexed, the metadata index is synchronized again, so that the changed
+     * entries are not evaluated by every query
+     */
+    static final int RESYNCHRONIZATION_THRESHOLD = 500;
+
+    private final BibDatabaseContext databaseContext;
+    private final ObservableList<BibEntry> entries;
+    private final TaskExecutor taskExecutor;
+    private final ObjectProperty<SearchMatches> matches = new SimpleObjectProperty<>(SearchMatches.ALL);
+
+    // Accessed by the listener of the entries, which may be called from any thread
+    private volatile SearchMatches published = SearchMatches.ALL;
+    private volatile SearchMatches evaluating;
+
+    // Entries which are not in the metadata index, or in the index with other content, with the number of their last change
+    private final Map<BibEntry, Long> changedSinceIndexed = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicLong changeCount = new AtomicLong();
+    private final AtomicBoolean synchronizing = new AtomicBoolean();
+    private volatile MetadataIndex metadataIndex;
+    private boolean metadataIndexRequested;
+    private boolean closed;
+
+    private final ChangeListener<Optional<SearchQuery>> queryListener = (observable, oldValue, newValue) -> onQueryChanged(newValue);
+    private final ListChangeListener<BibEntry> entriesListener = this::onEntriesChanged;
+
+    /**
+     * The index has to be created before the list of the table is derived from the entries of the library. Otherwise,
+     * the table would filter a changed entry before it is known as changed.
+     */
+    public SearchMatchesIndex(BibDatabaseContext databaseContext, ObservableValue<Optional<SearchQuery>> searchQuery, TaskExecutor taskExecutor) {
+        // Keep a reference to the list, because the unmodifiable wrapper only listens weakly to the underlying list
+        this.databaseContext = databaseContext;
+        this.entries = databaseContext.getDatabase().getEntries();
+        this.taskExecutor = taskExecutor;
+
+        entries.addListener(new WeakListChangeListener<>(entriesListener));
+        searchQuery.addListener(new WeakChangeListener<>(queryListener));
+
+        // Until the first evaluation is done, all entries are evaluated on their own
+        searchQuery.getValue().ifPresent(query -> publish(new SearchMatches(query)));
+        onQueryChanged(searchQuery.getValue());
+    }
+
+    /**
+     * The matches of the latest evaluated query. The value changes on the JavaFX thread.
+     */
+    public ObservableValue<SearchMatches> matchesProperty() {
+        return matches;
+    }
+
+    /**
+     * Brings the metadata index of the library up to date in the background and uses it for the following queries. The
+     * library has to be loaded completely, because the index is made to contain exactly the entries of the library.
+     */
+    public void openMetadataIndex() {
+        if (metadataIndexRequested || closed) {
+            return;
+        }
+        metadataIndexRequested = true;
+        synchronizeMetadataIndex();
+    }
+
+    /**
+     * Makes the metadata index contain the current entries of the library, opening it first if necessary. Afterwards,
+     * the entries which changed before are no longer tracked as changed.
+     */
+    private void synchronizeMetadataIndex() {
+        if (!synchronizing.compareAndSet(false, true)) {
+            return;
+        }
+        // Changes are tracked since the snapshot was taken, thus the snapshot may be changed during indexing
+        long lastIndexedChange = changeCount.get();
+        List<BibEntry> snapshot = new ArrayList<>(entries);
+        MetadataIndex openedIndex = metadataIndex;
+        BackgroundTask.wrap(() -> {
+                          if (openedIndex == null) {
+                              return MetadataIndex.of(databaseContext, snapshot);
+                          }
+                          openedIndex.synchronize(snapshot);
+                          return openedIndex;
+                      })
+                      .onSuccess(index -> {
+                          synchronizing.set(false);
+                          if (closed) {
+                              closeQuietly(index);
+                              return;
+                          }
+                          metadataIndex = index;
+                          synchronized (changedSinceIndexed) {
+                              changedSinceIndexed.values().removeIf(change -> change <= lastIndexedChange);
+                          }
+                      })
+                      .onFailure(exception -> {
+                          synchronizing.set(false);
+                          LOGGER.warn("Could not update the search index, searching all entries", exception);
+                      })
+                      .executeWith(taskExecutor);
+    }
+
+    /**
+     * The number of entries which have to be evaluated by every query in addition to the candidates of the metadata index
+     */
+    int getChangedSinceIndexedCount() {
+        return changedSinceIndexed.size();
+    }
+
+    /**
+     * Closes the metadata index. Queries are evaluated on all entries afterwards.
+     */
+    public void close() {
+        closed = true;
+        MetadataIndex index = metadataIndex;
+        metadataIndex = null;
+        if (index != null) {
+            closeQuietly(index);
+        }
+    }
+
+    private static void closeQuietly(MetadataIndex index) {
+        try {
+            index.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close the search index", e);
+        }
+    }
+
+    private void onQueryChanged(Optional<SearchQuery> searchQuery) {
+        SearchMatches superseded = evaluating;
+        if (superseded != null) {
+            superseded.cancel();
+            evaluating = null;
+        }
+        if (searchQuery.isEmpty()) {
+            publish(SearchMatches.ALL);
+            return;
+        }
+
+        SearchMatches previous = published;
+        SearchMatches next = new SearchMatches(searchQuery.get());
+        // Changes are tracked from now on, thus the candidates may be changed during the evaluation
+        evaluating = next;
+        boolean refinement = previous.isRefinedBy(searchQuery.get());
+
+        BackgroundTask.wrap(() -> next.evaluate(refinement ? previous.getCandidatesForRefinement() : getCandidates(next.query)))
+                      .onSuccess(evaluated -> {
+                          if (evaluating == next) {
+                              evaluating = null;
+                              publish(next);
+                          }
+                      })
+                      .onFailure(exception -> LOGGER.error("Could not search for {}", next.query, exception))
+                      .executeWith(taskExecutor);
+    }
+
+    /**
+     * Returns the entries which may match the query: the candidates of the metadata index and the entries changed since
+     * they were indexed, or all entries if the index cannot answer the query
+     */
+    private List<BibEntry> getCandidates(SearchQuery query) {
+        MetadataIndex index = metadataIndex;
+        if (index == null) {
+            return new ArrayList<>(entries);
+        }
+        Optional<List<BibEntry>> indexedCandidates = index.getCandidates(query);
+        if (indexedCandidates.isEmpty()) {
+            return new ArrayList<>(entries);
+        }
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(indexedCandidates.get());
+        synchronized (changedSinceIndexed) {
+            candidates.addAll(changedSinceIndexed.keySet());
+        }
+        return new ArrayList<>(candidates);
+    }
+
+    private void publish(SearchMatches searchMatches) {
+        published = searchMatches;
+        matches.set(searchMatches);
+    }
+
+    private void onEntriesChanged(ListChangeListener.Change<? extends BibEntry> change) {
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    markChanged(change.getList().get(i));
+                }
+            } else {
+                // A removed entry is no candidate anymore. If it is added again (e.g., by undo), it is marked as
+                // changed, as its content may differ from the indexed one.
+                change.getRemoved().forEach(changedSinceIndexed::remove);
+                change.getAddedSubList().forEach(this::markChanged);
+            }
+        }
+        if ((metadataIndex != null) && (changedSinceIndexed.size() > RESYNCHRONIZATION_THRESHOLD)) {
+            synchronizeMetadataIndex();
+        }
+    }
+
+    private void markChanged(BibEntry entry) {
+        changedSinceIndexed.put(entry, changeCount.incrementAndGet());
+        published.markChanged(entry);
+        SearchMatches current = evaluating;
+        if (current != null) {
+            current.markChanged(entry);
+        }
+    }
+
+    /**
+     * The entries matching a query at the time the query was evaluated, together with the entries changed since then.
+     */
+    public static class SearchMatches {
+
+        static final SearchMatches ALL = new SearchMatches(null);
+
+        private final SearchQuery query;
+        private final Set<BibEntry> changedEntries = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        private volatile Set<BibEntry> matchingEntries;
+        private volatile boolean cancelled;
+
+        private SearchMatches(SearchQuery query) {
+            this.query = query;
+        }
+
+        public boolean isMatch(BibEntry entry) {
+            if (query == null) {
+                return true;
+            }
+            if ((matchingEntries == null) || changedEntries.contains(entry)) {
+                return query.isMatch(entry);
+            }
+            return matchingEntries.contains(entry);
+        }
+
+        private SearchMatches evaluate(List<BibEntry> candidates) {
+            List<BibEntry> matching = candidates.parallelStream()
+                                                .filter(entry -> !cancelled && query.isMatch(entry))
+                                                .toList();
+            Set<BibEntry> result = Collections.newSetFromMap(new IdentityHashMap<>(matching.size()));
+            result.addAll(matching);
+            matchingEntries = result;
+            return this;
+        }
+
+        private boolean isRefinedBy(SearchQuery newQuery) {
+            return (query != null) && (matchingEntries != null) && newQuery.isRefinementOf(query);
+        }
+
+        /**
+         * Entries which did not match and did not change since cannot match a refined query
+         */
+        private List<BibEntry> getCandidatesForRefinement() {
+            Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(matchingEntries);
+            synchronized (changedEntries) {
+                candidates.addAll(changedEntries);
+            }
+            return new ArrayList<>(candidates);
+        }
+
+        private void markChanged(BibEntry entry) {
+            if (query != null) {
+                changedEntries.add(entry);
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+        }
+    }
+}
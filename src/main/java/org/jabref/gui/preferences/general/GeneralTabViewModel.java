@@ -33,6 +33,7 @@ import org.jabref.model.strings.StringUtil;
 import org.jabref.preferences.FilePreferences;
 import org.jabref.preferences.LibraryPreferences;
 import org.jabref.preferences.PreferencesService;
+import org.jabref.preferences.SearchPreferences;
 import org.jabref.preferences.TelemetryPreferences;
 import org.jabref.preferences.WorkspacePreferences;
 
@@ -68,6 +69,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
 
     private final ListProperty<BibDatabaseMode> bibliographyModeListProperty = new SimpleListProperty<>();
     private final ObjectProperty<BibDatabaseMode> selectedBiblatexModeProperty = new SimpleObjectProperty<>();
+    private final BooleanProperty storeMetadataIndexProperty = new SimpleBooleanProperty();
 
     private final BooleanProperty alwaysReformatBibProperty = new SimpleBooleanProperty();
     private final BooleanProperty autosaveLocalLibraries = new SimpleBooleanProperty();
@@ -81,6 +83,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
     private final TelemetryPreferences telemetryPreferences;
     private final LibraryPreferences libraryPreferences;
     private final FilePreferences filePreferences;
+    private final SearchPreferences searchPreferences;
 
     private final Validator fontSizeValidator;
     private final Validator customPathToThemeValidator;
@@ -94,6 +97,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
         this.telemetryPreferences = preferences.getTelemetryPreferences();
         this.libraryPreferences = preferences.getLibraryPreferences();
         this.filePreferences = preferences.getFilePreferences();
+        this.searchPreferences = preferences.getSearchPreferences();
 
         fontSizeValidator = new FunctionBasedValidator<>(
                 fontSizeProperty,
@@ -145,6 +149,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
 
         bibliographyModeListProperty.setValue(FXCollections.observableArrayList(BibDatabaseMode.values()));
         selectedBiblatexModeProperty.setValue(libraryPreferences.getDefaultBibDatabaseMode());
+        storeMetadataIndexProperty.setValue(searchPreferences.shouldStoreMetadataIndex());
 
         alwaysReformatBibProperty.setValue(libraryPreferences.shouldAlwaysReformatOnSave());
         autosaveLocalLibraries.setValue(libraryPreferences.shouldAutoSave());
@@ -179,6 +184,7 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
         telemetryPreferences.setCollectTelemetry(collectTelemetryProperty.getValue());
 
         libraryPreferences.setDefaultBibDatabaseMode(selectedBiblatexModeProperty.getValue());
+        searchPreferences.setStoreMetadataIndex(storeMetadataIndexProperty.getValue());
 
         libraryPreferences.setAlwaysReformatOnSave(alwaysReformatBibProperty.getValue());
         libraryPreferences.setAutoSave(autosaveLocalLibraries.getValue());
@@ -287,6 +293,10 @@ public class GeneralTabViewModel implements PreferenceTabViewModel {
         return this.selectedBiblatexModeProperty;
     }
 
+    public BooleanProperty storeMetadataIndexProperty() {
+        return this.storeMetadataIndexProperty;
+    }
+
     public BooleanProperty alwaysReformatBibProperty() {
         return alwaysReformatBibProperty;
     }
@@ -341,8 +341,8 @@ public class JournalAbbreviationsTabViewModel implements PreferenceTabViewModel
                         shouldWriteLists = false;
                     }
                 })
-                .onSuccess(success -> Globals.journalAbbreviationRepository =
-                        JournalAbbreviationLoader.loadRepository(abbreviationsPreferences))
+                .onSuccess(success -> Globals.setJournalAbbreviationRepository(
+                        JournalAbbreviationLoader.loadRepository(abbreviationsPreferences)))
                 .onFailure(exception -> LOGGER.error("Failed to store journal preferences.", exception))
                 .executeWith(taskExecutor);
     }
@@ -255,10 +255,12 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
             return;
         }
 
-        Number.serialExportNumber = 1; // Set entry number in case that is included in the preview layout.
-
         BackgroundTask
-                .wrap(() -> layout.generatePreview(entry.get(), database))
+                .wrap(() -> {
+                    // Set entry number in case that is included in the preview layout. It is kept per thread, thus it is set on the rendering one.
+                    Number.setSerialExportNumber(1);
+                    return layout.generatePreview(entry.get(), database);
+                })
                 .onRunning(() -> setPreviewText("<i>" + Localization.lang("Processing %0", Localization.lang("Citation Style")) + ": " + layout.getDisplayName() + " ..." + "</i>"))
                 .onSuccess(this::setPreviewText)
                 .onFailure(exception -> {
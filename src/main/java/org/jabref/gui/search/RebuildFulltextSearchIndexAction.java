@@ -50,6 +50,7 @@ public class RebuildFulltextSearchIndexAction extends SimpleCommand {
     public void execute() {
         init();
         BackgroundTask.wrap(this::rebuildIndex)
+                      .withWorkload(BackgroundTask.Workload.CPU_BOUND)
                       .executeWith(taskExecutor);
     }
 
@@ -29,7 +29,9 @@ import org.jabref.gui.util.FileNodeViewModel;
 import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.texparser.DefaultLatexParser;
+import org.jabref.logic.texparser.LatexCitationIndex;
 import org.jabref.logic.texparser.TexBibEntriesResolver;
+import org.jabref.logic.util.OS;
 import org.jabref.logic.util.io.FileUtil;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -208,7 +210,9 @@ public class ParseLatexDialogViewModel extends AbstractViewModel {
                 preferencesService.getImportFormatPreferences(),
                 fileMonitor);
 
-        BackgroundTask.wrap(() -> entriesResolver.resolve(new DefaultLatexParser().parse(fileList)))
+        LatexCitationIndex citationIndex = new LatexCitationIndex(OS.getNativeDesktop().getLatexCitationIndexBaseDirectory(), Path.of(latexFileDirectory.get()));
+
+        BackgroundTask.wrap(() -> entriesResolver.resolve(new DefaultLatexParser(citationIndex).parse(fileList)))
                       .onRunning(() -> searchInProgress.set(true))
                       .onFinished(() -> searchInProgress.set(false))
                       .onSuccess(result -> dialogService.showCustomDialogAndWait(
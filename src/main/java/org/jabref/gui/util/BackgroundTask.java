@@ -1,5 +1,6 @@
 package org.jabref.gui.util;
 
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -48,6 +49,8 @@ public abstract class BackgroundTask<V> {
     private final DoubleProperty workDonePercentage = new SimpleDoubleProperty(0);
     private final BooleanProperty showToUser = new SimpleBooleanProperty(false);
     private final BooleanProperty willBeRecoveredAutomatically = new SimpleBooleanProperty(false);
+    private Workload workload = Workload.IO_BOUND;
+    private Priority priority = Priority.NORMAL;
 
     public BackgroundTask() {
         workDonePercentage.bind(EasyBind.map(progress, BackgroundTask.BackgroundProgress::getWorkDonePercentage));
@@ -139,6 +142,32 @@ public abstract class BackgroundTask<V> {
         this.willBeRecoveredAutomatically.set(willBeRecoveredAutomatically);
     }
 
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    /**
+     * Declares which kind of work this task mostly does. The {@link TaskExecutor} uses this to decide on which pool the
+     * task runs. Defaults to {@link Workload#IO_BOUND}.
+     */
+    public BackgroundTask<V> withWorkload(Workload workload) {
+        this.workload = Objects.requireNonNull(workload);
+        return this;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of this task. Waiting tasks with a higher priority are started first. Defaults to
+     * {@link Priority#NORMAL}.
+     */
+    public BackgroundTask<V> withPriority(Priority priority) {
+        this.priority = Objects.requireNonNull(priority);
+        return this;
+    }
+
     /**
      * Sets the {@link Runnable} that is invoked after the task is started.
      */
@@ -270,6 +299,30 @@ public abstract class BackgroundTask<V> {
         return BackgroundTask.iconMap.getOrDefault(task.getTitle(), null);
     }
 
+    /**
+     * The kind of work a task mostly does.
+     */
+    public enum Workload {
+        /**
+         * The task mostly waits for the network or the disk, e.g., fetchers, downloads, or communication with other
+         * applications.
+         */
+        IO_BOUND,
+        /**
+         * The task keeps a core busy, e.g., parsing, indexing or searching.
+         */
+        CPU_BOUND
+    }
+
+    /**
+     * The order in which waiting tasks are started. Tasks of the same priority are started in submission order.
+     */
+    public enum Priority {
+        HIGH,
+        NORMAL,
+        LOW
+    }
+
     static class BackgroundProgress {
 
         private final double workDone;
@@ -62,6 +62,12 @@ public class CurrentThreadTaskExecutor implements TaskExecutor {
         return execute(task);
     }
 
+    @Override
+    public ExecutorStatistics getStatistics(BackgroundTask.Workload workload) {
+        // Tasks run on the calling thread and are never queued
+        return new ExecutorStatistics(0, 0, 0, 1);
+    }
+
     @Override
     public void shutdown() {
         throttlers.forEach((throttler, aVoid) -> throttler.shutdown());
@@ -5,12 +5,17 @@ import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import javafx.application.Platform;
@@ -23,22 +28,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A very simple implementation of the {@link TaskExecutor} interface.
- * Every submitted task is invoked in a separate thread.
+ * The default implementation of the {@link TaskExecutor} interface.
+ * <p>
+ * Tasks are distributed to two bounded pools depending on their {@link BackgroundTask.Workload}: I/O-bound tasks
+ * (fetchers, downloads, ...) run on a larger pool, because their threads mostly wait. CPU-bound tasks (parsing,
+ * indexing, searching, ...) run on a pool sized to the number of cores. Waiting tasks are started according to their
+ * {@link BackgroundTask.Priority}. Idle threads are released after a minute. All threads are daemon threads.
+ * <p>
+ * A task cancelled while it waits stays in the queue, but finishes immediately once it is taken from the queue.
  */
 public class DefaultTaskExecutor implements TaskExecutor {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultTaskExecutor.class);
 
-    private final ExecutorService executor = Executors.newFixedThreadPool(5);
-    private final ScheduledExecutorService scheduledExecutor = Executors.newScheduledThreadPool(2);
+    private static final int IO_POOL_SIZE = 32;
+    private static final int CPU_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final ThreadPoolExecutor ioExecutor;
+    private final ThreadPoolExecutor cpuExecutor;
+    private final ScheduledExecutorService scheduledExecutor = Executors.newSingleThreadScheduledExecutor(createThreadFactory("JabRef task scheduler"));
+    private final AtomicLong submissionCounter = new AtomicLong();
     private final WeakHashMap<DelayTaskThrottler, Void> throttlers = new WeakHashMap<>();
 
     private final StateManager stateManager;
 
     public DefaultTaskExecutor(StateManager stateManager) {
-        super();
+        this(stateManager, IO_POOL_SIZE, CPU_POOL_SIZE);
+    }
+
+    DefaultTaskExecutor(StateManager stateManager, int ioPoolSize, int cpuPoolSize) {
         this.stateManager = stateManager;
+        this.ioExecutor = createExecutor("JabRef I/O task", ioPoolSize);
+        this.cpuExecutor = createExecutor("JabRef CPU task", cpuPoolSize);
     }
 
     /**
@@ -102,24 +123,69 @@ public class DefaultTaskExecutor implements TaskExecutor {
         Platform.runLater(runnable);
     }
 
+    private static ThreadPoolExecutor createExecutor(String threadName, int poolSize) {
+        // Tasks are queued with their priority, hence they must be submitted via execute (and not submit)
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(), createThreadFactory(threadName));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Creates daemon threads, so that a stuck task does not keep the JVM from exiting
+     */
+    private static ThreadFactory createThreadFactory(String threadName) {
+        AtomicLong threadCounter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadName + " " + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     @Override
     public <V> Future<V> execute(BackgroundTask<V> task) {
         Task<V> javafxTask = getJavaFXTask(task);
         if (task.showToUser()) {
             stateManager.addBackgroundTask(task, javafxTask);
         }
-        return execute(javafxTask);
+        return execute(javafxTask, task.getWorkload(), task.getPriority());
     }
 
     @Override
     public <V> Future<V> execute(Task<V> task) {
-        executor.submit(task);
+        return execute(task, BackgroundTask.Workload.IO_BOUND, BackgroundTask.Priority.NORMAL);
+    }
+
+    private <V> Future<V> execute(Task<V> task, BackgroundTask.Workload workload, BackgroundTask.Priority priority) {
+        ThreadPoolExecutor executor = getExecutor(workload);
+        executor.execute(new PrioritizedTask(task, priority, submissionCounter.getAndIncrement()));
         return task;
     }
 
     @Override
     public <V> Future<?> schedule(BackgroundTask<V> task, long delay, TimeUnit unit) {
-        return scheduledExecutor.schedule(getJavaFXTask(task), delay, unit);
+        // The scheduler thread only hands the task over to the pool, so that long-running scheduled tasks do not delay others
+        Task<V> javafxTask = getJavaFXTask(task);
+        ScheduledFuture<?> handOver = scheduledExecutor.schedule(() -> {
+            if (!javafxTask.isCancelled()) {
+                execute(javafxTask, task.getWorkload(), task.getPriority());
+            }
+        }, delay, unit);
+        return new ScheduledTask<>(javafxTask, handOver);
+    }
+
+    private ThreadPoolExecutor getExecutor(BackgroundTask.Workload workload) {
+        return switch (workload) {
+            case IO_BOUND -> ioExecutor;
+            case CPU_BOUND -> cpuExecutor;
+        };
+    }
+
+    @Override
+    public ExecutorStatistics getStatistics(BackgroundTask.Workload workload) {
+        ThreadPoolExecutor executor = getExecutor(workload);
+        return new ExecutorStatistics(executor.getActiveCount(), executor.getQueue().size(), executor.getCompletedTaskCount(), executor.getMaximumPoolSize());
     }
 
     /**
@@ -128,7 +194,8 @@ public class DefaultTaskExecutor implements TaskExecutor {
     @Override
     public void shutdown() {
         stateManager.getBackgroundTasks().stream().filter(task -> !task.isDone()).forEach(Task::cancel);
-        executor.shutdownNow();
+        ioExecutor.shutdownNow();
+        cpuExecutor.shutdownNow();
         scheduledExecutor.shutdownNow();
         throttlers.forEach((throttler, aVoid) -> throttler.shutdown());
     }
@@ -176,6 +243,59 @@ public class DefaultTaskExecutor implements TaskExecutor {
         return javaTask;
     }
 
+    /**
+     * A scheduled task, which is cancelled no matter whether it is still waiting for its delay or already handed over to
+     * a pool.
+     */
+    private record ScheduledTask<V>(Task<V> task, ScheduledFuture<?> handOver) implements Future<V> {
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            handOver.cancel(false);
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+
+    /**
+     * Orders waiting tasks by priority and then by submission order.
+     */
+    record PrioritizedTask(Runnable task, BackgroundTask.Priority priority, long sequenceNumber) implements Runnable, Comparable<PrioritizedTask> {
+
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask other) {
+            int priorityComparison = priority.compareTo(other.priority);
+            if (priorityComparison != 0) {
+                return priorityComparison;
+            }
+            return Long.compare(sequenceNumber, other.sequenceNumber);
+        }
+    }
+
     private Exception convertToException(Throwable throwable) {
         if (throwable instanceof Exception exception) {
             return exception;
@@ -0,0 +1,12 @@
+package org.jabref.gui.util;
+
+/**
+ * A snapshot of the load of the pool of a {@link TaskExecutor}.
+ *
+ * @param activeTasks    number of tasks currently running
+ * @param queuedTasks    number of tasks waiting for a free thread
+ * @param completedTasks number of tasks finished since startup
+ * @param poolSize       maximum number of tasks running concurrently
+ */
+public record ExecutorStatistics(int activeTasks, int queuedTasks, long completedTasks, int poolSize) {
+}
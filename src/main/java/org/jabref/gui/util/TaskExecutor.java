@@ -44,6 +44,11 @@ public interface TaskExecutor {
      */
     <V> Future<?> schedule(BackgroundTask<V> task, long delay, TimeUnit unit);
 
+    /**
+     * Returns a snapshot of the load of the pool responsible for tasks of the given workload.
+     */
+    ExecutorStatistics getStatistics(BackgroundTask.Workload workload);
+
     /**
      * Shutdown the task executor. May happen in the background or may be finished when this method returns.
      */
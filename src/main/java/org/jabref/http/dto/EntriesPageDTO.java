@@ -0,0 +1,14 @@
+package org.jabref.http.dto;
+
+import java.util.List;
+
+/**
+ * The data transfer object (DTO) for a page of the entries matching a search
+ *
+ * @param total the number of all matching entries
+ * @param page the number of the page, starting at 1
+ * @param pageSize the maximum number of entries on a page
+ * @param entries the entries on the page, as {@link BibEntryDTO} or, if only some fields were requested, as mapping of the field names to their values
+ */
+public record EntriesPageDTO(int total, int page, int pageSize, List<?> entries) {
+}
@@ -1,9 +1,16 @@
 package org.jabref.http.server;
 
+import java.util.Objects;
 import java.util.Set;
 
 import org.jabref.http.dto.GsonFactory;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.search.LibraryCache;
+import org.jabref.logic.search.MetadataIndex;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferenceServiceFactory;
+import org.jabref.preferences.PreferencesService;
 
 import jakarta.inject.Inject;
 import jakarta.ws.rs.ApplicationPath;
@@ -26,7 +33,26 @@ public class Application extends jakarta.ws.rs.core.Application {
      * Separate initialization method, because @Inject does not support injection at the constructor
      */
     private void initialize() {
+        PreferenceServiceFactory preferenceServiceFactory = new PreferenceServiceFactory();
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
-        ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferenceServiceFactory());
+        ServiceLocatorUtilities.addFactoryConstants(serviceLocator, preferenceServiceFactory);
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, createLibraryCache(preferenceServiceFactory.provide()));
+    }
+
+    /**
+     * Creates the cache of the libraries served. The entries get the same identifiers as in the dump of the whole
+     * library. They are indexed in memory, so that the index does not compete with the persistent index of a process
+     * which has the library open as well.
+     */
+    static LibraryCache createLibraryCache(PreferencesService preferences) {
+        return new LibraryCache(
+                file -> {
+                    BibDatabaseContext databaseContext = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor())
+                            .importDatabase(file)
+                            .getDatabaseContext();
+                    databaseContext.getEntries().forEach(entry -> entry.getSharedBibEntryData().setSharedID(Objects.hash(entry)));
+                    return databaseContext;
+                },
+                databaseContext -> MetadataIndex.inMemory(databaseContext.getEntries()));
     }
 }
@@ -2,29 +2,51 @@ package org.jabref.http.server;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.jabref.gui.Globals;
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.dto.EntriesPageDTO;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.search.LibraryCache;
+import org.jabref.logic.search.LibraryCache.CachedLibrary;
+import org.jabref.logic.search.SearchQuery;
 import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,12 +55,17 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    static final int MAX_PAGE_SIZE = 1000;
+
     @Inject
     PreferencesService preferences;
 
     @Inject
     Gson gson;
 
+    @Inject
+    LibraryCache libraryCache;
+
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public String getJson(@PathParam("id") String id) {
@@ -59,6 +86,117 @@ public class LibraryResource {
         return jabRefItemDataProvider.toJson();
     }
 
+    /**
+     * Searches the entries of the library. The library is parsed and indexed once per version of its file, and the
+     * matches of a query are kept, so that requesting the other pages of the results does not search again.
+     * <p>
+     * The version of the library is the entity tag of the response. Thus, a client repeating a request with
+     * {@code If-None-Match} gets an empty response as long as the library did not change.
+     *
+     * @param query    the search query, all entries if absent
+     * @param fields   comma separated field names. If present, only these fields are returned instead of the BibTeX of
+     *                 the entries
+     * @param page     the number of the page, starting at 1
+     * @param pageSize the number of entries per page
+     * @param sort     the field to sort by. A leading {@code -} sorts descending. Without it, the order of the library
+     *                 is kept.
+     */
+    @GET
+    @Path("entries")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntries(@PathParam("id") String id,
+                               @QueryParam("q") String query,
+                               @QueryParam("fields") String fields,
+                               @QueryParam("page") @DefaultValue("1") int page,
+                               @QueryParam("size") @DefaultValue("20") int pageSize,
+                               @QueryParam("sort") String sort,
+                               @Context Request request) {
+        if (page < 1) {
+            throw new BadRequestException("The page has to be at least 1");
+        }
+        if ((pageSize < 1) || (pageSize > MAX_PAGE_SIZE)) {
+            throw new BadRequestException("The page size has to be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Optional<SearchQuery> searchQuery = Optional.ofNullable(query)
+                                                    .filter(q -> !q.isBlank())
+                                                    .map(q -> new SearchQuery(q, EnumSet.noneOf(SearchFlags.class)));
+        if (searchQuery.isPresent() && !searchQuery.get().isValid()) {
+            throw new BadRequestException("Invalid search query");
+        }
+
+        CachedLibrary library = getCachedLibrary(id);
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(getLastModified(library), getEntityTag(library));
+        if (notModified != null) {
+            return notModified.build();
+        }
+
+        Optional<String> sortFieldName = Optional.ofNullable(sort).filter(s -> !s.isBlank());
+        boolean descending = sortFieldName.map(s -> s.startsWith("-")).orElse(false);
+        Optional<Field> sortField = sortFieldName.map(s -> descending ? s.substring(1) : s).map(FieldFactory::parseField);
+        List<BibEntry> matches = library.getMatches(searchQuery, sortField, descending);
+
+        long from = (long) (page - 1) * pageSize;
+        List<BibEntry> entriesOnPage = from >= matches.size()
+                ? List.of()
+                : matches.subList((int) from, (int) Math.min(matches.size(), from + pageSize));
+        BibDatabaseMode mode = library.getDatabaseContext().getMode();
+        List<?> entries = Optional.ofNullable(fields)
+                                  .filter(f -> !f.isBlank())
+                                  .<List<?>>map(f -> getFieldValues(entriesOnPage, parseFields(f)))
+                                  .orElseGet(() -> entriesOnPage.stream()
+                                                                .map(entry -> new BibEntryDTO(entry, mode, preferences.getFieldPreferences(), Globals.entryTypesManager))
+                                                                .toList());
+
+        // Clients may keep the response, but have to ask whether it is still valid
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        return Response.ok(gson.toJson(new EntriesPageDTO(matches.size(), page, pageSize, entries)))
+                       .tag(getEntityTag(library))
+                       .lastModified(getLastModified(library))
+                       .cacheControl(cacheControl)
+                       .build();
+    }
+
+    /**
+     * Identifies the version of the library. Responses derived from the same version are equal.
+     */
+    private static EntityTag getEntityTag(CachedLibrary library) {
+        return new EntityTag(Long.toHexString(library.getLastModified().toMillis()) + "-" + Long.toHexString(library.getSize()));
+    }
+
+    private static Date getLastModified(CachedLibrary library) {
+        return new Date(library.getLastModified().toMillis());
+    }
+
+    private static List<Field> parseFields(String fields) {
+        return Arrays.stream(fields.split(","))
+                     .map(String::trim)
+                     .filter(name -> !name.isEmpty())
+                     .map(FieldFactory::parseField)
+                     .distinct()
+                     .toList();
+    }
+
+    private static List<Map<String, String>> getFieldValues(List<BibEntry> entries, List<Field> fields) {
+        return entries.stream()
+                      .map(entry -> {
+                          Map<String, String> values = new LinkedHashMap<>();
+                          fields.forEach(field -> entry.getField(field).ifPresent(value -> values.put(field.getName(), value)));
+                          return values;
+                      })
+                      .toList();
+    }
+
+    private CachedLibrary getCachedLibrary(String id) {
+        java.nio.file.Path library = getLibraryPath(id);
+        try {
+            return libraryCache.get(library);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read library file {}", library, e);
+            throw new InternalServerErrorException("Could not parse library", e);
+        }
+    }
+
     private ParserResult getParserResult(String id) {
         java.nio.file.Path library = getLibraryPath(id);
         ParserResult parserResult;
@@ -1,5 +1,6 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.text.CollationKey;
 import java.text.Collator;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
@@ -10,6 +11,7 @@ import java.util.Optional;
 import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Month;
+import org.jabref.model.entry.SortKeyCriterion;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.InternalField;
@@ -20,6 +22,9 @@ import org.jabref.model.strings.StringUtil;
 
 /**
  * A comparator for BibEntry fields
+ * <p>
+ * The field values are normalized to sort keys, which are cached by the entries until they change. Thus, sorting many
+ * entries normalizes each value only once instead of at every comparison.
  */
 public class FieldComparator implements Comparator<BibEntry> {
 
@@ -30,6 +35,7 @@ public class FieldComparator implements Comparator<BibEntry> {
     }
 
     private final OrFields fields;
+    private final SortKeyCriterion<SortKey> sortKeyCriterion;
     private final FieldType fieldType;
     private final boolean isNumeric;
     private final int multiplier;
@@ -44,6 +50,8 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     public FieldComparator(OrFields fields, boolean descending) {
         this.fields = fields;
+        // The key only depends on the fields, not on the direction
+        sortKeyCriterion = new SortKeyCriterion<>(fields, SortKey.class);
         fieldType = determineFieldType();
         isNumeric = this.fields.getPrimary().isNumeric();
         multiplier = descending ? -1 : 1;
@@ -84,63 +92,72 @@ public class FieldComparator implements Comparator<BibEntry> {
 
     @Override
     public int compare(BibEntry e1, BibEntry e2) {
-        String f1;
-        String f2;
+        SortKey key1 = e1.getSortKey(sortKeyCriterion, this::computeSortKey);
+        SortKey key2 = e2.getSortKey(sortKeyCriterion, this::computeSortKey);
+        return key1.compareTo(key2) * multiplier;
+    }
 
+    /**
+     * Normalizes the value of the entry once, so that comparisons only compare the resulting keys.
+     */
+    private SortKey computeSortKey(BibEntry entry) {
+        String value;
         if (fieldType == FieldType.TYPE) {
-            // Sort by type.
-            f1 = e1.getType().getDisplayName();
-            f2 = e2.getType().getDisplayName();
+            value = entry.getType().getDisplayName();
         } else {
-            f1 = getFieldValue(e1);
-            f2 = getFieldValue(e2);
+            value = getFieldValue(entry);
         }
-
-        // Catch all cases involving null:
-        if ((f1 == null) && (f2 == null)) {
-            return 0;
-        } else if (f1 == null) {
-            return -multiplier;
-        } else if (f2 == null) {
-            return +multiplier;
+        if (value == null) {
+            return SortKey.MISSING;
         }
 
-        // Now we know that both f1 and f2 are != null
         if (fieldType == FieldType.NAME) {
-            f1 = AuthorList.fixAuthorForAlphabetization(f1);
-            f2 = AuthorList.fixAuthorForAlphabetization(f2);
+            value = AuthorList.fixAuthorForAlphabetization(value);
         } else if (fieldType == FieldType.YEAR) {
-            Integer f1year = StringUtil.intValueOfOptional(f1).orElse(0);
-            Integer f2year = StringUtil.intValueOfOptional(f2).orElse(0);
-            int comparisonResult = Integer.compare(f1year, f2year);
-            return comparisonResult * multiplier;
+            return SortKey.ofNumber(StringUtil.intValueOfOptional(value).orElse(0));
         } else if (fieldType == FieldType.MONTH) {
-            int month1 = Month.parse(f1).map(Month::getNumber).orElse(-1);
-            int month2 = Month.parse(f2).map(Month::getNumber).orElse(-1);
-            return Integer.compare(month1, month2) * multiplier;
+            return SortKey.ofNumber(Month.parse(value).map(Month::getNumber).orElse(-1));
         }
 
         if (isNumeric) {
-            Optional<Integer> i1 = StringUtil.intValueOfOptional(f1);
-            Optional<Integer> i2 = StringUtil.intValueOfOptional(f2);
-
-            if ((i2.isPresent()) && (i1.isPresent())) {
-                // Ok, parsing was successful. Update f1 and f2:
-                return i1.get().compareTo(i2.get()) * multiplier;
-            } else if (i1.isPresent()) {
-                // The first one was parsable, but not the second one.
-                // This means we consider one < two
-                return -1 * multiplier;
-            } else if (i2.isPresent()) {
-                // The second one was parsable, but not the first one.
-                // This means we consider one > two
-                return multiplier;
+            // Parsable values come before all others
+            Optional<Integer> number = StringUtil.intValueOfOptional(value);
+            if (number.isPresent()) {
+                return SortKey.ofNumber(number.get());
             }
-            // Else none of them were parseable, and we can fall back on comparing strings.
         }
 
-        String ours = f1.toLowerCase(Locale.ENGLISH);
-        String theirs = f2.toLowerCase(Locale.ENGLISH);
-        return COLLATOR.compare(ours, theirs) * multiplier;
+        return SortKey.ofText(COLLATOR.getCollationKey(value.toLowerCase(Locale.ENGLISH)));
+    }
+
+    /**
+     * The normalized value of an entry: missing values come first, then numbers, then texts.
+     */
+    record SortKey(int rank, int number, CollationKey text) implements Comparable<SortKey> {
+
+        static final SortKey MISSING = new SortKey(0, 0, null);
+
+        static SortKey ofNumber(int number) {
+            return new SortKey(1, number, null);
+        }
+
+        static SortKey ofText(CollationKey text) {
+            return new SortKey(2, 0, text);
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            if (rank != other.rank) {
+                return Integer.compare(rank, other.rank);
+            }
+            return switch (rank) {
+                case 1 ->
+                        Integer.compare(number, other.number);
+                case 2 ->
+                        Integer.signum(text.compareTo(other.text));
+                default ->
+                        0;
+            };
+        }
     }
 }
@@ -3,6 +3,7 @@ package org.jabref.logic.bst;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.cleanup.ConvertToBibtexCleanup;
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
@@ -21,6 +22,16 @@ public class BstPreviewLayout implements PreviewLayout {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(BstPreviewLayout.class);
 
+    private static final Pattern COMMENT = Pattern.compile("%.*");
+    private static final Pattern BIBITEM = Pattern.compile("\\\\bibitem[{].*[}]");
+    private static final Pattern COMMAND_LINE = Pattern.compile("(?m)^\\\\.*$");
+    private static final Pattern MULTIPLE_SPACES = Pattern.compile("  +");
+
+    private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
+    private static final RemoveNewlinesFormatter REMOVE_NEWLINES_FORMATTER = new RemoveNewlinesFormatter();
+    private static final RemoveLatexCommandsFormatter REMOVE_LATEX_COMMANDS_FORMATTER = new RemoveLatexCommandsFormatter();
+    private static final RemoveTilde REMOVE_TILDE = new RemoveTilde();
+
     private final String name;
 
     private BstVM bstVM;
@@ -51,28 +62,28 @@ public class BstPreviewLayout implements PreviewLayout {
         new ConvertToBibtexCleanup().cleanup(entry);
         String result = bstVM.render(List.of(entry));
         // Remove all comments
-        result = result.replaceAll("%.*", "");
+        result = COMMENT.matcher(result).replaceAll("");
         // Remove all LaTeX comments
         // The RemoveLatexCommandsFormatter keeps the words inside latex environments. Therefore, we remove them manually
         result = result.replace("\\begin{thebibliography}{1}", "");
         result = result.replace("\\end{thebibliography}", "");
         // The RemoveLatexCommandsFormatter keeps the word inside the latex command, but we want to remove that completely
-        result = result.replaceAll("\\\\bibitem[{].*[}]", "");
+        result = BIBITEM.matcher(result).replaceAll("");
         // We want to replace \newblock by a space instead of completely removing it
         result = result.replace("\\newblock", " ");
         // remove all latex commands statements - assumption: command in a separate line
-        result = result.replaceAll("(?m)^\\\\.*$", "");
+        result = COMMAND_LINE.matcher(result).replaceAll("");
         // remove some IEEEtran.bst output (resulting from a multiline \providecommand)
         result = result.replace("#2}}", "");
         // Have quotes right - and more
-        result = new LatexToUnicodeFormatter().format(result);
+        result = LATEX_TO_UNICODE_FORMATTER.format(result);
         result = result.replace("``", "\"");
         result = result.replace("''", "\"");
         // Final cleanup
-        result = new RemoveNewlinesFormatter().format(result);
-        result = new RemoveLatexCommandsFormatter().format(result);
-        result = new RemoveTilde().format(result);
-        result = result.trim().replaceAll("  +", " ");
+        result = REMOVE_NEWLINES_FORMATTER.format(result);
+        result = REMOVE_LATEX_COMMANDS_FORMATTER.format(result);
+        result = REMOVE_TILDE.format(result);
+        result = MULTIPLE_SPACES.matcher(result.trim()).replaceAll(" ");
         return result;
     }
 
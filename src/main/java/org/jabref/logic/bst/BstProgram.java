@@ -0,0 +1,101 @@
+package org.jabref.logic.bst;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+/**
+ * The compiled form of the blocks (<code>{ ... }</code>) of a parsed bst file.
+ * <p>
+ * Each block is translated once into an array of instructions: the literals are parsed in advance and each called
+ * name gets a slot number. The meaning of a slot (field, variable, or function) is resolved during a render by the
+ * {@link BstVMVisitor}, thus the program itself is immutable and shared by all renders of a {@link BstVM}.
+ * <p>
+ * Blocks are still pushed as parse tree nodes, so <code>if$</code> and <code>while$</code> work unchanged.
+ */
+final class BstProgram {
+
+    private final Map<BstParser.StackContext, Instruction[]> blocks = new IdentityHashMap<>();
+    private final Map<String, Integer> slots = new HashMap<>();
+
+    private BstProgram() {
+    }
+
+    static BstProgram compile(ParseTree tree) {
+        BstProgram program = new BstProgram();
+        program.collectBlocks(tree);
+        return program;
+    }
+
+    private void collectBlocks(ParseTree node) {
+        if (node instanceof BstParser.StackContext stack) {
+            blocks.put(stack, compileBlock(stack));
+        }
+        for (int i = 0; i < node.getChildCount(); i++) {
+            collectBlocks(node.getChild(i));
+        }
+    }
+
+    private Instruction[] compileBlock(BstParser.StackContext stack) {
+        List<Instruction> instructions = new ArrayList<>();
+        for (BstParser.StackitemContext item : stack.stackitem()) {
+            for (ParseTree child : item.children) {
+                instructions.add(compileItem(child));
+            }
+        }
+        return instructions.toArray(Instruction[]::new);
+    }
+
+    private Instruction compileItem(ParseTree node) {
+        if (node instanceof TerminalNode token) {
+            String text = token.getText();
+            return switch (token.getSymbol().getType()) {
+                case BstParser.STRING ->
+                        new Push(text.substring(1, text.length() - 1));
+                case BstParser.INTEGER ->
+                        new Push(Integer.parseInt(text.substring(1)));
+                case BstParser.QUOTED ->
+                        new Push(new BstVMVisitor.Identifier(text.substring(1)));
+                default ->
+                        throw new BstVMException("Unexpected token " + text);
+            };
+        } else if (node instanceof BstParser.StackContext) {
+            return new Push(node);
+        } else {
+            BstParser.BstFunctionContext function = (BstParser.BstFunctionContext) node;
+            String name = function.getChild(0).getText();
+            return new Call(slots.computeIfAbsent(name, key -> slots.size()), name, function);
+        }
+    }
+
+    /**
+     * @return the instructions of the given block, or null if the block is not part of this program
+     */
+    Instruction[] getInstructions(BstParser.StackContext stack) {
+        return blocks.get(stack);
+    }
+
+    int getSlotCount() {
+        return slots.size();
+    }
+
+    sealed interface Instruction permits Push, Call {
+    }
+
+    /**
+     * Pushes a string, an integer, a quoted identifier, or a block.
+     */
+    record Push(Object value) implements Instruction {
+    }
+
+    /**
+     * Calls the function or pushes the value of the variable named <code>name</code>.
+     */
+    record Call(int slot, String name, BstParser.BstFunctionContext context) implements Instruction {
+    }
+}
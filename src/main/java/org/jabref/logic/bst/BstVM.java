@@ -27,6 +27,7 @@ public class BstVM {
     protected static final Integer TRUE = 1;
 
     protected final ParseTree tree;
+    private final BstProgram program;
     protected BstVMContext latestContext; // for testing
 
     private Path path = null;
@@ -46,6 +47,7 @@ public class BstVM {
 
     private BstVM(ParseTree tree) {
         this.tree = tree;
+        this.program = BstProgram.compile(tree);
     }
 
     private static ParseTree charStream2CommonTree(CharStream query) {
@@ -81,7 +83,7 @@ public class BstVM {
         bstVMContext.integers().put("entry.max$", Integer.MAX_VALUE);
         bstVMContext.integers().put("global.max$", Integer.MAX_VALUE);
 
-        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer);
+        BstVMVisitor bstVMVisitor = new BstVMVisitor(bstVMContext, resultBuffer, program);
         bstVMVisitor.visit(tree);
 
         latestContext = bstVMContext;
@@ -1,5 +1,6 @@
 package org.jabref.logic.bst;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -25,19 +26,52 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     private final BstVMContext bstVMContext;
     private final StringBuilder bbl;
+    private final BstProgram program;
+
+    // The resolved slots of the program, separately for calls outside (EXECUTE) and inside (ITERATE, REVERSE) of an
+    // entry. All entries have the same fields and local variables, thus a resolution is valid for all of them.
+    private final Resolution[] globalResolutions;
+    private final Resolution[] entryResolutions;
 
     private BstEntry selectedBstEntry = null;
 
     public record Identifier(String name) {
     }
 
+    private enum Kind {
+        FIELD, LOCAL_STRING, LOCAL_INTEGER, STRING, INTEGER, FUNCTION
+    }
+
+    private record Resolution(Kind kind, BstFunctions.BstFunction function) {
+    }
+
     public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl) {
+        this(bstVMContext, bbl, null);
+    }
+
+    /**
+     * @param program the compiled blocks of the visited tree, or null to interpret the tree directly
+     */
+    public BstVMVisitor(BstVMContext bstVMContext, StringBuilder bbl, BstProgram program) {
         this.bstVMContext = bstVMContext;
         this.bbl = bbl;
+        this.program = program;
+        int slotCount = program == null ? 0 : program.getSlotCount();
+        this.globalResolutions = new Resolution[slotCount];
+        this.entryResolutions = new Resolution[slotCount];
+    }
+
+    /**
+     * Forgets all resolved slots. Has to be called whenever a command declares a name.
+     */
+    private void invalidateResolutions() {
+        Arrays.fill(globalResolutions, null);
+        Arrays.fill(entryResolutions, null);
     }
 
     @Override
     public Integer visitStringsCommand(BstParser.StringsCommandContext ctx) {
+        invalidateResolutions();
         if (ctx.ids.identifier().size() > 20) {
             throw new BstVMException("Strings limit reached");
         }
@@ -50,6 +84,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitIntegersCommand(BstParser.IntegersCommandContext ctx) {
+        invalidateResolutions();
         for (BstParser.IdentifierContext identifierContext : ctx.ids.identifier()) {
             bstVMContext.integers().put(identifierContext.getText(), 0);
         }
@@ -58,6 +93,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitFunctionCommand(BstParser.FunctionCommandContext ctx) {
+        invalidateResolutions();
         bstVMContext.functions().put(ctx.id.getText(),
                 (visitor, functionContext) -> visitor.visit(ctx.function));
         return BstVM.TRUE;
@@ -65,6 +101,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitMacroCommand(BstParser.MacroCommandContext ctx) {
+        invalidateResolutions();
         String replacement = ctx.repl.getText().substring(1, ctx.repl.getText().length() - 1);
         bstVMContext.functions().put(ctx.id.getText(),
                 (visitor, functionContext) -> bstVMContext.stack().push(replacement));
@@ -73,6 +110,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitReadCommand(BstParser.ReadCommandContext ctx) {
+        invalidateResolutions();
         FieldWriter fieldWriter = new FieldWriter(new FieldPreferences(true, List.of(StandardField.MONTH), Collections.emptyList()));
         for (BstEntry e : bstVMContext.entries()) {
             for (Map.Entry<String, String> mEntry : e.fields.entrySet()) {
@@ -144,6 +182,7 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
 
     @Override
     public Integer visitEntryCommand(BstParser.EntryCommandContext ctx) {
+        invalidateResolutions();
         // ENTRY command contains 3 optionally filled identifier lists:
         // Fields, Integers and Strings
 
@@ -231,6 +270,84 @@ class BstVMVisitor extends BstBaseVisitor<Integer> {
         return BstVM.TRUE;
     }
 
+    @Override
+    public Integer visitStack(BstParser.StackContext ctx) {
+        BstProgram.Instruction[] instructions = program == null ? null : program.getInstructions(ctx);
+        if (instructions == null) {
+            return visitChildren(ctx);
+        }
+
+        try {
+            for (BstProgram.Instruction instruction : instructions) {
+                if (instruction instanceof BstProgram.Push push) {
+                    bstVMContext.stack().push(push.value());
+                } else {
+                    call((BstProgram.Call) instruction);
+                }
+            }
+        } catch (BstVMException e) {
+            bstVMContext.path().ifPresentOrElse(
+                    path -> LOGGER.error("{} ({})", e.getMessage(), path),
+                    () -> LOGGER.error(e.getMessage()));
+            throw e;
+        }
+        return BstVM.TRUE;
+    }
+
+    /**
+     * Does the same as {@link #visitBstFunction}, but looks up the name only at the first call.
+     */
+    private void call(BstProgram.Call call) {
+        Resolution[] resolutions = selectedBstEntry == null ? globalResolutions : entryResolutions;
+        Resolution resolution = resolutions[call.slot()];
+        if (resolution == null) {
+            resolution = resolve(call.name());
+            resolutions[call.slot()] = resolution;
+        }
+
+        String name = call.name();
+        switch (resolution.kind()) {
+            case FIELD ->
+                    bstVMContext.stack().push(selectedBstEntry.fields.get(name));
+            case LOCAL_STRING ->
+                    bstVMContext.stack().push(selectedBstEntry.localStrings.get(name));
+            case LOCAL_INTEGER ->
+                    bstVMContext.stack().push(selectedBstEntry.localIntegers.get(name));
+            case STRING ->
+                    bstVMContext.stack().push(bstVMContext.strings().get(name));
+            case INTEGER ->
+                    bstVMContext.stack().push(bstVMContext.integers().get(name));
+            case FUNCTION ->
+                    resolution.function().execute(this, call.context(), selectedBstEntry);
+        }
+    }
+
+    private Resolution resolve(String name) {
+        // Same order as in visitBstFunction and resolveIdentifier
+        BstFunctions.BstFunction function = bstVMContext.functions().get(name);
+        if (function != null) {
+            return new Resolution(Kind.FUNCTION, function);
+        }
+        if (selectedBstEntry != null) {
+            if (selectedBstEntry.fields.containsKey(name)) {
+                return new Resolution(Kind.FIELD, null);
+            }
+            if (selectedBstEntry.localStrings.containsKey(name)) {
+                return new Resolution(Kind.LOCAL_STRING, null);
+            }
+            if (selectedBstEntry.localIntegers.containsKey(name)) {
+                return new Resolution(Kind.LOCAL_INTEGER, null);
+            }
+        }
+        if (bstVMContext.strings().containsKey(name)) {
+            return new Resolution(Kind.STRING, null);
+        }
+        if (bstVMContext.integers().containsKey(name)) {
+            return new Resolution(Kind.INTEGER, null);
+        }
+        throw new BstVMException("No matching identifier found: " + name);
+    }
+
     @Override
     public Integer visitStackitem(BstParser.StackitemContext ctx) {
         for (ParseTree childNode : ctx.children) {
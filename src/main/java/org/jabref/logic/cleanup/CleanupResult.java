@@ -0,0 +1,20 @@
+package org.jabref.logic.cleanup;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.jabref.model.FieldChange;
+
+/**
+ * The outcome of cleaning up several entries.
+ *
+ * @param changes         the changes of all entries, grouped by entry in the order of the entries
+ * @param modifiedEntries the number of entries with at least one change
+ * @param entries         the number of cleaned up entries
+ */
+public record CleanupResult(List<FieldChange> changes, int modifiedEntries, int entries, Duration duration) {
+
+    public double getEntriesPerSecond() {
+        return entries * 1_000_000_000.0 / Math.max(1, duration.toNanos());
+    }
+}
@@ -1,18 +1,41 @@
 package org.jabref.logic.cleanup;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.IntStream;
 
+import org.jabref.logic.externalfiles.LinkedFileHandler;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
 import org.jabref.preferences.CleanupPreferences;
 import org.jabref.preferences.FilePreferences;
 
+import com.google.common.util.concurrent.Striped;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 public class CleanupWorker {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CleanupWorker.class);
+
+    // Moving and renaming files is limited by the disk, not by the processor
+    private static final int FILE_THREADS = 4;
+    private static final int FILE_NAME_LOCKS = 256;
+
     private final BibDatabaseContext databaseContext;
     private final FilePreferences filePreferences;
     private final TimestampPreferences timestampPreferences;
@@ -37,6 +60,150 @@ public class CleanupWorker {
         return changes;
     }
 
+    /**
+     * Cleans up several entries. The jobs are applied to each entry in the same order as by {@link
+     * #cleanup(CleanupPreferences, BibEntry)}, but several entries are processed at the same time on copies of the
+     * entries, and their changes are then applied to the entries by the calling thread. Jobs which only change fields
+     * run in parallel on all processors. Jobs which move or rename files run in a small pool; entries whose files could
+     * end up with the same file name are not processed at the same time.
+     */
+    public CleanupResult cleanup(CleanupPreferences preset, List<BibEntry> entries) {
+        Objects.requireNonNull(preset);
+        Objects.requireNonNull(entries);
+
+        long start = System.nanoTime();
+        List<CleanupJob> jobs = determineCleanupActions(preset);
+        List<List<FieldChange>> changes = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            changes.add(new ArrayList<>());
+        }
+
+        // Consecutive jobs of the same kind are run as one step
+        int stepStart = 0;
+        while (stepStart < jobs.size()) {
+            boolean isFileStep = isFileJob(jobs.get(stepStart));
+            int stepEnd = stepStart + 1;
+            while ((stepEnd < jobs.size()) && (isFileJob(jobs.get(stepEnd)) == isFileStep)) {
+                stepEnd++;
+            }
+            List<CleanupJob> step = jobs.subList(stepStart, stepEnd);
+            if (isFileStep) {
+                runFileJobs(step, entries, changes);
+            } else {
+                runFieldJobs(step, entries, changes);
+            }
+            stepStart = stepEnd;
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        CleanupResult result = new CleanupResult(
+                changes.stream().flatMap(List::stream).toList(),
+                (int) changes.stream().filter(entryChanges -> !entryChanges.isEmpty()).count(),
+                entries.size(),
+                duration);
+        LOGGER.debug("Cleaned up {} entries in {} ms ({} entries per second)", entries.size(), duration.toMillis(), result.getEntriesPerSecond());
+        return result;
+    }
+
+    private static void applyJobs(List<CleanupJob> jobs, BibEntry entry, List<FieldChange> changes) {
+        for (CleanupJob job : jobs) {
+            changes.addAll(job.cleanup(entry));
+        }
+    }
+
+    /**
+     * Runs the jobs on copies of the entries in parallel. The entries themselves are changed on the calling thread
+     * only, as their listeners (e.g., of the database or the user interface) expect changes from a single thread.
+     */
+    private static void runFieldJobs(List<CleanupJob> jobs, List<BibEntry> entries, List<List<FieldChange>> changes) {
+        List<List<FieldChange>> changesOfCopies = IntStream.range(0, entries.size())
+                                                           .parallel()
+                                                           .mapToObj(i -> {
+                                                               List<FieldChange> copyChanges = new ArrayList<>();
+                                                               applyJobs(jobs, (BibEntry) entries.get(i).clone(), copyChanges);
+                                                               return copyChanges;
+                                                           })
+                                                           .toList();
+
+        applyChanges(entries, changesOfCopies, changes);
+    }
+
+    /**
+     * Applies the changes made to the copies of the entries to the entries themselves. Only changes which actually
+     * change the entry are recorded.
+     */
+    private static void applyChanges(List<BibEntry> entries, List<List<FieldChange>> changesOfCopies, List<List<FieldChange>> changes) {
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            for (FieldChange change : changesOfCopies.get(i)) {
+                Optional<FieldChange> appliedChange = (change.getNewValue() == null)
+                        ? entry.clearField(change.getField())
+                        : entry.setField(change.getField(), change.getNewValue());
+                appliedChange.ifPresent(changes.get(i)::add);
+            }
+        }
+    }
+
+    private static boolean isFileJob(CleanupJob job) {
+        return (job instanceof MoveFilesCleanup) || (job instanceof RenamePdfCleanup);
+    }
+
+    /**
+     * Moves and renames the files of copies of the entries in parallel. As for {@link #runFieldJobs(List, List, List)},
+     * the changed file fields are applied to the entries on the calling thread.
+     */
+    private void runFileJobs(List<CleanupJob> jobs, List<BibEntry> entries, List<List<FieldChange>> changes) {
+        // Two entries conflict if one of their files has (or will get) the same name, because moving or renaming both
+        // files might then target the same path. Lock stripes are acquired in a fixed order, thus they do not deadlock.
+        Striped<Lock> fileNameLocks = Striped.lock(FILE_NAME_LOCKS);
+        ExecutorService executor = Executors.newFixedThreadPool(FILE_THREADS);
+        try {
+            List<Future<List<FieldChange>>> futures = new ArrayList<>(entries.size());
+            for (BibEntry entry : entries) {
+                BibEntry copy = (BibEntry) entry.clone();
+                futures.add(executor.submit(() -> {
+                    List<FieldChange> copyChanges = new ArrayList<>();
+                    Iterable<Lock> locks = fileNameLocks.bulkGet(getFileNames(copy));
+                    locks.forEach(Lock::lock);
+                    try {
+                        applyJobs(jobs, copy, copyChanges);
+                    } finally {
+                        locks.forEach(Lock::unlock);
+                    }
+                    return copyChanges;
+                }));
+            }
+            List<List<FieldChange>> changesOfCopies = new ArrayList<>(entries.size());
+            for (Future<List<FieldChange>> future : futures) {
+                changesOfCopies.add(future.get());
+            }
+            applyChanges(entries, changesOfCopies, changes);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the current and the suggested names of the files of the given entry, ignoring the case.
+     */
+    private Set<String> getFileNames(BibEntry entry) {
+        Set<String> fileNames = new HashSet<>();
+        for (LinkedFile file : entry.getFiles()) {
+            String link = file.getLink();
+            fileNames.add(link.substring(Math.max(link.lastIndexOf('/'), link.lastIndexOf('\\')) + 1).toLowerCase(Locale.ROOT));
+            fileNames.add(new LinkedFileHandler(file, entry, databaseContext, filePreferences).getSuggestedFileName().toLowerCase(Locale.ROOT));
+        }
+        return fileNames;
+    }
+
     private List<CleanupJob> determineCleanupActions(CleanupPreferences preset) {
         List<CleanupJob> jobs = new ArrayList<>();
 
@@ -0,0 +1,205 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntryChangedEvent;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Finds duplicates of entries in a set of entries without comparing each pair of entries.
+ * <p>
+ * Each entry is filed under its fingerprints: its identifiers, its DOI and ISBN, its normalized title, and the last name
+ * of its first author together with the year. Only entries sharing a fingerprint are compared by {@link DuplicateCheck}.
+ * Entries without any fingerprint are compared with all entries. Thus, duplicates which differ in all fingerprints,
+ * e.g., by a typo in the title and a different first author, are not found.
+ * <p>
+ * The index can be queried by several threads at the same time, also while it is changed.
+ */
+public class DuplicateFingerprintIndex {
+
+    private final DuplicateCheck duplicateCheck;
+    private final Supplier<BibDatabaseMode> bibDatabaseMode;
+
+    // The entries are filed by the order in which they were added, so that the first added duplicate is found first
+    private final Map<String, Map<Long, BibEntry>> entriesByFingerprint = new ConcurrentHashMap<>();
+    private final Map<Long, BibEntry> entriesWithoutFingerprint = new ConcurrentSkipListMap<>();
+    private final Map<Long, BibEntry> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, IndexedEntry> indexedEntriesById = new ConcurrentHashMap<>();
+    private long nextPosition;
+
+    public DuplicateFingerprintIndex(DuplicateCheck duplicateCheck, BibDatabaseMode bibDatabaseMode) {
+        this(duplicateCheck, () -> bibDatabaseMode);
+    }
+
+    private DuplicateFingerprintIndex(DuplicateCheck duplicateCheck, Supplier<BibDatabaseMode> bibDatabaseMode) {
+        this.duplicateCheck = duplicateCheck;
+        this.bibDatabaseMode = bibDatabaseMode;
+    }
+
+    /**
+     * Creates an index of the entries of the given library, which follows the changes of the library. The library is
+     * locked while the index is built, so that no change is missed.
+     */
+    public static DuplicateFingerprintIndex ofLibrary(BibDatabaseContext databaseContext, DuplicateCheck duplicateCheck) {
+        DuplicateFingerprintIndex index = new DuplicateFingerprintIndex(duplicateCheck, databaseContext::getMode);
+        synchronized (databaseContext.getDatabase()) {
+            databaseContext.getDatabase().registerListener(index.new LibraryListener());
+            index.addAll(List.copyOf(databaseContext.getEntries()));
+        }
+        return index;
+    }
+
+    public synchronized void addAll(Collection<BibEntry> entriesToAdd) {
+        entriesToAdd.forEach(this::add);
+    }
+
+    /**
+     * Adds the given entry. An entry which is already in the index is filed again under its current fingerprints.
+     */
+    public synchronized void add(BibEntry entry) {
+        remove(entry);
+        long position = nextPosition++;
+        List<String> fingerprints = getFingerprints(entry);
+        indexedEntriesById.put(entry.getId(), new IndexedEntry(position, fingerprints));
+        entries.put(position, entry);
+        if (fingerprints.isEmpty()) {
+            entriesWithoutFingerprint.put(position, entry);
+        }
+        for (String fingerprint : fingerprints) {
+            entriesByFingerprint.computeIfAbsent(fingerprint, key -> new ConcurrentSkipListMap<>()).put(position, entry);
+        }
+    }
+
+    public synchronized void remove(BibEntry entry) {
+        IndexedEntry indexedEntry = indexedEntriesById.remove(entry.getId());
+        if (indexedEntry == null) {
+            return;
+        }
+        entries.remove(indexedEntry.position());
+        entriesWithoutFingerprint.remove(indexedEntry.position());
+        for (String fingerprint : indexedEntry.fingerprints()) {
+            Map<Long, BibEntry> entriesWithFingerprint = entriesByFingerprint.get(fingerprint);
+            if (entriesWithFingerprint != null) {
+                entriesWithFingerprint.remove(indexedEntry.position());
+            }
+        }
+    }
+
+    /**
+     * Files the given entry under its current fingerprints, if it is in the index
+     */
+    private synchronized void update(BibEntry entry) {
+        if (indexedEntriesById.containsKey(entry.getId())) {
+            add(entry);
+        }
+    }
+
+    /**
+     * @return an entry of this index which is a duplicate of the given entry, as decided by
+     * {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}
+     */
+    public Optional<BibEntry> findDuplicate(BibEntry entry) {
+        List<String> fingerprints = getFingerprints(entry);
+        if (fingerprints.isEmpty()) {
+            return findDuplicate(entry, entries.values());
+        }
+
+        // Entries sharing the most specific fingerprints are compared first
+        List<BibEntry> candidates = new ArrayList<>();
+        Set<BibEntry> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String fingerprint : fingerprints) {
+            Map<Long, BibEntry> entriesWithFingerprint = entriesByFingerprint.get(fingerprint);
+            if (entriesWithFingerprint != null) {
+                entriesWithFingerprint.values().stream().filter(seen::add).forEach(candidates::add);
+            }
+        }
+        entriesWithoutFingerprint.values().stream().filter(seen::add).forEach(candidates::add);
+        return findDuplicate(entry, candidates);
+    }
+
+    private Optional<BibEntry> findDuplicate(BibEntry entry, Collection<BibEntry> candidates) {
+        BibDatabaseMode mode = bibDatabaseMode.get();
+        return candidates.stream()
+                         .filter(candidate -> candidate != entry)
+                         .filter(candidate -> duplicateCheck.isDuplicate(entry, candidate, mode))
+                         .findFirst();
+    }
+
+    static List<String> getFingerprints(BibEntry entry) {
+        List<String> fingerprints = new ArrayList<>();
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> fingerprints.add(field.getName() + ':' + value));
+        }
+        entry.getDOI().ifPresent(doi -> fingerprints.add("normalized-doi:" + doi.getDOI().toLowerCase(Locale.ROOT)));
+        entry.getISBN().ifPresent(isbn -> fingerprints.add("isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        entry.getField(StandardField.TITLE)
+             .map(DuplicateFingerprintIndex::normalize)
+             .filter(title -> !title.isEmpty())
+             .ifPresent(title -> fingerprints.add("title:" + title));
+
+        entry.getField(StandardField.AUTHOR)
+             .map(AuthorList::parse)
+             .filter(authors -> !authors.isEmpty())
+             .flatMap(authors -> authors.getAuthor(0).getLast())
+             .map(DuplicateFingerprintIndex::normalize)
+             .filter(lastName -> !lastName.isEmpty())
+             .ifPresent(lastName -> fingerprints.add("author:" + lastName + ':' + entry.getField(StandardField.YEAR).orElse("")));
+        return fingerprints;
+    }
+
+    /**
+     * Keeps only letters and digits in lower case, so that differences in case, spacing, punctuation, and braces do not
+     * matter
+     */
+    private static String normalize(String value) {
+        StringBuilder normalized = new StringBuilder(value.length());
+        value.codePoints()
+             .filter(Character::isLetterOrDigit)
+             .map(Character::toLowerCase)
+             .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private record IndexedEntry(long position, List<String> fingerprints) {
+    }
+
+    private class LibraryListener {
+
+        @Subscribe
+        public void listen(EntriesAddedEvent event) {
+            addAll(event.getBibEntries());
+        }
+
+        @Subscribe
+        public void listen(EntriesRemovedEvent event) {
+            event.getBibEntries().forEach(DuplicateFingerprintIndex.this::remove);
+        }
+
+        @Subscribe
+        public void listen(EntryChangedEvent event) {
+            update(event.getBibEntry());
+        }
+    }
+}
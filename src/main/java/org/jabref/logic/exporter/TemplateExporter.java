@@ -3,6 +3,7 @@ package org.jabref.logic.exporter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.Charset;
@@ -19,6 +20,7 @@ import java.util.Objects;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutCache;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
 import org.jabref.logic.layout.format.Number;
@@ -191,6 +193,18 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Reads the given layout file. The compiled layout is taken from the {@link LayoutCache}, thus exporting again does
+     * not parse the layout again.
+     */
+    private Layout getLayout(String filename, List<Path> fileDirForDatabase, JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        StringWriter text = new StringWriter();
+        try (Reader reader = getReader(filename)) {
+            reader.transferTo(text);
+        }
+        return LayoutCache.getLayout(text.toString(), fileDirForDatabase, layoutPreferences, abbreviationRepository);
+    }
+
     @Override
     public void export(BibDatabaseContext databaseContext, Path file, List<BibEntry> entries) throws Exception {
         export(databaseContext, file, entries, Collections.emptyList(), JournalAbbreviationLoader.loadBuiltInRepository());
@@ -221,9 +235,8 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
+            try {
+                beginLayout = getLayout(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             } catch (IOException ex) {
                 // If an exception was cast, export filter doesn't have a begin
                 // file.
@@ -241,12 +254,7 @@ public class TemplateExporter extends Exporter {
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
             // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
+            Layout defLayout = getLayout(lfFileName + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             if (defLayout != null) {
                 missingFormatters.addAll(defLayout.getMissingFormatters());
                 if (!missingFormatters.isEmpty()) {
@@ -256,18 +264,19 @@ public class TemplateExporter extends Exporter {
             Map<EntryType, Layout> layouts = new HashMap<>();
             Layout layout;
 
-            Number.serialExportNumber = 0;
+            // The group state is left over from the previous export on this thread
+            LayoutHelper.setCurrentGroup(null);
+            int entryNumber = 0;
             for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
+                Number.setSerialExportNumber(++entryNumber);
                 // Get the layout
                 EntryType type = entry.getType();
                 if (layouts.containsKey(type)) {
                     layout = layouts.get(type);
                 } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
+                    try {
                         // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
+                        layout = getLayout(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
                         layouts.put(type, layout);
                         if (layout != null) {
                             missingFormatters.addAll(layout.getMissingFormatters());
@@ -277,6 +286,7 @@ public class TemplateExporter extends Exporter {
                         // exists, so we
                         // go with the default one.
                         layout = defLayout;
+                        layouts.put(type, layout);
                     }
                 }
 
@@ -297,9 +307,8 @@ public class TemplateExporter extends Exporter {
 
             // Print footer
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
+            try {
+                endLayout = getLayout(lfFileName + END_INFIX + LAYOUT_EXTENSION, fileDirForDatabase, abbreviationRepository);
             } catch (IOException ex) {
                 // If an exception was thrown, export filter doesn't have an end
                 // file.
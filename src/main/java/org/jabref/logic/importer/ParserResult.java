@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.logic.importer.util.FieldValuePool;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabases;
@@ -26,6 +27,7 @@ public class ParserResult {
     private boolean invalid;
     private boolean toOpenTab;
     private boolean changedOnMigration = false;
+    private FieldValuePool fieldValuePool;
 
     public ParserResult() {
         this(Collections.emptyList());
@@ -160,4 +162,15 @@ public class ParserResult {
     public void setChangedOnMigration(boolean wasChangedOnMigration) {
         this.changedOnMigration = wasChangedOnMigration;
     }
+
+    /**
+     * The pool used to deduplicate field values while parsing. Only present if deduplication was enabled for the parser.
+     */
+    public Optional<FieldValuePool> getFieldValuePool() {
+        return Optional.ofNullable(fieldValuePool);
+    }
+
+    public void setFieldValuePool(FieldValuePool fieldValuePool) {
+        this.fieldValuePool = fieldValuePool;
+    }
 }
@@ -1,6 +1,7 @@
 package org.jabref.logic.importer.fetcher;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -104,7 +105,9 @@ public class INSPIREFetcher implements SearchBasedParserFetcher, EntryBasedFetch
 
         try {
             URLDownload download = getUrlDownload(new URI(url).toURL());
-            results = getParser().parseEntries(download.asInputStream());
+            try (InputStream stream = download.asInputStream()) {
+                results = getParser().parseEntries(stream);
+            }
             results.forEach(this::doPostCleanup);
             return results;
         } catch (IOException | ParseException | URISyntaxException e) {
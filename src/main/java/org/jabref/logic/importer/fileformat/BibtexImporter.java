@@ -36,10 +36,19 @@ public class BibtexImporter extends Importer {
 
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
+    private final boolean deduplicateFieldValues;
 
     public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, false);
+    }
+
+    /**
+     * @param deduplicateFieldValues see {@link BibtexParser#BibtexParser(ImportFormatPreferences, FileUpdateMonitor, boolean)}
+     */
+    public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, boolean deduplicateFieldValues) {
         this.importFormatPreferences = importFormatPreferences;
         this.fileMonitor = fileMonitor;
+        this.deduplicateFieldValues = deduplicateFieldValues;
     }
 
     /**
@@ -124,7 +133,7 @@ public class BibtexImporter extends Importer {
      */
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        return new BibtexParser(importFormatPreferences, fileMonitor, deduplicateFieldValues).parse(reader);
     }
 
     @Override
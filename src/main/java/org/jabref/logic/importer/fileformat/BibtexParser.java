@@ -27,6 +27,7 @@ import org.jabref.logic.importer.Importer;
 import org.jabref.logic.importer.ParseException;
 import org.jabref.logic.importer.Parser;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.util.FieldValuePool;
 import org.jabref.logic.importer.util.MetaDataParser;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.OS;
@@ -80,11 +81,23 @@ public class BibtexParser implements Parser {
     private int line = 1;
     private ParserResult parserResult;
     private final MetaDataParser metaDataParser;
+    private final boolean deduplicateFieldValues;
+    private FieldValuePool fieldValuePool;
 
-    public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+    /**
+     * @param deduplicateFieldValues if true, values of low-cardinality fields (journal, publisher, month, ...) are
+     *                               canonicalized through a {@link FieldValuePool} so that equal values share one
+     *                               instance. The pool is available via {@link ParserResult#getFieldValuePool()}.
+     */
+    public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, boolean deduplicateFieldValues) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.fieldContentFormatter = new FieldContentFormatter(importFormatPreferences.fieldPreferences());
         this.metaDataParser = new MetaDataParser(fileMonitor);
+        this.deduplicateFieldValues = deduplicateFieldValues;
+    }
+
+    public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
+        this(importFormatPreferences, fileMonitor, false);
     }
 
     public BibtexParser(ImportFormatPreferences importFormatPreferences) {
@@ -173,6 +186,10 @@ public class BibtexParser implements Parser {
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        if (deduplicateFieldValues) {
+            fieldValuePool = new FieldValuePool();
+            parserResult.setFieldValuePool(fieldValuePool);
+        }
     }
 
     private void parseDatabaseID() throws IOException {
@@ -667,6 +684,9 @@ public class BibtexParser implements Parser {
             }
             skipWhitespace();
         }
+        if (fieldValuePool != null) {
+            return fieldValuePool.canonicalize(field, value.toString());
+        }
         return value.toString();
     }
 
@@ -0,0 +1,138 @@
+package org.jabref.logic.importer.util;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Canonicalizes values of low-cardinality fields (journal names, publishers, months, ...) while a library is parsed.
+ * <p>
+ * Large libraries repeat the same journal or publisher thousands of times. The parser creates a fresh {@link String}
+ * for every occurrence. Passing the values through this pool makes all entries share a single instance per distinct
+ * value, which reduces the retained heap of the resulting {@link org.jabref.model.database.BibDatabase}.
+ * <p>
+ * The pool is bounded: as soon as {@link #getMaxSize()} distinct values are stored, further unknown values are passed
+ * through unchanged. The pool is safe to use from multiple threads.
+ */
+public class FieldValuePool {
+
+    public static final int DEFAULT_MAX_SIZE = 20_000;
+
+    /**
+     * Fields whose values are typically shared between many entries of a library.
+     */
+    public static final Set<Field> DEFAULT_FIELDS = Set.of(
+            StandardField.JOURNAL,
+            StandardField.JOURNALTITLE,
+            StandardField.BOOKTITLE,
+            StandardField.PUBLISHER,
+            StandardField.SERIES,
+            StandardField.ORGANIZATION,
+            StandardField.INSTITUTION,
+            StandardField.SCHOOL,
+            StandardField.ADDRESS,
+            StandardField.LOCATION,
+            StandardField.LANGUAGE,
+            StandardField.KEYWORDS,
+            StandardField.MONTH,
+            StandardField.YEAR);
+
+    /**
+     * Values longer than this are unlikely to repeat (e.g., abstracts) and are not pooled.
+     */
+    private static final int MAX_VALUE_LENGTH = 512;
+
+    private final Set<Field> fields;
+    private final int maxSize;
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    public FieldValuePool() {
+        this(DEFAULT_FIELDS, DEFAULT_MAX_SIZE);
+    }
+
+    public FieldValuePool(Set<Field> fields, int maxSize) {
+        this.fields = Objects.requireNonNull(fields);
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the canonical instance of the given value if the field is pooled. Otherwise, the value itself is returned.
+     */
+    public String canonicalize(Field field, String value) {
+        if ((value == null) || value.isEmpty() || (value.length() > MAX_VALUE_LENGTH) || !fields.contains(field)) {
+            return value;
+        }
+
+        requests.incrementAndGet();
+        String canonical = values.get(value);
+        if (canonical != null) {
+            hits.incrementAndGet();
+            return canonical;
+        }
+        if (values.size() >= maxSize) {
+            return value;
+        }
+        canonical = values.putIfAbsent(value, value);
+        if (canonical == null) {
+            return value;
+        }
+        hits.incrementAndGet();
+        return canonical;
+    }
+
+    public boolean isPooled(Field field) {
+        return fields.contains(field);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of distinct values currently held by the pool
+     */
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * @return the number of pooled lookups that returned an already existing instance
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of lookups for pooled fields
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Releases all stored values. Already canonicalized strings stay valid.
+     */
+    public void clear() {
+        values.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "FieldValuePool{" +
+                "size=" + values.size() +
+                ", maxSize=" + maxSize +
+                ", requests=" + requests.get() +
+                ", hits=" + hits.get() +
+                '}';
+    }
+}
@@ -2,12 +2,28 @@ package org.jabref.logic.journals;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 
+import org.jabref.logic.util.BuildInfo;
+import org.jabref.logic.util.OS;
+import org.jabref.logic.util.io.FileUtil;
+
+import org.h2.mvstore.MVStoreException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,6 +31,7 @@ import org.slf4j.LoggerFactory;
  * <p>
  *   This class loads abbreviations from a CSV file and stores them into a MV file ({@link #readAbbreviationsFromCsvFile(Path)}
  *   It can also create an {@link JournalAbbreviationRepository} based on an MV file ({@link #loadRepository(JournalAbbreviationPreferences)}.
+ *   The built-in MV file is opened in place and shared by all repositories.
  * </p>
  * <p>
  *   Abbreviations are available at <a href="https://github.com/JabRef/abbrv.jabref.org/">https://github.com/JabRef/abbrv.jabref.org/</a>.
@@ -23,6 +40,11 @@ import org.slf4j.LoggerFactory;
 public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
+    private static final String JOURNAL_LIST_RESOURCE = "/journals/journal-list.mv";
+    private static final String JOURNAL_LIST_FILE_PREFIX = "journal-list-";
+    private static final String JOURNAL_LIST_FILE_EXTENSION = ".mv";
+
+    private static JournalList builtInJournalList;
 
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
@@ -35,37 +57,158 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
-                LOGGER.warn("There is no journal-list.mv. We use a default journal list");
-                repository = new JournalAbbreviationRepository();
-            } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
-            }
-        } catch (IOException e) {
-            LOGGER.error("Error while copying journal list", e);
+        try {
+            repository = getBuiltInJournalList()
+                    .map(JournalAbbreviationRepository::new)
+                    .orElseGet(() -> {
+                        LOGGER.warn("There is no journal-list.mv. We use a default journal list");
+                        return new JournalAbbreviationRepository();
+                    });
+        } catch (IOException | MVStoreException e) {
+            LOGGER.error("Error while opening journal list", e);
             return null;
         }
 
-        // Read external lists
-        List<String> lists = journalAbbreviationPreferences.getExternalJournalLists();
-        if (!(lists.isEmpty())) {
-            // reversing ensures that the latest lists overwrites the former one
-            Collections.reverse(lists);
-            for (String filename : lists) {
-                try {
-                    repository.addCustomAbbreviations(readAbbreviationsFromCsvFile(Path.of(filename)));
-                } catch (IOException e) {
-                    LOGGER.error("Cannot read external journal list file {}", filename, e);
+        repository.addCustomAbbreviations(readExternalJournalLists(journalAbbreviationPreferences));
+        return repository;
+    }
+
+    /**
+     * Returns a repository immediately and loads its abbreviations using the given executor, so that the caller (e.g.,
+     * the JavaFX thread) does not wait for the journal list to be opened. Lookups wait until loading finished if the
+     * calling thread may wait, and find no abbreviations otherwise. If the built-in list cannot be opened, the
+     * demonstration data is used.
+     *
+     * @param mayWaitForLoading tells whether the thread of a lookup may wait until loading finished
+     */
+    public static JournalAbbreviationRepository loadRepositoryInBackground(JournalAbbreviationPreferences journalAbbreviationPreferences, Executor executor, BooleanSupplier mayWaitForLoading) {
+        CompletableFuture<JournalList> journalList = new CompletableFuture<>();
+        JournalAbbreviationRepository repository = new JournalAbbreviationRepository(journalList, false, mayWaitForLoading);
+        executor.execute(() -> {
+            try {
+                repository.addCustomAbbreviations(readExternalJournalLists(journalAbbreviationPreferences));
+                journalList.complete(getBuiltInJournalList().orElseGet(() -> {
+                    LOGGER.warn("There is no journal-list.mv. We use a default journal list");
+                    return getDemonstrationJournalList();
+                }));
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Error while opening journal list", e);
+                journalList.complete(getDemonstrationJournalList());
+            }
+        });
+        return repository;
+    }
+
+    private static JournalList getDemonstrationJournalList() {
+        return JournalList.of(List.of(new Abbreviation("Demonstration", "Demo", "Dem")));
+    }
+
+    private static List<Abbreviation> readExternalJournalLists(JournalAbbreviationPreferences journalAbbreviationPreferences) {
+        List<Abbreviation> abbreviations = new ArrayList<>();
+        List<String> lists = new ArrayList<>(journalAbbreviationPreferences.getExternalJournalLists());
+        // reversing ensures that the latest lists overwrites the former one
+        Collections.reverse(lists);
+        for (String filename : lists) {
+            try {
+                abbreviations.addAll(readAbbreviationsFromCsvFile(Path.of(filename)));
+            } catch (IOException e) {
+                LOGGER.error("Cannot read external journal list file {}", filename, e);
+            }
+        }
+        return abbreviations;
+    }
+
+    /**
+     * Opens the built-in journal list. The list is opened once and shared by all repositories, because the underlying
+     * file can be opened only once per process.
+     */
+    private static synchronized Optional<JournalList> getBuiltInJournalList() throws IOException {
+        if (builtInJournalList == null) {
+            Optional<Path> journalListFile = getBuiltInJournalListFile();
+            if (journalListFile.isEmpty()) {
+                return Optional.empty();
+            }
+            long start = System.nanoTime();
+            builtInJournalList = JournalList.open(journalListFile.get());
+            LOGGER.debug("Opened journal list with {} journals in {} ms", builtInJournalList.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return Optional.of(builtInJournalList);
+    }
+
+    /**
+     * Closes the built-in journal list. Repositories loaded before must not be used afterwards.
+     */
+    public static synchronized void closeBuiltInJournalList() {
+        if (builtInJournalList != null) {
+            builtInJournalList.close();
+            builtInJournalList = null;
+        }
+    }
+
+    /**
+     * Returns the location of the built-in MV file. If the file is packaged (e.g., inside a jar), it is extracted once
+     * per version to the data directory of the user and reused by later starts. The directory of the user is used
+     * rather than the shared temporary directory, because the stored abbreviations are deserialized when opening the
+     * file, thus other users must not be able to provide it.
+     */
+    private static Optional<Path> getBuiltInJournalListFile() throws IOException {
+        URL resource = JournalAbbreviationRepository.class.getResource(JOURNAL_LIST_RESOURCE);
+        if (resource == null) {
+            return Optional.empty();
+        }
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return Optional.of(Path.of(resource.toURI()));
+            } catch (URISyntaxException e) {
+                LOGGER.debug("Could not access journal list at {} directly", resource, e);
+            }
+        }
+
+        URLConnection connection = resource.openConnection();
+        String fileName = "%s%s-%d-%d%s".formatted(
+                JOURNAL_LIST_FILE_PREFIX,
+                new BuildInfo().version.getFullVersion(),
+                connection.getContentLengthLong(),
+                connection.getLastModified(),
+                JOURNAL_LIST_FILE_EXTENSION);
+        Path journalListDirectory = OS.getNativeDesktop().getJournalListDirectory();
+        Path journalListFile = journalListDirectory.resolve(FileUtil.getValidFileName(fileName));
+        if (Files.exists(journalListFile)) {
+            return Optional.of(journalListFile);
+        }
+
+        // Copy to a temporary file first, so that a concurrently starting instance never sees an incomplete file
+        Files.createDirectories(journalListDirectory);
+        Path tempFile = Files.createTempFile(journalListDirectory, JOURNAL_LIST_FILE_PREFIX, ".tmp");
+        try (InputStream resourceAsStream = connection.getInputStream()) {
+            Files.copy(resourceAsStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempFile, journalListFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            LOGGER.debug("Journal list was extracted concurrently", e);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        deleteOutdatedJournalListFiles(journalListDirectory, journalListFile);
+        return Optional.of(journalListFile);
+    }
+
+    /**
+     * Deletes the files extracted by other versions. Files still opened by a running instance are kept.
+     */
+    private static void deleteOutdatedJournalListFiles(Path journalListDirectory, Path currentFile) {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(journalListDirectory, JOURNAL_LIST_FILE_PREFIX + "*" + JOURNAL_LIST_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!file.equals(currentFile)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        LOGGER.debug("Could not delete outdated journal list {}", file, e);
+                    }
                 }
             }
+        } catch (IOException e) {
+            LOGGER.debug("Could not clean up outdated journal lists", e);
         }
-        return repository;
     }
 
     public static JournalAbbreviationRepository loadBuiltInRepository() {
@@ -3,82 +3,161 @@ package org.jabref.logic.journals;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import org.h2.mvstore.MVMap;
-import org.h2.mvstore.MVStore;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
+ * <p>
+ * The built-in abbreviations are looked up in a {@link JournalList}. Custom abbreviations are indexed by their lower
+ * case name and abbreviations.
+ * <p>
+ * A repository opened from a MV file keeps the file open until it is closed. A shared journal list is not closed by
+ * the repository.
+ * <p>
+ * A repository may be handed out while its abbreviations are still being loaded in the background (see
+ * {@link JournalAbbreviationLoader#loadRepositoryInBackground}). Lookups then wait until loading finished, unless
+ * the calling thread must not wait (e.g., the JavaFX thread). Such lookups are answered as if there were no
+ * abbreviations at all until loading finished.
  */
-public class JournalAbbreviationRepository {
-    static final Pattern QUESTION_MARK = Pattern.compile("\\?");
-
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+public class JournalAbbreviationRepository implements AutoCloseable {
+    private final CompletableFuture<JournalList> journalList;
+    private final boolean ownsJournalList;
+    private final BooleanSupplier mayWaitForLoading;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
 
+    /**
+     * Custom abbreviations by all lower case names (full name and all abbreviations). Built lazily, {@code null} if
+     * outdated.
+     */
+    private Map<String, Abbreviation> customAbbreviationsByName;
+
+    /**
+     * Custom abbreviations by all lower case abbreviations which differ from the full name. Built lazily.
+     */
+    private Map<String, Abbreviation> customAbbreviationsByAbbreviatedName;
+
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
      */
     public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
-        }
+        this(JournalList.open(journalList), true);
+    }
+
+    /**
+     * Initializes the repository with the given built-in abbreviations. The journal list may be shared between
+     * repositories.
+     */
+    public JournalAbbreviationRepository(JournalList journalList) {
+        this(journalList, false);
+    }
+
+    private JournalAbbreviationRepository(JournalList journalList, boolean ownsJournalList) {
+        this(CompletableFuture.completedFuture(Objects.requireNonNull(journalList)), ownsJournalList, () -> true);
+    }
+
+    /**
+     * Initializes the repository with built-in abbreviations which are still being loaded. The repository is
+     * complete once the future completes, custom abbreviations have to be added before.
+     *
+     * @param mayWaitForLoading tells whether the calling thread may wait until loading finished
+     */
+    JournalAbbreviationRepository(CompletableFuture<JournalList> journalList, boolean ownsJournalList, BooleanSupplier mayWaitForLoading) {
+        this.journalList = Objects.requireNonNull(journalList);
+        this.ownsJournalList = ownsJournalList;
+        this.mayWaitForLoading = Objects.requireNonNull(mayWaitForLoading);
     }
 
     /**
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
-        Abbreviation newAbbreviation = new Abbreviation(
+        this(JournalList.of(List.of(new Abbreviation(
                 "Demonstration",
                 "Demo",
                 "Dem"
-        );
-        fullToAbbreviationObject.put("Demonstration", newAbbreviation);
-        abbreviationToAbbreviationObject.put("Demo", newAbbreviation);
-        dotlessToAbbreviationObject.put("Demo", newAbbreviation);
-        shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
+        ))), true);
+    }
+
+    /**
+     * Trims the given journal name and unescapes ampersands
+     */
+    private static String normalize(String journalName) {
+        return journalName.trim().replace("\\&", "&");
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    /**
+     * Returns the built-in abbreviations, waiting for them if they are still being loaded and the calling thread may
+     * wait
+     *
+     * @return the built-in abbreviations, or empty if they are still being loaded. Custom abbreviations are complete
+     * if they are present.
+     */
+    private Optional<JournalList> getJournalList() {
+        if (!journalList.isDone() && !mayWaitForLoading.getAsBoolean()) {
+            return Optional.empty();
+        }
+        return Optional.of(journalList.join());
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private synchronized void indexCustomAbbreviations() {
+        if (customAbbreviationsByName != null) {
+            return;
+        }
+        Map<String, Abbreviation> byName = new HashMap<>();
+        Map<String, Abbreviation> byAbbreviatedName = new HashMap<>();
+        // The first abbreviation in the order of the set wins
+        for (Abbreviation abbreviation : customAbbreviations) {
+            String nameKey = toKey(abbreviation.getName());
+            byName.putIfAbsent(nameKey, abbreviation);
+            for (String abbreviatedName : List.of(abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())) {
+                String key = toKey(abbreviatedName);
+                byName.putIfAbsent(key, abbreviation);
+                if (!key.equals(nameKey)) {
+                    byAbbreviatedName.putIfAbsent(key, abbreviation);
+                }
+            }
+        }
+        customAbbreviationsByAbbreviatedName = byAbbreviatedName;
+        customAbbreviationsByName = byName;
+    }
+
+    private Optional<Abbreviation> getCustomAbbreviation(String journal) {
+        // Custom abbreviations are complete once the journal list is loaded
+        if (getJournalList().isEmpty()) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            if (customAbbreviations.isEmpty()) {
+                return Optional.empty();
+            }
+            indexCustomAbbreviations();
+            return Optional.ofNullable(customAbbreviationsByName.get(toKey(journal)));
+        }
     }
 
-    private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
-        boolean isExpanded = name.equalsIgnoreCase(abbreviation.getName());
-        if (isExpanded) {
+    private boolean isCustomAbbreviatedName(String journal) {
+        if (getJournalList().isEmpty()) {
             return false;
         }
-        return name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+        synchronized (this) {
+            if (customAbbreviations.isEmpty()) {
+                return false;
+            }
+            indexCustomAbbreviations();
+            return customAbbreviationsByAbbreviatedName.containsKey(toKey(journal));
+        }
     }
 
     /**
@@ -86,15 +165,12 @@ public class JournalAbbreviationRepository {
      * (e.g., Physical Review Letters) or its abbreviated form (e.g., Phys. Rev. Lett.).
      */
     public boolean isKnownName(String journalName) {
-        if (QUESTION_MARK.matcher(journalName).find()) {
+        if (journalName.indexOf('?') >= 0) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
-                || fullToAbbreviationObject.containsKey(journal)
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        String journal = normalize(journalName);
+        return getCustomAbbreviation(journal).isPresent()
+                || getJournalList().flatMap(list -> list.get(journal)).isPresent();
     }
 
     /**
@@ -102,14 +178,12 @@ public class JournalAbbreviationRepository {
      * i.e., journals whose abbreviation is the same as the full name are not considered
      */
     public boolean isAbbreviatedName(String journalName) {
-        if (QUESTION_MARK.matcher(journalName).find()) {
+        if (journalName.indexOf('?') >= 0) {
             return false;
         }
-        String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
-                || abbreviationToAbbreviationObject.containsKey(journal)
-                || dotlessToAbbreviationObject.containsKey(journal)
-                || shortestUniqueToAbbreviationObject.containsKey(journal);
+        String journal = normalize(journalName);
+        return isCustomAbbreviatedName(journal)
+                || getJournalList().map(list -> list.isAbbreviation(journal)).orElse(false);
     }
 
     /**
@@ -118,20 +192,9 @@ public class JournalAbbreviationRepository {
      * @param input The journal name (either full name or abbreviated name).
      */
     public Optional<Abbreviation> get(String input) {
-        // Clean up input: trim and unescape ampersand
-        String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
-        }
-
-        return Optional.ofNullable(fullToAbbreviationObject.get(journal))
-                .or(() -> Optional.ofNullable(abbreviationToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(dotlessToAbbreviationObject.get(journal)))
-                .or(() -> Optional.ofNullable(shortestUniqueToAbbreviationObject.get(journal)));
+        String journal = normalize(input);
+        return getCustomAbbreviation(journal)
+                .or(() -> getJournalList().flatMap(list -> list.get(journal)));
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
@@ -140,10 +203,18 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        synchronized (this) {
+            if (customAbbreviations.add(abbreviation)) {
+                customAbbreviationsByName = null;
+                customAbbreviationsByAbbreviatedName = null;
+            }
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
+        if (getJournalList().isEmpty()) {
+            return Set.of();
+        }
         return customAbbreviations;
     }
 
@@ -168,10 +239,21 @@ public class JournalAbbreviationRepository {
     }
 
     public Set<String> getFullNames() {
-        return fullToAbbreviationObject.keySet();
+        return getJournalList().map(JournalList::getFullNames).orElse(Set.of());
     }
 
     public Collection<Abbreviation> getAllLoaded() {
-        return fullToAbbreviationObject.values();
+        return getJournalList().map(JournalList::getAll).orElse(List.of());
+    }
+
+    /**
+     * Closes the journal list if it was opened by this repository
+     */
+    @Override
+    public void close() {
+        if (ownsJournalList) {
+            // Closed once loading finished, so that the caller does not wait for it
+            journalList.thenAccept(JournalList::close);
+        }
     }
 }
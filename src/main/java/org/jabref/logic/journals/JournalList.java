@@ -0,0 +1,185 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/**
+ * The built-in list of journal abbreviations.
+ * <p>
+ * The list is read directly from the MV file generated at build time by {@code JournalListMvGenerator}.
+ * The store is opened read-only and is kept open, thus only the pages needed for the actual lookups are loaded into
+ * memory. The abbreviations found most recently are kept in a small cache.
+ * <p>
+ * The MV file contains a map from the full journal name to the {@link Abbreviation} and maps from the abbreviation, the
+ * dotless abbreviation, and the shortest unique abbreviation to the full name. If the latter maps are missing (files
+ * generated by older versions), they are built in memory.
+ */
+public class JournalList implements AutoCloseable {
+
+    static final String FULL_TO_ABBREVIATION = "FullToAbbreviation";
+    static final String ABBREVIATION_TO_FULL = "AbbreviationToFull";
+    static final String DOTLESS_TO_FULL = "DotlessToFull";
+    static final String SHORTEST_UNIQUE_TO_FULL = "ShortestUniqueToFull";
+
+    private static final int CACHE_SIZE = 1024;
+
+    private final MVStore store;
+    private final Map<String, Abbreviation> fullToAbbreviation;
+    private final Map<String, String> abbreviationToFull;
+    private final Map<String, String> dotlessToFull;
+    private final Map<String, String> shortestUniqueToFull;
+    private final Cache<String, Optional<Abbreviation>> recentlyFound = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private JournalList(MVStore store, Map<String, Abbreviation> fullToAbbreviation, Map<String, String> abbreviationToFull,
+                        Map<String, String> dotlessToFull, Map<String, String> shortestUniqueToFull) {
+        this.store = store;
+        this.fullToAbbreviation = fullToAbbreviation;
+        this.abbreviationToFull = abbreviationToFull;
+        this.dotlessToFull = dotlessToFull;
+        this.shortestUniqueToFull = shortestUniqueToFull;
+    }
+
+    /**
+     * Opens the given MV file read-only. The file stays open until {@link #close()} is called.
+     * Note that a file can be opened only once per process.
+     */
+    public static JournalList open(Path journalList) {
+        MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open();
+        MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION);
+        if (store.hasMap(ABBREVIATION_TO_FULL) && store.hasMap(DOTLESS_TO_FULL) && store.hasMap(SHORTEST_UNIQUE_TO_FULL)) {
+            return new JournalList(store, fullToAbbreviation,
+                    store.openMap(ABBREVIATION_TO_FULL),
+                    store.openMap(DOTLESS_TO_FULL),
+                    store.openMap(SHORTEST_UNIQUE_TO_FULL));
+        }
+
+        Map<String, String> abbreviationToFull = new HashMap<>();
+        Map<String, String> dotlessToFull = new HashMap<>();
+        Map<String, String> shortestUniqueToFull = new HashMap<>();
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            Abbreviation abbreviation = restore(name, storedAbbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
+        return new JournalList(store, fullToAbbreviation, abbreviationToFull, dotlessToFull, shortestUniqueToFull);
+    }
+
+    /**
+     * Creates an in-memory list of the given abbreviations.
+     */
+    public static JournalList of(Collection<Abbreviation> abbreviations) {
+        Map<String, Abbreviation> fullToAbbreviation = new TreeMap<>();
+        Map<String, String> abbreviationToFull = new HashMap<>();
+        Map<String, String> dotlessToFull = new HashMap<>();
+        Map<String, String> shortestUniqueToFull = new HashMap<>();
+        for (Abbreviation abbreviation : abbreviations) {
+            fullToAbbreviation.put(abbreviation.getName(), abbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), abbreviation.getName());
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), abbreviation.getName());
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), abbreviation.getName());
+        }
+        return new JournalList(null, fullToAbbreviation, abbreviationToFull, dotlessToFull, shortestUniqueToFull);
+    }
+
+    /**
+     * Writes the reverse lookup maps for all abbreviations stored in the given store.
+     */
+    public static void writeLookupMaps(MVStore store) {
+        MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION);
+        MVMap<String, String> abbreviationToFull = store.openMap(ABBREVIATION_TO_FULL);
+        MVMap<String, String> dotlessToFull = store.openMap(DOTLESS_TO_FULL);
+        MVMap<String, String> shortestUniqueToFull = store.openMap(SHORTEST_UNIQUE_TO_FULL);
+        // Same iteration order as used when the maps are built in memory, so that the same abbreviation wins on duplicates
+        fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+            Abbreviation abbreviation = restore(name, storedAbbreviation);
+            abbreviationToFull.put(abbreviation.getAbbreviation(), name);
+            dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+            shortestUniqueToFull.put(abbreviation.getShortestUniqueAbbreviation(), name);
+        });
+    }
+
+    /**
+     * The name and the dotless abbreviation are not serialized. Thus, they have to be restored after reading.
+     */
+    private static Abbreviation restore(String name, Abbreviation storedAbbreviation) {
+        return new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    /**
+     * Looks up the given journal as full name, abbreviation, dotless abbreviation, and shortest unique abbreviation
+     * (in this order).
+     */
+    public Optional<Abbreviation> get(String journal) {
+        Optional<Abbreviation> abbreviation = recentlyFound.getIfPresent(journal);
+        if (abbreviation == null) {
+            abbreviation = getByFullName(journal)
+                    .or(() -> getByFullName(abbreviationToFull.get(journal)))
+                    .or(() -> getByFullName(dotlessToFull.get(journal)))
+                    .or(() -> getByFullName(shortestUniqueToFull.get(journal)));
+            recentlyFound.put(journal, abbreviation);
+        }
+        return abbreviation;
+    }
+
+    private Optional<Abbreviation> getByFullName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        Abbreviation storedAbbreviation = fullToAbbreviation.get(name);
+        if (storedAbbreviation == null) {
+            return Optional.empty();
+        }
+        if (store == null) {
+            return Optional.of(storedAbbreviation);
+        }
+        return Optional.of(restore(name, storedAbbreviation));
+    }
+
+    /**
+     * Returns true if the given journal is an abbreviation, a dotless abbreviation, or a shortest unique abbreviation.
+     */
+    public boolean isAbbreviation(String journal) {
+        return abbreviationToFull.containsKey(journal)
+                || dotlessToFull.containsKey(journal)
+                || shortestUniqueToFull.containsKey(journal);
+    }
+
+    public Set<String> getFullNames() {
+        return fullToAbbreviation.keySet();
+    }
+
+    /**
+     * Returns all abbreviations. For a list read from a file, all abbreviations are loaded into memory.
+     */
+    public Collection<Abbreviation> getAll() {
+        if (store == null) {
+            return fullToAbbreviation.values();
+        }
+        return fullToAbbreviation.entrySet().stream()
+                                 .map(entry -> restore(entry.getKey(), entry.getValue()))
+                                 .toList();
+    }
+
+    public int size() {
+        return fullToAbbreviation.size();
+    }
+
+    @Override
+    public void close() {
+        recentlyFound.invalidateAll();
+        if (store != null) {
+            store.close();
+        }
+    }
+}
@@ -99,20 +99,22 @@ public class Layout {
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
         StringBuilder builder = new StringBuilder(100);
+        doLayout(bibtex, database, builder);
+        return builder.toString();
+    }
 
+    /**
+     * Appends the processed bibtex entry to the given builder. All layout entries (including the nested ones of field
+     * and group blocks) write into this builder.
+     *
+     * @see #doLayout(BibEntry, BibDatabase)
+     */
+    public void doLayout(BibEntry bibtex, BibDatabase database, StringBuilder builder) {
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
-
-            // The following change means we treat null fields as "". This is to fix the
+            // A skipped entry appends nothing. Thus, null fields are treated as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
-            if (fieldText == null) {
-                fieldText = "";
-            }
-
-            builder.append(fieldText);
+            layoutEntry.doLayout(bibtex, database, builder);
         }
-
-        return builder.toString();
     }
 
     /**
@@ -0,0 +1,70 @@
+package org.jabref.logic.layout;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.format.NameFormatter;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Caches compiled {@link Layout}s, so that a layout text is parsed and its formatters are resolved only once.
+ * <p>
+ * A layout depends on its text and on everything used while resolving the formatters: the file directories, the
+ * (custom export and user defined) name formatters, the main file directory, and the journal abbreviations. All of
+ * them are part of the cache key. The preferences are captured when a layout is requested, thus later changes of the
+ * preferences lead to a new layout.
+ * <p>
+ * The returned layouts are shared and thus must not be modified, e.g., by {@link Layout#setPostFormatter}.
+ */
+public class LayoutCache {
+
+    private static final int CACHE_SIZE = 256;
+
+    private static final Cache<Key, Layout> LAYOUTS = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+
+    private LayoutCache() {
+    }
+
+    public static Layout getLayout(String text,
+                                   List<Path> fileDirForDatabase,
+                                   LayoutFormatterPreferences preferences,
+                                   JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        Key key = new Key(
+                text,
+                List.copyOf(fileDirForDatabase),
+                preferences.getMainFileDirectory(),
+                preferences.getCustomExportNameFormatters(),
+                preferences.getNameFormatterPreferences() == null ? Map.of() : NameFormatter.getNameFormatters(preferences.getNameFormatterPreferences()),
+                abbreviationRepository);
+        try {
+            return LAYOUTS.get(key, () -> new LayoutHelper(new StringReader(text), fileDirForDatabase, preferences, abbreviationRepository).getLayoutFromText());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    static void clear() {
+        LAYOUTS.invalidateAll();
+    }
+
+    /**
+     * @param abbreviationRepository compared by identity
+     */
+    private record Key(String text,
+                       List<Path> fileDirForDatabase,
+                       String mainFileDirectory,
+                       Map<String, String> customExportNameFormatters,
+                       Map<String, String> nameFormatters,
+                       JournalAbbreviationRepository abbreviationRepository) {
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.formatter.bibtexfields.HtmlToLatexFormatter;
 import org.jabref.logic.formatter.bibtexfields.UnicodeToLatexFormatter;
@@ -87,6 +88,7 @@ import org.jabref.logic.openoffice.style.OOPreFormatter;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.UnknownField;
@@ -98,11 +100,21 @@ import org.slf4j.LoggerFactory;
 class LayoutEntry {
     private static final Logger LOGGER = LoggerFactory.getLogger(LayoutEntry.class);
 
+    private static final Pattern AND_PATTERN = Pattern.compile(".*(;|(\\&+)).*");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s*(;|(\\&+))\\s*");
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\s*(\\|+)\\s*");
+    private static final Field ENCODING_FIELD = new UnknownField("encoding");
+
     private List<LayoutFormatter> option;
     // Formatter to be run after other formatters:
     private LayoutFormatter postFormatter;
 
     private String text;
+    // The field referenced by a simple command, an option field, or a group block
+    private Field resolvedField;
+    // The fields tested by a field block
+    private List<FieldCondition> conditions;
+    private boolean conjunction;
     private List<LayoutEntry> layoutEntries;
     private final int type;
     private final List<String> invalidFormatter = new ArrayList<>();
@@ -131,6 +143,7 @@ class LayoutEntry {
                 // IS_FIELD_START and IS_FIELD_END
             }
         }
+        resolveFields();
     }
 
     public LayoutEntry(List<StringInt> parsedEntries,
@@ -152,6 +165,7 @@ class LayoutEntry {
 
         type = layoutType;
         text = blockEnd;
+        resolveFields();
         List<StringInt> blockEntries = null;
         for (StringInt parsedEntry : parsedEntries.subList(1, parsedEntries.size() - 1)) {
             switch (parsedEntry.i) {
@@ -195,37 +209,87 @@ class LayoutEntry {
         }
     }
 
+    /**
+     * Resolves the fields referenced by this entry once instead of for every rendered entry. The text does not change
+     * after construction.
+     */
+    private void resolveFields() {
+        if (text == null) {
+            // Start or end of a block outside a block
+            return;
+        }
+        switch (type) {
+            case LayoutHelper.IS_SIMPLE_COMMAND:
+            case LayoutHelper.IS_GROUP_START:
+                resolvedField = FieldFactory.parseField(text);
+                break;
+            case LayoutHelper.IS_OPTION_FIELD:
+                if (text.startsWith("\\")) {
+                    resolvedField = FieldFactory.parseField(text.substring(1));
+                }
+                break;
+            case LayoutHelper.IS_FIELD_START:
+                // split the strings along &, && or ; for AND formatter, along |, || for OR formatter
+                conjunction = AND_PATTERN.matcher(text).matches();
+                String[] parts = (conjunction ? AND_SEPARATOR : OR_SEPARATOR).split(text);
+                conditions = new ArrayList<>(parts.length);
+                for (String part : parts) {
+                    boolean negated = part.startsWith("!");
+                    conditions.add(new FieldCondition(FieldFactory.parseField(negated ? part.substring(1).trim() : part), negated));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
     public void setPostFormatter(LayoutFormatter formatter) {
         this.postFormatter = formatter;
     }
 
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        StringBuilder output = new StringBuilder();
+        return doLayout(bibtex, database, output) ? output.toString() : null;
+    }
+
+    /**
+     * Appends the processed entry to the given builder. Thus, nested entries are rendered without intermediate strings.
+     *
+     * @return false if nothing was appended because the entry was skipped (the field of a field block is not set, the
+     * group of a group block is not set or did not change)
+     */
+    boolean doLayout(BibEntry bibtex, BibDatabase database, StringBuilder output) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
-                return text;
+                output.append(text);
+                return true;
             case LayoutHelper.IS_SIMPLE_COMMAND:
-                String value = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database).orElse("");
+                String value = bibtex.getResolvedFieldOrAlias(resolvedField, database).orElse("");
 
                 // If a post formatter has been set, call it:
                 if (postFormatter != null) {
                     value = postFormatter.format(value);
                 }
-                return value;
+                output.append(value);
+                return true;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibtex, database);
+                return handleFieldOrGroupStart(bibtex, database, output);
             case LayoutHelper.IS_FIELD_END:
             case LayoutHelper.IS_GROUP_END:
-                return "";
+                return true;
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibtex, database);
+                output.append(handleOptionField(bibtex, database));
+                return true;
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
                 // on a field called "encoding". We simply return this field instead:
-                return bibtex.getResolvedFieldOrAlias(new UnknownField("encoding"), database).orElse(null);
+                Optional<String> encoding = bibtex.getResolvedFieldOrAlias(ENCODING_FIELD, database);
+                encoding.ifPresent(output::append);
+                return encoding.isPresent();
             default:
-                return "";
+                return true;
         }
     }
 
@@ -242,8 +306,8 @@ class LayoutEntry {
         } else {
             // changed section begin - arudert
             // resolve field (recognized by leading backslash) or text
-            fieldEntry = text.startsWith("\\") ? bibtex
-                    .getResolvedFieldOrAlias(FieldFactory.parseField(text.substring(1)), database)
+            fieldEntry = resolvedField != null ? bibtex
+                    .getResolvedFieldOrAlias(resolvedField, database)
                     .orElse("") : BibDatabase.getText(text, database);
             // changed section end - arudert
         }
@@ -262,81 +326,68 @@ class LayoutEntry {
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
-        Optional<String> field;
+    private boolean handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, StringBuilder output) {
+        Optional<String> value;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
-            field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(text), database);
-        } else if (text.matches(".*(;|(\\&+)).*")) {
-            // split the strings along &, && or ; for AND formatter
-            String[] parts = text.split("\\s*(;|(\\&+))\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() == negated) {
-                    break;
-                }
-            }
+            value = bibtex.getResolvedFieldOrAlias(resolvedField, database);
         } else {
-            // split the strings along |, ||  for OR formatter
-            String[] parts = text.split("\\s*(\\|+)\\s*");
-            field = Optional.empty();
-            for (String part : parts) {
-                negated = part.startsWith("!");
-                field = bibtex.getResolvedFieldOrAlias(FieldFactory.parseField(negated ? part.substring(1).trim() : part), database);
-                if (field.isPresent() ^ negated) {
+            value = Optional.empty();
+            for (FieldCondition condition : conditions) {
+                negated = condition.negated();
+                value = bibtex.getResolvedFieldOrAlias(condition.field(), database);
+                if (conjunction ? (value.isPresent() == negated) : (value.isPresent() ^ negated)) {
                     break;
                 }
             }
         }
 
-        if ((field.isPresent() == negated) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
-            return null;
-        } else {
-            if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
-            }
-            StringBuilder sb = new StringBuilder(100);
-            String fieldText;
-            boolean previousSkipped = false;
-
-            for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
-
-                if (fieldText == null) {
-                    if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
-                            i++;
-                            previousSkipped = true;
-                            continue;
-                        }
-                    }
-                } else {
-                    // if previous was skipped --> remove leading line
-                    // breaks
-                    if (previousSkipped) {
-                        int eol = 0;
-
-                        while ((eol < fieldText.length())
-                                && ((fieldText.charAt(eol) == '\n') || (fieldText.charAt(eol) == '\r'))) {
-                            eol++;
-                        }
+        if ((value.isPresent() == negated) || ((type == LayoutHelper.IS_GROUP_START)
+                && value.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+            return false;
+        }
 
-                        if (eol < fieldText.length()) {
-                            sb.append(fieldText.substring(eol));
-                        }
-                    } else {
-                        sb.append(fieldText);
+        if (type == LayoutHelper.IS_GROUP_START) {
+            LayoutHelper.setCurrentGroup(value.get());
+        }
+        boolean previousSkipped = false;
+
+        for (int i = 0; i < layoutEntries.size(); i++) {
+            int start = output.length();
+            if (!layoutEntries.get(i).doLayout(bibtex, database, output)) {
+                if ((i + 1) < layoutEntries.size()) {
+                    // Skip the following entry if it renders only whitespace
+                    layoutEntries.get(i + 1).doLayout(bibtex, database, output);
+                    boolean blank = isBlank(output, start);
+                    output.setLength(start);
+                    if (blank) {
+                        i++;
+                        previousSkipped = true;
+                        continue;
                     }
                 }
-
-                previousSkipped = false;
+            } else if (previousSkipped) {
+                // if previous was skipped --> remove leading line breaks
+                int eol = start;
+                while ((eol < output.length()) && ((output.charAt(eol) == '\n') || (output.charAt(eol) == '\r'))) {
+                    eol++;
+                }
+                output.delete(start, eol);
             }
 
-            return sb.toString();
+            previousSkipped = false;
+        }
+
+        return true;
+    }
+
+    private static boolean isBlank(StringBuilder output, int start) {
+        for (int i = start; i < output.length(); i++) {
+            if (output.charAt(i) > ' ') {
+                return false;
+            }
         }
+        return true;
     }
 
     /**
@@ -620,4 +671,7 @@ class LayoutEntry {
     public String getText() {
         return text;
     }
+
+    private record FieldCondition(Field field, boolean negated) {
+    }
 }
@@ -32,6 +32,13 @@ public class LayoutFormatterPreferences {
         return Optional.ofNullable(customExportNameFormatters.get(formatterName));
     }
 
+    /**
+     * @return a snapshot of the name formatters of the current custom export
+     */
+    public Map<String, String> getCustomExportNameFormatters() {
+        return Map.copyOf(customExportNameFormatters);
+    }
+
     public void clearCustomExportNameFormatters() {
         customExportNameFormatters.clear();
     }
@@ -35,7 +35,10 @@ public class LayoutHelper {
     public static final int IS_FILENAME = 9;
     public static final int IS_FILEPATH = 10;
 
-    private static String currentGroup;
+    /**
+     * The group of the entry laid out last. Kept per thread, because several exports may run concurrently.
+     */
+    private static final ThreadLocal<String> CURRENT_GROUP = new ThreadLocal<>();
 
     private final PushbackReader in;
     private final List<StringInt> parsedEntries = new ArrayList<>();
@@ -75,11 +78,11 @@ public class LayoutHelper {
     }
 
     public static String getCurrentGroup() {
-        return LayoutHelper.currentGroup;
+        return CURRENT_GROUP.get();
     }
 
     public static void setCurrentGroup(String newGroup) {
-        LayoutHelper.currentGroup = newGroup;
+        CURRENT_GROUP.set(newGroup);
     }
 
     private void doBracketedField(final int field) throws IOException {
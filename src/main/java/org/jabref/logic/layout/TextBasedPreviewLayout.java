@@ -1,7 +1,7 @@
 package org.jabref.logic.layout;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.util.List;
 
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.l10n.Localization;
@@ -37,9 +37,8 @@ public class TextBasedPreviewLayout implements PreviewLayout {
 
     public void setText(String text) {
         this.text = text;
-        StringReader sr = new StringReader(text.replace("__NEWLINE__", "\n"));
         try {
-            layout = new LayoutHelper(sr, layoutFormatterPreferences, abbreviationRepository).getLayoutFromText();
+            layout = LayoutCache.getLayout(text.replace("__NEWLINE__", "\n"), List.of(), layoutFormatterPreferences, abbreviationRepository);
         } catch (IOException e) {
             LOGGER.error("Could not generate layout", e);
         }
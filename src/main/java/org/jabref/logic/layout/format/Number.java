@@ -8,7 +8,17 @@ import org.jabref.logic.layout.ParamLayoutFormatter;
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
+    /**
+     * Kept per thread, because several exports may run concurrently
+     */
+    private static final ThreadLocal<Integer> SERIAL_EXPORT_NUMBER = ThreadLocal.withInitial(() -> 0);
+
+    /**
+     * Sets the sequence number of the entry the current thread is about to lay out
+     */
+    public static void setSerialExportNumber(int number) {
+        SERIAL_EXPORT_NUMBER.set(number);
+    }
 
     @Override
     public void setArgument(String arg) {
@@ -17,6 +27,6 @@ public class Number implements ParamLayoutFormatter {
 
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return String.valueOf(SERIAL_EXPORT_NUMBER.get());
     }
 }
@@ -0,0 +1,421 @@
+package org.jabref.logic.net;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * The HTTP transport shared by all downloads and fetchers.
+ * <p>
+ * A single {@link HttpClient} keeps connections alive between requests and multiplexes requests to the same host via
+ * HTTP/2 where the server supports it. HTTP/2 is only negotiated for HTTPS, where the server chooses the version during
+ * the TLS handshake (ALPN) and servers without HTTP/2 are answered via HTTP/1.1. Plain HTTP requests use HTTP/1.1, as
+ * some servers mishandle the upgrade request to unencrypted HTTP/2. Thus, a batch of lookups at the same service pays the TCP and TLS handshake only
+ * once. Responses are requested gzip-compressed and transparently decompressed. The number of concurrent requests per
+ * host is limited, so that a burst of lookups does not overload a single service. A request counts until its
+ * (decompressed) body is read completely or closed. A body which is neither, but no longer referenced, frees its slot
+ * once it is garbage collected. Requests time out if the response headers do not arrive in time.
+ * <p>
+ * Proxy settings, authentication and cookies are resolved on every request from the JVM-wide defaults (see
+ * {@link ProxyRegisterer}). If the default {@link javax.net.ssl.SSLContext} changes, {@link #reset()} has to be called.
+ */
+public class HttpTransport {
+
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST = 6;
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final HttpTransport INSTANCE = new HttpTransport(URLDownload.DEFAULT_CONNECT_TIMEOUT);
+
+    /**
+     * Headers which are managed by the {@link HttpClient} itself and must not be set on a request
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private static final int BODY_READER_THREADS = 8;
+
+    private final Duration connectTimeout;
+    private final Map<String, HostLimiter> hostLimiters = new ConcurrentHashMap<>();
+    private volatile int maxConcurrentRequestsPerHost = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_HOST;
+    private volatile HttpClient client;
+    private final ExecutorService bodyReaderExecutor = createBodyReaderExecutor();
+
+    HttpTransport(Duration connectTimeout) {
+        this.connectTimeout = Objects.requireNonNull(connectTimeout);
+    }
+
+    public static HttpTransport getInstance() {
+        return INSTANCE;
+    }
+
+    private static ExecutorService createBodyReaderExecutor() {
+        AtomicLong threadCounter = new AtomicLong();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(BODY_READER_THREADS, BODY_READER_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "JabRef HTTP body reader " + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the executor for reading response bodies asynchronously, as reading a body blocks. The threads of the
+     * {@link HttpClient} and the common pool must not be blocked.
+     */
+    public Executor getBodyReaderExecutor() {
+        return bodyReaderExecutor;
+    }
+
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setMaxConcurrentRequestsPerHost(int maxConcurrentRequestsPerHost) {
+        if (maxConcurrentRequestsPerHost < 1) {
+            throw new IllegalArgumentException("At least one request per host has to be allowed");
+        }
+        this.maxConcurrentRequestsPerHost = maxConcurrentRequestsPerHost;
+    }
+
+    /**
+     * Drops the current client (and its connection pool). The next request creates a new client, which picks up the
+     * current default SSL context.
+     */
+    public synchronized void reset() {
+        client = null;
+    }
+
+    private HttpClient getClient() {
+        HttpClient currentClient = client;
+        if (currentClient == null) {
+            synchronized (this) {
+                currentClient = client;
+                if (currentClient == null) {
+                    currentClient = HttpClient.newBuilder()
+                                              .version(HttpClient.Version.HTTP_2)
+                                              .followRedirects(HttpClient.Redirect.NORMAL)
+                                              .connectTimeout(connectTimeout)
+                                              .proxy(ProxySelector.getDefault())
+                                              .authenticator(new DefaultAuthenticatorDelegate())
+                                              .cookieHandler(new DefaultCookieHandlerDelegate())
+                                              .build();
+                    client = currentClient;
+                }
+            }
+        }
+        return currentClient;
+    }
+
+    /**
+     * Creates a request builder for the given URI with the given headers. Headers that are managed by the client are
+     * skipped.
+     */
+    public static HttpRequest.Builder newRequest(URI uri, Map<String, String> headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT);
+        if ("http".equalsIgnoreCase(uri.getScheme())) {
+            // Avoids the upgrade request to unencrypted HTTP/2 (h2c)
+            builder.version(HttpClient.Version.HTTP_1_1);
+        }
+        boolean acceptEncodingSet = false;
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (RESTRICTED_HEADERS.contains(name)) {
+                continue;
+            }
+            acceptEncodingSet |= "accept-encoding".equals(name);
+            builder.header(header.getKey(), header.getValue());
+        }
+        if (!acceptEncodingSet) {
+            builder.header("Accept-Encoding", "gzip");
+        }
+        return builder;
+    }
+
+    /**
+     * Sends the request and returns the response with a (decompressed) streaming body.
+     * The caller has to close the body, as the request occupies a slot of its host until then.
+     */
+    public HttpResponse<InputStream> send(HttpRequest request) throws IOException {
+        try {
+            return sendAsync(request).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request to " + request.uri() + " was interrupted");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            throw new IOException("Request to " + request.uri() + " failed", cause);
+        }
+    }
+
+    /**
+     * Sends the request asynchronously. The future completes as soon as the response headers are received; the
+     * (decompressed) body can then be streamed and has to be closed. Requests exceeding the per-host limit wait until a
+     * slot becomes free.
+     */
+    public CompletableFuture<HttpResponse<InputStream>> sendAsync(HttpRequest request) {
+        CompletableFuture<HttpResponse<InputStream>> result = new CompletableFuture<>();
+        HostLimiter limiter = hostLimiters.computeIfAbsent(Objects.requireNonNullElse(request.uri().getHost(), ""), host -> new HostLimiter());
+        limiter.submit(maxConcurrentRequestsPerHost, () -> {
+            try {
+                getClient().sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                           .whenComplete((response, throwable) -> {
+                               if (throwable != null) {
+                                   limiter.finish();
+                                   result.completeExceptionally(((throwable instanceof CompletionException) && (throwable.getCause() != null)) ? throwable.getCause() : throwable);
+                                   return;
+                               }
+                               try {
+                                   result.complete(new BodyReplacedResponse(response, limitBody(response.headers(), response.body(), limiter)));
+                               } catch (IOException e) {
+                                   result.completeExceptionally(e);
+                               }
+                           });
+            } catch (RuntimeException e) {
+                limiter.finish();
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Decompresses the body if needed. The connection stays busy until the body is read, hence the slot of the request
+     * is released with the decompressed body: when it ends, when it is closed, or when it is garbage collected. A
+     * gzip stream ends with its trailer, thus the raw body might never be read to its end.
+     *
+     * @throws IOException if the body cannot be decompressed. The body is closed and the slot released then.
+     */
+    static InputStream limitBody(HttpHeaders headers, InputStream body, HostLimiter limiter) throws IOException {
+        boolean gzipped = headers.firstValue("Content-Encoding")
+                                 .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                                 .orElse(false);
+        InputStream decodedBody;
+        try {
+            decodedBody = gzipped ? new GZIPInputStream(body) : body;
+        } catch (IOException | RuntimeException e) {
+            try {
+                closeQuietly(body);
+            } finally {
+                limiter.finish();
+            }
+            throw e;
+        }
+        return new SlotReleasingInputStream(decodedBody, limiter);
+    }
+
+    private static void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            // Only releases resources, the request failed already
+        }
+    }
+
+    /**
+     * Limits the number of in-flight requests to one host. Requests above the limit are started in submission order
+     * as soon as running requests finish.
+     */
+    static class HostLimiter {
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+
+        void submit(int maxRunning, Runnable start) {
+            synchronized (this) {
+                if (running >= maxRunning) {
+                    waiting.add(start);
+                    return;
+                }
+                running++;
+            }
+            start.run();
+        }
+
+        void finish() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    running--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+
+        synchronized int getRunning() {
+            return running;
+        }
+    }
+
+    /**
+     * Releases the slot of a request at its host when the body is read to its end, closed, or garbage collected,
+     * whichever comes first.
+     */
+    private static class SlotReleasingInputStream extends FilterInputStream {
+        private final Cleaner.Cleanable slot;
+
+        SlotReleasingInputStream(InputStream body, HostLimiter limiter) {
+            super(body);
+            this.slot = CLEANER.register(this, new SlotRelease(limiter));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value == -1) {
+                slot.clean();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count == -1) {
+                slot.clean();
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                slot.clean();
+            }
+        }
+    }
+
+    /**
+     * Must not reference the stream, as it would never become unreachable otherwise
+     */
+    private record SlotRelease(HostLimiter limiter) implements Runnable {
+        @Override
+        public void run() {
+            limiter.finish();
+        }
+    }
+
+    /**
+     * Forwards authentication requests to the JVM-wide default authenticator (e.g., {@link ProxyAuthenticator}),
+     * which may be installed after the client has been created.
+     */
+    private static class DefaultAuthenticatorDelegate extends Authenticator {
+        @Override
+        protected PasswordAuthentication getPasswordAuthentication() {
+            Authenticator defaultAuthenticator = Authenticator.getDefault();
+            if ((defaultAuthenticator == null) || (defaultAuthenticator instanceof DefaultAuthenticatorDelegate)) {
+                return null;
+            }
+            return defaultAuthenticator.requestPasswordAuthenticationInstance(getRequestingHost(), getRequestingSite(),
+                    getRequestingPort(), getRequestingProtocol(), getRequestingPrompt(), getRequestingScheme(),
+                    getRequestingURL(), getRequestorType());
+        }
+    }
+
+    /**
+     * Forwards cookie handling to the JVM-wide default cookie handler, which may be installed after the client has
+     * been created.
+     */
+    private static class DefaultCookieHandlerDelegate extends CookieHandler {
+        @Override
+        public Map<String, List<String>> get(URI uri, Map<String, List<String>> requestHeaders) throws IOException {
+            CookieHandler defaultHandler = CookieHandler.getDefault();
+            if (defaultHandler == null) {
+                return Collections.emptyMap();
+            }
+            return defaultHandler.get(uri, requestHeaders);
+        }
+
+        @Override
+        public void put(URI uri, Map<String, List<String>> responseHeaders) throws IOException {
+            CookieHandler defaultHandler = CookieHandler.getDefault();
+            if (defaultHandler != null) {
+                defaultHandler.put(uri, responseHeaders);
+            }
+        }
+    }
+
+    private record BodyReplacedResponse(HttpResponse<InputStream> response, InputStream body) implements HttpResponse<InputStream> {
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return response.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return response.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return response.headers();
+        }
+
+        @Override
+        public URI uri() {
+            return response.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return response.version();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return response.sslSession();
+        }
+    }
+}
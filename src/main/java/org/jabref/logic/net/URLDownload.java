@@ -9,6 +9,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.net.CookieHandler;
 import java.net.CookieManager;
@@ -16,9 +17,12 @@ import java.net.CookiePolicy;
 import java.net.HttpCookie;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -32,6 +36,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -62,14 +68,22 @@ import org.slf4j.LoggerFactory;
  * String contentType = dl.getMimeType();
  * </code>
  * <br/><br/>
- * Almost each call to a public method creates a new HTTP connection (except for {@link #asString(Charset, URLConnection) asString},
- * which uses an already opened connection). Nothing is cached.
+ * HTTP(S) downloads via {@link #asString()}, {@link #toFile(Path)} and {@link #asInputStream()} (and thus the
+ * {@link org.jabref.logic.importer.SearchBasedParserFetcher} and {@link org.jabref.logic.importer.IdBasedParserFetcher}
+ * fetchers) are sent through the shared {@link HttpTransport}, which reuses connections. {@link #openConnection()} still
+ * creates a new {@link URLConnection} for each call. Nothing is cached.
  */
 public class URLDownload {
 
     public static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/108.0.0.0 Safari/537.36";
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
-    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * True while the SSL verification is replaced by {@link #bypassSSLVerification()}. The shared {@link HttpTransport}
+     * does not pick up such a replacement, hence downloads use a plain {@link HttpURLConnection} meanwhile.
+     */
+    private static volatile boolean sslVerificationBypassed = false;
 
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
@@ -134,6 +148,7 @@ public class URLDownload {
             // Install all-trusting host verifier
             HostnameVerifier allHostsValid = (hostname, session) -> true;
             HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
+            sslVerificationBypassed = true;
         } catch (Exception e) {
             LOGGER.error("A problem occurred when bypassing SSL verification", e);
         }
@@ -148,6 +163,7 @@ public class URLDownload {
         try {
             HttpsURLConnection.setDefaultSSLSocketFactory(socketFactory);
             HttpsURLConnection.setDefaultHostnameVerifier(verifier);
+            sslVerificationBypassed = false;
         } catch (Exception e) {
             LOGGER.error("A problem occurred when reset SSL verification", e);
         }
@@ -246,7 +262,7 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString() throws IOException {
-        return asString(StandardCharsets.UTF_8, this.openConnection());
+        return asString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -256,9 +272,43 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
+        Optional<URI> uri = getUriForSharedTransport();
+        if (uri.isPresent()) {
+            return readBody(send(uri.get()), encoding);
+        }
         return asString(encoding, this.openConnection());
     }
 
+    /**
+     * Downloads the web resource to a String without blocking the calling thread. The body is read on the executor of
+     * the shared {@link HttpTransport}, as reading blocks.
+     *
+     * @param encoding the desired String encoding
+     * @return a future completing with the downloaded string or exceptionally with an {@link IOException}
+     */
+    public CompletableFuture<String> asStringAsync(Charset encoding) {
+        Optional<URI> uri = getUriForSharedTransport();
+        if (uri.isEmpty()) {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return asString(encoding);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, HttpTransport.getInstance().getBodyReaderExecutor());
+        }
+        return HttpTransport.getInstance()
+                            .sendAsync(createRequest(uri.get()))
+                            .thenApplyAsync(response -> {
+                                try {
+                                    checkStatusCode(response);
+                                    return readBody(response, encoding);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            }, HttpTransport.getInstance().getBodyReaderExecutor());
+    }
+
     /**
      * Downloads the web resource to a String from an existing connection. Uses UTF-8 as encoding.
      *
@@ -307,7 +357,9 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+        Optional<URI> uri = getUriForSharedTransport();
+        InputStream body = uri.isPresent() ? send(uri.get()).body() : this.openConnection().getInputStream();
+        try (InputStream input = new BufferedInputStream(body)) {
             Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.warn("Could not copy input", e);
@@ -316,9 +368,17 @@ public class URLDownload {
     }
 
     /**
-     * Takes the web resource as the source for a monitored input stream.
+     * Takes the web resource as the source for a monitored input stream. The caller has to close the stream, as the
+     * request occupies a slot of its host at the shared {@link HttpTransport} until the stream is read to its end.
      */
     public ProgressInputStream asInputStream() throws IOException {
+        Optional<URI> uri = getUriForSharedTransport();
+        if (uri.isPresent()) {
+            HttpResponse<InputStream> response = send(uri.get());
+            long fileSize = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            return new ProgressInputStream(new BufferedInputStream(response.body()), fileSize);
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         if ((urlConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) || (urlConnection.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
@@ -367,6 +427,74 @@ public class URLDownload {
         }
     }
 
+    /**
+     * Returns the URI of the source if the download can be sent through the shared {@link HttpTransport}. This is the
+     * case for HTTP(S) URLs with default connection settings.
+     */
+    private Optional<URI> getUriForSharedTransport() {
+        String protocol = source.getProtocol();
+        if (!"http".equalsIgnoreCase(protocol) && !"https".equalsIgnoreCase(protocol)) {
+            return Optional.empty();
+        }
+        if (sslVerificationBypassed || !connectTimeout.equals(HttpTransport.getInstance().getConnectTimeout())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(source.toURI());
+        } catch (URISyntaxException e) {
+            // HttpURLConnection is more lenient with malformed URLs
+            LOGGER.debug("Could not convert {} to URI", source, e);
+            return Optional.empty();
+        }
+    }
+
+    private HttpRequest createRequest(URI uri) {
+        HttpRequest.Builder builder = HttpTransport.newRequest(uri, parameters);
+        if (postData.isEmpty()) {
+            builder.GET();
+        } else {
+            // Same default as HttpURLConnection
+            boolean contentTypeSet = parameters.keySet().stream().anyMatch(key -> key.equalsIgnoreCase("Content-Type"));
+            if (!contentTypeSet) {
+                builder.header("Content-Type", "application/x-www-form-urlencoded");
+            }
+            builder.POST(HttpRequest.BodyPublishers.ofString(postData, StandardCharsets.ISO_8859_1));
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<InputStream> send(URI uri) throws IOException {
+        HttpResponse<InputStream> response = HttpTransport.getInstance().send(createRequest(uri));
+        checkStatusCode(response);
+        return response;
+    }
+
+    private static void checkStatusCode(HttpResponse<InputStream> response) throws IOException {
+        try {
+            checkStatusCode(response.statusCode());
+        } catch (IOException e) {
+            response.body().close();
+            throw e;
+        }
+    }
+
+    private static void checkStatusCode(int status) throws IOException {
+        if ((status >= 400) && (status < 500)) {
+            throw new IOException(new FetcherClientException("Encountered HTTP Status code " + status));
+        }
+        if (status >= 500) {
+            throw new IOException(new FetcherServerException("Encountered HTTP Status Code " + status));
+        }
+    }
+
+    private static String readBody(HttpResponse<InputStream> response, Charset encoding) throws IOException {
+        try (InputStream input = new BufferedInputStream(response.body());
+             Writer output = new StringWriter()) {
+            copy(input, output, encoding);
+            return output.toString();
+        }
+    }
+
     /**
      * Open a connection to this object's URL (with specified settings). If accessing an HTTP URL, don't forget
      * to close the resulting connection after usage.
@@ -398,12 +526,7 @@ public class URLDownload {
                 // open the new connection again
                 connection = new URLDownload(newUrl).openConnection();
             }
-            if ((status >= 400) && (status < 500)) {
-                throw new IOException(new FetcherClientException("Encountered HTTP Status code " + status));
-            }
-            if (status >= 500) {
-                throw new IOException(new FetcherServerException("Encountered HTTP Status Code " + status));
-            }
+            checkStatusCode(status);
         }
         // this does network i/o: GET + read returned headers
         return connection;
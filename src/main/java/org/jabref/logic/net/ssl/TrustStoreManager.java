@@ -25,6 +25,8 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
 import javax.net.ssl.X509TrustManager;
 
+import org.jabref.logic.net.HttpTransport;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -241,5 +243,6 @@ public class TrustStoreManager {
         // it depends on the library you're using.
         SSLContext.setDefault(sslContext);
         HttpsURLConnection.setDefaultSSLSocketFactory(sslContext.getSocketFactory());
+        HttpTransport.getInstance().reset();
     }
 }
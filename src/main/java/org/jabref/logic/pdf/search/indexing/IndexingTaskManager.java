@@ -30,6 +30,8 @@ public class IndexingTaskManager extends BackgroundTask<Void> {
         this.taskExecutor = taskExecutor;
         showToUser(true);
         willBeRecoveredAutomatically(true);
+        withWorkload(Workload.CPU_BOUND);
+        withPriority(Priority.LOW);
         DefaultTaskExecutor.runInJavaFXThread(() -> {
             this.updateProgress(1, 1);
             this.titleProperty().set(Localization.lang("Indexing pdf files"));
@@ -1,7 +1,7 @@
 package org.jabref.logic.pdf.search.retrieval;
 
 import java.io.IOException;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -41,6 +41,18 @@ public final class PdfSearcher {
         return new PdfSearcher(new NIOFSDirectory(databaseContext.getFulltextIndexPath()));
     }
 
+    /**
+     * Search for all results matching a query in the Lucene search index. The memory needed is bounded by the number of
+     * indexed pages, as a hit keeps only its file, page, and score. The text of a page is loaded when it is highlighted.
+     *
+     * @param searchString a pattern to search for matching entries in the index, must not be null
+     * @return a result set of all documents that have matches in any fields
+     */
+    public PdfSearchResults search(final String searchString) throws IOException {
+        // Limited to the number of documents of the index below
+        return search(searchString, Integer.MAX_VALUE);
+    }
+
     /**
      * Search for results matching a query in the Lucene search index
      *
@@ -57,7 +69,7 @@ public final class PdfSearcher {
             throw new IllegalArgumentException("Must be called with at least 1 maxHits, was" + maxHits);
         }
 
-        List<SearchResult> resultDocs = new LinkedList<>();
+        List<SearchResult> resultDocs = new ArrayList<>();
 
         if (!DirectoryReader.indexExists(indexDirectory)) {
             LOGGER.debug("Index directory {} does not yet exist", indexDirectory);
@@ -67,9 +79,9 @@ public final class PdfSearcher {
         try (IndexReader reader = DirectoryReader.open(indexDirectory)) {
             IndexSearcher searcher = new IndexSearcher(reader);
             Query query = new MultiFieldQueryParser(PDF_FIELDS, new EnglishStemAnalyzer()).parse(searchString);
-            TopDocs results = searcher.search(query, maxHits);
+            TopDocs results = searcher.search(query, Math.min(maxHits, Math.max(1, reader.maxDoc())));
             for (ScoreDoc scoreDoc : results.scoreDocs) {
-                resultDocs.add(new SearchResult(searcher, query, scoreDoc));
+                resultDocs.add(SearchResult.of(searcher, query, scoreDoc, indexDirectory));
             }
             return new PdfSearchResults(resultDocs);
         } catch (ParseException e) {
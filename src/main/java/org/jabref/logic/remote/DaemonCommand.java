@@ -0,0 +1,42 @@
+package org.jabref.logic.remote;
+
+/**
+ * The requests understood by the headless daemon. All paths are interpreted by the daemon, thus they should be
+ * absolute. The first request of a connection has to be {@link #AUTHENTICATE}.
+ *
+ * @implNote The ordinal is transmitted, thus new commands have to be added at the end.
+ */
+public enum DaemonCommand {
+    /**
+     * Request the daemon to identify itself. No arguments. The output is {@link Protocol#IDENTIFIER}.
+     */
+    PING,
+    /**
+     * Convert a library. Arguments: input file, output file, and optionally the export format (default: BibTeX).
+     */
+    CONVERT,
+    /**
+     * Search a library. Arguments: library, search query. The output lists the citation keys of the matches, one per
+     * line.
+     */
+    SEARCH,
+    /**
+     * Export the matches of a search. Arguments: library, search query, output file, and optionally the export format
+     * (default: BibTeX).
+     */
+    EXPORT,
+    /**
+     * Generate the citation keys of all entries of a library. Arguments: library, and optionally the output file
+     * (default: the library itself).
+     */
+    KEYGEN,
+    /**
+     * Stop the daemon. No arguments.
+     */
+    SHUTDOWN,
+    /**
+     * Authenticate the connection. Arguments: the {@link DaemonToken} the daemon wrote to its token file. If the token
+     * does not match, the daemon answers with an error and closes the connection.
+     */
+    AUTHENTICATE
+}
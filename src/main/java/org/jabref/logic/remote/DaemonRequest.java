@@ -0,0 +1,16 @@
+package org.jabref.logic.remote;
+
+import java.util.List;
+import java.util.Objects;
+
+public record DaemonRequest(DaemonCommand command, List<String> arguments) {
+
+    public DaemonRequest {
+        Objects.requireNonNull(command);
+        arguments = List.copyOf(arguments);
+    }
+
+    public DaemonRequest(DaemonCommand command, String... arguments) {
+        this(command, List.of(arguments));
+    }
+}
@@ -0,0 +1,33 @@
+package org.jabref.logic.remote;
+
+import java.util.Objects;
+
+/**
+ * @param output the text to be shown to the client, e.g., the search results or the reason of an error
+ */
+public record DaemonResponse(Status status, String output) {
+
+    public DaemonResponse {
+        Objects.requireNonNull(status);
+        Objects.requireNonNull(output);
+    }
+
+    public static DaemonResponse ok(String output) {
+        return new DaemonResponse(Status.OK, output);
+    }
+
+    public static DaemonResponse error(String output) {
+        return new DaemonResponse(Status.ERROR, output);
+    }
+
+    public boolean isOk() {
+        return status == Status.OK;
+    }
+
+    /**
+     * @implNote The ordinal is transmitted, thus new values have to be added at the end.
+     */
+    public enum Status {
+        OK, ERROR
+    }
+}
@@ -0,0 +1,67 @@
+package org.jabref.logic.remote;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * The secret a client of the headless daemon has to present before it may send requests. The daemon listens on the
+ * loopback interface, which is reachable by all local users. Thus, the daemon writes a fresh token to a file only
+ * readable by the user running it, and only clients able to read that file are served.
+ */
+public final class DaemonToken {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    private DaemonToken() {
+    }
+
+    /**
+     * Creates a new token and writes it to the given file, replacing the token of a previous daemon.
+     *
+     * @return the token
+     */
+    public static String create(Path tokenFile) throws IOException {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        String token = HexFormat.of().formatHex(bytes);
+
+        Files.createDirectories(tokenFile.toAbsolutePath().getParent());
+        // The file is restricted before the token is written, thus the token is never readable by others
+        Path temporaryFile;
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            temporaryFile = Files.createTempFile(tokenFile.toAbsolutePath().getParent(), "token", ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        } else {
+            // The user data directory is private to the user on Windows
+            temporaryFile = Files.createTempFile(tokenFile.toAbsolutePath().getParent(), "token", ".tmp");
+        }
+        try {
+            Files.writeString(temporaryFile, token, StandardCharsets.US_ASCII);
+            Files.move(temporaryFile, tokenFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        return token;
+    }
+
+    public static String read(Path tokenFile) throws IOException {
+        return Files.readString(tokenFile, StandardCharsets.US_ASCII).strip();
+    }
+
+    /**
+     * Compares in constant time, thus the token cannot be guessed from the time a refusal takes
+     */
+    public static boolean matches(String expected, String presented) {
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII), presented.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,144 @@
+package org.jabref.logic.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The protocol spoken between the headless daemon and its clients. In contrast to {@link Protocol}, it does not rely on
+ * Java serialization, and a connection may be used for any number of requests. Thus, clients written in any language
+ * can talk to the daemon.
+ *
+ * @implNote Every message is one frame: the length of the payload (4 bytes, big endian) followed by the payload. The
+ * payload starts with one byte (the ordinal of the {@link DaemonCommand} for requests, the ordinal of the {@link
+ * DaemonResponse.Status} for responses), followed by the number of strings (4 bytes) and the strings. Each string is
+ * encoded as its length in bytes (4 bytes) followed by its UTF-8 bytes.
+ */
+public class FramedProtocol implements AutoCloseable {
+
+    /**
+     * Guards against allocating huge buffers when something else than a client connects
+     */
+    static final int MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FramedProtocol.class);
+
+    private final Socket socket;
+    private final DataOutputStream out;
+    private final DataInputStream in;
+
+    public FramedProtocol(Socket socket) throws IOException {
+        this.socket = socket;
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    }
+
+    public void sendRequest(DaemonRequest request) throws IOException {
+        writeFrame(out, (byte) request.command().ordinal(), request.arguments());
+    }
+
+    /**
+     * @return the next request, or an empty optional if the client closed the connection
+     */
+    public Optional<DaemonRequest> receiveRequest() throws IOException {
+        Optional<Frame> frame = readFrame(in);
+        if (frame.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new DaemonRequest(valueOf(DaemonCommand.values(), frame.get().type()), frame.get().strings()));
+    }
+
+    public void sendResponse(DaemonResponse response) throws IOException {
+        writeFrame(out, (byte) response.status().ordinal(), List.of(response.output()));
+    }
+
+    public DaemonResponse receiveResponse() throws IOException {
+        Frame frame = readFrame(in).orElseThrow(() -> new EOFException("Connection closed by the daemon"));
+        if (frame.strings().size() != 1) {
+            throw new IOException("Expected exactly one string in the response. Got " + frame.strings().size());
+        }
+        return new DaemonResponse(valueOf(DaemonResponse.Status.values(), frame.type()), frame.strings().get(0));
+    }
+
+    static void writeFrame(OutputStream output, byte type, List<String> strings) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        DataOutputStream payload = new DataOutputStream(buffer);
+        payload.writeByte(type);
+        payload.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            payload.writeInt(bytes.length);
+            payload.write(bytes);
+        }
+
+        DataOutputStream frame = new DataOutputStream(output);
+        frame.writeInt(buffer.size());
+        buffer.writeTo(frame);
+        frame.flush();
+    }
+
+    static Optional<Frame> readFrame(InputStream input) throws IOException {
+        DataInputStream frame = new DataInputStream(input);
+        int length;
+        try {
+            length = frame.readInt();
+        } catch (EOFException e) {
+            return Optional.empty();
+        }
+        if ((length < 5) || (length > MAX_FRAME_LENGTH)) {
+            throw new IOException("Invalid frame length " + length);
+        }
+        byte[] bytes = new byte[length];
+        frame.readFully(bytes);
+
+        DataInputStream payload = new DataInputStream(new ByteArrayInputStream(bytes));
+        byte type = payload.readByte();
+        int count = payload.readInt();
+        if ((count < 0) || (count > length)) {
+            throw new IOException("Invalid number of strings " + count);
+        }
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int stringLength = payload.readInt();
+            if ((stringLength < 0) || (stringLength > payload.available())) {
+                throw new IOException("Invalid string length " + stringLength);
+            }
+            strings.add(new String(payload.readNBytes(stringLength), StandardCharsets.UTF_8));
+        }
+        return Optional.of(new Frame(type, strings));
+    }
+
+    private static <T extends Enum<T>> T valueOf(T[] values, byte ordinal) throws IOException {
+        if ((ordinal < 0) || (ordinal >= values.length)) {
+            throw new IOException("Unknown message type " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOGGER.warn("Socket not closed", e);
+        }
+    }
+
+    record Frame(byte type, List<String> strings) {
+    }
+}
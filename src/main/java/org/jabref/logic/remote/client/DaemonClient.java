@@ -0,0 +1,71 @@
+package org.jabref.logic.remote.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import org.jabref.logic.remote.DaemonCommand;
+import org.jabref.logic.remote.DaemonRequest;
+import org.jabref.logic.remote.DaemonResponse;
+import org.jabref.logic.remote.DaemonToken;
+import org.jabref.logic.remote.FramedProtocol;
+import org.jabref.logic.remote.Protocol;
+import org.jabref.logic.remote.RemotePreferences;
+
+/**
+ * Sends requests to a running headless daemon. The connection is kept open until the client is closed, thus
+ * subsequent requests do not pay for the connection setup.
+ * <p>
+ * A client must not be used by several threads at the same time.
+ */
+public class DaemonClient implements AutoCloseable {
+
+    private static final int CONNECT_TIMEOUT = 1000;
+
+    private final FramedProtocol protocol;
+
+    private DaemonClient(FramedProtocol protocol) {
+        this.protocol = protocol;
+    }
+
+    /**
+     * Connects to the daemon and authenticates the connection.
+     *
+     * @param token the token the daemon wrote to its token file, see {@link DaemonToken#read}
+     * @throws IOException if the connection failed or the daemon refused the token
+     */
+    public static DaemonClient connect(int port, String token) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(RemotePreferences.getIpAddress(), port), CONNECT_TIMEOUT);
+            DaemonClient client = new DaemonClient(new FramedProtocol(socket));
+            DaemonResponse response = client.send(DaemonCommand.AUTHENTICATE, token);
+            if (!response.isOk()) {
+                throw new IOException("Daemon refused the connection: " + response.output());
+            }
+            return client;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    public DaemonResponse send(DaemonCommand command, String... arguments) throws IOException {
+        protocol.sendRequest(new DaemonRequest(command, arguments));
+        return protocol.receiveResponse();
+    }
+
+    public boolean ping() {
+        try {
+            DaemonResponse response = send(DaemonCommand.PING);
+            return response.isOk() && Protocol.IDENTIFIER.equals(response.output());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        protocol.close();
+    }
+}
@@ -0,0 +1,14 @@
+package org.jabref.logic.remote.server;
+
+import org.jabref.logic.remote.DaemonRequest;
+import org.jabref.logic.remote.DaemonResponse;
+
+/**
+ * Answers the requests sent to the headless daemon. Requests of different clients are handled concurrently, thus
+ * implementations have to be thread-safe.
+ */
+@FunctionalInterface
+public interface DaemonRequestHandler {
+
+    DaemonResponse handle(DaemonRequest request) throws Exception;
+}
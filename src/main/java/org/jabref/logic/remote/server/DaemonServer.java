@@ -0,0 +1,207 @@
+package org.jabref.logic.remote.server;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.remote.DaemonCommand;
+import org.jabref.logic.remote.DaemonRequest;
+import org.jabref.logic.remote.DaemonResponse;
+import org.jabref.logic.remote.DaemonToken;
+import org.jabref.logic.remote.FramedProtocol;
+import org.jabref.logic.remote.Protocol;
+import org.jabref.logic.remote.RemotePreferences;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accepts the connections of the clients of the headless daemon. Each connection is served by its own thread and may
+ * carry any number of requests, which are passed to the {@link DaemonRequestHandler}. {@link DaemonCommand#PING} and
+ * {@link DaemonCommand#SHUTDOWN} are answered by the server itself.
+ * <p>
+ * A connection is only served after the client presented the {@link DaemonToken} by {@link
+ * DaemonCommand#AUTHENTICATE}; otherwise, it is closed. At most {@link #MAX_CONNECTIONS} connections are open at the
+ * same time, further ones are closed right away.
+ * <p>
+ * Idle connections only wait for the next request. The number of requests handled at the same time is bounded, thus a
+ * client keeping its connection open does not take capacity from the others.
+ * <p>
+ * In contrast to the {@link RemoteListenerServer}, which accepts one short-lived connection at a time, clients are
+ * served concurrently.
+ */
+public class DaemonServer implements Runnable, AutoCloseable {
+
+    public static final int DEFAULT_PORT = 6051;
+
+    static final int MAX_CONNECTIONS = 64;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DaemonServer.class);
+
+    private static final int BACKLOG = 50;
+
+    /**
+     * Unauthenticated connections are closed after this time, thus they cannot take all connection threads
+     */
+    private static final int AUTHENTICATION_TIMEOUT_MILLIS = 10_000;
+
+    private final DaemonRequestHandler requestHandler;
+    private final String token;
+    private final ServerSocket serverSocket;
+    private final ThreadPoolExecutor connectionExecutor;
+    private final Semaphore requestPermits;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param threads the number of requests handled at the same time
+     * @param token   the token clients have to present, see {@link DaemonToken#create}
+     */
+    public DaemonServer(DaemonRequestHandler requestHandler, int port, int threads, String token) throws IOException {
+        this.requestHandler = requestHandler;
+        this.token = Objects.requireNonNull(token);
+        this.serverSocket = new ServerSocket(port, BACKLOG, RemotePreferences.getIpAddress());
+        this.requestPermits = new Semaphore(threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // No queue: a connection beyond the limit is rejected and closed instead of waiting unnoticed
+        this.connectionExecutor = new ThreadPoolExecutor(0, MAX_CONNECTIONS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "JabRef daemon connection " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return the port the server listens on (useful if the server was created with port 0)
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Accepts connections until the server is closed, either by {@link #close()} or by a {@link
+     * DaemonCommand#SHUTDOWN} request.
+     */
+    @Override
+    public void run() {
+        try {
+            while (!serverSocket.isClosed()) {
+                Socket socket = serverSocket.accept();
+                connections.add(socket);
+                try {
+                    connectionExecutor.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    LOGGER.warn("Refused connection, as {} connections are open already", MAX_CONNECTIONS);
+                    closeConnection(socket);
+                }
+            }
+        } catch (SocketException e) {
+            LOGGER.debug("Daemon server socket closed");
+        } catch (IOException e) {
+            LOGGER.error("Daemon server crashed", e);
+        } finally {
+            close();
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (FramedProtocol protocol = new FramedProtocol(socket)) {
+            socket.setSoTimeout(AUTHENTICATION_TIMEOUT_MILLIS);
+            if (!authenticate(protocol)) {
+                LOGGER.warn("Refused unauthenticated connection from {}", socket.getRemoteSocketAddress());
+                return;
+            }
+            socket.setSoTimeout(0);
+
+            Optional<DaemonRequest> request;
+            while ((request = protocol.receiveRequest()).isPresent()) {
+                protocol.sendResponse(handle(request.get()));
+                if (request.get().command() == DaemonCommand.SHUTDOWN) {
+                    close();
+                    return;
+                }
+            }
+        } catch (SocketTimeoutException e) {
+            LOGGER.warn("Closed connection from {}, which did not authenticate in time", socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            if (!serverSocket.isClosed()) {
+                LOGGER.warn("Connection to daemon client failed", e);
+            }
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private boolean authenticate(FramedProtocol protocol) throws IOException {
+        Optional<DaemonRequest> request = protocol.receiveRequest();
+        if (request.isEmpty()) {
+            return false;
+        }
+        boolean authenticated = (request.get().command() == DaemonCommand.AUTHENTICATE)
+                && (request.get().arguments().size() == 1)
+                && DaemonToken.matches(token, request.get().arguments().get(0));
+        protocol.sendResponse(authenticated ? DaemonResponse.ok("") : DaemonResponse.error("Not authenticated"));
+        return authenticated;
+    }
+
+    private DaemonResponse handle(DaemonRequest request) {
+        return switch (request.command()) {
+            case PING ->
+                    DaemonResponse.ok(Protocol.IDENTIFIER);
+            case SHUTDOWN, AUTHENTICATE ->
+                    DaemonResponse.ok("");
+            default -> {
+                try {
+                    requestPermits.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    yield DaemonResponse.error("Daemon is shutting down");
+                }
+                try {
+                    yield requestHandler.handle(request);
+                } catch (Exception e) {
+                    LOGGER.debug("Could not handle {}", request, e);
+                    yield DaemonResponse.error(String.valueOf(e.getMessage()));
+                } finally {
+                    requestPermits.release();
+                }
+            }
+        };
+    }
+
+    public boolean isClosed() {
+        return serverSocket.isClosed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            LOGGER.warn("Unable to close server socket", e);
+        }
+        connectionExecutor.shutdown();
+        // Idle clients would otherwise keep their connection thread blocked
+        connections.forEach(this::closeConnection);
+    }
+
+    private void closeConnection(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOGGER.debug("Unable to close connection", e);
+        }
+        connections.remove(socket);
+    }
+}
@@ -3,6 +3,7 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
@@ -18,10 +19,20 @@ public class DatabaseSearcher {
     private final SearchQuery query;
 
     private final BibDatabase database;
+    private final MetadataIndex index;
 
     public DatabaseSearcher(SearchQuery query, BibDatabase database) {
+        this(query, database, null);
+    }
+
+    /**
+     * @param index the index of the entries of the database, which narrows down the entries the query is applied to.
+     *              May be {@code null}.
+     */
+    public DatabaseSearcher(SearchQuery query, BibDatabase database, MetadataIndex index) {
         this.query = Objects.requireNonNull(query);
         this.database = Objects.requireNonNull(database);
+        this.index = index;
     }
 
     public List<BibEntry> getMatches() {
@@ -32,7 +43,10 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+        List<BibEntry> candidates = Optional.ofNullable(index)
+                                            .flatMap(metadataIndex -> metadataIndex.getCandidates(query))
+                                            .orElse(database.getEntries());
+        List<BibEntry> matchEntries = candidates.stream().filter(query::isMatch).collect(Collectors.toList());
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 }
@@ -0,0 +1,227 @@
+package org.jabref.logic.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps parsed and indexed libraries, so that a request does not parse a library again. A library is parsed again when
+ * the modification time or the size of its file changed.
+ * <p>
+ * Cached libraries are shared by all callers and thus must not be modified. The matches of the latest queries are kept
+ * per library, so that paging through the results of a query evaluates the query only once.
+ */
+public class LibraryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryCache.class);
+
+    private final LibraryLoader loader;
+    private final IndexOpener indexOpener;
+    private final Map<Path, Version> libraries = new ConcurrentHashMap<>();
+
+    /**
+     * @param loader      parses the library file
+     * @param indexOpener opens the search index of a parsed library
+     */
+    public LibraryCache(LibraryLoader loader, IndexOpener indexOpener) {
+        this.loader = Objects.requireNonNull(loader);
+        this.indexOpener = Objects.requireNonNull(indexOpener);
+    }
+
+    /**
+     * Returns the library of the given file, which is parsed if it is not cached or its file changed. Concurrent
+     * requests for the same library wait for a single parse.
+     */
+    public CachedLibrary get(Path file) throws IOException {
+        Path path = file.toAbsolutePath().normalize();
+        FileTime lastModified = Files.getLastModifiedTime(path);
+        long size = Files.size(path);
+
+        // Only the placeholder of the library is created within the lock of the map, the parsing happens outside
+        Version created = new Version(lastModified, size, new CompletableFuture<>());
+        Version[] replaced = new Version[1];
+        Version version = libraries.compute(path, (key, cached) -> {
+            if ((cached != null) && cached.isOf(lastModified, size)) {
+                return cached;
+            }
+            replaced[0] = cached;
+            return created;
+        });
+        if (version == created) {
+            load(path, created);
+            if (replaced[0] != null) {
+                replaced[0].close();
+            }
+        }
+
+        try {
+            return version.library().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the library of the given file, e.g., because the file was written and its modification time might not
+     * have changed within its resolution.
+     */
+    public void invalidate(Path file) {
+        Version removed = libraries.remove(file.toAbsolutePath().normalize());
+        if (removed != null) {
+            removed.close();
+        }
+    }
+
+    private void load(Path path, Version version) {
+        try {
+            BibDatabaseContext databaseContext = loader.load(path);
+            version.library().complete(new CachedLibrary(version.lastModified(), version.size(), databaseContext, openIndex(databaseContext)));
+        } catch (IOException | RuntimeException e) {
+            // Failures are not cached, the next request parses again
+            libraries.remove(path, version);
+            version.library().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return the index, or {@code null} if it cannot be used, e.g., because another process uses it
+     */
+    private MetadataIndex openIndex(BibDatabaseContext databaseContext) {
+        try {
+            return indexOpener.open(databaseContext);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not open the search index of {}", databaseContext.getDatabasePath(), e);
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    public interface LibraryLoader {
+        BibDatabaseContext load(Path file) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface IndexOpener {
+        MetadataIndex open(BibDatabaseContext databaseContext) throws IOException;
+    }
+
+    private record Version(FileTime lastModified, long size, CompletableFuture<CachedLibrary> library) {
+
+        boolean isOf(FileTime lastModified, long size) {
+            return this.lastModified.equals(lastModified) && (this.size == size);
+        }
+
+        /**
+         * Closes the index once the library is loaded, as the library might still be parsed by another thread
+         */
+        void close() {
+            library.thenAccept(CachedLibrary::close);
+        }
+    }
+
+    public static class CachedLibrary {
+
+        private static final int CACHED_QUERIES = 100;
+
+        private final FileTime lastModified;
+        private final long size;
+        private final BibDatabaseContext databaseContext;
+        private final MetadataIndex index;
+        private final Cache<MatchesKey, List<BibEntry>> matches = CacheBuilder.newBuilder().maximumSize(CACHED_QUERIES).build();
+
+        private CachedLibrary(FileTime lastModified, long size, BibDatabaseContext databaseContext, MetadataIndex index) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.databaseContext = databaseContext;
+            this.index = index;
+        }
+
+        /**
+         * Returns the parsed library, which is shared with other callers and thus must not be modified.
+         */
+        public BibDatabaseContext getDatabaseContext() {
+            return databaseContext;
+        }
+
+        /**
+         * Returns the modification time of the file the library was parsed from
+         */
+        public FileTime getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns the size of the file the library was parsed from
+         */
+        public long getSize() {
+            return size;
+        }
+
+        /**
+         * Returns the entries matching the query, sorted by the given field. Entries without the field come last.
+         *
+         * @param query     the query, or empty for all entries
+         * @param sortField the field to sort by, or empty to keep the order of the library
+         */
+        public List<BibEntry> getMatches(Optional<SearchQuery> query, Optional<Field> sortField, boolean descending) {
+            MatchesKey key = new MatchesKey(query.map(SearchQuery::getQuery), query.map(SearchQuery::getSearchFlags), sortField.map(Field::getName), descending);
+            try {
+                return matches.get(key, () -> {
+                    List<BibEntry> entries = query.map(searchQuery -> new DatabaseSearcher(searchQuery, databaseContext.getDatabase(), index).getMatches())
+                                                  .orElse(databaseContext.getEntries());
+                    if (sortField.isEmpty()) {
+                        return List.copyOf(entries);
+                    }
+                    Comparator<String> valueOrder = descending ? String.CASE_INSENSITIVE_ORDER.reversed() : String.CASE_INSENSITIVE_ORDER;
+                    return entries.stream()
+                                  .sorted(Comparator.comparing((BibEntry entry) -> entry.getField(sortField.get()).orElse(null),
+                                          Comparator.nullsLast(valueOrder)))
+                                  .toList();
+                });
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Could not search the library", e.getCause());
+            }
+        }
+
+        private void close() {
+            if (index == null) {
+                return;
+            }
+            try {
+                index.close();
+            } catch (IOException e) {
+                LOGGER.warn("Could not close the search index", e);
+            }
+        }
+
+        private record MatchesKey(Optional<String> query, Optional<EnumSet<SearchFlags>> searchFlags, Optional<String> sortField, boolean descending) {
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package org.jabref.logic.search;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Lucene index of the field values of the entries of a library, which finds the candidates matching a
+ * {@link SearchQuery} without looking at every entry.
+ * <p>
+ * Each entry is stored under a hash of its content. When the library is opened again, only entries with new hashes are
+ * indexed and the documents of hashes which are gone are deleted. Identical entries share one document.
+ * <p>
+ * The directory of a persistent index records the library it belongs to, so that indices of libraries which were
+ * deleted or renamed can be removed by {@link #deleteStaleIndices(Path, boolean)}.
+ */
+public class MetadataIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetadataIndex.class);
+
+    private static final String HASH = "hash";
+
+    /**
+     * Stores the path of the library in the index directory. Lucene leaves files not named like its own ones alone.
+     */
+    static final String LIBRARY_FILE = "library.txt";
+
+    private final Directory directory;
+
+    private List<BibEntry> entries = List.of();
+    private Map<String, List<Integer>> positionsByHash = Map.of();
+    private DirectoryReader reader;
+    private IndexSearcher searcher;
+
+    public MetadataIndex(Directory directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Opens the index of the given library and brings it up to date with the entries of the library. Unsaved libraries
+     * are indexed in memory.
+     */
+    public static MetadataIndex of(BibDatabaseContext databaseContext) throws IOException {
+        return of(databaseContext, databaseContext.getEntries());
+    }
+
+    /**
+     * Opens the index of the given library and brings it up to date with the given entries, e.g., a snapshot of the
+     * entries of a library which is changed meanwhile. Unsaved libraries are indexed in memory.
+     */
+    public static MetadataIndex of(BibDatabaseContext databaseContext, List<BibEntry> entriesToIndex) throws IOException {
+        Optional<Path> indexPath = databaseContext.getMetadataIndexPath();
+        if (indexPath.isEmpty()) {
+            return inMemory(entriesToIndex);
+        }
+        MetadataIndex index = open(new NIOFSDirectory(indexPath.get()), entriesToIndex);
+        recordLibrary(indexPath.get(), databaseContext.getDatabasePath().orElseThrow());
+        return index;
+    }
+
+    /**
+     * Creates an index of the given entries which is kept in memory only
+     */
+    public static MetadataIndex inMemory(List<BibEntry> entriesToIndex) throws IOException {
+        return open(new ByteBuffersDirectory(), entriesToIndex);
+    }
+
+    private static MetadataIndex open(Directory directory, List<BibEntry> entriesToIndex) throws IOException {
+        MetadataIndex index = new MetadataIndex(directory);
+        try {
+            index.synchronize(entriesToIndex);
+        } catch (IOException | RuntimeException e) {
+            index.close();
+            throw e;
+        }
+        return index;
+    }
+
+    private static void recordLibrary(Path indexPath, Path databasePath) {
+        Path libraryFile = indexPath.resolve(LIBRARY_FILE);
+        String library = databasePath.toAbsolutePath().toString();
+        try {
+            if (!Files.exists(libraryFile) || !Files.readString(libraryFile, StandardCharsets.UTF_8).equals(library)) {
+                Files.writeString(libraryFile, library, StandardCharsets.UTF_8);
+            }
+        } catch (IOException e) {
+            // The index is still usable, it is only not removed when the library is gone
+            LOGGER.warn("Could not record the library of the search index {}", indexPath, e);
+        }
+    }
+
+    /**
+     * Deletes the persistent indices below the given directory whose library no longer exists (e.g., because it was
+     * deleted or renamed), and those of outdated index formats.
+     *
+     * @param keepIndices {@code false} to delete all persistent indices, e.g., because they are turned off
+     */
+    public static void deleteStaleIndices(Path baseDirectory, boolean keepIndices) {
+        if (!Files.isDirectory(baseDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> indexDirectories = Files.newDirectoryStream(baseDirectory, "*" + BibDatabaseContext.METADATA_INDEX_INFIX + "*")) {
+            for (Path indexDirectory : indexDirectories) {
+                if (!keepIndices || isStale(indexDirectory)) {
+                    LOGGER.info("Deleting stale search index at {}", indexDirectory);
+                    try (Stream<Path> files = Files.walk(indexDirectory)) {
+                        files.sorted(Comparator.reverseOrder())
+                             .map(Path::toFile)
+                             .forEach(File::delete);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete stale search indices in {}", baseDirectory, e);
+        }
+    }
+
+    private static boolean isStale(Path indexDirectory) throws IOException {
+        if (!indexDirectory.getFileName().toString().endsWith(BibDatabaseContext.METADATA_INDEX_INFIX + BibDatabaseContext.METADATA_INDEX_VERSION)) {
+            return true;
+        }
+        Path libraryFile = indexDirectory.resolve(LIBRARY_FILE);
+        // Indices created before the library was recorded are kept, their library is unknown
+        return Files.exists(libraryFile) && !Files.exists(Path.of(Files.readString(libraryFile, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Makes the index contain exactly the given entries. Entries which are already in the index are not indexed again.
+     *
+     * @return the number of entries which had to be indexed
+     */
+    public synchronized int synchronize(List<BibEntry> entriesToIndex) throws IOException {
+        Map<String, List<Integer>> positions = new HashMap<>();
+        Map<String, BibEntry> entryByHash = new HashMap<>();
+        for (int i = 0; i < entriesToIndex.size(); i++) {
+            BibEntry entry = entriesToIndex.get(i);
+            String hash = getHash(entry);
+            positions.computeIfAbsent(hash, key -> new ArrayList<>()).add(i);
+            entryByHash.putIfAbsent(hash, entry);
+        }
+
+        int indexedEntries = 0;
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(createAnalyzer()).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND))) {
+            Set<String> indexedHashes = new HashSet<>();
+            try (DirectoryReader existingReader = DirectoryReader.open(writer)) {
+                collectHashes(new IndexSearcher(existingReader), new MatchAllDocsQuery(), indexedHashes::add);
+            }
+
+            List<Term> removedHashes = indexedHashes.stream()
+                                                    .filter(hash -> !positions.containsKey(hash))
+                                                    .map(hash -> new Term(HASH, hash))
+                                                    .toList();
+            if (!removedHashes.isEmpty()) {
+                writer.deleteDocuments(removedHashes.toArray(Term[]::new));
+            }
+
+            for (Map.Entry<String, BibEntry> entry : entryByHash.entrySet()) {
+                if (!indexedHashes.contains(entry.getKey())) {
+                    writer.addDocument(createDocument(entry.getKey(), entry.getValue()));
+                    indexedEntries += positions.get(entry.getKey()).size();
+                }
+            }
+            writer.commit();
+        }
+        LOGGER.debug("Indexed {} of {} entries", indexedEntries, entriesToIndex.size());
+
+        DirectoryReader newReader = DirectoryReader.open(directory);
+        if (reader != null) {
+            reader.close();
+        }
+        reader = newReader;
+        searcher = new IndexSearcher(reader);
+        entries = List.copyOf(entriesToIndex);
+        positionsByHash = positions;
+        return indexedEntries;
+    }
+
+    /**
+     * Returns the entries which may match the given query, in the order of the library. The query still has to be
+     * applied to each of them.
+     *
+     * @return the candidates, or {@code empty} if the query cannot be answered by the index
+     */
+    public synchronized Optional<List<BibEntry>> getCandidates(SearchQuery searchQuery) {
+        if (searcher == null) {
+            return Optional.empty();
+        }
+        Optional<Query> query = MetadataQueryBuilder.build(searchQuery);
+        if (query.isEmpty()) {
+            return Optional.empty();
+        }
+        if (query.get() instanceof MatchAllDocsQuery) {
+            return Optional.of(entries);
+        }
+
+        List<Integer> positions = new ArrayList<>();
+        try {
+            collectHashes(searcher, query.get(), hash -> positions.addAll(positionsByHash.getOrDefault(hash, Collections.emptyList())));
+        } catch (IOException | IndexSearcher.TooManyClauses e) {
+            LOGGER.warn("Could not search the index for {}", searchQuery, e);
+            return Optional.empty();
+        }
+        positions.sort(Comparator.naturalOrder());
+        return Optional.of(positions.stream().map(entries::get).toList());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (reader != null) {
+            reader.close();
+            reader = null;
+            searcher = null;
+        }
+        directory.close();
+    }
+
+    private static void collectHashes(IndexSearcher searcher, Query query, Consumer<String> consumer) throws IOException {
+        searcher.search(query, new SimpleCollector() {
+            private SortedDocValues hashes;
+
+            @Override
+            protected void doSetNextReader(LeafReaderContext context) throws IOException {
+                hashes = DocValues.getSorted(context.reader(), HASH);
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                if (hashes.advanceExact(doc)) {
+                    consumer.accept(hashes.lookupOrd(hashes.ordValue()).utf8ToString());
+                }
+            }
+
+            @Override
+            public ScoreMode scoreMode() {
+                return ScoreMode.COMPLETE_NO_SCORES;
+            }
+        });
+    }
+
+    private static Document createDocument(String hash, BibEntry entry) {
+        Document document = new Document();
+        document.add(new StringField(HASH, hash, org.apache.lucene.document.Field.Store.NO));
+        document.add(new SortedDocValuesField(HASH, new BytesRef(hash)));
+
+        StringBuilder allFields = new StringBuilder();
+        for (Field field : entry.getFields()) {
+            String value = MetadataQueryBuilder.normalize(entry.getFieldLatexFree(field).orElse(""));
+            document.add(new TextField(MetadataQueryBuilder.FIELD_PREFIX + field.getName().toLowerCase(Locale.ROOT), value, org.apache.lucene.document.Field.Store.NO));
+            allFields.append(value).append('\n');
+        }
+        document.add(new TextField(MetadataQueryBuilder.ALL_FIELDS, allFields.toString(), org.apache.lucene.document.Field.Store.NO));
+        return document;
+    }
+
+    private static Analyzer createAnalyzer() {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                return new TokenStreamComponents(new NGramTokenizer(MetadataQueryBuilder.GRAM_SIZE, MetadataQueryBuilder.GRAM_SIZE));
+            }
+        };
+    }
+
+    /**
+     * The hash identifies the content of an entry across sessions, in contrast to the id of the entry.
+     */
+    static String getHash(BibEntry entry) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putString(entry.getType().getName(), StandardCharsets.UTF_8);
+        entry.getFields().stream()
+             .sorted(Comparator.comparing(Field::getName))
+             .forEach(field -> hasher.putChar('\0')
+                                     .putString(field.getName(), StandardCharsets.UTF_8)
+                                     .putChar('\0')
+                                     .putString(entry.getField(field).orElse(""), StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+}
@@ -0,0 +1,185 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.search.rules.ContainsBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule;
+import org.jabref.model.search.rules.GrammarBasedSearchRule.ComparisonOperator;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+import org.jabref.model.search.rules.SentenceAnalyzer;
+import org.jabref.model.strings.StringUtil;
+import org.jabref.search.SearchBaseVisitor;
+import org.jabref.search.SearchParser;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * Translates a {@link SearchQuery} to a query of the {@link MetadataIndex}. The query finds a superset of the matching
+ * entries: each searched value requires all its trigrams to be present. Parts of a query which cannot be expressed
+ * this way, e.g., regular expressions or negations, match all entries.
+ */
+class MetadataQueryBuilder {
+
+    static final String ALL_FIELDS = "all";
+    static final String FIELD_PREFIX = "field.";
+    static final int GRAM_SIZE = 3;
+
+    // Keeps the number of clauses below the limit of Lucene, comparing the remaining grams is left to the search rule
+    private static final int MAX_GRAMS_PER_VALUE = 32;
+
+    private MetadataQueryBuilder() {
+    }
+
+    /**
+     * @return the query of the index, or {@code empty} if the search query cannot be answered by the index
+     */
+    static Optional<Query> build(SearchQuery searchQuery) {
+        Set<SearchFlags> searchFlags = searchQuery.getSearchFlags();
+        if (searchFlags.contains(SearchFlags.FULLTEXT)) {
+            // Entries may match by their linked files only
+            return Optional.empty();
+        }
+
+        if (searchQuery.getRule() instanceof ContainsBasedSearchRule) {
+            return Optional.of(containsWords(searchQuery.getQuery()));
+        }
+        if ((searchQuery.getRule() instanceof GrammarBasedSearchRule grammarRule) && (grammarRule.getTree() != null)) {
+            return Optional.of(new QueryVisitor(searchFlags.contains(SearchFlags.REGULAR_EXPRESSION)).visit(grammarRule.getTree()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Normalizes a text for the index. Each code point is mapped on its own, so that a substring of a text is still
+     * a substring after normalization.
+     */
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        StringUtil.stripAccents(text).codePoints()
+                  .map(Character::toLowerCase)
+                  .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    private static Query containsWords(String query) {
+        List<Query> wordQueries = new SentenceAnalyzer(query).getWords().stream()
+                                                             .map(word -> containsValue(ALL_FIELDS, word))
+                                                             .toList();
+        return and(wordQueries);
+    }
+
+    private static Query containsValue(String field, String value) {
+        String normalized = normalize(value);
+        int[] codePoints = normalized.codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; (i + GRAM_SIZE <= codePoints.length) && (grams.size() < MAX_GRAMS_PER_VALUE); i++) {
+            grams.add(new String(codePoints, i, GRAM_SIZE));
+        }
+        return and(grams.stream().<Query>map(gram -> new TermQuery(new Term(field, gram))).toList());
+    }
+
+    private static Query and(List<Query> queries) {
+        List<Query> restrictingQueries = queries.stream().filter(query -> !(query instanceof MatchAllDocsQuery)).toList();
+        if (restrictingQueries.isEmpty()) {
+            return new MatchAllDocsQuery();
+        }
+        if (restrictingQueries.size() == 1) {
+            return restrictingQueries.get(0);
+        }
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        restrictingQueries.forEach(query -> builder.add(query, BooleanClause.Occur.FILTER));
+        return builder.build();
+    }
+
+    private static Query or(Query left, Query right) {
+        if ((left instanceof MatchAllDocsQuery) || (right instanceof MatchAllDocsQuery)) {
+            return new MatchAllDocsQuery();
+        }
+        return new BooleanQuery.Builder()
+                .add(left, BooleanClause.Occur.SHOULD)
+                .add(right, BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    /**
+     * Follows the evaluation of {@link GrammarBasedSearchRule}
+     */
+    private static class QueryVisitor extends SearchBaseVisitor<Query> {
+
+        private final boolean regularExpression;
+
+        QueryVisitor(boolean regularExpression) {
+            this.regularExpression = regularExpression;
+        }
+
+        @Override
+        public Query visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Query visitComparison(SearchParser.ComparisonContext context) {
+            if (regularExpression) {
+                return new MatchAllDocsQuery();
+            }
+
+            String right = context.right.getText();
+            if (right.startsWith("\"") && right.endsWith("\"")) {
+                right = right.substring(1, right.length() - 1);
+            }
+
+            if (context.left == null) {
+                return containsWords(right);
+            }
+
+            ComparisonOperator operator = ComparisonOperator.build(context.operator.getText());
+            if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
+                return new MatchAllDocsQuery();
+            }
+
+            String field = StringUtil.stripAccents(context.left.getText()).toLowerCase(Locale.ROOT);
+            if ("anyfield".equals(field)) {
+                return containsValue(ALL_FIELDS, right);
+            } else if ("anykeyword".equals(field) || InternalField.TYPE_HEADER.getName().equals(field)) {
+                // Compared with the parsed keywords and the type, which are not indexed
+                return new MatchAllDocsQuery();
+            }
+            return containsValue(FIELD_PREFIX + field, right);
+        }
+
+        @Override
+        public Query visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            // The complement of a superset is not a superset
+            return new MatchAllDocsQuery();
+        }
+
+        @Override
+        public Query visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public Query visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            Query left = visit(ctx.left);
+            Query right = visit(ctx.right);
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                List<Query> queries = new ArrayList<>();
+                queries.add(left);
+                queries.add(right);
+                return and(queries);
+            }
+            return or(left, right);
+        }
+    }
+}
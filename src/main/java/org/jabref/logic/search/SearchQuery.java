@@ -81,6 +81,25 @@ public class SearchQuery implements SearchMatcher {
         return rule.validateSearchStrings(getQuery());
     }
 
+    /**
+     * Tells whether every entry matching this query also matches the given query, e.g., because this query extends a
+     * simple query by further characters. Then, the matches of this query can be found among the matches of the given
+     * query.
+     */
+    public boolean isRefinementOf(SearchQuery other) {
+        if (!searchFlags.equals(other.searchFlags) || searchFlags.contains(SearchRules.SearchFlags.FULLTEXT)) {
+            // The fulltext results of an entry may change without the entry changing
+            return false;
+        }
+        if (query.equals(other.query)) {
+            return true;
+        }
+        // Each word of the other query is part of a word of this query
+        return !searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION)
+                && query.startsWith(other.query)
+                && SearchRules.isSimpleQuery(query);
+    }
+
     public boolean isContainsBasedSearch() {
         return rule instanceof ContainsBasedSearchRule;
     }
@@ -12,31 +12,80 @@ import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesExceptio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A small pool of connections to a shared database. Writes, reads and the notifications about changes of other clients
+ * use separate connections, so that a long running pull does not delay local changes and the notification listener
+ * does not compete with either of them.
+ * <p>
+ * The pool has a fixed size of at most three connections and is not grown under load. A connection executes one
+ * statement at a time: concurrent reads wait for each other, as do concurrent writes (see
+ * {@link PreparedStatementCache}). This fits a client, which pulls and pushes the changes of one library, but is no
+ * pool for serving many concurrent requests.
+ * <p>
+ * If the server refuses the connection for reading, reads and writes share the connection for writing, and thus wait
+ * for each other. This is logged once when connecting and can be checked by {@link #isReadConnectionShared()}.
+ */
 public class DBMSConnection implements DatabaseConnection {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSConnection.class);
 
+    @FunctionalInterface
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
     private final Connection connection;
+    private final Connection readConnection;
+    private Connection notificationConnection;
+    private boolean closed;
     private final DBMSConnectionProperties properties;
+    private final ConnectionFactory connectionFactory;
+    private final DBMSConnectionStatistics statistics = new DBMSConnectionStatistics();
 
     public DBMSConnection(DBMSConnectionProperties connectionProperties) throws SQLException, InvalidDBMSConnectionPropertiesException {
+        this(connectionProperties, () -> DriverManager.getConnection(connectionProperties.getUrl(), connectionProperties.asProperties()));
+    }
+
+    DBMSConnection(DBMSConnectionProperties connectionProperties, ConnectionFactory connectionFactory) throws SQLException, InvalidDBMSConnectionPropertiesException {
         if (!connectionProperties.isValid()) {
             throw new InvalidDBMSConnectionPropertiesException();
         }
         this.properties = connectionProperties;
+        this.connectionFactory = connectionFactory;
 
         try {
             DriverManager.setLoginTimeout(3);
             // ensure that all SQL drivers are loaded - source: http://stackoverflow.com/a/22384826/873282
             // we use the side effect of getAvailableDBMSTypes() - it loads all available drivers
             DBMSConnection.getAvailableDBMSTypes();
-            this.connection = DriverManager.getConnection(connectionProperties.getUrl(), connectionProperties.asProperties());
+            this.connection = connectionFactory.open();
         } catch (SQLException e) {
             // Some systems like PostgreSQL retrieves 0 to every exception.
             // Therefore a stable error determination is not possible.
             LOGGER.error("Could not connect to database: " + e.getMessage() + " - Error code: " + e.getErrorCode());
             throw e;
         }
+        this.readConnection = openReadConnection();
+    }
+
+    /**
+     * Opens the connection for reading. If the server refuses another connection (e.g., because its connection limit is
+     * reached), reads share the connection for writing.
+     */
+    private Connection openReadConnection() {
+        try {
+            return connectionFactory.open();
+        } catch (SQLException e) {
+            LOGGER.warn("Could not open a separate connection for reading. Reads use the connection for writing, thus pulling changes and writing local changes wait for each other.", e);
+            return connection;
+        }
+    }
+
+    /**
+     * Returns whether reads use the connection for writing, because a separate connection for reading could not be opened
+     */
+    public boolean isReadConnectionShared() {
+        return readConnection == connection;
     }
 
     @Override
@@ -44,6 +93,43 @@ public class DBMSConnection implements DatabaseConnection {
         return this.connection;
     }
 
+    @Override
+    public Connection getReadConnection() {
+        return this.readConnection;
+    }
+
+    /**
+     * Returns the connection for notifications. It is opened on first use, and opened again if it was closed by
+     * stopping a notification listener.
+     */
+    @Override
+    public synchronized Connection getNotificationConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("The connections to the shared database are closed");
+        }
+        if ((notificationConnection == null) || notificationConnection.isClosed()) {
+            notificationConnection = connectionFactory.open();
+        }
+        return notificationConnection;
+    }
+
+    @Override
+    public DBMSConnectionStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public synchronized void close() throws SQLException {
+        closed = true;
+        if (notificationConnection != null) {
+            notificationConnection.close();
+        }
+        if (!isReadConnectionShared()) {
+            readConnection.close();
+        }
+        connection.close();
+    }
+
     @Override
     public DBMSConnectionProperties getProperties() {
         return this.properties;
@@ -148,6 +148,10 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
         if (allowPublicKeyRetrieval) {
             props.setProperty("allowPublicKeyRetrieval", Boolean.toString(allowPublicKeyRetrieval));
         }
+        if (type == DBMSType.POSTGRESQL) {
+            // Sends batches of inserts as multi-row statements
+            props.setProperty("reWriteBatchedInserts", Boolean.TRUE.toString());
+        }
         return props;
     }
 
@@ -0,0 +1,81 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the health and the latencies of the connections to a shared database. The values are recorded by the
+ * threads accessing the database and may be read from any thread.
+ */
+public class DBMSConnectionStatistics {
+
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong readNanos = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final AtomicLong failedHealthChecks = new AtomicLong();
+    private volatile boolean healthy = true;
+    private volatile long lastHealthCheckNanos = -1;
+
+    public void recordRead(long nanos) {
+        reads.incrementAndGet();
+        readNanos.addAndGet(nanos);
+    }
+
+    public void recordWrite(long nanos) {
+        writes.incrementAndGet();
+        writeNanos.addAndGet(nanos);
+    }
+
+    /**
+     * @param valid whether the connection was found valid
+     * @param nanos the time the check took
+     */
+    public void recordHealthCheck(boolean valid, long nanos) {
+        healthy = valid;
+        lastHealthCheckNanos = nanos;
+        if (!valid) {
+            failedHealthChecks.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns whether the connection was valid when it was checked the last time
+     */
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getFailedHealthChecks() {
+        return failedHealthChecks.get();
+    }
+
+    /**
+     * Returns the time of the last health check, which is about one round trip to the database server
+     */
+    public Optional<Duration> getLastHealthCheckLatency() {
+        long nanos = lastHealthCheckNanos;
+        return nanos < 0 ? Optional.empty() : Optional.of(Duration.ofNanos(nanos));
+    }
+
+    public long getReads() {
+        return reads.get();
+    }
+
+    public long getWrites() {
+        return writes.get();
+    }
+
+    public Optional<Duration> getAverageReadLatency() {
+        return average(readNanos.get(), reads.get());
+    }
+
+    public Optional<Duration> getAverageWriteLatency() {
+        return average(writeNanos.get(), writes.get());
+    }
+
+    private static Optional<Duration> average(long nanos, long count) {
+        return count == 0 ? Optional.empty() : Optional.of(Duration.ofNanos(nanos / count));
+    }
+}
@@ -36,17 +36,40 @@ import org.slf4j.LoggerFactory;
  */
 public abstract class DBMSProcessor {
 
-    public static final String PROCESSOR_ID = UUID.randomUUID().toString();
-
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    // Identifies the changes of this client, so that a client does not pull its own changes. Each library is a client
+    // of its own, thus libraries connected to the same shared database within one JabRef instance see their changes.
+    private final String processorId = UUID.randomUUID().toString();
+
+    /**
+     * The number of rows written by one statement or one JDBC batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    protected final DatabaseConnection dbmsConnection;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    protected int batchSize = DEFAULT_BATCH_SIZE;
+
+    // The frequent statements are kept prepared per connection
+    private final PreparedStatementCache writeStatements;
+    private final PreparedStatementCache readStatements;
+
+    private final DBMSConnectionStatistics statistics;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
+        this.dbmsConnection = dbmsConnection;
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
+        this.statistics = dbmsConnection.getStatistics();
+        this.writeStatements = new PreparedStatementCache(connection);
+        Connection readConnection = dbmsConnection.getReadConnection();
+        // Reads sharing the connection for writing have to share its statements and lock as well
+        this.readStatements = readConnection == connection ? writeStatements : new PreparedStatementCache(readConnection);
     }
 
     /**
@@ -149,6 +172,17 @@ public abstract class DBMSProcessor {
 
     abstract Integer getCURRENT_VERSION_DB_STRUCT();
 
+    /**
+     * Sets the number of rows written by one statement or one JDBC batch. Larger batches need fewer round trips, but
+     * statements with many rows may exceed the limits of the database system.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
     /**
      * For use in test only. Inserts the BibEntry into the shared database.
      *
@@ -159,7 +193,8 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Inserts the List of BibEntry into the shared database.
+     * Inserts the List of BibEntry into the shared database. Either all entries are inserted or, if an error occurs,
+     * none of them, and the entries keep no shared id.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
@@ -168,16 +203,39 @@ public abstract class DBMSProcessor {
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        long start = System.nanoTime();
+        synchronized (writeStatements) {
+            try {
+                // All entries are inserted in a single transaction
+                connection.setAutoCommit(false);
+                try {
+                    for (List<BibEntry> partition : Lists.partition(notYetExistingEntries, batchSize)) {
+                        insertIntoEntryTable(partition);
+                    }
+                    insertIntoFieldTable(notYetExistingEntries);
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    // The ids generated within the transaction do not exist anymore
+                    notYetExistingEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+            }
+        }
+        statistics.recordWrite(System.nanoTime() - start);
     }
 
     /**
      * Inserts the given List of BibEntry into the ENTRY table.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
+     * @throws SQLException in case of error, so that the transaction of the insertion is rolled back
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -205,8 +263,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -248,50 +304,36 @@ public abstract class DBMSProcessor {
      * Inserts the given list of BibEntry into FIELD table.
      *
      * @param bibEntries {@link BibEntry} to be inserted
+     * @throws SQLException in case of error, so that the transaction of the insertion is rolled back
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
-
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        String insertFieldQuery = "INSERT INTO " +
+                escape_Table("FIELD") +
+                "(" +
+                escape("ENTRY_SHARED_ID") +
+                ", " +
+                escape("NAME") +
+                ", " +
+                escape("VALUE") +
+                ") VALUES(?, ?, ?)";
+
+        PreparedStatement preparedFieldStatement = writeStatements.prepare(insertFieldQuery);
+        int batchedFields = 0;
+        for (BibEntry bibEntry : bibEntries) {
+            for (Field field : bibEntry.getFields()) {
+                // columnIndex starts with 1
+                preparedFieldStatement.setInt(1, bibEntry.getSharedBibEntryData().getSharedID());
+                preparedFieldStatement.setString(2, field.getName());
+                preparedFieldStatement.setString(3, bibEntry.getField(field).get());
+                preparedFieldStatement.addBatch();
+                batchedFields++;
+                if ((batchedFields % batchSize) == 0) {
+                    preparedFieldStatement.executeBatch();
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+        }
+        if ((batchedFields % batchSize) != 0) {
+            preparedFieldStatement.executeBatch();
         }
     }
 
@@ -302,10 +344,20 @@ public abstract class DBMSProcessor {
      * @throws SQLException in case of error
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
+        long start = System.nanoTime();
+        synchronized (writeStatements) {
+            updateEntryInTransaction(localBibEntry);
+        }
+        statistics.recordWrite(System.nanoTime() - start);
+    }
+
+    private void updateEntryInTransaction(BibEntry localBibEntry) throws OfflineLockException, SQLException {
         connection.setAutoCommit(false); // disable auto commit due to transaction
 
         try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
+            // The shared entry is read within the transaction
+            List<BibEntry> sharedEntries = getSharedEntries(writeStatements, Collections.singletonList(localBibEntry.getSharedBibEntryData().getSharedID()));
+            Optional<BibEntry> sharedEntryOptional = sharedEntries.stream().findFirst();
 
             if (sharedEntryOptional.isEmpty()) {
                 return;
@@ -313,13 +365,12 @@ public abstract class DBMSProcessor {
 
             BibEntry sharedBibEntry = sharedEntryOptional.get();
 
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
+                // remove shared fields which do not exist locally
+                removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+                insertOrUpdateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 String updateEntryTypeQuery = "UPDATE " +
@@ -334,11 +385,10 @@ public abstract class DBMSProcessor {
                         escape("SHARED_ID") +
                         " = ?";
 
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
+                PreparedStatement preparedUpdateEntryTypeStatement = writeStatements.prepare(updateEntryTypeQuery);
+                preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+                preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateEntryTypeStatement.executeUpdate();
 
                 connection.commit(); // apply all changes in current transaction
             } else {
@@ -358,90 +408,84 @@ public abstract class DBMSProcessor {
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
+        if (nullFields.isEmpty()) {
+            return;
+        }
 
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
-            }
+        String deleteFieldQuery = "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("NAME") +
+                " = ? AND " +
+                escape("ENTRY_SHARED_ID") +
+                " = ?";
+
+        PreparedStatement preparedDeleteFieldStatement = writeStatements.prepare(deleteFieldQuery);
+        for (Field nullField : nullFields) {
+            preparedDeleteFieldStatement.setString(1, nullField.getName());
+            preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+            preparedDeleteFieldStatement.addBatch();
         }
+        preparedDeleteFieldStatement.executeBatch();
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Inserts a key-value pair into FIELD table for every field not existing in the shared entry.
+     * Fields whose value changed are updated, unchanged fields are not written at all.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        List<Field> newFields = new ArrayList<>();
+        List<Field> changedFields = new ArrayList<>();
         for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+            Optional<String> sharedValue = sharedBibEntry.getField(field);
+            if (sharedValue.isEmpty()) {
+                newFields.add(field);
+            } else if (!sharedValue.equals(localBibEntry.getField(field))) {
+                changedFields.add(field);
             }
+        }
 
-            String selectFieldQuery = "SELECT * FROM " +
+        if (!changedFields.isEmpty()) {
+            String updateFieldQuery = "UPDATE " +
                     escape_Table("FIELD") +
-                    " WHERE " +
+                    " SET " +
+                    escape("VALUE") +
+                    " = ? WHERE " +
                     escape("NAME") +
                     " = ? AND " +
                     escape("ENTRY_SHARED_ID") +
                     " = ?";
 
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
+            PreparedStatement preparedUpdateFieldStatement = writeStatements.prepare(updateFieldQuery);
+            for (Field field : changedFields) {
+                // null values are accepted by PreparedStatement
+                preparedUpdateFieldStatement.setString(1, localBibEntry.getField(field).orElse(null));
+                preparedUpdateFieldStatement.setString(2, field.getName());
+                preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedUpdateFieldStatement.addBatch();
             }
+            preparedUpdateFieldStatement.executeBatch();
+        }
+
+        if (!newFields.isEmpty()) {
+            String insertFieldQuery = "INSERT INTO " +
+                    escape_Table("FIELD") +
+                    "(" +
+                    escape("ENTRY_SHARED_ID") +
+                    ", " +
+                    escape("NAME") +
+                    ", " +
+                    escape("VALUE") +
+                    ") VALUES(?, ?, ?)";
+
+            PreparedStatement preparedFieldStatement = writeStatements.prepare(insertFieldQuery);
+            for (Field field : newFields) {
+                preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedFieldStatement.setString(2, field.getName());
+                preparedFieldStatement.setString(3, localBibEntry.getField(field).orElse(null));
+                preparedFieldStatement.addBatch();
+            }
+            preparedFieldStatement.executeBatch();
         }
     }
 
@@ -452,6 +496,10 @@ public abstract class DBMSProcessor {
      */
     public void removeEntries(List<BibEntry> bibEntries) {
         Objects.requireNonNull(bibEntries);
+        if (bibEntries.size() > batchSize) {
+            Lists.partition(bibEntries, batchSize).forEach(this::removeEntries);
+            return;
+        }
         if (bibEntries.isEmpty()) {
             return;
         }
@@ -464,14 +512,19 @@ public abstract class DBMSProcessor {
         query.append("?, ".repeat(bibEntries.size() - 1));
         query.append("?)");
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int j = 0; j < bibEntries.size(); j++) {
-                preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+        long start = System.nanoTime();
+        synchronized (writeStatements) {
+            try {
+                PreparedStatement preparedStatement = writeStatements.prepare(query.toString());
+                for (int j = 0; j < bibEntries.size(); j++) {
+                    preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+                }
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
             }
-            preparedStatement.executeUpdate();
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
+        statistics.recordWrite(System.nanoTime() - start);
     }
 
     /**
@@ -511,8 +564,16 @@ public abstract class DBMSProcessor {
     public List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
         Objects.requireNonNull(sharedIDs);
 
-        List<BibEntry> sharedEntries = new ArrayList<>();
+        long start = System.nanoTime();
+        List<BibEntry> sharedEntries = getSharedEntries(readStatements, sharedIDs);
+        statistics.recordRead(System.nanoTime() - start);
+        return sharedEntries;
+    }
 
+    /**
+     * Queries the database for shared entries using the connection of the given statements
+     */
+    private List<BibEntry> getSharedEntries(PreparedStatementCache statements, List<Integer> sharedIDs) {
         StringBuilder query = new StringBuilder();
         query.append("SELECT ")
              .append(escape_Table("ENTRY")).append(".").append(escape("SHARED_ID")).append(", ")
@@ -539,7 +600,15 @@ public abstract class DBMSProcessor {
         query.append(" order by ")
              .append(escape("SHARED_ID"));
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+        synchronized (statements) {
+            return readSharedEntries(statements, query.toString(), sharedIDs);
+        }
+    }
+
+    private List<BibEntry> readSharedEntries(PreparedStatementCache statements, String query, List<Integer> sharedIDs) {
+        List<BibEntry> sharedEntries = new ArrayList<>();
+        try {
+            PreparedStatement preparedStatement = statements.prepare(query);
             for (int i = 0; i < sharedIDs.size(); i++) {
                 preparedStatement.setInt(i + 1, sharedIDs.get(i));
             }
@@ -584,18 +653,26 @@ public abstract class DBMSProcessor {
      */
     public Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
+        String selectEntryQuery = "SELECT " +
+                escape("SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                " FROM " +
                 escape_Table("ENTRY") +
                 " ORDER BY " +
                 escape("SHARED_ID");
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
-            while (selectEntryResultSet.next()) {
-                sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+        long start = System.nanoTime();
+        synchronized (readStatements) {
+            try (ResultSet selectEntryResultSet = readStatements.prepare(selectEntryQuery).executeQuery()) {
+                while (selectEntryResultSet.next()) {
+                    sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error", e);
         }
+        statistics.recordRead(System.nanoTime() - start);
 
         return sharedIDVersionMapping;
     }
@@ -606,13 +683,17 @@ public abstract class DBMSProcessor {
     public Map<String, String> getSharedMetaData() {
         Map<String, String> data = new HashMap<>();
 
-        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT * FROM " + escape_Table("METADATA"))) {
-            while (resultSet.next()) {
-                data.put(resultSet.getString("KEY"), resultSet.getString("VALUE"));
+        long start = System.nanoTime();
+        synchronized (readStatements) {
+            try (ResultSet resultSet = readStatements.prepare("SELECT * FROM " + escape_Table("METADATA")).executeQuery()) {
+                while (resultSet.next()) {
+                    data.put(resultSet.getString("KEY"), resultSet.getString("VALUE"));
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error", e);
         }
+        statistics.recordRead(System.nanoTime() - start);
 
         return data;
     }
@@ -704,4 +785,8 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    public String getProcessorId() {
+        return processorId;
+    }
 }
@@ -38,7 +38,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Synchronizes the shared or local databases with their opposite side. Local changes are pushed by {@link EntriesEvent}
- * using Google's Guava EventBus.
+ * using Google's Guava EventBus. Other clients are notified after each change written to the shared database.
  */
 public class DBMSSynchronizer implements DatabaseSynchronizer {
 
@@ -50,6 +50,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private MetaData metaData;
     private final BibDatabase bibDatabase;
     private final EventBus eventBus;
+    private DatabaseConnection dbmsConnection;
     private Connection currentConnection;
     private final Character keywordSeparator;
     private final GlobalCitationKeyPattern globalCiteKeyPattern;
@@ -80,6 +81,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients();
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -115,6 +117,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients();
             synchronizeLocalDatabase();
         }
     }
@@ -245,6 +248,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients();
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -352,7 +356,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      */
     public boolean checkCurrentConnection() {
         try {
+            long start = System.nanoTime();
             boolean isValid = currentConnection.isValid(0);
+            dbmsConnection.getStatistics().recordHealthCheck(isValid, System.nanoTime() - start);
             if (!isValid) {
                 LOGGER.warn("Lost SQL connection.");
                 eventBus.post(new ConnectionLostEvent(bibDatabaseContext));
@@ -360,6 +366,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return isValid;
         } catch (SQLException e) {
             LOGGER.error("SQL Error during connection check", e);
+            dbmsConnection.getStatistics().recordHealthCheck(false, 0);
             return false;
         }
     }
@@ -379,6 +386,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     @Override
     public void openSharedDatabase(DatabaseConnection connection) throws DatabaseNotSupportedException {
         this.dbName = connection.getProperties().getDatabase();
+        this.dbmsConnection = connection;
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
         initializeDatabases();
@@ -390,7 +398,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         pullLastEntryChanges();
         try {
             dbmsProcessor.stopNotificationListener();
-            currentConnection.close();
+            dbmsConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error:", e);
         }
@@ -405,6 +413,11 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         return dbName;
     }
 
+    @Override
+    public DBMSConnectionStatistics getConnectionStatistics() {
+        return dbmsConnection.getStatistics();
+    }
+
     public DBMSProcessor getDBProcessor() {
         return dbmsProcessor;
     }
@@ -1,10 +1,31 @@
 package org.jabref.logic.shared;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 
 public interface DatabaseConnection {
 
     DatabaseConnectionProperties getProperties();
 
+    /**
+     * Returns the connection used for writing, including the reads which are part of a write transaction
+     */
     Connection getConnection();
+
+    /**
+     * Returns the connection used for reading outside of transactions, so that reads do not wait for writes
+     */
+    Connection getReadConnection();
+
+    /**
+     * Returns the connection dedicated to receiving notifications about changes of other clients
+     */
+    Connection getNotificationConnection() throws SQLException;
+
+    DBMSConnectionStatistics getStatistics();
+
+    /**
+     * Closes all connections
+     */
+    void close() throws SQLException;
 }
@@ -19,4 +19,6 @@ public interface DatabaseSynchronizer {
     void synchronizeLocalDatabase();
 
     DatabaseConnectionProperties getConnectionProperties();
+
+    DBMSConnectionStatistics getConnectionStatistics();
 }
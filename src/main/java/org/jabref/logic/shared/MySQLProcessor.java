@@ -1,8 +1,16 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
+import org.jabref.gui.JabRefExecutorService;
+import org.jabref.logic.shared.listener.MySQLChangeFeedListener;
 import org.jabref.model.metadata.MetaData;
 
 /**
@@ -10,6 +18,12 @@ import org.jabref.model.metadata.MetaData;
  */
 public class MySQLProcessor extends DBMSProcessor {
 
+    // Only the latest changes are kept, as each change makes the other clients pull the whole library anyway
+    private static final int CHANGELOG_SIZE = 1000;
+
+    private MySQLChangeFeedListener listener;
+    private PreparedStatementCache changelogStatements;
+
     private Integer VERSION_DB_STRUCT_DEFAULT = -1;
     private Integer CURRENT_VERSION_DB_STRUCT = 1;
 
@@ -42,6 +56,8 @@ public class MySQLProcessor extends DBMSProcessor {
                         "`KEY` varchar(255) NOT NULL," +
                         "`VALUE` text NOT NULL)");
 
+        createChangelogTable();
+
         Map<String, String> metadata = getSharedMetaData();
 
         if (metadata.get(MetaData.VERSION_DB_STRUCT) != null) {
@@ -69,6 +85,107 @@ public class MySQLProcessor extends DBMSProcessor {
         }
     }
 
+    /**
+     * Creates the table listing the changes of the library, which MySQL clients poll to learn about changes of other
+     * clients. Libraries set up before the table was introduced get it when they are opened.
+     */
+    private void createChangelogTable() throws SQLException {
+        connection.createStatement().executeUpdate(
+                "CREATE TABLE IF NOT EXISTS `JABREF_CHANGELOG` (" +
+                        "`ID` BIGINT NOT NULL PRIMARY KEY AUTO_INCREMENT, " +
+                        "`PROCESSOR_ID` VARCHAR(36) NOT NULL)");
+    }
+
+    /**
+     * Returns the id of the latest change of the library, or 0 if there is none.
+     */
+    public long getLatestChangeId() throws SQLException {
+        try (ResultSet resultSet = connection.createStatement().executeQuery("SELECT MAX(`ID`) FROM `JABREF_CHANGELOG`")) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Returns the changes after the given change in their order, as mapping of the change id to the id of the
+     * processor which made the change.
+     *
+     * @param limit the maximum number of changes to return
+     */
+    public Map<Long, String> getChangesAfter(long changeId, int limit) throws SQLException {
+        Map<Long, String> changes = new LinkedHashMap<>();
+        PreparedStatementCache statements = getChangelogStatements();
+        synchronized (statements) {
+            PreparedStatement statement = statements.prepare(
+                    "SELECT `ID`, `PROCESSOR_ID` FROM `JABREF_CHANGELOG` WHERE `ID` > ? ORDER BY `ID` LIMIT ?");
+            statement.setLong(1, changeId);
+            statement.setInt(2, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    changes.put(resultSet.getLong("ID"), resultSet.getString("PROCESSOR_ID"));
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * The changelog is polled on the connection for notifications, with the statement kept prepared
+     */
+    private synchronized PreparedStatementCache getChangelogStatements() throws SQLException {
+        Connection notificationConnection = dbmsConnection.getNotificationConnection();
+        if ((changelogStatements == null) || (changelogStatements.getConnection() != notificationConnection)) {
+            changelogStatements = new PreparedStatementCache(notificationConnection);
+        }
+        return changelogStatements;
+    }
+
+    @Override
+    public void startNotificationListener(DBMSSynchronizer dbmsSynchronizer) {
+        try {
+            createChangelogTable();
+            // The latest changes are known to the client, the older ones are not read again
+            long latestChangeId = getLatestChangeId();
+            Set<Long> knownChangeIds = getChangesAfter(latestChangeId - MySQLChangeFeedListener.RECHECK_WINDOW, MySQLChangeFeedListener.RECHECK_WINDOW).keySet();
+            listener = new MySQLChangeFeedListener(dbmsSynchronizer, this, knownChangeIds);
+            JabRefExecutorService.INSTANCE.execute(listener);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during starting the notification listener", e);
+        }
+    }
+
+    @Override
+    public void stopNotificationListener() {
+        if (listener != null) {
+            listener.stop();
+        }
+    }
+
+    @Override
+    public void notifyClients() {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO `JABREF_CHANGELOG` (`PROCESSOR_ID`) VALUES (?)", Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, getProcessorId());
+            statement.executeUpdate();
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    deleteChangesUpTo(generatedKeys.getLong(1) - CHANGELOG_SIZE);
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during client notification", e);
+        }
+    }
+
+    private void deleteChangesUpTo(long changeId) throws SQLException {
+        if (changeId <= 0) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("DELETE FROM `JABREF_CHANGELOG` WHERE `ID` <= ?")) {
+            statement.setLong(1, changeId);
+            statement.executeUpdate();
+        }
+    }
+
     @Override
     String escape(String expression) {
         return "`" + expression + "`";
@@ -1,5 +1,6 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -20,6 +21,7 @@ import org.postgresql.PGConnection;
 public class PostgreSQLProcessor extends DBMSProcessor {
 
     private PostgresSQLNotificationListener listener;
+    private Connection notificationConnection;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
     private final int CURRENT_VERSION_DB_STRUCT = 1;
@@ -91,7 +93,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape_Table("ENTRY"))
@@ -118,8 +120,6 @@ public class PostgreSQLProcessor extends DBMSProcessor {
                     LOGGER.error("Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error during entry insertion", e);
         }
     }
 
@@ -143,11 +143,15 @@ public class PostgreSQLProcessor extends DBMSProcessor {
         // Disable cleanup output of ThreadedHousekeeper
         // Logger.getLogger(ThreadedHousekeeper.class.getName()).setLevel(Level.SEVERE);
         try {
-            connection.createStatement().execute("LISTEN jabrefLiveUpdate");
+            // The listener waits for notifications on its own connection, which therefore receives them immediately
+            notificationConnection = dbmsConnection.getNotificationConnection();
+            try (Statement statement = notificationConnection.createStatement()) {
+                statement.execute("LISTEN jabrefLiveUpdate");
+            }
             // Do not use `new PostgresSQLNotificationListener(...)` as the object has to exist continuously!
             // Otherwise, the listener is going to be deleted by Java's garbage collector.
-            PGConnection pgConnection = connection.unwrap(PGConnection.class);
-            listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection);
+            PGConnection pgConnection = notificationConnection.unwrap(PGConnection.class);
+            listener = new PostgresSQLNotificationListener(dbmsSynchronizer, pgConnection, getProcessorId());
             JabRefExecutorService.INSTANCE.execute(listener);
         } catch (SQLException e) {
             LOGGER.error("SQL Error during starting the notification listener", e);
@@ -156,9 +160,12 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void stopNotificationListener() {
+        if (listener == null) {
+            return;
+        }
         try {
             listener.stop();
-            connection.close();
+            notificationConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during stopping the notification listener", e);
         }
@@ -167,7 +174,7 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     @Override
     public void notifyClients() {
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + getProcessorId() + "';");
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
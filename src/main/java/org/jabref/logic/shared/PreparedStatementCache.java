@@ -0,0 +1,71 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the prepared statements of a connection, so that the frequent queries are parsed and planned by the database
+ * system only once. The least recently used statements are closed when the cache is full, as queries with a variable
+ * number of parameters lead to many rarely used statements.
+ * <p>
+ * The statements are owned by the cache and must not be closed by the caller. A statement can only be used by one
+ * thread at a time, thus callers hold the lock of the cache while they use a statement and its results. As a JDBC
+ * connection executes one statement at a time anyway, this serializes the users of the connection without further cost:
+ * a long read delays the other reads on the same connection, but not the writes on another connection.
+ */
+class PreparedStatementCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+    static final int CAPACITY = 32;
+
+    private final Connection connection;
+    private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(CAPACITY, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= CAPACITY) {
+                return false;
+            }
+            closeQuietly(eldest.getValue());
+            return true;
+        }
+    };
+
+    PreparedStatementCache(Connection connection) {
+        this.connection = connection;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Returns the prepared statement for the given query, with its parameters and batch cleared.
+     */
+    synchronized PreparedStatement prepare(String query) throws SQLException {
+        PreparedStatement statement = statements.get(query);
+        if ((statement == null) || statement.isClosed()) {
+            statement = connection.prepareStatement(query);
+            statements.put(query, statement);
+        } else {
+            statement.clearParameters();
+            // A batch is left over if a previous execution failed
+            statement.clearBatch();
+        }
+        return statement;
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close cached statement", e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.jabref.logic.shared.listener;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.MySQLProcessor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A listener for changes of a MySQL database. MySQL cannot notify clients, thus each client appends a row to a
+ * changelog table when it changes the library, and this listener polls the rows added since its last poll.
+ * <p>
+ * The rows are read in batches and all changes of other clients found by one poll lead to a single pull. The polling
+ * interval is short after a change, as further changes are likely to follow, and grows while nothing changes.
+ * <p>
+ * Auto-increment ids are assigned when a row is inserted, not when it is committed. Thus, a change may become visible
+ * after changes with higher ids. Each poll reads the changes again starting a few ids behind the highest id seen, and
+ * remembers the ids in that window, so that such a change is still found, and is pulled only once.
+ * <p>
+ * A failed poll is logged and retried after a growing delay, so that a temporary loss of the connection does not end
+ * the listening.
+ */
+public class MySQLChangeFeedListener implements Runnable {
+
+    static final long MIN_INTERVAL_MILLIS = 100;
+    // Changes are delivered within a second
+    static final long MAX_INTERVAL_MILLIS = 750;
+    static final long MAX_ERROR_INTERVAL_MILLIS = 30_000;
+    static final int BATCH_SIZE = 100;
+    // Number of ids behind the highest id seen which are read again, about the number of concurrently writing clients
+    public static final int RECHECK_WINDOW = 20;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MySQLChangeFeedListener.class);
+
+    private final DBMSSynchronizer dbmsSynchronizer;
+    private final MySQLProcessor processor;
+    private final NavigableSet<Long> knownChangeIds = new TreeSet<>();
+    private long highestChangeId;
+    private volatile boolean stop;
+
+    /**
+     * @param knownChangeIds the ids of the changes the client already knows about, at least those within
+     *                       {@link #RECHECK_WINDOW} ids behind the latest change
+     */
+    public MySQLChangeFeedListener(DBMSSynchronizer dbmsSynchronizer, MySQLProcessor processor, Collection<Long> knownChangeIds) {
+        this.dbmsSynchronizer = dbmsSynchronizer;
+        this.processor = processor;
+        this.knownChangeIds.addAll(knownChangeIds);
+        this.highestChangeId = this.knownChangeIds.isEmpty() ? 0 : this.knownChangeIds.last();
+        this.stop = false;
+    }
+
+    @Override
+    public void run() {
+        long interval = MIN_INTERVAL_MILLIS;
+        long errorInterval = MAX_INTERVAL_MILLIS;
+        while (!stop) {
+            try {
+                interval = poll() ? MIN_INTERVAL_MILLIS : getNextInterval(interval);
+                errorInterval = MAX_INTERVAL_MILLIS;
+            } catch (SQLException exception) {
+                // Closing the shared database closes the connection of the listener
+                if (stop) {
+                    return;
+                }
+                LOGGER.warn("Error while listening for updates to MySQL, retrying in {} ms", errorInterval, exception);
+                interval = errorInterval;
+                errorInterval = getNextErrorInterval(errorInterval);
+            }
+
+            // Wait a while before checking again for new changes
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads all changes since the last poll, including changes which became visible late, and pulls them if other
+     * clients made any of them.
+     *
+     * @return whether there were changes of other clients
+     */
+    boolean poll() throws SQLException {
+        boolean changedByOtherClients = false;
+        long changeId = Math.max(0, highestChangeId - RECHECK_WINDOW);
+        Map<Long, String> changes;
+        do {
+            changes = processor.getChangesAfter(changeId, BATCH_SIZE);
+            for (Map.Entry<Long, String> change : changes.entrySet()) {
+                changeId = change.getKey();
+                if (knownChangeIds.add(changeId)) {
+                    highestChangeId = Math.max(highestChangeId, changeId);
+                    changedByOtherClients |= !processor.getProcessorId().equals(change.getValue());
+                }
+            }
+        } while (changes.size() == BATCH_SIZE);
+        // Ids before the window are not read again
+        knownChangeIds.headSet(highestChangeId - RECHECK_WINDOW, true).clear();
+
+        if (changedByOtherClients) {
+            dbmsSynchronizer.pullChanges();
+        }
+        return changedByOtherClients;
+    }
+
+    static long getNextInterval(long interval) {
+        return Math.min(MAX_INTERVAL_MILLIS, interval * 2);
+    }
+
+    static long getNextErrorInterval(long interval) {
+        return Math.min(MAX_ERROR_INTERVAL_MILLIS, interval * 2);
+    }
+
+    public void stop() {
+        stop = true;
+    }
+}
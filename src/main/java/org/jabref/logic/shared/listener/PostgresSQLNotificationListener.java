@@ -2,7 +2,6 @@ package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
 
-import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
 
 import org.postgresql.PGConnection;
@@ -17,13 +16,21 @@ public class PostgresSQLNotificationListener implements Runnable {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgresSQLNotificationListener.class);
 
+    // Bounds the time until a stopped listener ends
+    private static final int WAIT_MILLIS = 500;
+
     private final DBMSSynchronizer dbmsSynchronizer;
     private final PGConnection pgConnection;
+    private final String processorId;
     private volatile boolean stop;
 
-    public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection) {
+    /**
+     * @param processorId the id of the processor of the client, whose own notifications are ignored
+     */
+    public PostgresSQLNotificationListener(DBMSSynchronizer dbmsSynchronizer, PGConnection pgConnection, String processorId) {
         this.dbmsSynchronizer = dbmsSynchronizer;
         this.pgConnection = pgConnection;
+        this.processorId = processorId;
     }
 
     @Override
@@ -32,21 +39,25 @@ public class PostgresSQLNotificationListener implements Runnable {
         try {
             // noinspection InfiniteLoopStatement
             while (!stop) {
-                PGNotification notifications[] = pgConnection.getNotifications();
+                // Waits for notifications on the connection, thus they are delivered as soon as they arrive
+                PGNotification notifications[] = pgConnection.getNotifications(WAIT_MILLIS);
 
                 if (notifications != null) {
+                    boolean changedByOtherClients = false;
                     for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        // The payload is the id of the notifying processor
+                        changedByOtherClients |= !notification.getParameter().equals(processorId);
+                    }
+                    if (changedByOtherClients) {
+                        dbmsSynchronizer.pullChanges();
                     }
                 }
-
-                // Wait a while before checking again for new notifications
-                Thread.sleep(500);
             }
-        } catch (SQLException | InterruptedException exception) {
-            LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+        } catch (SQLException exception) {
+            // Stopping the listener closes its connection
+            if (!stop) {
+                LOGGER.error("Error while listening for updates to PostgresSQL", exception);
+            }
         }
     }
 
@@ -1,10 +1,8 @@
 package org.jabref.logic.texparser;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.LineNumberReader;
-import java.io.Reader;
+import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
@@ -12,7 +10,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -50,9 +51,18 @@ public class DefaultLatexParser implements LatexParser {
             String.format("\\\\(?:include|input)\\{(?<%s>[^\\}]*)\\}", INCLUDE_GROUP));
 
     private final LatexParserResult latexParserResult;
+    private final LatexCitationIndex index;
 
     public DefaultLatexParser() {
+        this(new LatexCitationIndex());
+    }
+
+    /**
+     * @param index the index used to skip files which did not change since they were parsed last time
+     */
+    public DefaultLatexParser(LatexCitationIndex index) {
         this.latexParserResult = new LatexParserResult();
+        this.index = index;
     }
 
     public LatexParserResult getLatexParserResult() {
@@ -73,68 +83,123 @@ public class DefaultLatexParser implements LatexParser {
     @Override
     public LatexParserResult parse(List<Path> latexFiles) {
         latexParserResult.addFiles(latexFiles);
-        List<Path> referencedFiles = new ArrayList<>();
-
-        for (Path file : latexFiles) {
-            if (!file.toFile().exists()) {
-                LOGGER.error("File does not exist: {}", file);
-                continue;
+        Set<Path> knownFiles = new HashSet<>(latexFiles);
+
+        // Parse all files referenced by TEX files, level by level
+        List<Path> files = latexFiles;
+        while (!files.isEmpty()) {
+            List<Path> existingFiles = new ArrayList<>();
+            for (Path file : files) {
+                if (Files.exists(file)) {
+                    existingFiles.add(file);
+                } else {
+                    LOGGER.error("File does not exist: {}", file);
+                }
             }
 
-            try (
-                    InputStream inputStream = Files.newInputStream(file);
-                    Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8);
-                    LineNumberReader lineNumberReader = new LineNumberReader(reader)) {
-                for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
-                    // Skip comments and blank lines.
-                    if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
-                        continue;
-                    }
-                    matchCitation(file, lineNumberReader.getLineNumber(), line);
-                    matchBibFile(file, line);
-                    matchNestedFile(file, latexFiles, referencedFiles, line);
+            Map<Path, TexFileContent> contents = index.getContents(existingFiles, DefaultLatexParser::readFile);
+            List<Path> referencedFiles = new ArrayList<>();
+            for (Path file : existingFiles) {
+                TexFileContent content = contents.get(file);
+                for (TexFileContent.TexCitation citation : content.citations()) {
+                    latexParserResult.addKey(citation.key(), file, citation.line(), citation.colStart(), citation.colEnd(), citation.lineText());
                 }
-            } catch (ClosedChannelException e) {
-                // User changed the underlying LaTeX file
-                // We ignore this error and just continue with parsing
-                LOGGER.info("Parsing has been interrupted");
-            } catch (IOException | UncheckedIOException e) {
-                // Some weired error during reading
-                // We ignore this error and just continue with parsing
-                LOGGER.info("Error while parsing file {}", file, e);
+                addBibFiles(file, content.bibFiles());
+                addNestedFiles(file, content.includedFiles(), knownFiles, referencedFiles);
             }
-        }
 
-        // Parse all files referenced by TEX files, recursively.
-        if (!referencedFiles.isEmpty()) {
-            // modifies class variable latexParserResult
-            parse(referencedFiles);
+            if (!referencedFiles.isEmpty()) {
+                latexParserResult.addFiles(referencedFiles);
+            }
+            files = referencedFiles;
         }
 
         return latexParserResult;
     }
 
+    /**
+     * Reads the citations, bibliography files, and included files of a single file. Does not modify any state, thus
+     * files can be read in parallel.
+     */
+    private static TexFileContent readFile(Path file) {
+        byte[] content;
+        long lastModified;
+        try {
+            // Taken before reading, thus a change during reading is detected next time
+            lastModified = Files.getLastModifiedTime(file).toMillis();
+            content = Files.readAllBytes(file);
+        } catch (ClosedChannelException e) {
+            // User changed the underlying LaTeX file
+            // We ignore this error and just continue with parsing
+            LOGGER.info("Parsing has been interrupted");
+            return new TexFileContent(-1, -1, null, List.of(), List.of(), List.of());
+        } catch (IOException e) {
+            // Some weired error during reading
+            // We ignore this error and just continue with parsing
+            LOGGER.info("Error while parsing file {}", file, e);
+            return new TexFileContent(-1, -1, null, List.of(), List.of(), List.of());
+        }
+
+        List<TexFileContent.TexCitation> citations = new ArrayList<>();
+        List<String> bibFiles = new ArrayList<>();
+        List<String> includedFiles = new ArrayList<>();
+        LineNumberReader lineNumberReader = new LineNumberReader(new StringReader(new String(content, StandardCharsets.UTF_8)));
+        try {
+            for (String line = lineNumberReader.readLine(); line != null; line = lineNumberReader.readLine()) {
+                // Skip comments and blank lines.
+                if (line.trim().isEmpty() || line.trim().charAt(0) == '%') {
+                    continue;
+                }
+                matchCitation(lineNumberReader.getLineNumber(), line, citations);
+                matchGroups(BIBLIOGRAPHY_PATTERN, BIBLIOGRAPHY_GROUP, line, bibFiles);
+                matchGroups(INCLUDE_PATTERN, INCLUDE_GROUP, line, includedFiles);
+            }
+        } catch (IOException e) {
+            // Reading from a string does not fail
+            throw new UncheckedIOException(e);
+        }
+
+        return new TexFileContent(content.length, lastModified, TexFileContent.hash(content), List.copyOf(citations), List.copyOf(bibFiles), List.copyOf(includedFiles));
+    }
+
     /**
      * Find cites along a specific line and store them.
      */
     private void matchCitation(Path file, int lineNumber, String line) {
+        List<TexFileContent.TexCitation> citations = new ArrayList<>();
+        matchCitation(lineNumber, line, citations);
+        for (TexFileContent.TexCitation citation : citations) {
+            latexParserResult.addKey(citation.key(), file, citation.line(), citation.colStart(), citation.colEnd(), citation.lineText());
+        }
+    }
+
+    private static void matchCitation(int lineNumber, String line, List<TexFileContent.TexCitation> citations) {
         Matcher citeMatch = CITE_PATTERN.matcher(line);
 
         while (citeMatch.find()) {
             for (String key : citeMatch.group(CITE_GROUP).split(",")) {
-                latexParserResult.addKey(key.trim(), file, lineNumber, citeMatch.start(), citeMatch.end(), line);
+                citations.add(new TexFileContent.TexCitation(key.trim(), lineNumber, citeMatch.start(), citeMatch.end(), line));
             }
         }
     }
 
     /**
-     * Find BIB files along a specific line and store them.
+     * Find the arguments of bibliography or include commands along a specific line.
      */
-    private void matchBibFile(Path file, String line) {
-        Matcher bibliographyMatch = BIBLIOGRAPHY_PATTERN.matcher(line);
+    private static void matchGroups(Pattern pattern, String group, String line, List<String> matches) {
+        Matcher matcher = pattern.matcher(line);
 
-        while (bibliographyMatch.find()) {
-            for (String bibString : bibliographyMatch.group(BIBLIOGRAPHY_GROUP).split(",")) {
+        while (matcher.find()) {
+            matches.add(matcher.group(group));
+        }
+    }
+
+    /**
+     * Store the existing BIB files referenced by a TEX file.
+     */
+    private void addBibFiles(Path file, List<String> bibliographies) {
+        for (String bibliography : bibliographies) {
+            for (String bibString : bibliography.split(",")) {
                 bibString = bibString.trim();
                 Path bibFile = file.getParent().resolve(
                         bibString.endsWith(BIB_EXT)
@@ -149,18 +214,15 @@ public class DefaultLatexParser implements LatexParser {
     }
 
     /**
-     * Find inputs and includes along a specific line and store them for parsing later.
+     * Collect the inputs and includes of a TEX file, which were not parsed yet, for parsing later.
      */
-    private void matchNestedFile(Path texFile, List<Path> texFiles, List<Path> referencedFiles, String line) {
-        Matcher includeMatch = INCLUDE_PATTERN.matcher(line);
-
-        while (includeMatch.find()) {
-            String filenamePassedToInclude = includeMatch.group(INCLUDE_GROUP);
+    private static void addNestedFiles(Path texFile, List<String> includedFiles, Set<Path> knownFiles, List<Path> referencedFiles) {
+        for (String filenamePassedToInclude : includedFiles) {
             String texFileName = filenamePassedToInclude.endsWith(TEX_EXT)
                     ? filenamePassedToInclude
                     : String.format("%s%s", filenamePassedToInclude, TEX_EXT);
             Path nestedFile = texFile.getParent().resolve(texFileName);
-            if (nestedFile.toFile().exists() && !texFiles.contains(nestedFile)) {
+            if (nestedFile.toFile().exists() && knownFiles.add(nestedFile)) {
                 referencedFiles.add(nestedFile);
             }
         }
@@ -0,0 +1,150 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.h2.mvstore.MVStoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers the content of parsed LaTeX files, so that only files which changed since the last search for citations
+ * are parsed again. A file counts as unchanged if its size and its modification time or the hash of its content are
+ * the same (see {@link TexFileContent#ifUpToDate(Path)}). Files which no longer exist are removed from the index.
+ * <p>
+ * The index of a project directory is stored in a file below the given base directory. An index created without a
+ * base directory is kept in memory only.
+ */
+public class LatexCitationIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LatexCitationIndex.class);
+
+    // Increase if TexFileContent changes
+    private static final String FILES = "Files-3";
+
+    private final Path storeFile;
+    private final Map<String, TexFileContent> memory = new ConcurrentHashMap<>();
+
+    public LatexCitationIndex() {
+        this.storeFile = null;
+    }
+
+    public LatexCitationIndex(Path baseDirectory, Path projectDirectory) {
+        String project = projectDirectory.toAbsolutePath().normalize().toString();
+        this.storeFile = baseDirectory.resolve("%08x.mv".formatted(project.hashCode()));
+    }
+
+    /**
+     * Returns the content of the given files. Files which are not in the index or changed since they were indexed are
+     * parsed in parallel and then stored in the index. The index file is only locked while it is read and written,
+     * not while the files are parsed.
+     *
+     * @param parser parses a single file
+     */
+    Map<Path, TexFileContent> getContents(List<Path> files, Function<Path, TexFileContent> parser) {
+        List<Path> distinctFiles = List.copyOf(new LinkedHashSet<>(files));
+        Map<String, TexFileContent> indexedContents = readIndex(distinctFiles);
+
+        Map<Path, TexFileContent> contents = new ConcurrentHashMap<>();
+        Map<String, TexFileContent> changedContents = new ConcurrentHashMap<>();
+        distinctFiles.parallelStream().forEach(file -> {
+            TexFileContent indexedContent = indexedContents.get(getKey(file));
+            Optional<TexFileContent> upToDateContent = Optional.ofNullable(indexedContent).flatMap(content -> content.ifUpToDate(file));
+            TexFileContent content;
+            if (upToDateContent.isPresent()) {
+                content = upToDateContent.get();
+                if (content != indexedContent) {
+                    // Only the modification time changed; storing it spares hashing the file next time
+                    changedContents.put(getKey(file), content);
+                }
+            } else {
+                content = parser.apply(file);
+                if (content.isComplete()) {
+                    changedContents.put(getKey(file), content);
+                }
+            }
+            contents.put(file, content);
+        });
+
+        if (!changedContents.isEmpty()) {
+            writeIndex(changedContents);
+        }
+        return new HashMap<>(contents);
+    }
+
+    /**
+     * Returns the indexed contents of the given files and removes the files which no longer exist from the index
+     */
+    private Map<String, TexFileContent> readIndex(List<Path> files) {
+        if (storeFile == null) {
+            removeDeletedFiles(memory);
+            return getIndexedContents(memory, files);
+        }
+
+        // An MV file can be opened only once per process
+        synchronized (LatexCitationIndex.class) {
+            try {
+                Files.createDirectories(storeFile.getParent());
+                try (MVStore store = new MVStore.Builder().fileName(storeFile.toString()).open()) {
+                    MVMap<String, TexFileContent> indexedFiles = store.openMap(FILES);
+                    removeDeletedFiles(indexedFiles);
+                    store.commit();
+                    return getIndexedContents(indexedFiles, files);
+                }
+            } catch (IOException | MVStoreException e) {
+                LOGGER.warn("Could not use LaTeX citation index {}", storeFile, e);
+                return Map.of();
+            }
+        }
+    }
+
+    private void writeIndex(Map<String, TexFileContent> changedContents) {
+        if (storeFile == null) {
+            memory.putAll(changedContents);
+            return;
+        }
+
+        synchronized (LatexCitationIndex.class) {
+            try (MVStore store = new MVStore.Builder().fileName(storeFile.toString()).open()) {
+                MVMap<String, TexFileContent> indexedFiles = store.openMap(FILES);
+                indexedFiles.putAll(changedContents);
+                store.commit();
+            } catch (MVStoreException e) {
+                LOGGER.warn("Could not update LaTeX citation index {}", storeFile, e);
+            }
+        }
+    }
+
+    private static Map<String, TexFileContent> getIndexedContents(Map<String, TexFileContent> indexedFiles, List<Path> files) {
+        Map<String, TexFileContent> indexedContents = new HashMap<>();
+        for (Path file : files) {
+            String key = getKey(file);
+            TexFileContent content = indexedFiles.get(key);
+            if (content != null) {
+                indexedContents.put(key, content);
+            }
+        }
+        return indexedContents;
+    }
+
+    private static void removeDeletedFiles(Map<String, TexFileContent> indexedFiles) {
+        List<String> deletedFiles = indexedFiles.keySet().stream()
+                                                .filter(key -> Files.notExists(Path.of(key)))
+                                                .toList();
+        deletedFiles.forEach(indexedFiles::remove);
+    }
+
+    private static String getKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+}
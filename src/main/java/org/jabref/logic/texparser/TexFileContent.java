@@ -0,0 +1,69 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * The citations, bibliography files, and included files found in a single LaTeX file. The bibliography and included
+ * files are stored as written in the LaTeX file, i.e., relative to its directory.
+ *
+ * @param size         the size of the file when it was parsed
+ * @param lastModified the modification time of the file when it was parsed, in milliseconds
+ * @param hash         the hash of the content of the file when it was parsed, or {@code null} if it could not be read
+ *                     completely
+ */
+record TexFileContent(long size,
+                      long lastModified,
+                      String hash,
+                      List<TexCitation> citations,
+                      List<String> bibFiles,
+                      List<String> includedFiles) implements Serializable {
+
+    record TexCitation(String key, int line, int colStart, int colEnd, String lineText) implements Serializable {
+    }
+
+    static String hash(byte[] content) {
+        return Hashing.murmur3_128().hashBytes(content).toString();
+    }
+
+    boolean isComplete() {
+        return hash != null;
+    }
+
+    /**
+     * Checks whether the file still has the parsed content. The size and the modification time are compared first, so
+     * an unchanged file is not read. Only if the modification time differs, the content is hashed, thus a file which
+     * was merely touched (e.g., by a checkout) is not parsed again.
+     *
+     * @return this content, with the current modification time of the file if only that changed, or an empty optional
+     * if the file has to be parsed again
+     */
+    Optional<TexFileContent> ifUpToDate(Path file) {
+        if (!isComplete()) {
+            return Optional.empty();
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.size() != size) {
+                return Optional.empty();
+            }
+            long currentLastModified = attributes.lastModifiedTime().toMillis();
+            if (currentLastModified == lastModified) {
+                return Optional.of(this);
+            }
+            if (!hash.equals(hash(Files.readAllBytes(file)))) {
+                return Optional.empty();
+            }
+            return Optional.of(new TexFileContent(size, currentLastModified, hash, citations, bibFiles, includedFiles));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.jabref.logic.util;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs the initialization tasks of the application concurrently, respecting the dependencies between them.
+ * <p>
+ * A task starts as soon as all tasks it depends on are finished. Dependencies have to be added before the tasks
+ * depending on them, which rules out cycles. If a task fails, all tasks depending on it are skipped. Every task is
+ * recorded as phase of the given {@link StartupTimeline}.
+ */
+public class StartupTaskGraph {
+
+    private final Executor executor;
+    private final StartupTimeline timeline;
+    private final Map<String, CompletableFuture<Void>> tasks = new LinkedHashMap<>();
+
+    public StartupTaskGraph(Executor executor, StartupTimeline timeline) {
+        this.executor = Objects.requireNonNull(executor);
+        this.timeline = Objects.requireNonNull(timeline);
+    }
+
+    /**
+     * Schedules the given task. It is run as soon as all given dependencies are finished.
+     *
+     * @param name         the unique name of the task
+     * @param dependencies the names of already added tasks which have to finish before this task is started
+     */
+    public synchronized void add(String name, Runnable task, String... dependencies) {
+        Objects.requireNonNull(task);
+        if (tasks.containsKey(name)) {
+            throw new IllegalArgumentException("Task '" + name + "' was already added");
+        }
+        CompletableFuture<?>[] dependencyFutures = Arrays.stream(dependencies)
+                                                         .map(dependency -> {
+                                                             CompletableFuture<Void> future = tasks.get(dependency);
+                                                             if (future == null) {
+                                                                 throw new IllegalArgumentException("Task '" + name + "' depends on unknown task '" + dependency + "'");
+                                                             }
+                                                             return future;
+                                                         })
+                                                         .toArray(CompletableFuture<?>[]::new);
+        tasks.put(name, CompletableFuture.allOf(dependencyFutures)
+                                         .thenRunAsync(() -> timeline.measure(name, task), executor));
+    }
+
+    /**
+     * Waits until the given task is finished.
+     *
+     * @throws RuntimeException the exception thrown by the task or one of its dependencies
+     */
+    public void await(String name) {
+        CompletableFuture<Void> future;
+        synchronized (this) {
+            future = tasks.get(name);
+        }
+        if (future == null) {
+            throw new IllegalArgumentException("Unknown task '" + name + "'");
+        }
+        join(future);
+    }
+
+    /**
+     * Waits until all added tasks are finished.
+     *
+     * @throws RuntimeException the exception thrown by the first failing task
+     */
+    public void awaitAll() {
+        CompletableFuture<?>[] futures;
+        synchronized (this) {
+            futures = tasks.values().toArray(CompletableFuture<?>[]::new);
+        }
+        join(CompletableFuture.allOf(futures));
+    }
+
+    private static void join(CompletableFuture<?> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.jabref.logic.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records the wall-clock time of the phases of the application startup.
+ * <p>
+ * Phases may run concurrently on different threads. Each phase is recorded with its start (relative to the creation of
+ * the timeline), its duration, and the thread it ran on.
+ */
+public class StartupTimeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTimeline.class);
+
+    private final long origin;
+    private final List<Phase> phases = new ArrayList<>();
+
+    public StartupTimeline() {
+        this.origin = System.nanoTime();
+    }
+
+    /**
+     * Runs the given action and records it as phase with the given name. The phase is recorded even if the action
+     * fails.
+     */
+    public void measure(String name, Runnable action) {
+        measure(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs the given action, records it as phase with the given name, and returns the result of the action.
+     */
+    public <T> T measure(String name, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(name, start, System.nanoTime());
+        }
+    }
+
+    /**
+     * Records a milestone, i.e., a phase without duration (e.g., the main window is shown).
+     */
+    public void mark(String name) {
+        long now = System.nanoTime();
+        record(name, now, now);
+    }
+
+    private void record(String name, long start, long end) {
+        Phase phase = new Phase(name, Thread.currentThread().getName(), Duration.ofNanos(start - origin), Duration.ofNanos(end - start));
+        synchronized (phases) {
+            phases.add(phase);
+        }
+        LOGGER.debug("Startup phase '{}' took {} ms", name, phase.duration().toMillis());
+    }
+
+    /**
+     * @return all recorded phases ordered by their start
+     */
+    public List<Phase> getPhases() {
+        synchronized (phases) {
+            return phases.stream().sorted(Comparator.comparing(Phase::start)).toList();
+        }
+    }
+
+    public Optional<Phase> getPhase(String name) {
+        synchronized (phases) {
+            return phases.stream().filter(phase -> phase.name().equals(name)).findFirst();
+        }
+    }
+
+    /**
+     * @return the time since the creation of the timeline
+     */
+    public Duration getElapsedTime() {
+        return Duration.ofNanos(System.nanoTime() - origin);
+    }
+
+    /**
+     * Logs all phases recorded so far.
+     */
+    public void log() {
+        StringBuilder timeline = new StringBuilder();
+        for (Phase phase : getPhases()) {
+            timeline.append(String.format("%n%6d ms %6d ms  %-40s [%s]",
+                    phase.start().toMillis(), phase.duration().toMillis(), phase.name(), phase.thread()));
+        }
+        LOGGER.info("Startup took {} ms{}", getElapsedTime().toMillis(), timeline);
+    }
+
+    /**
+     * @param start    the start of the phase relative to the creation of the timeline
+     * @param duration the wall-clock time of the phase
+     */
+    public record Phase(String name, String thread, Duration start, Duration duration) {
+        public Duration end() {
+            return start.plus(duration);
+        }
+    }
+}
@@ -37,6 +37,13 @@ import org.slf4j.LoggerFactory;
 @AllowedToUseLogic("because it needs access to shared database features")
 public class BibDatabaseContext {
 
+    /**
+     * Separates the hash of the library path from the version of the index format in the name of the directory of the
+     * metadata index
+     */
+    public static final String METADATA_INDEX_INFIX = "-metadata-";
+    public static final int METADATA_INDEX_VERSION = 1;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(LibraryTab.class);
 
     private final BibDatabase database;
@@ -252,6 +259,16 @@ public class BibDatabaseContext {
         return indexPath;
     }
 
+    /**
+     * Returns the directory of the search index of the entries, which is next to the fulltext index. Unsaved libraries
+     * have no such directory.
+     */
+    public Optional<Path> getMetadataIndexPath() {
+        return getDatabasePath().map(databasePath -> OS.getNativeDesktop()
+                                                       .getFulltextIndexBaseDirectory()
+                                                       .resolve(databasePath.hashCode() + METADATA_INDEX_INFIX + METADATA_INDEX_VERSION));
+    }
+
     @Override
     public String toString() {
         return "BibDatabaseContext{" +
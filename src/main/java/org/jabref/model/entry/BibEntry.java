@@ -5,15 +5,17 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javafx.beans.Observable;
@@ -41,7 +43,6 @@ import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
-import org.jabref.model.util.MultiKeyMap;
 
 import com.google.common.eventbus.EventBus;
 import com.tobiasdiez.easybind.EasyBind;
@@ -97,10 +98,27 @@ public class BibEntry implements Cloneable {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibEntry.class);
     private final SharedBibEntryData sharedBibEntryData;
 
+    /*
+     * The caches of derived field values below are read and filled by several threads, e.g., by parallel group
+     * evaluation, while the entry is edited. Each cached value remembers the field value it was derived from and is only
+     * used as long as the field still has this value. Thus, a value computed from an outdated field value and stored
+     * after the invalidation by setField is never returned.
+     */
+
     /**
      * Map to store the words in every field
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private final Map<Field, DerivedValue<Set<String>>> fieldsAsWords = new ConcurrentHashMap<>();
+
+    /**
+     * Map to store the lower-cased words in every field. Used for case-insensitive matching, e.g., by keyword groups.
+     */
+    private final Map<Field, DerivedValue<Set<String>>> fieldsAsLowerCaseWords = new ConcurrentHashMap<>();
+
+    /**
+     * Cache that stores the keywords of a field as set for constant-time lookups
+     */
+    private final Map<KeywordsKey, DerivedValue<Set<Keyword>>> fieldsAsKeywordSets = new ConcurrentHashMap<>();
 
     /**
      * Cache that stores latex free versions of fields.
@@ -108,9 +126,21 @@ public class BibEntry implements Cloneable {
     private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
 
     /**
-     * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
+     * Cache that stores the field as keyword lists
+     */
+    private final Map<KeywordsKey, DerivedValue<KeywordList>> fieldsAsKeywords = new ConcurrentHashMap<>();
+
+    /**
+     * Cache that stores the keys used to sort entries. A key may depend on several fields or on the type, thus each key
+     * remembers the {@link #version} of the entry it was computed from and is only used as long as the entry did not
+     * change since.
+     */
+    private final Map<SortKeyCriterion<?>, VersionedSortKey> sortKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Increased after every change of a field or the type, i.e., after the new value is visible
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private final AtomicLong version = new AtomicLong();
 
     private final EventBus eventBus = new EventBus();
 
@@ -427,6 +457,7 @@ public class BibEntry implements Cloneable {
 
         changed = true;
         this.type.setValue(newType);
+        version.incrementAndGet();
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
         eventBus.post(new FieldChangedEvent(change, eventSource));
@@ -563,6 +594,25 @@ public class BibEntry implements Cloneable {
         return genericGetFieldOrAlias(field, BibEntry::getField);
     }
 
+    /**
+     * Returns the key of this entry for the given sort criterion. The key is computed once and then reused until the
+     * entry changes. A key computed while the entry is changed by another thread is not reused.
+     *
+     * @param criterion   identifies the sort criterion, the same criterion has to be used with the same key function
+     * @param keyFunction computes the key of an entry
+     */
+    public <K> K getSortKey(SortKeyCriterion<K> criterion, Function<BibEntry, K> keyFunction) {
+        // Read before computing the key, thus a change during the computation makes the stored key outdated
+        long currentVersion = version.get();
+        VersionedSortKey storedKey = sortKeys.get(criterion);
+        if ((storedKey != null) && (storedKey.version() == currentVersion)) {
+            return criterion.keyType().cast(storedKey.key());
+        }
+        K key = keyFunction.apply(this);
+        sortKeys.put(criterion, new VersionedSortKey(currentVersion, key));
+        return key;
+    }
+
     /**
      * Return the LaTeX-free contents of the given field or its alias an an Optional
      * <p>
@@ -611,6 +661,7 @@ public class BibEntry implements Cloneable {
 
         invalidateFieldCache(field);
         fields.put(field, value.intern());
+        version.incrementAndGet();
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
@@ -657,6 +708,7 @@ public class BibEntry implements Cloneable {
 
         invalidateFieldCache(field);
         fields.remove(field);
+        version.incrementAndGet();
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
         eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
@@ -945,6 +997,7 @@ public class BibEntry implements Cloneable {
      */
     public BibEntry withFields(Map<Field, String> content) {
         this.fields = FXCollections.observableMap(new HashMap<>(content));
+        version.incrementAndGet();
         return this;
     }
 
@@ -981,37 +1034,81 @@ public class BibEntry implements Cloneable {
         return setField(field, EntryLinkList.serialize(list));
     }
 
+    /**
+     * Returns the words of the given field as unmodifiable set. The result is cached until the field changes.
+     */
     public Set<String> getFieldAsWords(Field field) {
-        Set<String> storedList = fieldsAsWords.get(field);
-        if (storedList != null) {
-            return storedList;
-        } else {
-            String fieldValue = fields.get(field);
-            if (fieldValue == null) {
-                return Collections.emptySet();
-            } else {
-                HashSet<String> words = new HashSet<>(StringUtil.getStringAsWords(fieldValue));
-                fieldsAsWords.put(field, words);
-                return words;
-            }
+        String fieldValue = fields.get(field);
+        if (fieldValue == null) {
+            return Collections.emptySet();
         }
+        DerivedValue<Set<String>> storedWords = fieldsAsWords.get(field);
+        if ((storedWords != null) && storedWords.isDerivedFrom(fieldValue)) {
+            return storedWords.value();
+        }
+        Set<String> words = Set.copyOf(StringUtil.getStringAsWords(fieldValue));
+        fieldsAsWords.put(field, new DerivedValue<>(fieldValue, words));
+        return words;
     }
 
-    public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField standardField) {
-            Optional<KeywordList> storedList = fieldsAsKeywords.get(standardField, keywordSeparator);
-            if (storedList.isPresent()) {
-                return storedList.get();
-            }
+    /**
+     * Returns the words of the given field in lower case. The result is cached until the field changes.
+     */
+    public Set<String> getFieldAsLowerCaseWords(Field field) {
+        String fieldValue = fields.get(field);
+        if (fieldValue == null) {
+            return Collections.emptySet();
+        }
+        DerivedValue<Set<String>> storedWords = fieldsAsLowerCaseWords.get(field);
+        if ((storedWords != null) && storedWords.isDerivedFrom(fieldValue)) {
+            return storedWords.value();
+        }
+        Set<String> lowerCaseWords = StringUtil.getStringAsWords(fieldValue).stream()
+                                               .map(word -> word.toLowerCase(Locale.ROOT))
+                                               .collect(Collectors.toUnmodifiableSet());
+        fieldsAsLowerCaseWords.put(field, new DerivedValue<>(fieldValue, lowerCaseWords));
+        return lowerCaseWords;
+    }
+
+    /**
+     * Returns the keywords of the given field as set. In contrast to {@link #getFieldAsKeywords(Field, Character)},
+     * membership checks run in constant time. The result is cached until the field changes.
+     */
+    public Set<Keyword> getFieldAsKeywordSet(Field field, Character keywordSeparator) {
+        String fieldValue = fields.get(field);
+        if (fieldValue == null) {
+            return Collections.emptySet();
+        }
+        KeywordsKey key = new KeywordsKey(field, keywordSeparator);
+        DerivedValue<Set<Keyword>> storedSet = fieldsAsKeywordSets.get(key);
+        if ((storedSet != null) && storedSet.isDerivedFrom(fieldValue)) {
+            return storedSet.value();
         }
+        Set<Keyword> keywords = parseKeywords(field, fieldValue, keywordSeparator).stream().collect(Collectors.toUnmodifiableSet());
+        fieldsAsKeywordSets.put(key, new DerivedValue<>(fieldValue, keywords));
+        return keywords;
+    }
 
-        KeywordList keywords = getField(field)
-                .map(content -> KeywordList.parse(content, keywordSeparator))
-                .orElse(new KeywordList());
+    /**
+     * Returns the keywords of the given field. The parsed keywords are cached until the field changes, the returned list
+     * is a copy which may be modified by the caller.
+     */
+    public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
+        String fieldValue = fields.get(field);
+        if (fieldValue == null) {
+            return new KeywordList();
+        }
+        return new KeywordList(parseKeywords(field, fieldValue, keywordSeparator).stream().toList());
+    }
 
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.put(standardField, keywordSeparator, keywords);
+    private KeywordList parseKeywords(Field field, String fieldValue, Character keywordSeparator) {
+        KeywordsKey key = new KeywordsKey(field, keywordSeparator);
+        DerivedValue<KeywordList> storedList = fieldsAsKeywords.get(key);
+        if ((storedList != null) && storedList.isDerivedFrom(fieldValue)) {
+            return storedList.value();
         }
+        KeywordList keywords = KeywordList.parse(fieldValue, keywordSeparator);
+        fieldsAsKeywords.put(key, new DerivedValue<>(fieldValue, keywords));
         return keywords;
     }
 
@@ -1022,10 +1119,9 @@ public class BibEntry implements Cloneable {
     private void invalidateFieldCache(Field field) {
         latexFreeFields.remove(field);
         fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField standardField) {
-            fieldsAsKeywords.remove(standardField);
-        }
+        fieldsAsLowerCaseWords.remove(field);
+        fieldsAsKeywordSets.keySet().removeIf(key -> key.field().equals(field));
+        fieldsAsKeywords.keySet().removeIf(key -> key.field().equals(field));
     }
 
     public Optional<FieldChange> setFiles(List<LinkedFile> files) {
@@ -1174,4 +1270,20 @@ public class BibEntry implements Cloneable {
         }
         return StandardField.AUTOMATIC_FIELDS.containsAll(this.getFields());
     }
+
+    private record KeywordsKey(Field field, Character keywordSeparator) {
+    }
+
+    private record VersionedSortKey(long version, Object key) {
+    }
+
+    /**
+     * A value derived from a field value, e.g., the words of the field
+     */
+    private record DerivedValue<V>(String fieldValue, V value) {
+
+        boolean isDerivedFrom(String currentFieldValue) {
+            return fieldValue.equals(currentFieldValue);
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package org.jabref.model.entry;
+
+import java.util.Objects;
+
+/**
+ * Identifies the sort keys an entry caches for one sort criterion, see {@link BibEntry#getSortKey(SortKeyCriterion,
+ * java.util.function.Function)}. Two criteria are the same if they have the same identifier and key type, thus the same
+ * identifier has to be used with the same key function.
+ *
+ * @param identifier identifies the sort criterion, e.g., the sorted fields
+ * @param keyType    the type of the sort keys
+ * @param <K>        the type of the sort keys
+ */
+public record SortKeyCriterion<K>(Object identifier, Class<K> keyType) {
+
+    public SortKeyCriterion {
+        Objects.requireNonNull(identifier);
+        Objects.requireNonNull(keyType);
+    }
+}
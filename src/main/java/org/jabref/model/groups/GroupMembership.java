@@ -0,0 +1,122 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The result of {@link GroupMembershipEvaluator#evaluate(GroupTreeNode, List)}: which entry belongs to which group of
+ * a group tree, taking the hierarchical context of the groups into account.
+ * <p>
+ * Nodes and entries are compared by identity. The result is a snapshot and is not updated if the tree or the entries
+ * change.
+ */
+public class GroupMembership {
+
+    private final List<GroupTreeNode> nodes;
+    private final Map<GroupTreeNode, Integer> nodeIndices;
+    private final List<BibEntry> entries;
+    private final Map<BibEntry, Integer> entryIndices;
+    private final BitSet[] ownMatches;
+    private final BitSet[] matches;
+
+    GroupMembership(List<GroupTreeNode> nodes, Map<GroupTreeNode, Integer> nodeIndices, List<BibEntry> entries, BitSet[] ownMatches, BitSet[] matches) {
+        this.nodes = Collections.unmodifiableList(nodes);
+        this.nodeIndices = nodeIndices;
+        this.entries = entries;
+        this.ownMatches = ownMatches;
+        this.matches = matches;
+        this.entryIndices = new IdentityHashMap<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            entryIndices.put(entries.get(i), i);
+        }
+    }
+
+    /**
+     * @return all nodes of the evaluated tree in pre-order
+     */
+    public List<GroupTreeNode> getNodes() {
+        return nodes;
+    }
+
+    public List<BibEntry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Determines the entries matched by the given node. Equivalent to {@link GroupTreeNode#findMatches(List)}.
+     */
+    public List<BibEntry> getMatches(GroupTreeNode node) {
+        return getMatchesAsBitSet(node)
+                .map(bitSet -> bitSet.stream().mapToObj(entries::get).toList())
+                .orElse(Collections.emptyList());
+    }
+
+    public int getNumberOfMatches(GroupTreeNode node) {
+        return getMatchesAsBitSet(node).map(BitSet::cardinality).orElse(0);
+    }
+
+    /**
+     * Returns the indices (in {@link #getEntries()}) of the entries matched by the given node.
+     * The returned bit set is a copy and may be modified by the caller.
+     */
+    public Optional<BitSet> getMatchesAsBitSet(GroupTreeNode node) {
+        Integer nodeIndex = nodeIndices.get(node);
+        if (nodeIndex == null) {
+            return Optional.empty();
+        }
+        return Optional.of((BitSet) matches[nodeIndex].clone());
+    }
+
+    /**
+     * Determines all groups which contain the given entry. Equivalent to {@link GroupTreeNode#getMatchingGroups(BibEntry)}
+     * called on the root of the tree.
+     */
+    public List<GroupTreeNode> getMatchingGroups(BibEntry entry) {
+        Integer entryIndex = entryIndices.get(entry);
+        if (entryIndex == null) {
+            return Collections.emptyList();
+        }
+        List<GroupTreeNode> matchingGroups = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            if (matches[i].get(entryIndex)) {
+                matchingGroups.add(nodes.get(i));
+            }
+        }
+        return matchingGroups;
+    }
+
+    /**
+     * @return whether the given entry was part of the evaluation
+     */
+    public boolean containsEntry(BibEntry entry) {
+        return entryIndices.containsKey(entry);
+    }
+
+    /**
+     * @return the index of the given entry in {@link #getEntries()}, or -1 if the entry was not part of the evaluation
+     */
+    int indexOf(BibEntry entry) {
+        return entryIndices.getOrDefault(entry, -1);
+    }
+
+    /**
+     * @return whether the group of the node at the given index itself contains the entry at the given index, i.e.,
+     * without taking the hierarchy into account
+     */
+    boolean containsOwn(int nodeIndex, int entryIndex) {
+        return ownMatches[nodeIndex].get(entryIndex);
+    }
+
+    public boolean matches(GroupTreeNode node, BibEntry entry) {
+        Integer nodeIndex = nodeIndices.get(node);
+        Integer entryIndex = entryIndices.get(entry);
+        return (nodeIndex != null) && (entryIndex != null) && matches[nodeIndex].get(entryIndex);
+    }
+}
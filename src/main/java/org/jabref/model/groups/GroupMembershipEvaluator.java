@@ -0,0 +1,182 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Computes the membership of a list of entries in all groups of a group tree in one pass over the entries.
+ * <p>
+ * In contrast to calling {@link GroupTreeNode#findMatches(List)} for every node, each group is asked exactly once per
+ * entry. The hierarchical semantics of {@link GroupTreeNode#getSearchMatcher()} are then applied by intersecting
+ * ({@link GroupHierarchyType#REFINING}) or uniting ({@link GroupHierarchyType#INCLUDING}) the per-group bit sets.
+ * <p>
+ * Entries are processed in parallel in chunks. Group implementations therefore need to be safe for concurrent calls of
+ * {@link AbstractGroup#contains(BibEntry)}.
+ */
+public class GroupMembershipEvaluator {
+
+    /**
+     * Number of entries processed by one task. Has to be a multiple of 64 so that chunks never share a word of the
+     * underlying bit sets.
+     */
+    static final int CHUNK_SIZE = 64 * 16;
+
+    private GroupMembershipEvaluator() {
+    }
+
+    /**
+     * Evaluates the membership of the given entries for all groups in the tree containing the given node.
+     * The evaluation always starts at the root, because {@link GroupHierarchyType#REFINING} groups depend on their
+     * ancestors.
+     */
+    public static GroupMembership evaluate(GroupTreeNode node, List<BibEntry> entries) {
+        return evaluate(node, entries, null, Set.of());
+    }
+
+    /**
+     * Evaluates the membership like {@link #evaluate(GroupTreeNode, List)}, but takes over the results of a previous
+     * evaluation where possible. A group is only asked for entries which are new or changed, unless the group itself
+     * was not part of the previous evaluation (groups are compared by identity, as they are replaced when edited).
+     * Thus, after a change of the group tree, only the added and edited groups are evaluated for all entries.
+     *
+     * @param previous       the previous evaluation
+     * @param changedEntries the entries which changed since the previous evaluation
+     */
+    public static GroupMembership reevaluate(GroupMembership previous, GroupTreeNode node, List<BibEntry> entries, Set<BibEntry> changedEntries) {
+        return evaluate(node, entries, Objects.requireNonNull(previous), Objects.requireNonNull(changedEntries));
+    }
+
+    private static GroupMembership evaluate(GroupTreeNode node, List<BibEntry> entries, GroupMembership previous, Set<BibEntry> changedEntries) {
+        Objects.requireNonNull(node);
+        Objects.requireNonNull(entries);
+
+        List<GroupTreeNode> nodes = new ArrayList<>();
+        collectPreOrder(node.getRoot(), nodes);
+        Map<GroupTreeNode, Integer> nodeIndices = new IdentityHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeIndices.put(nodes.get(i), i);
+        }
+
+        List<BibEntry> entryList = List.copyOf(entries);
+        BitSet[] ownMatches = evaluateGroups(nodes, entryList, previous, changedEntries);
+        BitSet[] matches = applyHierarchy(nodes, nodeIndices, ownMatches);
+        return new GroupMembership(nodes, nodeIndices, entryList, ownMatches, matches);
+    }
+
+    private static void collectPreOrder(GroupTreeNode node, List<GroupTreeNode> nodes) {
+        nodes.add(node);
+        for (GroupTreeNode child : node.getChildren()) {
+            collectPreOrder(child, nodes);
+        }
+    }
+
+    /**
+     * Evaluates the groups themselves, i.e., without taking the hierarchy into account.
+     */
+    private static BitSet[] evaluateGroups(List<GroupTreeNode> nodes, List<BibEntry> entries, GroupMembership previous, Set<BibEntry> changedEntries) {
+        int numberOfWords = (entries.size() + 63) / 64;
+        long[][] words = new long[nodes.size()][numberOfWords];
+        AbstractGroup[] groups = nodes.stream().map(GroupTreeNode::getGroup).toArray(AbstractGroup[]::new);
+        int[] previousNodeIndices = getPreviousNodeIndices(groups, previous);
+
+        int numberOfChunks = (entries.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, numberOfChunks).parallel().forEach(chunk -> {
+            int start = chunk * CHUNK_SIZE;
+            int end = Math.min(start + CHUNK_SIZE, entries.size());
+            for (int entryIndex = start; entryIndex < end; entryIndex++) {
+                BibEntry entry = entries.get(entryIndex);
+                int previousEntryIndex = ((previous == null) || changedEntries.contains(entry)) ? -1 : previous.indexOf(entry);
+                for (int groupIndex = 0; groupIndex < groups.length; groupIndex++) {
+                    int previousNodeIndex = previousNodeIndices[groupIndex];
+                    boolean contained = ((previousEntryIndex >= 0) && (previousNodeIndex >= 0))
+                            ? previous.containsOwn(previousNodeIndex, previousEntryIndex)
+                            : groups[groupIndex].contains(entry);
+                    if (contained) {
+                        words[groupIndex][entryIndex >> 6] |= 1L << entryIndex;
+                    }
+                }
+            }
+        });
+
+        BitSet[] result = new BitSet[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            result[i] = BitSet.valueOf(words[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns for each group the index of its node in the previous evaluation, or -1 if the group was not part of it.
+     */
+    private static int[] getPreviousNodeIndices(AbstractGroup[] groups, GroupMembership previous) {
+        int[] previousNodeIndices = new int[groups.length];
+        Arrays.fill(previousNodeIndices, -1);
+        if (previous == null) {
+            return previousNodeIndices;
+        }
+        Map<AbstractGroup, Integer> previousIndexOfGroup = new IdentityHashMap<>();
+        List<GroupTreeNode> previousNodes = previous.getNodes();
+        for (int i = 0; i < previousNodes.size(); i++) {
+            previousIndexOfGroup.put(previousNodes.get(i).getGroup(), i);
+        }
+        for (int i = 0; i < groups.length; i++) {
+            previousNodeIndices[i] = previousIndexOfGroup.getOrDefault(groups[i], -1);
+        }
+        return previousNodeIndices;
+    }
+
+    /**
+     * Mirrors {@link GroupTreeNode#getSearchMatcher()} on bit sets.
+     */
+    private static BitSet[] applyHierarchy(List<GroupTreeNode> nodes, Map<GroupTreeNode, Integer> nodeIndices, BitSet[] ownMatches) {
+        int size = nodes.size();
+
+        // Matches of a node when asked by a refining descendant: the intersection along the chain of refining ancestors
+        BitSet[] refiningMatches = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            GroupTreeNode node = nodes.get(i);
+            if ((node.getGroup().getHierarchicalContext() == GroupHierarchyType.REFINING) && !node.isRoot()) {
+                BitSet intersection = (BitSet) ownMatches[i].clone();
+                intersection.and(refiningMatches[nodeIndices.get(node.getParent().get())]);
+                refiningMatches[i] = intersection;
+            } else {
+                refiningMatches[i] = ownMatches[i];
+            }
+        }
+
+        // Matches of a node when asked by an including ancestor: the union over the chain of including descendants
+        // Children come after their parent in pre-order, so iterating backwards visits them first
+        BitSet[] includingMatches = new BitSet[size];
+        for (int i = size - 1; i >= 0; i--) {
+            GroupTreeNode node = nodes.get(i);
+            if (node.getGroup().getHierarchicalContext() == GroupHierarchyType.INCLUDING) {
+                BitSet union = (BitSet) ownMatches[i].clone();
+                for (GroupTreeNode child : node.getChildren()) {
+                    union.or(includingMatches[nodeIndices.get(child)]);
+                }
+                includingMatches[i] = union;
+            } else {
+                includingMatches[i] = ownMatches[i];
+            }
+        }
+
+        BitSet[] matches = new BitSet[size];
+        for (int i = 0; i < size; i++) {
+            matches[i] = switch (nodes.get(i).getGroup().getHierarchicalContext()) {
+                case INDEPENDENT -> ownMatches[i];
+                case REFINING -> refiningMatches[i];
+                case INCLUDING -> includingMatches[i];
+            };
+        }
+        return matches;
+    }
+}
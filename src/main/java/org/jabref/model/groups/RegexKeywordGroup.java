@@ -6,17 +6,27 @@ import java.util.regex.Pattern;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.Field;
+import org.jabref.model.strings.StringUtil;
 
 /**
  * Matches entries if the content of a given field is matched by a regular expression.
  */
 public class RegexKeywordGroup extends KeywordGroup {
+    private static final Pattern LITERAL_EXPRESSION = Pattern.compile("[\\p{L}\\p{N} ]+");
+
     private Pattern pattern;
 
+    /**
+     * True if the search expression contains no regex meta characters. Then, a plain substring check can rule out most
+     * entries before the regular expression has to run.
+     */
+    private final boolean literalExpression;
+
     public RegexKeywordGroup(String name, GroupHierarchyType context, Field searchField,
                              String searchExpression, boolean caseSensitive) {
         super(name, context, searchField, searchExpression, caseSensitive);
         this.pattern = compilePattern(searchExpression, caseSensitive);
+        this.literalExpression = LITERAL_EXPRESSION.matcher(searchExpression).matches();
     }
 
     private static Pattern compilePattern(String searchExpression, boolean caseSensitive) {
@@ -27,7 +37,14 @@ public class RegexKeywordGroup extends KeywordGroup {
     @Override
     public boolean contains(BibEntry entry) {
         Optional<String> content = entry.getField(searchField);
-        return content.map(value -> pattern.matcher(value).find()).orElse(false);
+        return content.map(value -> mayContainLiteral(value) && pattern.matcher(value).find()).orElse(false);
+    }
+
+    private boolean mayContainLiteral(String value) {
+        if (!literalExpression) {
+            return true;
+        }
+        return caseSensitive ? value.contains(searchExpression) : StringUtil.containsIgnoreCase(value, searchExpression);
     }
 
     @Override
@@ -4,12 +4,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.KeywordList;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
@@ -46,24 +48,6 @@ public class WordKeywordGroup extends KeywordGroup implements GroupEntryChanger
         }
     }
 
-    private static boolean containsCaseInsensitive(Set<String> searchIn, Collection<String> searchFor) {
-        for (String searchWord : searchFor) {
-            if (!containsCaseInsensitive(searchIn, searchWord)) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    private static boolean containsCaseInsensitive(Set<String> searchIn, String searchFor) {
-        for (String word : searchIn) {
-            if (word.equalsIgnoreCase(searchFor)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     @Override
     public List<FieldChange> add(Collection<BibEntry> entriesToAdd) {
         Objects.requireNonNull(entriesToAdd);
@@ -141,21 +125,27 @@ public class WordKeywordGroup extends KeywordGroup implements GroupEntryChanger
         boolean contains(BibEntry entry);
     }
 
+    /**
+     * Matches against the (cached) word set of the entry. For case-insensitive groups, the search words are lower-cased
+     * once and compared to the cached lower-cased word set of the entry, so that a check is a set lookup per word.
+     */
     class StringSearchStrategy implements SearchStrategy {
         Set<String> searchWords;
 
         StringSearchStrategy() {
-            searchWords = new HashSet<>(StringUtil.getStringAsWords(searchExpression));
+            if (caseSensitive) {
+                searchWords = new HashSet<>(StringUtil.getStringAsWords(searchExpression));
+            } else {
+                searchWords = StringUtil.getStringAsWords(searchExpression).stream()
+                                        .map(word -> word.toLowerCase(Locale.ROOT))
+                                        .collect(Collectors.toSet());
+            }
         }
 
         @Override
         public boolean contains(BibEntry entry) {
-            Set<String> content = entry.getFieldAsWords(searchField);
-            if (caseSensitive) {
-                return content.containsAll(searchWords);
-            } else {
-                return containsCaseInsensitive(content, searchWords);
-            }
+            Set<String> content = caseSensitive ? entry.getFieldAsWords(searchField) : entry.getFieldAsLowerCaseWords(searchField);
+            return content.containsAll(searchWords);
         }
     }
 
@@ -187,7 +177,7 @@ public class WordKeywordGroup extends KeywordGroup implements GroupEntryChanger
 
         @Override
         public boolean contains(BibEntry entry) {
-            KeywordList fieldValue = entry.getFieldAsKeywords(searchField, keywordSeparator);
+            Set<Keyword> fieldValue = entry.getFieldAsKeywordSet(searchField, keywordSeparator);
             return ListUtil.allMatch(searchWords, fieldValue::contains);
         }
     }
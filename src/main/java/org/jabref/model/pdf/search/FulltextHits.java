@@ -0,0 +1,59 @@
+package org.jabref.model.pdf.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+
+/**
+ * All results of a fulltext query, indexed by the linked file they were found in. Thus, the results of an entry are
+ * found by looking up its files instead of filtering all results.
+ * <p>
+ * Instances are immutable and can be used by several threads.
+ */
+public final class FulltextHits {
+
+    public static final FulltextHits EMPTY = new FulltextHits("", new PdfSearchResults());
+
+    private final String query;
+    private final Map<String, List<SearchResult>> resultsByPath = new HashMap<>();
+
+    public FulltextHits(String query, PdfSearchResults results) {
+        this.query = query;
+        // Lists keep the order by score
+        for (SearchResult result : results.getSortedByScore()) {
+            resultsByPath.computeIfAbsent(result.getPath(), path -> new ArrayList<>()).add(result);
+        }
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public boolean hasResultsFor(BibEntry entry) {
+        if (resultsByPath.isEmpty()) {
+            return false;
+        }
+        return entry.getFiles().stream().anyMatch(file -> resultsByPath.containsKey(file.getLink()));
+    }
+
+    public PdfSearchResults getResultsFor(BibEntry entry) {
+        if (resultsByPath.isEmpty()) {
+            return new PdfSearchResults();
+        }
+        List<SearchResult> results = new ArrayList<>();
+        entry.getFiles().stream()
+             .map(LinkedFile::getLink)
+             .distinct()
+             .forEach(link -> results.addAll(resultsByPath.getOrDefault(link, Collections.emptyList())));
+        return new PdfSearchResults(results);
+    }
+
+    public int size() {
+        return resultsByPath.values().stream().mapToInt(List::size).sum();
+    }
+}
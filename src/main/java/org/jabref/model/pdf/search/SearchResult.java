@@ -3,20 +3,31 @@ package org.jabref.model.pdf.search;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.model.entry.BibEntry;
 
 import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
 import org.apache.lucene.search.highlight.QueryScorer;
 import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
 import org.apache.lucene.search.highlight.TextFragment;
+import org.apache.lucene.store.Directory;
 
 import static org.jabref.model.pdf.search.SearchFieldConstants.ANNOTATIONS;
 import static org.jabref.model.pdf.search.SearchFieldConstants.CONTENT;
@@ -24,45 +35,102 @@ import static org.jabref.model.pdf.search.SearchFieldConstants.MODIFIED;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PAGE_NUMBER;
 import static org.jabref.model.pdf.search.SearchFieldConstants.PATH;
 
+/**
+ * A page of a file matching a fulltext query.
+ * <p>
+ * Only the fields needed to join the hit to the entries are kept, thus many hits take little memory. The text of the
+ * page is loaded from the index when the hit is highlighted.
+ */
 public final class SearchResult {
 
+    /**
+     * The fields read for each hit
+     */
+    public static final Set<String> JOIN_FIELDS = Set.of(PATH, PAGE_NUMBER, MODIFIED);
+
     private final String path;
 
     private final int pageNumber;
     private final long modified;
 
     private final float luceneScore;
+
+    // Highlighting is expensive, thus it is done when the highlights are requested
+    private final Query query;
+    private final Directory indexDirectory;
     private List<String> contentResultStringsHtml;
     private List<String> annotationsResultStringsHtml;
 
-    public SearchResult(IndexSearcher searcher, Query query, ScoreDoc scoreDoc) throws IOException {
-        this.path = getFieldContents(searcher, scoreDoc, PATH);
-        this.pageNumber = Integer.parseInt(getFieldContents(searcher, scoreDoc, PAGE_NUMBER));
-        this.modified = Long.parseLong(getFieldContents(searcher, scoreDoc, MODIFIED));
-        this.luceneScore = scoreDoc.score;
+    /**
+     * @param indexDirectory the index the text of the page is loaded from when it is highlighted
+     */
+    public SearchResult(String path, int pageNumber, long modified, float luceneScore, Query query, Directory indexDirectory) {
+        this.path = path;
+        this.pageNumber = pageNumber;
+        this.modified = modified;
+        this.luceneScore = luceneScore;
+        this.query = query;
+        this.indexDirectory = indexDirectory;
+    }
 
-        String content = getFieldContents(searcher, scoreDoc, CONTENT);
-        String annotations = getFieldContents(searcher, scoreDoc, ANNOTATIONS);
+    /**
+     * Creates the hit from the {@link #JOIN_FIELDS} of the found document
+     */
+    public static SearchResult of(IndexSearcher searcher, Query query, ScoreDoc scoreDoc, Directory indexDirectory) throws IOException {
+        Document document = searcher.storedFields().document(scoreDoc.doc, JOIN_FIELDS);
+        return new SearchResult(
+                getFieldContents(document, PATH),
+                Integer.parseInt(getFieldContents(document, PAGE_NUMBER)),
+                Long.parseLong(getFieldContents(document, MODIFIED)),
+                scoreDoc.score,
+                query,
+                indexDirectory);
+    }
 
-        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(query));
+    private synchronized void highlight() {
+        if (contentResultStringsHtml != null) {
+            return;
+        }
+        Optional<Document> page = loadPage();
+        contentResultStringsHtml = page.map(document -> highlight(CONTENT, getFieldContents(document, CONTENT))).orElse(List.of());
+        annotationsResultStringsHtml = page.map(document -> highlight(ANNOTATIONS, getFieldContents(document, ANNOTATIONS))).orElse(List.of());
+    }
 
-        try (TokenStream contentStream = new EnglishStemAnalyzer().tokenStream(CONTENT, content)) {
-            TextFragment[] frags = highlighter.getBestTextFragments(contentStream, content, true, 10);
-            this.contentResultStringsHtml = Arrays.stream(frags).map(TextFragment::toString).collect(Collectors.toList());
-        } catch (InvalidTokenOffsetsException e) {
-            this.contentResultStringsHtml = List.of();
+    /**
+     * Loads the text of the page, which might be gone if the file was removed from the index in the meantime
+     */
+    private Optional<Document> loadPage() {
+        if (indexDirectory == null) {
+            return Optional.empty();
+        }
+        try (IndexReader reader = DirectoryReader.open(indexDirectory)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            Query pageQuery = new BooleanQuery.Builder()
+                    .add(new TermQuery(new Term(PATH, path)), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term(PAGE_NUMBER, String.valueOf(pageNumber))), BooleanClause.Occur.FILTER)
+                    .build();
+            TopDocs pages = searcher.search(pageQuery, 1);
+            if (pages.scoreDocs.length == 0) {
+                return Optional.empty();
+            }
+            return Optional.of(searcher.storedFields().document(pages.scoreDocs[0].doc, Set.of(CONTENT, ANNOTATIONS)));
+        } catch (IOException e) {
+            return Optional.empty();
         }
+    }
 
-        try (TokenStream annotationStream = new EnglishStemAnalyzer().tokenStream(ANNOTATIONS, annotations)) {
-            TextFragment[] frags = highlighter.getBestTextFragments(annotationStream, annotations, true, 10);
-            this.annotationsResultStringsHtml = Arrays.stream(frags).map(TextFragment::toString).collect(Collectors.toList());
-        } catch (InvalidTokenOffsetsException e) {
-            this.annotationsResultStringsHtml = List.of();
+    private List<String> highlight(String field, String text) {
+        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(query));
+        try (TokenStream stream = new EnglishStemAnalyzer().tokenStream(field, text)) {
+            TextFragment[] frags = highlighter.getBestTextFragments(stream, text, true, 10);
+            return Arrays.stream(frags).map(TextFragment::toString).collect(Collectors.toList());
+        } catch (IOException | InvalidTokenOffsetsException e) {
+            return List.of();
         }
     }
 
-    private String getFieldContents(IndexSearcher searcher, ScoreDoc scoreDoc, String field) throws IOException {
-        IndexableField indexableField = searcher.doc(scoreDoc.doc).getField(field);
+    private static String getFieldContents(Document document, String field) {
+        IndexableField indexableField = document.getField(field);
         if (indexableField == null) {
             return "";
         }
@@ -85,11 +153,13 @@ public final class SearchResult {
         return luceneScore;
     }
 
-    public List<String> getContentResultStringsHtml() {
+    public synchronized List<String> getContentResultStringsHtml() {
+        highlight();
         return contentResultStringsHtml;
     }
 
-    public List<String> getAnnotationsResultStringsHtml() {
+    public synchronized List<String> getAnnotationsResultStringsHtml() {
+        highlight();
         return annotationsResultStringsHtml;
     }
 
@@ -54,6 +54,6 @@ public class ContainsBasedSearchRule extends FullTextSearchRule {
             }
         }
 
-        return getFulltextResults(query, bibEntry).numSearchResults() > 0; // Didn't match all words.
+        return hasFulltextResults(query, bibEntry); // Didn't match all words.
     }
 }
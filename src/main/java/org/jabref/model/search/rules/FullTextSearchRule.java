@@ -1,18 +1,15 @@
 package org.jabref.model.search.rules;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.EnumSet;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.gui.Globals;
 import org.jabref.logic.pdf.search.retrieval.PdfSearcher;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.pdf.search.FulltextHits;
 import org.jabref.model.pdf.search.PdfSearchResults;
-import org.jabref.model.pdf.search.SearchResult;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,7 +17,8 @@ import org.slf4j.LoggerFactory;
 /**
  * All classes providing full text search results inherit from this class.
  * <p>
- * Some kind of caching of the full text search results is implemented.
+ * The full text query is run once per query string. The results of an entry are then looked up by its linked files.
+ * Thus, the rule can be applied by several threads at the same time.
  */
 @AllowedToUseLogic("Because access to the lucene index is needed")
 public abstract class FullTextSearchRule implements SearchRule {
@@ -29,15 +27,12 @@ public abstract class FullTextSearchRule implements SearchRule {
 
     protected final EnumSet<SearchRules.SearchFlags> searchFlags;
 
-    protected String lastQuery;
-    protected List<SearchResult> lastSearchResults;
+    private volatile FulltextHits fulltextHits = FulltextHits.EMPTY;
 
     private final BibDatabaseContext databaseContext;
 
     public FullTextSearchRule(EnumSet<SearchRules.SearchFlags> searchFlags) {
         this.searchFlags = searchFlags;
-        this.lastQuery = "";
-        lastSearchResults = Collections.emptyList();
 
         databaseContext = Globals.stateManager.getActiveDatabase().orElse(null);
     }
@@ -51,21 +46,33 @@ public abstract class FullTextSearchRule implements SearchRule {
         if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || databaseContext == null) {
             return new PdfSearchResults();
         }
+        return getFulltextHits(query).getResultsFor(bibEntry);
+    }
 
-        if (!query.equals(this.lastQuery)) {
-            this.lastQuery = query;
-            lastSearchResults = Collections.emptyList();
-            try {
-                PdfSearcher searcher = PdfSearcher.of(databaseContext);
-                PdfSearchResults results = searcher.search(query, 5);
-                lastSearchResults = results.getSortedByScore();
-            } catch (IOException e) {
-                LOGGER.error("Could not retrieve search results!", e);
-            }
+    protected boolean hasFulltextResults(String query, BibEntry bibEntry) {
+        if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || databaseContext == null) {
+            return false;
         }
+        return getFulltextHits(query).hasResultsFor(bibEntry);
+    }
 
-        return new PdfSearchResults(lastSearchResults.stream()
-                                                     .filter(searchResult -> searchResult.isResultFor(bibEntry))
-                                                     .collect(Collectors.toList()));
+    private FulltextHits getFulltextHits(String query) {
+        FulltextHits hits = fulltextHits;
+        if (hits.getQuery().equals(query)) {
+            return hits;
+        }
+        synchronized (this) {
+            hits = fulltextHits;
+            if (!hits.getQuery().equals(query)) {
+                hits = new FulltextHits(query, new PdfSearchResults());
+                try {
+                    hits = new FulltextHits(query, PdfSearcher.of(databaseContext).search(query));
+                } catch (IOException e) {
+                    LOGGER.error("Could not retrieve search results!", e);
+                }
+                fulltextHits = hits;
+            }
+            return hits;
+        }
     }
 }
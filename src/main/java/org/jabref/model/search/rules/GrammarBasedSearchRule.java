@@ -4,13 +4,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.gui.Globals;
@@ -20,8 +21,8 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.pdf.search.FulltextHits;
 import org.jabref.model.pdf.search.PdfSearchResults;
-import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.model.search.rules.SearchRules.SearchFlags;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.search.SearchBaseVisitor;
@@ -52,8 +53,9 @@ public class GrammarBasedSearchRule implements SearchRule {
     private final EnumSet<SearchFlags> searchFlags;
 
     private ParseTree tree;
+    private Predicate<BibEntry> matcher;
     private String query;
-    private List<SearchResult> searchResults = new ArrayList<>();
+    private FulltextHits fulltextHits = FulltextHits.EMPTY;
 
     private final BibDatabaseContext databaseContext;
 
@@ -99,15 +101,14 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
         tree = parser.start();
+        matcher = new CompilingVisitor(searchFlags).visit(tree).predicate();
         this.query = query;
 
         if (!searchFlags.contains(SearchRules.SearchFlags.FULLTEXT) || (databaseContext == null)) {
             return;
         }
         try {
-            PdfSearcher searcher = PdfSearcher.of(databaseContext);
-            PdfSearchResults results = searcher.search(query, 5);
-            searchResults = results.getSortedByScore();
+            fulltextHits = new FulltextHits(query, PdfSearcher.of(databaseContext).search(query));
         } catch (IOException e) {
             LOGGER.error("Could not retrieve search results!", e);
         }
@@ -116,16 +117,16 @@ public class GrammarBasedSearchRule implements SearchRule {
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(searchFlags, bibEntry).visit(tree);
+            return matcher.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
-            return getFulltextResults(query, bibEntry).numSearchResults() > 0;
+            return fulltextHits.hasResultsFor(bibEntry);
         }
     }
 
     @Override
     public PdfSearchResults getFulltextResults(String query, BibEntry bibEntry) {
-        return new PdfSearchResults(searchResults.stream().filter(searchResult -> searchResult.isResultFor(bibEntry)).collect(Collectors.toList()));
+        return fulltextHits.getResultsFor(bibEntry);
     }
 
     @Override
@@ -157,41 +158,60 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
+    /**
+     * A comparison of the query, e.g., {@code author = miller}. The patterns and the kind of the searched field are
+     * determined once, when the comparison is created.
+     */
     public static class Comparator {
 
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
         private final Pattern valuePattern;
+        private final boolean searchesType;
+        private final boolean searchesKeywords;
+        private final boolean searchesAnyField;
+        // Set if the value is neither a regular expression nor compared case-insensitively
+        private final String literalValue;
+        // The length of a value matching exactly, or -1 if the value is a regular expression
+        private final int exactLength;
+        // A library only uses a few different fields, thus the result of matching their names is kept
+        private final Map<Field, Boolean> matchingFields = new ConcurrentHashMap<>();
 
         public Comparator(String field, String value, ComparisonOperator operator, EnumSet<SearchFlags> searchFlags) {
             this.operator = operator;
 
-            int option = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE) ? 0 : Pattern.CASE_INSENSITIVE;
-            this.fieldPattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? StringUtil.stripAccents(field) : "\\Q" + StringUtil.stripAccents(field) + "\\E", option);
-            this.valuePattern = Pattern.compile(searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION) ? StringUtil.stripAccents(value) : "\\Q" + StringUtil.stripAccents(value) + "\\E", option);
+            boolean regularExpression = searchFlags.contains(SearchRules.SearchFlags.REGULAR_EXPRESSION);
+            boolean caseSensitive = searchFlags.contains(SearchRules.SearchFlags.CASE_SENSITIVE);
+            int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
+            this.fieldPattern = Pattern.compile(regularExpression ? StringUtil.stripAccents(field) : "\\Q" + StringUtil.stripAccents(field) + "\\E", option);
+            this.valuePattern = Pattern.compile(regularExpression ? StringUtil.stripAccents(value) : "\\Q" + StringUtil.stripAccents(value) + "\\E", option);
+
+            this.searchesType = fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+            this.searchesKeywords = fieldPattern.matcher("anykeyword").matches();
+            this.searchesAnyField = fieldPattern.matcher("anyfield").matches();
+            this.literalValue = (regularExpression || !caseSensitive) ? null : StringUtil.stripAccents(value);
+            this.exactLength = regularExpression ? -1 : StringUtil.stripAccents(value).length();
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (searchesType) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (searchesKeywords) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
             // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
-
-            // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
-            }
-
-            for (Field field : fieldsKeys) {
+            boolean fieldFound = false;
+            for (Field field : entry.getFields()) {
+                // special case for searching allfields=cat and title=dog
+                if (!searchesAnyField && !matchFieldKey(field)) {
+                    continue;
+                }
+                fieldFound = true;
                 Optional<String> fieldValue = entry.getFieldLatexFree(field);
                 if (fieldValue.isPresent()) {
                     if (matchFieldValue(StringUtil.stripAccents(fieldValue.get()))) {
@@ -201,14 +221,39 @@ public class GrammarBasedSearchRule implements SearchRule {
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !fieldFound && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+        }
+
+        private boolean matchFieldKey(Field field) {
+            return matchingFields.computeIfAbsent(field, key -> fieldPattern.matcher(key.getName()).matches());
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        /**
+         * Estimates the effort of {@link #compare(BibEntry)}, so that cheap comparisons can be evaluated first
+         */
+        int getCost() {
+            if (searchesType) {
+                return 1;
+            } else if (searchesKeywords) {
+                return 4;
+            } else if (searchesAnyField) {
+                return 8;
+            }
+            return 2;
         }
 
         public boolean matchFieldValue(String content) {
+            if ((operator == ComparisonOperator.EXACT) && (exactLength >= 0) && (content.length() != exactLength)) {
+                return false;
+            }
+            if (literalValue != null) {
+                return switch (operator) {
+                    case CONTAINS -> content.contains(literalValue);
+                    case EXACT -> content.equals(literalValue);
+                    case DOES_NOT_CONTAIN -> !content.contains(literalValue);
+                };
+            }
+
             Matcher matcher = valuePattern.matcher(content);
             if (operator == ComparisonOperator.CONTAINS) {
                 return matcher.find();
@@ -223,61 +268,120 @@ public class GrammarBasedSearchRule implements SearchRule {
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * A part of the query compiled to a predicate, together with the estimated effort of evaluating it
+     *
+     * @param mayFail whether evaluating the predicate throws, because it contains a comparison with an invalid pattern
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    private record CompiledExpression(Predicate<BibEntry> predicate, int cost, boolean mayFail) {
+    }
 
-        private final EnumSet<SearchFlags> searchFlags;
+    /**
+     * Compiles the parse tree of a query to a tree of predicates. The patterns of the comparisons are compiled once
+     * instead of for every entry. The operands of "and" and "or" are evaluated in the order of their cost, so that the
+     * cheap ones decide the result whenever possible.
+     * <p>
+     * A comparison with an invalid pattern fails the whole search when it is evaluated, as when the tree was visited for
+     * each entry. Operands which contain such a comparison are thus evaluated in the order of the query, so that the
+     * search fails for exactly the same entries as before.
+     */
+    static class CompilingVisitor extends SearchBaseVisitor<CompiledExpression> {
 
-        private final BibEntry entry;
+        private static final int UNFIELDED_COST = 8;
 
-        public BibtexSearchVisitor(EnumSet<SearchFlags> searchFlags, BibEntry bibEntry) {
-            this.searchFlags = searchFlags;
-            this.entry = bibEntry;
-        }
+        private final EnumSet<SearchFlags> searchFlags;
 
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, searchFlags).compare(entry);
+        public CompilingVisitor(EnumSet<SearchFlags> searchFlags) {
+            this.searchFlags = searchFlags;
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public CompiledExpression visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
+        public CompiledExpression visitComparison(SearchParser.ComparisonContext context) {
             // remove possible enclosing " symbols
             String right = context.right.getText();
             if (right.startsWith("\"") && right.endsWith("\"")) {
                 right = right.substring(1, right.length() - 1);
             }
 
-            Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
-            if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
-            } else {
-                return SearchRules.getSearchRule(searchFlags).applyRule(right, entry);
+            if (context.left == null) {
+                SearchRule rule = SearchRules.getSearchRule(searchFlags);
+                String value = right;
+                return new CompiledExpression(entry -> rule.applyRule(value, entry), UNFIELDED_COST, false);
             }
+
+            Comparator comparator;
+            try {
+                comparator = new Comparator(context.left.getText(), right, ComparisonOperator.build(context.operator.getText()), searchFlags);
+            } catch (PatternSyntaxException e) {
+                // Reported when the comparison is evaluated, like any other failure of the search
+                return new CompiledExpression(entry -> {
+                    throw e;
+                }, 0, true);
+            }
+            return new CompiledExpression(comparator::compare, comparator.getCost(), false);
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public CompiledExpression visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            CompiledExpression expression = visit(ctx.expression());
+            return new CompiledExpression(expression.predicate().negate(), expression.cost(), expression.mayFail());
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public CompiledExpression visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
-            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+        public CompiledExpression visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            boolean and = isAnd(ctx);
+            List<CompiledExpression> operands = new ArrayList<>();
+            collectOperands(ctx, and, operands);
+            boolean mayFail = operands.stream().anyMatch(CompiledExpression::mayFail);
+            if (!mayFail) {
+                operands.sort((first, second) -> Integer.compare(first.cost(), second.cost()));
+            }
+
+            List<Predicate<BibEntry>> predicates = operands.stream().map(CompiledExpression::predicate).toList();
+            int cost = operands.stream().mapToInt(CompiledExpression::cost).sum();
+            if (and) {
+                return new CompiledExpression(entry -> {
+                    for (Predicate<BibEntry> predicate : predicates) {
+                        if (!predicate.test(entry)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }, cost, mayFail);
+            }
+            return new CompiledExpression(entry -> {
+                for (Predicate<BibEntry> predicate : predicates) {
+                    if (predicate.test(entry)) {
+                        return true;
+                    }
+                }
+                return false;
+            }, cost, mayFail);
+        }
+
+        /**
+         * Flattens chains of the same operator, e.g., "a and b and c", so that all of their operands can be reordered
+         */
+        private void collectOperands(SearchParser.ExpressionContext expression, boolean and, List<CompiledExpression> operands) {
+            if ((expression instanceof SearchParser.BinaryExpressionContext binaryExpression) && (isAnd(binaryExpression) == and)) {
+                collectOperands(binaryExpression.left, and, operands);
+                collectOperands(binaryExpression.right, and, operands);
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                operands.add(visit(expression));
             }
         }
+
+        private static boolean isAnd(SearchParser.BinaryExpressionContext expression) {
+            return "AND".equalsIgnoreCase(expression.operator.getText());
+        }
     }
 }
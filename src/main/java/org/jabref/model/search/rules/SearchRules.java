@@ -31,7 +31,10 @@ public class SearchRules {
         }
     }
 
-    private static boolean isSimpleQuery(String query) {
+    /**
+     * A simple query consists of words only and is always searched for by a {@link ContainsBasedSearchRule}
+     */
+    public static boolean isSimpleQuery(String query) {
         return SIMPLE_EXPRESSION.matcher(query).matches();
     }
 
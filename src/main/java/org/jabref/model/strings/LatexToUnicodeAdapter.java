@@ -6,6 +6,8 @@ import java.util.Optional;
 import java.util.regex.Pattern;
 
 import com.github.tomtung.latex2unicode.LaTeX2Unicode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import fastparse.Parsed;
 
 /**
@@ -19,6 +21,14 @@ public class LatexToUnicodeAdapter {
 
     private static final Pattern UNDERSCORE_PLACEHOLDER_MATCHER = Pattern.compile(REPLACEMENT_CHAR);
 
+    // Identical values (e.g., journal names or authors) are frequent across entries. The cache is bounded by the total
+    // length of the cached strings.
+    private static final long CACHE_WEIGHT = 4_000_000;
+    private static final Cache<String, Optional<String>> PARSED = CacheBuilder.newBuilder()
+                                                                              .maximumWeight(CACHE_WEIGHT)
+                                                                              .weigher((String latex, Optional<String> unicode) -> latex.length() + unicode.map(String::length).orElse(0))
+                                                                              .build();
+
     /**
      * Attempts to resolve all LaTeX in the String.
      *
@@ -38,6 +48,20 @@ public class LatexToUnicodeAdapter {
      */
     public static Optional<String> parse(String inField) {
         Objects.requireNonNull(inField);
+        Optional<String> simple = SimpleLatexToUnicode.convert(inField);
+        if (simple.isPresent()) {
+            return simple;
+        }
+
+        Optional<String> parsed = PARSED.getIfPresent(inField);
+        if (parsed == null) {
+            parsed = parseWithLibrary(inField);
+            PARSED.put(inField, parsed);
+        }
+        return parsed;
+    }
+
+    static Optional<String> parseWithLibrary(String inField) {
         String toFormat = UNDERSCORE_MATCHER.matcher(inField).replaceAll(REPLACEMENT_CHAR);
         var parsingResult = LaTeX2Unicode.parse(toFormat);
         if (parsingResult instanceof Parsed.Success) {
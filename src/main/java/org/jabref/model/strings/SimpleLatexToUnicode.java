@@ -0,0 +1,168 @@
+package org.jabref.model.strings;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Converts the LaTeX found in most field values without the full parser of {@link LatexToUnicodeAdapter}: plain text,
+ * grouping braces, accents on single letters (e.g., <code>{\"a}</code> or <code>\'{e}</code>), special letters (e.g.,
+ * <code>{\ss}</code>), and escaped characters (e.g., <code>\&amp;</code>).
+ * <p>
+ * Everything else, e.g., math, dashes, quotes, ties, or unknown commands, is left to the full parser.
+ */
+class SimpleLatexToUnicode {
+
+    private static final Map<Character, Character> ACCENTS = Map.ofEntries(
+            Map.entry('\'', '\u0301'),
+            Map.entry('`', '\u0300'),
+            Map.entry('^', '\u0302'),
+            Map.entry('"', '\u0308'),
+            Map.entry('~', '\u0303'),
+            Map.entry('=', '\u0304'),
+            Map.entry('.', '\u0307'));
+
+    // Accents named by a letter require their argument in braces, e.g., \c{c}
+    private static final Map<Character, Character> LETTER_ACCENTS = Map.of(
+            'c', '\u0327',
+            'v', '\u030C',
+            'u', '\u0306',
+            'H', '\u030B',
+            'k', '\u0328',
+            'r', '\u030A');
+
+    private static final Map<String, String> SYMBOLS = Map.ofEntries(
+            Map.entry("ss", "ß"),
+            Map.entry("o", "ø"),
+            Map.entry("O", "Ø"),
+            Map.entry("ae", "æ"),
+            Map.entry("AE", "Æ"),
+            Map.entry("oe", "œ"),
+            Map.entry("OE", "Œ"),
+            Map.entry("aa", "å"),
+            Map.entry("AA", "Å"),
+            Map.entry("l", "ł"),
+            Map.entry("L", "Ł"));
+
+    private static final String ESCAPED = "&%$#";
+
+    private SimpleLatexToUnicode() {
+    }
+
+    /**
+     * @return the converted string, or {@code empty} if the string contains LaTeX which is not handled here
+     */
+    static Optional<String> convert(String latex) {
+        StringBuilder result = null;
+        int depth = 0;
+        int length = latex.length();
+        for (int i = 0; i < length; i++) {
+            char c = latex.charAt(i);
+            if (isPlain(latex, i)) {
+                if (result != null) {
+                    result.append(c);
+                }
+                continue;
+            }
+            if (result == null) {
+                result = new StringBuilder(length).append(latex, 0, i);
+            }
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                if (--depth < 0) {
+                    return Optional.empty();
+                }
+            } else if ((c == '\\') && (i + 1 < length)) {
+                int end = convertCommand(latex, i + 1, result);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                i = end - 1;
+            } else {
+                return Optional.empty();
+            }
+        }
+        if (result == null) {
+            return Optional.of(Normalizer.normalize(latex, Normalizer.Form.NFC));
+        }
+        if (depth != 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Normalizer.normalize(result, Normalizer.Form.NFC));
+    }
+
+    private static boolean isPlain(String latex, int index) {
+        char c = latex.charAt(index);
+        char next = index + 1 < latex.length() ? latex.charAt(index + 1) : 0;
+        return switch (c) {
+            case '\\', '{', '}', '$', '~', '_', '^', '%', '&', '#', '`' ->
+                    false;
+            // Dashes, quotes, and multiple whitespace are converted by the parser
+            case '-' ->
+                    next != '-';
+            case '\'' ->
+                    next != '\'';
+            case ' ' ->
+                    (index > 0) && (next != 0) && !Character.isWhitespace(next);
+            default ->
+                    !Character.isISOControl(c) && !Character.isWhitespace(c);
+        };
+    }
+
+    /**
+     * Converts the command starting at the given index (after the backslash).
+     *
+     * @return the index after the command, or -1 if the command is not handled here
+     */
+    private static int convertCommand(String latex, int start, StringBuilder result) {
+        char c = latex.charAt(start);
+        if (ESCAPED.indexOf(c) >= 0) {
+            result.append(c);
+            return start + 1;
+        }
+
+        Character accent = ACCENTS.get(c);
+        if (accent != null) {
+            return appendAccented(latex, start + 1, accent, true, result);
+        }
+
+        int end = start;
+        while ((end < latex.length()) && isAsciiLetter(latex.charAt(end))) {
+            end++;
+        }
+        if (end == start) {
+            return -1;
+        }
+        if ((end == start + 1) && LETTER_ACCENTS.containsKey(c) && (end < latex.length()) && (latex.charAt(end) == '{')) {
+            return appendAccented(latex, end, LETTER_ACCENTS.get(c), false, result);
+        }
+
+        String symbol = SYMBOLS.get(latex.substring(start, end));
+        // A following space would be swallowed by LaTeX, which is left to the parser
+        if ((symbol == null) || ((end < latex.length()) && Character.isWhitespace(latex.charAt(end)))) {
+            return -1;
+        }
+        result.append(symbol);
+        return end;
+    }
+
+    /**
+     * Appends the letter at the given index, which may be enclosed in braces, followed by the combining accent.
+     */
+    private static int appendAccented(String latex, int index, char accent, boolean bracesOptional, StringBuilder result) {
+        if ((index + 2 < latex.length()) && (latex.charAt(index) == '{') && isAsciiLetter(latex.charAt(index + 1)) && (latex.charAt(index + 2) == '}')) {
+            result.append(latex.charAt(index + 1)).append(accent);
+            return index + 3;
+        }
+        if (bracesOptional && (index < latex.length()) && isAsciiLetter(latex.charAt(index))) {
+            result.append(latex.charAt(index)).append(accent);
+            return index + 1;
+        }
+        return -1;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z'));
+    }
+}
@@ -133,6 +133,9 @@ import org.slf4j.LoggerFactory;
  * <p>
  * There are still some similar preferences classes ({@link org.jabref.logic.openoffice.OpenOfficePreferences} and {@link org.jabref.logic.shared.prefs.SharedDatabasePreferences}) which also use
  * the {@code java.util.prefs} API.
+ * <p>
+ * The preference objects are created on first use, which may happen in background tasks. Thus, the getters creating
+ * them are synchronized.
  */
 @Singleton
 @Service
@@ -270,6 +273,7 @@ public class JabRefPreferences implements PreferencesService {
     public static final String SEARCH_KEEP_GLOBAL_WINDOW_ON_TOP = "keepOnTop";
     public static final String SEARCH_WINDOW_HEIGHT = "searchWindowHeight";
     public static final String SEARCH_WINDOW_WIDTH = "searchWindowWidth";
+    public static final String SEARCH_STORE_METADATA_INDEX = "storeSearchIndex";
 
     public static final String IMPORTERS_ENABLED = "importersEnabled";
     public static final String GENERATE_KEY_ON_IMPORT = "generateKeyOnImport";
@@ -510,6 +514,7 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(SEARCH_KEEP_GLOBAL_WINDOW_ON_TOP, Boolean.TRUE);
         defaults.put(SEARCH_WINDOW_HEIGHT, 176.0);
         defaults.put(SEARCH_WINDOW_WIDTH, 600.0);
+        defaults.put(SEARCH_STORE_METADATA_INDEX, Boolean.TRUE);
 
         defaults.put(IMPORTERS_ENABLED, Boolean.TRUE);
         defaults.put(GENERATE_KEY_ON_IMPORT, Boolean.TRUE);
@@ -1176,7 +1181,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public JournalAbbreviationPreferences getJournalAbbreviationPreferences() {
+    public synchronized JournalAbbreviationPreferences getJournalAbbreviationPreferences() {
         if (Objects.nonNull(journalAbbreviationPreferences)) {
             return journalAbbreviationPreferences;
         }
@@ -1269,7 +1274,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public OpenOfficePreferences getOpenOfficePreferences() {
+    public synchronized OpenOfficePreferences getOpenOfficePreferences() {
         if (Objects.nonNull(openOfficePreferences)) {
             return openOfficePreferences;
         }
@@ -1292,7 +1297,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public LibraryPreferences getLibraryPreferences() {
+    public synchronized LibraryPreferences getLibraryPreferences() {
         if (Objects.nonNull(libraryPreferences)) {
             return libraryPreferences;
         }
@@ -1310,7 +1315,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public TelemetryPreferences getTelemetryPreferences() {
+    public synchronized TelemetryPreferences getTelemetryPreferences() {
         if (Objects.nonNull(telemetryPreferences)) {
             return telemetryPreferences;
         }
@@ -1339,7 +1344,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public DOIPreferences getDOIPreferences() {
+    public synchronized DOIPreferences getDOIPreferences() {
         if (Objects.nonNull(doiPreferences)) {
             return doiPreferences;
         }
@@ -1355,7 +1360,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public OwnerPreferences getOwnerPreferences() {
+    public synchronized OwnerPreferences getOwnerPreferences() {
         if (Objects.nonNull(ownerPreferences)) {
             return ownerPreferences;
         }
@@ -1379,7 +1384,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public TimestampPreferences getTimestampPreferences() {
+    public synchronized TimestampPreferences getTimestampPreferences() {
         if (Objects.nonNull(timestampPreferences)) {
             return timestampPreferences;
         }
@@ -1398,7 +1403,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public GroupsPreferences getGroupsPreferences() {
+    public synchronized GroupsPreferences getGroupsPreferences() {
         if (Objects.nonNull(groupsPreferences)) {
             return groupsPreferences;
         }
@@ -1423,7 +1428,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public EntryEditorPreferences getEntryEditorPreferences() {
+    public synchronized EntryEditorPreferences getEntryEditorPreferences() {
         if (Objects.nonNull(entryEditorPreferences)) {
             return entryEditorPreferences;
         }
@@ -1526,7 +1531,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public RemotePreferences getRemotePreferences() {
+    public synchronized RemotePreferences getRemotePreferences() {
         if (Objects.nonNull(remotePreferences)) {
             return remotePreferences;
         }
@@ -1542,7 +1547,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public ProxyPreferences getProxyPreferences() {
+    public synchronized ProxyPreferences getProxyPreferences() {
         if (Objects.nonNull(proxyPreferences)) {
             return proxyPreferences;
         }
@@ -1610,7 +1615,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public SSLPreferences getSSLPreferences() {
+    public synchronized SSLPreferences getSSLPreferences() {
         if (Objects.nonNull(sslPreferences)) {
             return sslPreferences;
         }
@@ -1677,7 +1682,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public CitationKeyPatternPreferences getCitationKeyPatternPreferences() {
+    public synchronized CitationKeyPatternPreferences getCitationKeyPatternPreferences() {
         if (Objects.nonNull(citationKeyPatternPreferences)) {
             return citationKeyPatternPreferences;
         }
@@ -1732,7 +1737,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public PushToApplicationPreferences getPushToApplicationPreferences() {
+    public synchronized PushToApplicationPreferences getPushToApplicationPreferences() {
         if (Objects.nonNull(pushToApplicationPreferences)) {
             return pushToApplicationPreferences;
         }
@@ -1782,7 +1787,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public ExternalApplicationsPreferences getExternalApplicationsPreferences() {
+    public synchronized ExternalApplicationsPreferences getExternalApplicationsPreferences() {
         if (Objects.nonNull(externalApplicationsPreferences)) {
             return externalApplicationsPreferences;
         }
@@ -1822,7 +1827,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public MainTablePreferences getMainTablePreferences() {
+    public synchronized MainTablePreferences getMainTablePreferences() {
         if (Objects.nonNull(mainTablePreferences)) {
             return mainTablePreferences;
         }
@@ -1841,7 +1846,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public ColumnPreferences getMainTableColumnPreferences() {
+    public synchronized ColumnPreferences getMainTableColumnPreferences() {
         if (Objects.nonNull(mainTableColumnPreferences)) {
             return mainTableColumnPreferences;
         }
@@ -1862,7 +1867,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public ColumnPreferences getSearchDialogColumnPreferences() {
+    public synchronized ColumnPreferences getSearchDialogColumnPreferences() {
         if (Objects.nonNull(searchDialogColumnPreferences)) {
             return searchDialogColumnPreferences;
         }
@@ -1958,7 +1963,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public NameDisplayPreferences getNameDisplayPreferences() {
+    public synchronized NameDisplayPreferences getNameDisplayPreferences() {
         if (Objects.nonNull(nameDisplayPreferences)) {
             return nameDisplayPreferences;
         }
@@ -2007,7 +2012,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public BibEntryPreferences getBibEntryPreferences() {
+    public synchronized BibEntryPreferences getBibEntryPreferences() {
         if (Objects.nonNull(bibEntryPreferences)) {
             return bibEntryPreferences;
         }
@@ -2026,7 +2031,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public InternalPreferences getInternalPreferences() {
+    public synchronized InternalPreferences getInternalPreferences() {
         if (Objects.nonNull(internalPreferences)) {
             return internalPreferences;
         }
@@ -2072,7 +2077,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public WorkspacePreferences getWorkspacePreferences() {
+    public synchronized WorkspacePreferences getWorkspacePreferences() {
         if (workspacePreferences != null) {
             return workspacePreferences;
         }
@@ -2114,7 +2119,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public FieldPreferences getFieldPreferences() {
+    public synchronized FieldPreferences getFieldPreferences() {
         if (Objects.nonNull(fieldPreferences)) {
             return fieldPreferences;
         }
@@ -2142,7 +2147,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public FilePreferences getFilePreferences() {
+    public synchronized FilePreferences getFilePreferences() {
         if (Objects.nonNull(filePreferences)) {
             return filePreferences;
         }
@@ -2177,7 +2182,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public AutoLinkPreferences getAutoLinkPreferences() {
+    public synchronized AutoLinkPreferences getAutoLinkPreferences() {
         if (Objects.nonNull(autoLinkPreferences)) {
             return autoLinkPreferences;
         }
@@ -2217,7 +2222,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public ExportPreferences getExportPreferences() {
+    public synchronized ExportPreferences getExportPreferences() {
         if (Objects.nonNull(exportPreferences)) {
             return exportPreferences;
         }
@@ -2347,7 +2352,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public PreviewPreferences getPreviewPreferences() {
+    public synchronized PreviewPreferences getPreviewPreferences() {
         if (Objects.nonNull(previewPreferences)) {
             return previewPreferences;
         }
@@ -2358,7 +2363,7 @@ public class JabRefPreferences implements PreferencesService {
         this.previewPreferences = new PreviewPreferences(
                 layouts,
                 getPreviewCyclePosition(layouts),
-                new TextBasedPreviewLayout(style, getLayoutFormatterPreferences(), Globals.journalAbbreviationRepository),
+                new TextBasedPreviewLayout(style, getLayoutFormatterPreferences(), Globals.getJournalAbbreviationRepository()),
                 (String) defaults.get(PREVIEW_STYLE),
                 getBoolean(PREVIEW_AS_TAB));
 
@@ -2385,7 +2390,7 @@ public class JabRefPreferences implements PreferencesService {
                                                 .map(file -> (PreviewLayout) new CitationStylePreviewLayout(file, Globals.entryTypesManager))
                                                 .orElse(null);
                         } else {
-                            return new TextBasedPreviewLayout(style, getLayoutFormatterPreferences(), Globals.journalAbbreviationRepository);
+                            return new TextBasedPreviewLayout(style, getLayoutFormatterPreferences(), Globals.getJournalAbbreviationRepository());
                         }
                     })
                     .filter(Objects::nonNull)
@@ -2418,7 +2423,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public SidePanePreferences getSidePanePreferences() {
+    public synchronized SidePanePreferences getSidePanePreferences() {
         if (Objects.nonNull(sidePanePreferences)) {
             return sidePanePreferences;
         }
@@ -2497,7 +2502,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public CleanupPreferences getCleanupPreferences() {
+    public synchronized CleanupPreferences getCleanupPreferences() {
         if (Objects.nonNull(cleanupPreferences)) {
             return cleanupPreferences;
         }
@@ -2545,7 +2550,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public GuiPreferences getGuiPreferences() {
+    public synchronized GuiPreferences getGuiPreferences() {
         if (Objects.nonNull(guiPreferences)) {
             return guiPreferences;
         }
@@ -2618,7 +2623,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public SearchPreferences getSearchPreferences() {
+    public synchronized SearchPreferences getSearchPreferences() {
         if (Objects.nonNull(searchPreferences)) {
             return searchPreferences;
         }
@@ -2640,6 +2645,7 @@ public class JabRefPreferences implements PreferencesService {
                 getBoolean(SEARCH_KEEP_GLOBAL_WINDOW_ON_TOP),
                 getDouble(SEARCH_WINDOW_HEIGHT),
                 getDouble(SEARCH_WINDOW_WIDTH));
+        searchPreferences.setStoreMetadataIndex(getBoolean(SEARCH_STORE_METADATA_INDEX));
 
         EasyBind.listen(searchPreferences.searchDisplayModeProperty(), (obs, oldValue, newValue) -> put(SEARCH_DISPLAY_MODE, Objects.requireNonNull(searchPreferences.getSearchDisplayMode()).toString()));
         searchPreferences.getObservableSearchFlags().addListener((SetChangeListener<SearchRules.SearchFlags>) c -> {
@@ -2652,12 +2658,13 @@ public class JabRefPreferences implements PreferencesService {
         EasyBind.listen(searchPreferences.keepWindowOnTopProperty(), (obs, oldValue, newValue) -> putBoolean(SEARCH_KEEP_GLOBAL_WINDOW_ON_TOP, searchPreferences.shouldKeepWindowOnTop()));
         EasyBind.listen(searchPreferences.getSearchWindowHeightProperty(), (obs, oldValue, newValue) -> putDouble(SEARCH_WINDOW_HEIGHT, searchPreferences.getSearchWindowHeight()));
         EasyBind.listen(searchPreferences.getSearchWindowWidthProperty(), (obs, oldValue, newValue) -> putDouble(SEARCH_WINDOW_WIDTH, searchPreferences.getSearchWindowWidth()));
+        EasyBind.listen(searchPreferences.storeMetadataIndexProperty(), (obs, oldValue, newValue) -> putBoolean(SEARCH_STORE_METADATA_INDEX, newValue));
 
         return searchPreferences;
     }
 
     @Override
-    public XmpPreferences getXmpPreferences() {
+    public synchronized XmpPreferences getXmpPreferences() {
         if (Objects.nonNull(xmpPreferences)) {
             return xmpPreferences;
         }
@@ -2678,7 +2685,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public NameFormatterPreferences getNameFormatterPreferences() {
+    public synchronized NameFormatterPreferences getNameFormatterPreferences() {
         if (Objects.nonNull(nameFormatterPreferences)) {
             return nameFormatterPreferences;
         }
@@ -2696,7 +2703,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public AutoCompletePreferences getAutoCompletePreferences() {
+    public synchronized AutoCompletePreferences getAutoCompletePreferences() {
         if (Objects.nonNull(autoCompletePreferences)) {
             return autoCompletePreferences;
         }
@@ -2738,7 +2745,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public SpecialFieldsPreferences getSpecialFieldsPreferences() {
+    public synchronized SpecialFieldsPreferences getSpecialFieldsPreferences() {
         if (Objects.nonNull(specialFieldsPreferences)) {
             return specialFieldsPreferences;
         }
@@ -2751,7 +2758,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public MrDlibPreferences getMrDlibPreferences() {
+    public synchronized MrDlibPreferences getMrDlibPreferences() {
         if (Objects.nonNull(mrDlibPreferences)) {
             return mrDlibPreferences;
         }
@@ -2771,7 +2778,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public ProtectedTermsPreferences getProtectedTermsPreferences() {
+    public synchronized ProtectedTermsPreferences getProtectedTermsPreferences() {
         if (Objects.nonNull(protectedTermsPreferences)) {
             return protectedTermsPreferences;
         }
@@ -2800,7 +2807,7 @@ public class JabRefPreferences implements PreferencesService {
     //*************************************************************************************************************
 
     @Override
-    public ImporterPreferences getImporterPreferences() {
+    public synchronized ImporterPreferences getImporterPreferences() {
         if (Objects.nonNull(importerPreferences)) {
             return importerPreferences;
         }
@@ -2948,7 +2955,7 @@ public class JabRefPreferences implements PreferencesService {
     }
 
     @Override
-    public GrobidPreferences getGrobidPreferences() {
+    public synchronized GrobidPreferences getGrobidPreferences() {
         if (Objects.nonNull(grobidPreferences)) {
             return grobidPreferences;
         }
@@ -20,6 +20,9 @@ public class SearchPreferences {
     private final ObservableSet<SearchFlags> searchFlags;
     private final BooleanProperty keepWindowOnTop;
 
+    // Whether the entries of each library are indexed on disk, so that opening the library again only indexes changes
+    private final BooleanProperty storeMetadataIndex = new SimpleBooleanProperty(true);
+
     private final DoubleProperty searchWindowHeight = new SimpleDoubleProperty();
     private final DoubleProperty searchWindowWidth = new SimpleDoubleProperty();
 
@@ -112,6 +115,18 @@ public class SearchPreferences {
         this.keepWindowOnTop.set(keepWindowOnTop);
     }
 
+    public boolean shouldStoreMetadataIndex() {
+        return storeMetadataIndex.get();
+    }
+
+    public BooleanProperty storeMetadataIndexProperty() {
+        return storeMetadataIndex;
+    }
+
+    public void setStoreMetadataIndex(boolean storeMetadataIndex) {
+        this.storeMetadataIndex.set(storeMetadataIndex);
+    }
+
     public double getSearchWindowHeight() {
         return this.searchWindowHeight.get();
     }
@@ -0,0 +1,90 @@
+package org.jabref.cli;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.exporter.BibDatabaseWriter;
+import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.ExportPreferences;
+import org.jabref.preferences.PreferencesService;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchConverterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void collectInputFilesFromDirectory() throws Exception {
+        Path subDirectory = Files.createDirectories(tempDir.resolve("sub"));
+        Path first = Files.createFile(tempDir.resolve("a.bib"));
+        Path second = Files.createFile(subDirectory.resolve("b.bib"));
+        Files.createFile(tempDir.resolve("notes.txt"));
+
+        assertEquals(List.of(first, second), BatchConverter.collectInputFiles(tempDir));
+    }
+
+    @Test
+    void collectInputFilesFromManifest() throws Exception {
+        Path manifest = tempDir.resolve("manifest.txt");
+        Files.writeString(manifest, """
+                # libraries of the nightly run
+                a.bib
+
+                sub/b.bib
+                """);
+
+        assertEquals(List.of(tempDir.resolve("a.bib"), tempDir.resolve("sub/b.bib")), BatchConverter.collectInputFiles(manifest));
+    }
+
+    @Test
+    void convertLibrariesToBibtexAndHtml() throws Exception {
+        FieldPreferences fieldPreferences = new FieldPreferences(true, Collections.emptyList(), Collections.emptyList());
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.fieldPreferences()).thenReturn(fieldPreferences);
+        PreferencesService preferencesService = mock(PreferencesService.class, Answers.RETURNS_DEEP_STUBS);
+        when(preferencesService.getImportFormatPreferences()).thenReturn(importFormatPreferences);
+        when(preferencesService.getFieldPreferences()).thenReturn(fieldPreferences);
+        when(preferencesService.getExportPreferences()).thenReturn(new ExportPreferences(".html", tempDir, new SaveOrder(SaveOrder.OrderType.TABLE, List.of()), List.of()));
+        when(preferencesService.getSelfContainedExportConfiguration()).thenReturn(new SelfContainedSaveConfiguration(
+                new SelfContainedSaveOrder(SaveOrder.OrderType.ORIGINAL, List.of()), false, BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA, false));
+
+        Path originBib = Path.of(Objects.requireNonNull(BatchConverterTest.class.getResource("origin.bib")).toURI());
+        Path inputDirectory = Files.createDirectories(tempDir.resolve("input"));
+        Path first = Files.copy(originBib, inputDirectory.resolve("first.bib"));
+        Path second = Files.copy(originBib, Files.createDirectories(inputDirectory.resolve("sub")).resolve("first.bib"));
+        Path outputDirectory = tempDir.resolve("output");
+
+        BatchConverter converter = new BatchConverter(preferencesService, new BibEntryTypesManager(), JournalAbbreviationLoader.loadBuiltInRepository(), false, 2);
+        BatchConverter.Summary summary = converter.convert(List.of(first, second), outputDirectory, List.of(BatchConverter.BIBTEX_FORMAT, "tablerefsabsbib"));
+
+        assertEquals(2, summary.files());
+        assertEquals(0, summary.failed());
+        BibtexImporter importer = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor());
+        for (String outputName : List.of("first", "first-2")) {
+            assertEquals(3, importer.importDatabase(outputDirectory.resolve(outputName + ".bib")).getDatabase().getEntryCount());
+            assertTrue(Files.exists(outputDirectory.resolve(outputName + ".html")));
+        }
+        // Header and one line per library
+        assertEquals(3, Files.readAllLines(outputDirectory.resolve(BatchConverter.REPORT_FILE_NAME)).size());
+    }
+}
@@ -0,0 +1,104 @@
+package org.jabref.gui.maintable;
+
+import java.util.Collections;
+import java.util.List;
+
+import javafx.beans.value.ObservableValue;
+
+import org.jabref.gui.util.CurrentThreadTaskExecutor;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AbstractGroup;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MatchedGroupsIndexTest {
+
+    private BibDatabaseContext databaseContext;
+    private GroupTreeNode root;
+    private ExplicitGroup groupA;
+    private BibEntry entryInA;
+    private BibEntry entryWithoutGroup;
+    private MatchedGroupsIndex index;
+
+    @BeforeEach
+    void setUp() {
+        databaseContext = new BibDatabaseContext();
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        groupA = new ExplicitGroup("A", GroupHierarchyType.INDEPENDENT, ',');
+        root.addSubgroup(groupA);
+        databaseContext.getMetaData().setGroups(root);
+
+        entryInA = new BibEntry().withField(StandardField.GROUPS, "A");
+        entryWithoutGroup = new BibEntry();
+        databaseContext.getDatabase().insertEntry(entryInA);
+        databaseContext.getDatabase().insertEntry(entryWithoutGroup);
+
+        index = new MatchedGroupsIndex(databaseContext, new CurrentThreadTaskExecutor());
+    }
+
+    @Test
+    void rootGroupIsNotReported() {
+        assertEquals(List.of(groupA), index.getMatchedGroups(entryInA).getValue());
+        assertEquals(Collections.emptyList(), index.getMatchedGroups(entryWithoutGroup).getValue());
+    }
+
+    @Test
+    void sameValueIsReturnedForSameEntry() {
+        assertSame(index.getMatchedGroups(entryInA), index.getMatchedGroups(entryInA));
+    }
+
+    @Test
+    void changeOfEntryUpdatesOnlyThisEntry() {
+        ObservableValue<List<AbstractGroup>> groupsOfEntryInA = index.getMatchedGroups(entryInA);
+        ObservableValue<List<AbstractGroup>> groupsOfEntryWithoutGroup = index.getMatchedGroups(entryWithoutGroup);
+        boolean[] entryInAChanged = {false};
+        groupsOfEntryInA.addListener((observable, oldValue, newValue) -> entryInAChanged[0] = true);
+
+        entryWithoutGroup.setField(StandardField.GROUPS, "A");
+
+        assertEquals(List.of(groupA), groupsOfEntryWithoutGroup.getValue());
+        assertFalse(entryInAChanged[0]);
+    }
+
+    @Test
+    void addedGroupIsReported() {
+        ObservableValue<List<AbstractGroup>> groupsOfEntryInA = index.getMatchedGroups(entryInA);
+        ObservableValue<List<AbstractGroup>> groupsOfEntryWithoutGroup = index.getMatchedGroups(entryWithoutGroup);
+
+        ExplicitGroup groupB = new ExplicitGroup("B", GroupHierarchyType.INDEPENDENT, ',');
+        entryInA.setField(StandardField.GROUPS, "A,B");
+        root.addSubgroup(groupB);
+
+        assertEquals(List.of(groupA, groupB), groupsOfEntryInA.getValue());
+        assertEquals(Collections.emptyList(), groupsOfEntryWithoutGroup.getValue());
+    }
+
+    @Test
+    void newEntryIsEvaluated() {
+        index.getMatchedGroups(entryInA);
+        BibEntry newEntry = new BibEntry().withField(StandardField.GROUPS, "A");
+        databaseContext.getDatabase().insertEntry(newEntry);
+
+        assertEquals(List.of(groupA), index.getMatchedGroups(newEntry).getValue());
+    }
+
+    @Test
+    void removedGroupIsNoLongerReported() {
+        ObservableValue<List<AbstractGroup>> groupsOfEntryInA = index.getMatchedGroups(entryInA);
+
+        root.removeChild(0);
+
+        assertEquals(Collections.emptyList(), groupsOfEntryInA.getValue());
+    }
+}
@@ -0,0 +1,166 @@
+package org.jabref.gui.maintable;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+import org.jabref.gui.util.CurrentThreadTaskExecutor;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchMatchesIndexTest {
+
+    private BibDatabaseContext databaseContext;
+    private BibEntry einstein;
+    private BibEntry curie;
+    private ObjectProperty<Optional<SearchQuery>> searchQuery;
+    private SearchMatchesIndex index;
+
+    @BeforeEach
+    void setUp() {
+        databaseContext = new BibDatabaseContext();
+        einstein = new BibEntry().withField(StandardField.AUTHOR, "Albert Einstein");
+        curie = new BibEntry().withField(StandardField.AUTHOR, "Marie Curie");
+        databaseContext.getDatabase().insertEntry(einstein);
+        databaseContext.getDatabase().insertEntry(curie);
+
+        searchQuery = new SimpleObjectProperty<>(Optional.empty());
+        index = new SearchMatchesIndex(databaseContext, searchQuery, new CurrentThreadTaskExecutor());
+        index.openMetadataIndex();
+    }
+
+    private static Optional<SearchQuery> query(String query) {
+        return Optional.of(new SearchQuery(query, EnumSet.noneOf(SearchFlags.class)));
+    }
+
+    @Test
+    void allEntriesMatchWithoutQuery() {
+        assertTrue(index.matchesProperty().getValue().isMatch(einstein));
+        assertTrue(index.matchesProperty().getValue().isMatch(curie));
+    }
+
+    @Test
+    void onlyMatchingEntriesMatchQuery() {
+        searchQuery.set(query("einstein"));
+
+        assertTrue(index.matchesProperty().getValue().isMatch(einstein));
+        assertFalse(index.matchesProperty().getValue().isMatch(curie));
+    }
+
+    @Test
+    void refinedQueryIsPublished() {
+        searchQuery.set(query("e"));
+        SearchMatchesIndex.SearchMatches matches = index.matchesProperty().getValue();
+        assertTrue(matches.isMatch(curie));
+
+        searchQuery.set(query("ein"));
+
+        assertNotSame(matches, index.matchesProperty().getValue());
+        assertTrue(index.matchesProperty().getValue().isMatch(einstein));
+        assertFalse(index.matchesProperty().getValue().isMatch(curie));
+    }
+
+    @Test
+    void changedEntryIsEvaluatedAgain() {
+        searchQuery.set(query("einstein"));
+        SearchMatchesIndex.SearchMatches matches = index.matchesProperty().getValue();
+
+        curie.setField(StandardField.AUTHOR, "Albert Einstein and Marie Curie");
+
+        assertSame(matches, index.matchesProperty().getValue());
+        assertTrue(matches.isMatch(curie));
+    }
+
+    @Test
+    void changedEntryMatchesRefinedQuery() {
+        searchQuery.set(query("einstein"));
+        curie.setField(StandardField.AUTHOR, "Albert Einstein and Marie Curie");
+
+        searchQuery.set(query("einstein and"));
+
+        assertTrue(index.matchesProperty().getValue().isMatch(curie));
+        assertFalse(index.matchesProperty().getValue().isMatch(einstein));
+    }
+
+    @Test
+    void addedEntryIsEvaluated() {
+        searchQuery.set(query("einstein"));
+        BibEntry added = new BibEntry().withField(StandardField.TITLE, "On Einstein");
+
+        databaseContext.getDatabase().insertEntry(added);
+
+        assertTrue(index.matchesProperty().getValue().isMatch(added));
+    }
+
+    @Test
+    void entryChangedAfterIndexingMatchesNewQuery() {
+        curie.setField(StandardField.AUTHOR, "Albert Einstein and Marie Curie");
+
+        searchQuery.set(query("einstein"));
+
+        assertTrue(index.matchesProperty().getValue().isMatch(curie));
+        assertTrue(index.matchesProperty().getValue().isMatch(einstein));
+    }
+
+    @Test
+    void queryIsEvaluatedOnAllEntriesAfterClose() {
+        index.close();
+
+        searchQuery.set(query("curie"));
+
+        assertTrue(index.matchesProperty().getValue().isMatch(curie));
+        assertFalse(index.matchesProperty().getValue().isMatch(einstein));
+    }
+
+    @Test
+    void removedEntryIsNoLongerTrackedAsChanged() {
+        curie.setField(StandardField.AUTHOR, "Albert Einstein and Marie Curie");
+        assertEquals(1, index.getChangedSinceIndexedCount());
+
+        databaseContext.getDatabase().removeEntry(curie);
+
+        assertEquals(0, index.getChangedSinceIndexedCount());
+    }
+
+    @Test
+    void entryAddedAgainAfterRemovalIsEvaluated() {
+        databaseContext.getDatabase().removeEntry(curie);
+        curie.setField(StandardField.AUTHOR, "Albert Einstein and Marie Curie");
+        databaseContext.getDatabase().insertEntry(curie);
+
+        searchQuery.set(query("einstein"));
+
+        assertTrue(index.matchesProperty().getValue().isMatch(curie));
+    }
+
+    @Test
+    void manyChangedEntriesAreIndexedAgain() {
+        List<BibEntry> added = IntStream.rangeClosed(0, SearchMatchesIndex.RESYNCHRONIZATION_THRESHOLD)
+                                        .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "Relativity " + i))
+                                        .toList();
+
+        databaseContext.getDatabase().insertEntries(added);
+
+        assertEquals(0, index.getChangedSinceIndexedCount());
+        searchQuery.set(query("relativity"));
+        assertTrue(index.matchesProperty().getValue().isMatch(added.get(0)));
+        assertTrue(index.matchesProperty().getValue().isMatch(added.get(SearchMatchesIndex.RESYNCHRONIZATION_THRESHOLD)));
+        assertFalse(index.matchesProperty().getValue().isMatch(einstein));
+    }
+}
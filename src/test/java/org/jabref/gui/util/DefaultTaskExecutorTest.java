@@ -0,0 +1,102 @@
+package org.jabref.gui.util;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.stage.Stage;
+
+import org.jabref.gui.StateManager;
+import org.jabref.testutils.category.GUITest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@GUITest
+@ExtendWith(ApplicationExtension.class)
+class DefaultTaskExecutorTest {
+
+    // A single thread per pool, so that the order of waiting tasks is observable
+    private final DefaultTaskExecutor taskExecutor = new DefaultTaskExecutor(mock(StateManager.class), 1, 1);
+
+    @Start
+    void onStart(Stage stage) {
+        // Needed to init JavaFX thread
+        stage.show();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskExecutor.shutdown();
+    }
+
+    @Test
+    void waitingTasksAreStartedByPriorityThenBySubmission() throws InterruptedException {
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(4);
+        List<String> started = new CopyOnWriteArrayList<>();
+        taskExecutor.execute(BackgroundTask.wrap(() -> {
+            blocking.await();
+            return null;
+        }));
+        taskExecutor.execute(recording("low", started, finished).withPriority(BackgroundTask.Priority.LOW));
+        taskExecutor.execute(recording("first normal", started, finished));
+        taskExecutor.execute(recording("high", started, finished).withPriority(BackgroundTask.Priority.HIGH));
+        taskExecutor.execute(recording("second normal", started, finished));
+
+        blocking.countDown();
+
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("high", "first normal", "second normal", "low"), started);
+    }
+
+    private static BackgroundTask<Void> recording(String name, List<String> started, CountDownLatch finished) {
+        return BackgroundTask.wrap(() -> {
+            started.add(name);
+            finished.countDown();
+        });
+    }
+
+    @Test
+    void tasksRunOnDaemonThreads() throws Exception {
+        Future<Boolean> isDaemon = taskExecutor.execute(BackgroundTask.wrap(() -> Thread.currentThread().isDaemon()));
+
+        assertTrue(isDaemon.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void cancelledScheduledTaskDoesNotRun() throws InterruptedException {
+        AtomicBoolean ran = new AtomicBoolean();
+        Future<?> future = taskExecutor.schedule(BackgroundTask.wrap(() -> ran.set(true)), 100, TimeUnit.MILLISECONDS);
+        assertTrue(future.cancel(false));
+
+        // Scheduled later on the same scheduler and pool thread, thus it runs after the cancelled task would have run
+        CountDownLatch laterTaskRan = new CountDownLatch(1);
+        taskExecutor.schedule(BackgroundTask.wrap(laterTaskRan::countDown), 200, TimeUnit.MILLISECONDS);
+
+        assertTrue(laterTaskRan.await(5, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+        assertFalse(ran.get());
+    }
+
+    @Test
+    void scheduledTaskRunsAfterDelay() throws Exception {
+        CountDownLatch ran = new CountDownLatch(1);
+        Future<?> future = taskExecutor.schedule(BackgroundTask.wrap(ran::countDown), 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+        future.get(5, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+    }
+}
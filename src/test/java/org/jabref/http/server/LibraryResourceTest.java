@@ -2,7 +2,11 @@ package org.jabref.http.server;
 
 import org.jabref.http.JabrefMediaType;
 
+import com.google.gson.JsonParser;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +19,7 @@ class LibraryResourceTest extends ServerTest {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
+        addLibraryCacheToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
     }
 
@@ -36,4 +41,50 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void searchReturnsRequestedFieldsOfMatches() {
+        String response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "author=demo")
+                .queryParam("fields", "title,year")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class);
+
+        assertEquals(JsonParser.parseString("""
+                {"total":1,"page":1,"pageSize":20,"entries":[{"title":"Demo Title","year":"2023"}]}"""), JsonParser.parseString(response));
+    }
+
+    @Test
+    void searchWithoutMatchesReturnsEmptyPage() {
+        String response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title=nothing")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class);
+
+        assertEquals(JsonParser.parseString("""
+                {"total":0,"page":1,"pageSize":20,"entries":[]}"""), JsonParser.parseString(response));
+    }
+
+    @Test
+    void unchangedLibraryIsNotSentAgain() {
+        Response first = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").request(MediaType.APPLICATION_JSON).get();
+        String entityTag = first.getHeaderString(HttpHeaders.ETAG);
+
+        Response second = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .request(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+                .get();
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), second.getStatus());
+    }
+
+    @Test
+    void invalidPageIsRejected() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("page", 0)
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
 }
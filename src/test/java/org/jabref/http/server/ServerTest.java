@@ -9,6 +9,7 @@ import javafx.collections.FXCollections;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.search.LibraryCache;
 import org.jabref.preferences.BibEntryPreferences;
 import org.jabref.preferences.GuiPreferences;
 import org.jabref.preferences.PreferencesService;
@@ -54,6 +55,15 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryCacheToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(Application.createLibraryCache(preferencesService)).to(LibraryCache.class).ranked(2);
+            }
+        });
+    }
+
     protected void addPreferencesToResourceConfig(ResourceConfig resourceConfig) {
         resourceConfig.register(new AbstractBinder() {
             @Override
@@ -261,4 +261,41 @@ public class FieldComparatorTest {
 
         assertEquals(1, comparator.compare(smaller, bigger));
     }
+
+    @Test
+    public void compareUsesChangedFieldValue() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.AUTHOR);
+        BibEntry first = new BibEntry()
+                .withField(StandardField.AUTHOR, "Freund, Lucas");
+        BibEntry second = new BibEntry()
+                .withField(StandardField.AUTHOR, "Mustermann, Max");
+        assertEquals(-1, comparator.compare(first, second));
+
+        first.setField(StandardField.AUTHOR, "Zuse, Konrad");
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void compareUsesChangedType() throws Exception {
+        FieldComparator comparator = new FieldComparator(InternalField.TYPE_HEADER);
+        BibEntry first = new BibEntry(StandardEntryType.Article);
+        BibEntry second = new BibEntry(StandardEntryType.Book);
+        assertEquals(-1, comparator.compare(first, second));
+
+        first.setType(StandardEntryType.TechReport);
+
+        assertEquals(1, comparator.compare(first, second));
+    }
+
+    @Test
+    public void compareNumericFieldSortsNumbersBeforeText() throws Exception {
+        FieldComparator comparator = new FieldComparator(StandardField.VOLUME);
+        BibEntry number = new BibEntry()
+                .withField(StandardField.VOLUME, "12");
+        BibEntry text = new BibEntry()
+                .withField(StandardField.VOLUME, "xii");
+
+        assertEquals(-1, comparator.compare(number, text));
+    }
 }
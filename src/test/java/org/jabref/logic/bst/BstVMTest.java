@@ -87,6 +87,37 @@ public class BstVMTest {
                 vm.latestContext.stack().pop());
     }
 
+    @Test
+    public void testRenderTwice() throws RecognitionException {
+        BstVM vm = new BstVM("""
+                ENTRY { title } {} {}
+                FUNCTION { test } { title write$ newline$ }
+                READ
+                ITERATE { test }
+                """);
+
+        assertEquals("First\n", vm.render(List.of(new BibEntry().withField(StandardField.TITLE, "First"))));
+        assertEquals("Second\nThird\n", vm.render(List.of(
+                new BibEntry().withField(StandardField.TITLE, "Second"),
+                new BibEntry().withField(StandardField.TITLE, "Third"))));
+    }
+
+    @Test
+    public void testRedefinitionBetweenCommands() throws RecognitionException {
+        BstVM vm = new BstVM("""
+                FUNCTION { value } { "function" }
+                FUNCTION { test } { value }
+                EXECUTE { test }
+                FUNCTION { value } { "redefined" }
+                EXECUTE { test }
+                """);
+
+        vm.render(Collections.emptyList());
+
+        assertEquals("redefined", vm.latestContext.stack().pop());
+        assertEquals("function", vm.latestContext.stack().pop());
+    }
+
     @Test
     public void testQuote() throws RecognitionException {
         BstVM vm = new BstVM("FUNCTION { a }{ quote$ quote$ * } EXECUTE { a }");
@@ -25,12 +25,14 @@ import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.preferences.CleanupPreferences;
 import org.jabref.preferences.FilePreferences;
 
+import com.google.common.eventbus.Subscribe;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -346,4 +348,92 @@ class CleanupWorkerTest {
         worker.cleanup(preset, entry);
         assertEquals(Optional.of("01"), entry.getField(StandardField.MONTH));
     }
+
+    @Test
+    void cleanupOfSeveralEntriesChangesAllEntries() {
+        CleanupPreferences preset = new CleanupPreferences(new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup(StandardField.MONTH, new NormalizeMonthFormatter()))));
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            entries.add(new BibEntry().withField(StandardField.MONTH, "01"));
+        }
+        entries.add(new BibEntry().withField(StandardField.MONTH, "#feb#"));
+
+        CleanupResult result = worker.cleanup(preset, entries);
+
+        assertEquals(100, result.modifiedEntries());
+        assertEquals(101, result.entries());
+        assertEquals(100, result.changes().size());
+        assertEquals(Optional.of("#jan#"), entries.get(99).getField(StandardField.MONTH));
+        assertEquals(Optional.of("#feb#"), entries.get(100).getField(StandardField.MONTH));
+    }
+
+    @Test
+    void cleanupOfSeveralEntriesChangesEntriesOnCallingThread() {
+        CleanupPreferences preset = new CleanupPreferences(new FieldFormatterCleanups(true,
+                Collections.singletonList(new FieldFormatterCleanup(StandardField.MONTH, new NormalizeMonthFormatter()))));
+        List<BibEntry> entries = new ArrayList<>();
+        List<Thread> changingThreads = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            BibEntry entry = new BibEntry().withField(StandardField.MONTH, "01");
+            entry.registerListener(new Object() {
+                @Subscribe
+                public void listen(FieldChangedEvent event) {
+                    changingThreads.add(Thread.currentThread());
+                }
+            });
+            entries.add(entry);
+        }
+
+        CleanupResult result = worker.cleanup(preset, entries);
+
+        assertEquals(Collections.nCopies(100, Thread.currentThread()), changingThreads);
+        assertEquals(entries, result.changes().stream().map(FieldChange::getEntry).toList());
+    }
+
+    @Test
+    void cleanupOfSeveralEntriesDoesNotMoveTwoFilesToTheSamePath(@TempDir Path bibFolder) throws IOException {
+        CleanupPreferences preset = new CleanupPreferences(CleanupPreferences.CleanupStep.MOVE_PDF);
+        List<BibEntry> entries = new ArrayList<>();
+        List<Path> files = new ArrayList<>();
+        for (String folder : List.of("first", "second")) {
+            Path file = Files.createFile(Files.createDirectory(bibFolder.resolve(folder)).resolve("test.pdf"));
+            files.add(file);
+            entries.add(new BibEntry().withField(StandardField.FILE,
+                    FileFieldWriter.getStringRepresentation(new LinkedFile("", file.toAbsolutePath(), ""))));
+        }
+
+        CleanupResult result = worker.cleanup(preset, entries);
+
+        // One file was moved, the other one stays where it is
+        assertEquals(1, result.modifiedEntries());
+        assertEquals(1, files.stream().filter(Files::exists).count());
+    }
+
+    @Test
+    void cleanupOfSeveralEntriesMovesFilesButChangesEntriesOnCallingThread(@TempDir Path bibFolder) throws IOException {
+        CleanupPreferences preset = new CleanupPreferences(CleanupPreferences.CleanupStep.MOVE_PDF);
+        List<BibEntry> entries = new ArrayList<>();
+        List<Thread> changingThreads = Collections.synchronizedList(new ArrayList<>());
+        Path folder = Files.createDirectory(bibFolder.resolve("files"));
+        for (int i = 0; i < 20; i++) {
+            Path file = Files.createFile(folder.resolve("test" + i + ".pdf"));
+            BibEntry entry = new BibEntry().withField(StandardField.FILE,
+                    FileFieldWriter.getStringRepresentation(new LinkedFile("", file.toAbsolutePath(), "")));
+            entry.registerListener(new Object() {
+                @Subscribe
+                public void listen(FieldChangedEvent event) {
+                    changingThreads.add(Thread.currentThread());
+                }
+            });
+            entries.add(entry);
+        }
+
+        CleanupResult result = worker.cleanup(preset, entries);
+
+        assertEquals(20, result.modifiedEntries());
+        assertEquals(Collections.nCopies(20, Thread.currentThread()), changingThreads);
+        assertEquals(Optional.of(FileFieldWriter.getStringRepresentation(new LinkedFile("", Path.of("test7.pdf"), ""))),
+                entries.get(7).getField(StandardField.FILE));
+    }
 }
@@ -0,0 +1,110 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFingerprintIndexTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    private DuplicateFingerprintIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateFingerprintIndex(new DuplicateCheck(new BibEntryTypesManager()), BibDatabaseMode.BIBTEX);
+        index.addAll(List.of(article, unrelatedArticle));
+    }
+
+    @Test
+    void findsDuplicateWithDifferentlyFormattedTitle() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A Serious Paper About Something")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Optional.of(article), index.findDuplicate(entry));
+    }
+
+    @Test
+    void findsDuplicateWithSameAuthorAndYear() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about somethin")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Optional.of(article), index.findDuplicate(entry));
+    }
+
+    @Test
+    void findsDuplicateWithSameDoi() {
+        index.add(new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/182"));
+        BibEntry entry = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.TITLE, "Other title")
+                .withField(StandardField.DOI, "https://doi.org/10.1000/182");
+
+        assertEquals(StandardEntryType.Article, index.findDuplicate(entry).map(BibEntry::getType).orElse(null));
+    }
+
+    @Test
+    void findsNoDuplicateOfUnrelatedEntry() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Another Author")
+                .withField(StandardField.TITLE, "Yet another paper")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(Optional.empty(), index.findDuplicate(entry));
+    }
+
+    @Test
+    void entryIsNotItsOwnDuplicate() {
+        assertEquals(Optional.empty(), index.findDuplicate(article));
+    }
+
+    @Test
+    void removedEntryIsNoDuplicate() {
+        index.remove(article);
+        BibEntry entry = (BibEntry) article.clone();
+
+        assertEquals(Optional.empty(), index.findDuplicate(entry));
+    }
+
+    @Test
+    void libraryIndexFollowsChangesOfLibrary() {
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(List.of(article)));
+        DuplicateFingerprintIndex libraryIndex = DuplicateFingerprintIndex.ofLibrary(databaseContext, new DuplicateCheck(new BibEntryTypesManager()));
+        BibEntry copyOfArticle = (BibEntry) article.clone();
+        BibEntry copyOfUnrelatedArticle = (BibEntry) unrelatedArticle.clone();
+
+        databaseContext.getDatabase().insertEntry(unrelatedArticle);
+        assertEquals(Optional.of(unrelatedArticle), libraryIndex.findDuplicate(copyOfUnrelatedArticle));
+
+        databaseContext.getDatabase().removeEntry(unrelatedArticle);
+        assertEquals(Optional.empty(), libraryIndex.findDuplicate(copyOfUnrelatedArticle));
+
+        article.setField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla");
+        article.setField(StandardField.AUTHOR, "Completely Different");
+        article.setField(StandardField.YEAR, "1992");
+        assertEquals(Optional.of(article), libraryIndex.findDuplicate(copyOfUnrelatedArticle));
+        assertEquals(Optional.empty(), libraryIndex.findDuplicate(copyOfArticle));
+    }
+}
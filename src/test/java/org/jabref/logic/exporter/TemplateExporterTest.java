@@ -0,0 +1,69 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    private static final int ENTRIES = 50;
+
+    @Test
+    void concurrentExportsNumberTheirEntriesIndependently(@TempDir Path tempDir) throws Exception {
+        Path layoutFile = tempDir.resolve("numbered.layout");
+        Files.writeString(layoutFile, "\\format[Number]{\\title}\n");
+        TemplateExporter exporter = new TemplateExporter("Numbered",
+                "numbered",
+                layoutFile.toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        exporter.setCustomExport(true);
+
+        List<BibEntry> entries = IntStream.rangeClosed(1, ENTRIES)
+                                          .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "title " + i))
+                                          .toList();
+        BibDatabaseContext databaseContext = new BibDatabaseContext(new BibDatabase(entries));
+        List<String> expected = IntStream.rangeClosed(1, ENTRIES).mapToObj(String::valueOf).collect(Collectors.toList());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> exports = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Path file = tempDir.resolve("export-" + i + ".txt");
+                exports.add(executor.submit(() -> {
+                    exporter.export(databaseContext, file, entries, List.of(), mock(JournalAbbreviationRepository.class));
+                    return Files.readAllLines(file);
+                }));
+            }
+            for (Future<List<String>> export : exports) {
+                assertEquals(expected, export.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -54,6 +54,7 @@ import org.jabref.model.groups.RegexKeywordGroup;
 import org.jabref.model.groups.TexGroup;
 import org.jabref.model.groups.WordKeywordGroup;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -64,6 +65,7 @@ import org.mockito.Answers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -102,6 +104,24 @@ class BibtexParserTest {
         assertEquals(List.of(expected), result);
     }
 
+    @Test
+    void parseWithFieldValueDeduplicationSharesJournalInstances() throws IOException {
+        BibtexParser deduplicatingParser = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor(), true);
+        ParserResult result = deduplicatingParser.parse(new StringReader(
+                "@article{a, journal = {Nature}}" + OS.NEWLINE + "@article{b, journal = {Nature}}"));
+
+        List<BibEntry> entries = result.getDatabase().getEntries();
+        assertEquals(2, entries.size());
+        assertSame(entries.get(0).getField(StandardField.JOURNAL).get(), entries.get(1).getField(StandardField.JOURNAL).get());
+        assertTrue(result.getFieldValuePool().isPresent());
+    }
+
+    @Test
+    void parseWithoutFieldValueDeduplicationHasNoPool() throws IOException {
+        ParserResult result = parser.parse(new StringReader("@article{a, journal = {Nature}}"));
+        assertEquals(Optional.empty(), result.getFieldValuePool());
+    }
+
     @Test
     void fromStringReturnsEmptyListFromEmptyString() throws ParseException {
         Collection<BibEntry> parsed = parser.parseEntries("");
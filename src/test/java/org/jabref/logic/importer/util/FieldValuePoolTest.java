@@ -0,0 +1,51 @@
+package org.jabref.logic.importer.util;
+
+import java.util.Set;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FieldValuePoolTest {
+
+    private final FieldValuePool pool = new FieldValuePool();
+
+    @Test
+    void equalValuesOfPooledFieldShareInstance() {
+        String first = new String("Journal of Software");
+        String second = new String("Journal of Software");
+
+        assertSame(first, pool.canonicalize(StandardField.JOURNAL, first));
+        assertSame(first, pool.canonicalize(StandardField.JOURNAL, second));
+        assertEquals(1, pool.size());
+        assertEquals(1, pool.getHits());
+    }
+
+    @Test
+    void valuesOfOtherFieldsAreNotPooled() {
+        String first = new String("A title");
+        String second = new String("A title");
+
+        pool.canonicalize(StandardField.TITLE, first);
+
+        assertSame(second, pool.canonicalize(StandardField.TITLE, second));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    void poolDoesNotGrowBeyondMaxSize() {
+        FieldValuePool boundedPool = new FieldValuePool(Set.<Field>of(StandardField.PUBLISHER), 1);
+        boundedPool.canonicalize(StandardField.PUBLISHER, "Springer");
+        assertEquals(1, boundedPool.size());
+
+        boundedPool.canonicalize(StandardField.PUBLISHER, "Elsevier");
+        boundedPool.canonicalize(StandardField.PUBLISHER, "Wiley");
+
+        assertEquals(1, boundedPool.size());
+        assertEquals(1, boundedPool.getMaxSize());
+    }
+}
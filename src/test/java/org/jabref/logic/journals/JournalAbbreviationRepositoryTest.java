@@ -1,5 +1,10 @@
 package org.jabref.logic.journals;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.undo.CompoundEdit;
@@ -16,6 +21,7 @@ import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -154,6 +160,16 @@ class JournalAbbreviationRepositoryTest {
         assertEquals("LN", repository.getShortestUniqueAbbreviation("Long Name").orElse("WRONG"));
     }
 
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        repository.addCustomAbbreviation(new Abbreviation("Long Name", "L. N.", "LN"));
+
+        assertEquals("L. N.", repository.getDefaultAbbreviation("long name").orElse("WRONG"));
+        assertTrue(repository.isKnownName("l. n."));
+        assertTrue(repository.isAbbreviatedName("ln"));
+        assertFalse(repository.isAbbreviatedName("LONG NAME"));
+    }
+
     @Test
     void getFromFullName() {
         assertEquals(new Abbreviation("American Journal of Public Health", "Am. J. Public Health"), repository.get("American Journal of Public Health").get());
@@ -314,4 +330,37 @@ class JournalAbbreviationRepositoryTest {
                 .withField(StandardField.JOURNAL, "Physical Review B");
         assertEquals(expectedAbbreviatedJournalEntry, abbreviatedJournalEntry);
     }
+
+    @Test
+    void repositoryLoadedInBackgroundIsHandedOutBeforeLoading(@TempDir Path tempDir) throws Exception {
+        Path externalList = tempDir.resolve("journals.csv");
+        Files.writeString(externalList, "Background Journal;Bg. J.\n");
+        List<Runnable> pendingTasks = new ArrayList<>();
+
+        JournalAbbreviationRepository backgroundRepository = JournalAbbreviationLoader.loadRepositoryInBackground(
+                new JournalAbbreviationPreferences(List.of(externalList.toString()), true),
+                pendingTasks::add,
+                () -> true);
+
+        assertEquals(1, pendingTasks.size());
+        pendingTasks.get(0).run();
+        assertEquals("Bg. J.", backgroundRepository.getDefaultAbbreviation("Background Journal").orElse("WRONG"));
+        assertEquals("Am. J. Public Health", backgroundRepository.getDefaultAbbreviation("American Journal of Public Health").orElse("WRONG"));
+    }
+
+    @Test
+    void lookupOfThreadWhichMustNotWaitFindsNothingWhileLoading(@TempDir Path tempDir) throws Exception {
+        Path externalList = tempDir.resolve("journals.csv");
+        Files.writeString(externalList, "Background Journal;Bg. J.\n");
+        List<Runnable> pendingTasks = new ArrayList<>();
+
+        JournalAbbreviationRepository backgroundRepository = JournalAbbreviationLoader.loadRepositoryInBackground(
+                new JournalAbbreviationPreferences(List.of(externalList.toString()), true),
+                pendingTasks::add,
+                () -> false);
+
+        assertEquals(Optional.empty(), backgroundRepository.getDefaultAbbreviation("Background Journal"));
+        pendingTasks.get(0).run();
+        assertEquals(Optional.of("Bg. J."), backgroundRepository.getDefaultAbbreviation("Background Journal"));
+    }
 }
@@ -0,0 +1,85 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalListTest {
+
+    private static final Abbreviation PHYSICAL_REVIEW_LETTERS = new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL");
+
+    @TempDir
+    Path tempDir;
+
+    private Path createJournalList(boolean withLookupMaps) {
+        Path file = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(file.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalList.FULL_TO_ABBREVIATION);
+            fullToAbbreviation.put(PHYSICAL_REVIEW_LETTERS.getName(), PHYSICAL_REVIEW_LETTERS);
+            if (withLookupMaps) {
+                JournalList.writeLookupMaps(store);
+            }
+        }
+        return file;
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void findsAllFormsInFile(boolean withLookupMaps) {
+        try (JournalList journalList = JournalList.open(createJournalList(withLookupMaps))) {
+            for (String name : List.of("Physical Review Letters", "Phys. Rev. Lett.", "Phys Rev Lett", "PRL")) {
+                assertEquals(Optional.of(PHYSICAL_REVIEW_LETTERS), journalList.get(name));
+            }
+            assertEquals(Optional.empty(), journalList.get("Physical Review"));
+            assertEquals("Phys Rev Lett", journalList.get("PRL").get().getDotlessAbbreviation());
+        }
+    }
+
+    @Test
+    void isAbbreviationIsFalseForFullName() {
+        try (JournalList journalList = JournalList.open(createJournalList(true))) {
+            assertFalse(journalList.isAbbreviation("Physical Review Letters"));
+            assertTrue(journalList.isAbbreviation("Phys. Rev. Lett."));
+        }
+    }
+
+    @Test
+    void fullNamesAndAllAbbreviationsAreRead() {
+        try (JournalList journalList = JournalList.open(createJournalList(true))) {
+            assertEquals(Set.of("Physical Review Letters"), journalList.getFullNames());
+            assertEquals(List.of(PHYSICAL_REVIEW_LETTERS), List.copyOf(journalList.getAll()));
+        }
+    }
+
+    @Test
+    void inMemoryList() {
+        JournalList journalList = JournalList.of(List.of(PHYSICAL_REVIEW_LETTERS));
+        assertEquals(Optional.of(PHYSICAL_REVIEW_LETTERS), journalList.get("Phys Rev Lett"));
+        assertEquals(1, journalList.size());
+    }
+
+    @Test
+    void repositoryOpenedFromFileReleasesFileOnClose() {
+        Path file = createJournalList(true);
+        try (JournalAbbreviationRepository repository = new JournalAbbreviationRepository(file)) {
+            assertTrue(repository.isKnownName("PRL"));
+        }
+
+        // A file can be opened only once per process, thus this fails if the repository did not close it
+        try (JournalList journalList = JournalList.open(file)) {
+            assertEquals(1, journalList.size());
+        }
+    }
+}
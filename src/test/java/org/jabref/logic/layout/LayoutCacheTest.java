@@ -0,0 +1,65 @@
+package org.jabref.logic.layout;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LayoutCacheTest {
+
+    private static final String TEXT = "\\begin{author}\\format[HTMLChars]{\\author}\\end{author}";
+
+    private LayoutFormatterPreferences layoutFormatterPreferences;
+    private JournalAbbreviationRepository abbreviationRepository;
+
+    @BeforeEach
+    void setUp() {
+        layoutFormatterPreferences = mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        abbreviationRepository = mock(JournalAbbreviationRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        LayoutCache.clear();
+    }
+
+    @Test
+    void sameTextIsCompiledOnce() throws Exception {
+        Layout layout = LayoutCache.getLayout(TEXT, List.of(), layoutFormatterPreferences, abbreviationRepository);
+
+        assertSame(layout, LayoutCache.getLayout(TEXT, List.of(), layoutFormatterPreferences, abbreviationRepository));
+    }
+
+    @Test
+    void differentTextIsCompiledSeparately() throws Exception {
+        Layout layout = LayoutCache.getLayout(TEXT, List.of(), layoutFormatterPreferences, abbreviationRepository);
+
+        assertNotSame(layout, LayoutCache.getLayout(TEXT + " ", List.of(), layoutFormatterPreferences, abbreviationRepository));
+    }
+
+    @Test
+    void differentFileDirectoriesAreCompiledSeparately() throws Exception {
+        Layout layout = LayoutCache.getLayout(TEXT, List.of(), layoutFormatterPreferences, abbreviationRepository);
+
+        assertNotSame(layout, LayoutCache.getLayout(TEXT, List.of(Path.of("pdfs")), layoutFormatterPreferences, abbreviationRepository));
+    }
+
+    @Test
+    void changedCustomNameFormatterIsCompiledSeparately() throws Exception {
+        Layout layout = LayoutCache.getLayout(TEXT, List.of(), layoutFormatterPreferences, abbreviationRepository);
+        when(layoutFormatterPreferences.getCustomExportNameFormatters()).thenReturn(Map.of("MyFormatter", "<author>"));
+
+        assertNotSame(layout, LayoutCache.getLayout(TEXT, List.of(), layoutFormatterPreferences, abbreviationRepository));
+    }
+}
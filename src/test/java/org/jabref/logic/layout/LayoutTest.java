@@ -12,6 +12,7 @@ import org.jabref.logic.layout.format.NameFormatterPreferences;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.entry.types.UnknownEntryType;
 
@@ -154,6 +155,15 @@ class LayoutTest {
                 layoutText);
     }
 
+    @Test
+    void blankTextAfterSkippedEntryInBlockIsSkipped() throws IOException {
+        // In entry layouts, \encoding prints the field "encoding" and is skipped if it is not set
+        String layout = "\\begin{title}\\encoding__NEWLINE__ __NEWLINE__\\title\\end{title}";
+
+        assertEquals("Title", layout(layout, new BibEntry().withField(StandardField.TITLE, "Title")));
+        assertEquals("UTF-8\n \nTitle", layout(layout, new BibEntry().withField(StandardField.TITLE, "Title").withField(new UnknownField("encoding"), "UTF-8")));
+    }
+
     @Test
     void expandCommandIfTerminatedByMinus() throws IOException {
         BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.EDITION, "2");
@@ -0,0 +1,130 @@
+package org.jabref.logic.net;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HttpTransportTest {
+
+    @Test
+    void plainHttpRequestUsesHttp11() {
+        HttpRequest request = HttpTransport.newRequest(URI.create("http://example.org"), Map.of()).build();
+
+        assertEquals(Optional.of(HttpClient.Version.HTTP_1_1), request.version());
+    }
+
+    @Test
+    void httpsRequestLeavesVersionToClient() {
+        HttpRequest request = HttpTransport.newRequest(URI.create("https://example.org"), Map.of()).build();
+
+        assertEquals(Optional.empty(), request.version());
+    }
+
+    @Test
+    void requestAsksForGzipAndSkipsRestrictedHeaders() {
+        HttpRequest request = HttpTransport.newRequest(URI.create("https://example.org"), Map.of("Connection", "close", "User-Agent", "JabRef")).build();
+
+        assertEquals(Optional.of("gzip"), request.headers().firstValue("Accept-Encoding"));
+        assertEquals(Optional.empty(), request.headers().firstValue("Connection"));
+        assertEquals(Optional.of("JabRef"), request.headers().firstValue("User-Agent"));
+    }
+
+    @Test
+    void requestHasTimeout() {
+        HttpRequest request = HttpTransport.newRequest(URI.create("https://example.org"), Map.of()).build();
+
+        assertEquals(Optional.of(HttpTransport.REQUEST_TIMEOUT), request.timeout());
+    }
+
+    @Test
+    void requestsAboveLimitStartInOrderWhenRunningRequestsFinish() {
+        HttpTransport.HostLimiter limiter = new HttpTransport.HostLimiter();
+        List<String> started = new ArrayList<>();
+
+        limiter.submit(2, () -> started.add("first"));
+        limiter.submit(2, () -> started.add("second"));
+        limiter.submit(2, () -> started.add("third"));
+        limiter.submit(2, () -> started.add("fourth"));
+        assertEquals(List.of("first", "second"), started);
+
+        limiter.finish();
+        assertEquals(List.of("first", "second", "third"), started);
+
+        limiter.finish();
+        limiter.finish();
+        limiter.finish();
+        assertEquals(List.of("first", "second", "third", "fourth"), started);
+        assertEquals(0, limiter.getRunning());
+    }
+
+    @Test
+    void gzippedBodyIsDecompressedAndReleasesSlotAtItsEnd() throws IOException {
+        HttpTransport.HostLimiter limiter = new HttpTransport.HostLimiter();
+        limiter.submit(1, () -> { });
+        // Data following the gzip stream is not read, as the decompressed body ends with the trailer
+        byte[] body = concat(gzip("JabRef"), "trailing data".getBytes(StandardCharsets.UTF_8));
+
+        InputStream decodedBody = HttpTransport.limitBody(headers("Content-Encoding", "gzip"), new ByteArrayInputStream(body), limiter);
+
+        assertEquals("JabRef", new String(decodedBody.readAllBytes(), StandardCharsets.UTF_8));
+        assertEquals(0, limiter.getRunning());
+    }
+
+    @Test
+    void closingUnreadBodyReleasesSlotOnce() throws IOException {
+        HttpTransport.HostLimiter limiter = new HttpTransport.HostLimiter();
+        limiter.submit(1, () -> { });
+        limiter.submit(1, () -> { });
+
+        InputStream body = HttpTransport.limitBody(headers("Content-Type", "text/plain"), new ByteArrayInputStream(new byte[10]), limiter);
+        body.close();
+        body.close();
+
+        // The waiting request took over the slot
+        assertEquals(1, limiter.getRunning());
+    }
+
+    @Test
+    void invalidGzipBodyReleasesSlot() {
+        HttpTransport.HostLimiter limiter = new HttpTransport.HostLimiter();
+        limiter.submit(1, () -> { });
+
+        assertThrows(IOException.class, () -> HttpTransport.limitBody(headers("Content-Encoding", "gzip"), new ByteArrayInputStream(new byte[] {1, 2, 3}), limiter));
+        assertEquals(0, limiter.getRunning());
+    }
+
+    private static HttpHeaders headers(String name, String value) {
+        return HttpHeaders.of(Map.of(name, List.of(value)), (headerName, headerValue) -> true);
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -12,6 +12,7 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.pdf.search.PdfSearchResults;
+import org.jabref.model.pdf.search.SearchResult;
 import org.jabref.preferences.FilePreferences;
 
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -22,6 +23,7 @@ import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -90,6 +92,22 @@ public class PdfSearcherTest {
         assertEquals(2, result.numSearchResults());
     }
 
+    @Test
+    public void searchWithoutLimitReturnsAllHits() throws IOException {
+        PdfSearchResults result = search.search("test");
+        assertEquals(8, result.numSearchResults());
+    }
+
+    @Test
+    public void textOfHitIsLoadedWhenHighlighted() throws IOException {
+        SearchResult annotationHit = search.search("annotation").getSortedByScore().stream()
+                                           .filter(hit -> !hit.getAnnotationsResultStringsHtml().isEmpty())
+                                           .findFirst()
+                                           .orElseThrow();
+
+        assertTrue(annotationHit.getAnnotationsResultStringsHtml().stream().anyMatch(text -> text.contains("<b>")));
+    }
+
     @Test
     public void searchForEmptyString() throws IOException {
         PdfSearchResults result = search.search("", 10);
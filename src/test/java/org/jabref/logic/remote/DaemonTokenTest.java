@@ -0,0 +1,49 @@
+package org.jabref.logic.remote;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaemonTokenTest {
+
+    @Test
+    void createdTokenIsReadBack(@TempDir Path tempDir) throws Exception {
+        Path tokenFile = tempDir.resolve("daemon").resolve("token");
+        String token = DaemonToken.create(tokenFile);
+
+        assertEquals(token, DaemonToken.read(tokenFile));
+    }
+
+    @Test
+    void everyDaemonGetsANewToken(@TempDir Path tempDir) throws Exception {
+        Path tokenFile = tempDir.resolve("token");
+
+        assertNotEquals(DaemonToken.create(tokenFile), DaemonToken.create(tokenFile));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void tokenFileIsOnlyAccessibleByOwner(@TempDir Path tempDir) throws Exception {
+        Path tokenFile = tempDir.resolve("token");
+        DaemonToken.create(tokenFile);
+
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFile)));
+    }
+
+    @Test
+    void matchesComparesWholeToken() {
+        assertTrue(DaemonToken.matches("abc", "abc"));
+        assertFalse(DaemonToken.matches("abc", "ab"));
+        assertFalse(DaemonToken.matches("abc", "abd"));
+    }
+}
@@ -0,0 +1,59 @@
+package org.jabref.logic.remote;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FramedProtocolTest {
+
+    @Test
+    void frameRoundTrip() throws IOException {
+        List<String> strings = List.of("D:\\T EST\\测试te st.bib", "", "author=Newton\nsecond line");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FramedProtocol.writeFrame(output, (byte) 3, strings);
+
+        FramedProtocol.Frame frame = FramedProtocol.readFrame(new ByteArrayInputStream(output.toByteArray())).orElseThrow();
+
+        assertEquals(new FramedProtocol.Frame((byte) 3, strings), frame);
+    }
+
+    @Test
+    void consecutiveFramesAreReadOneByOne() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FramedProtocol.writeFrame(output, (byte) 1, List.of("first"));
+        FramedProtocol.writeFrame(output, (byte) 2, List.of("second"));
+        ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+
+        assertEquals(List.of("first"), FramedProtocol.readFrame(input).orElseThrow().strings());
+        assertEquals(List.of("second"), FramedProtocol.readFrame(input).orElseThrow().strings());
+        assertEquals(Optional.empty(), FramedProtocol.readFrame(input));
+    }
+
+    @Test
+    void tooLongFrameIsRejected() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new DataOutputStream(output).writeInt(FramedProtocol.MAX_FRAME_LENGTH + 1);
+
+        assertThrows(IOException.class, () -> FramedProtocol.readFrame(new ByteArrayInputStream(output.toByteArray())));
+    }
+
+    @Test
+    void wrongStringLengthIsRejected() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DataOutputStream frame = new DataOutputStream(output);
+        frame.writeInt(9);
+        frame.writeByte(0);
+        frame.writeInt(1);
+        frame.writeInt(100);
+
+        assertThrows(IOException.class, () -> FramedProtocol.readFrame(new ByteArrayInputStream(output.toByteArray())));
+    }
+}
@@ -0,0 +1,129 @@
+package org.jabref.logic.remote.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.remote.DaemonCommand;
+import org.jabref.logic.remote.DaemonRequest;
+import org.jabref.logic.remote.DaemonResponse;
+import org.jabref.logic.remote.FramedProtocol;
+import org.jabref.logic.remote.RemotePreferences;
+import org.jabref.logic.remote.client.DaemonClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaemonServerTest {
+
+    private static final String TOKEN = "secret";
+
+    private final CountDownLatch bothSearching = new CountDownLatch(2);
+    private DaemonServer server;
+    private Thread serverThread;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new DaemonServer(request -> switch (request.command()) {
+            case SEARCH -> {
+                // Only answers if the other client is served at the same time
+                bothSearching.countDown();
+                bothSearching.await(5, TimeUnit.SECONDS);
+                yield DaemonResponse.ok(String.valueOf(bothSearching.getCount()));
+            }
+            case CONVERT ->
+                    throw new IllegalArgumentException("Usage: CONVERT INPUT OUTPUT [FORMAT]");
+            default ->
+                    DaemonResponse.ok(String.join(",", request.arguments()));
+        }, 0, 2, TOKEN);
+        serverThread = new Thread(server);
+        serverThread.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        server.close();
+        serverThread.join();
+    }
+
+    @Test
+    void connectionServesSeveralRequests() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(server.getPort(), TOKEN)) {
+            assertTrue(client.ping());
+            assertEquals(DaemonResponse.ok("a.bib,b.bib"), client.send(DaemonCommand.KEYGEN, "a.bib", "b.bib"));
+            assertEquals(DaemonResponse.ok(""), client.send(DaemonCommand.KEYGEN));
+        }
+    }
+
+    @Test
+    void failingRequestIsAnsweredWithError() throws IOException {
+        try (DaemonClient client = DaemonClient.connect(server.getPort(), TOKEN)) {
+            assertEquals(DaemonResponse.error("Usage: CONVERT INPUT OUTPUT [FORMAT]"), client.send(DaemonCommand.CONVERT));
+            assertTrue(client.ping());
+        }
+    }
+
+    @Test
+    void clientsAreServedConcurrently() throws Exception {
+        try (DaemonClient first = DaemonClient.connect(server.getPort(), TOKEN);
+             DaemonClient second = DaemonClient.connect(server.getPort(), TOKEN)) {
+            Thread other = new Thread(() -> {
+                try {
+                    first.send(DaemonCommand.SEARCH);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            other.start();
+            assertEquals(DaemonResponse.ok("0"), second.send(DaemonCommand.SEARCH));
+            other.join();
+        }
+    }
+
+    @Test
+    void idleConnectionsDoNotBlockOtherClients() throws Exception {
+        try (DaemonClient firstIdle = DaemonClient.connect(server.getPort(), TOKEN);
+             DaemonClient secondIdle = DaemonClient.connect(server.getPort(), TOKEN);
+             DaemonClient active = DaemonClient.connect(server.getPort(), TOKEN)) {
+            assertTrue(firstIdle.ping());
+            assertTrue(secondIdle.ping());
+            assertEquals(DaemonResponse.ok("a.bib"), active.send(DaemonCommand.KEYGEN, "a.bib"));
+        }
+    }
+
+    @Test
+    void shutdownStopsServer() throws Exception {
+        try (DaemonClient client = DaemonClient.connect(server.getPort(), TOKEN)) {
+            assertTrue(client.send(DaemonCommand.SHUTDOWN).isOk());
+        }
+        serverThread.join(5000);
+        assertTrue(server.isClosed());
+    }
+
+    @Test
+    void wrongTokenIsRefused() {
+        assertThrows(IOException.class, () -> DaemonClient.connect(server.getPort(), "guessed"));
+        assertFalse(server.isClosed());
+    }
+
+    @Test
+    void requestWithoutAuthenticationIsRefusedAndConnectionClosed() throws IOException {
+        Socket socket = new Socket();
+        socket.connect(new InetSocketAddress(RemotePreferences.getIpAddress(), server.getPort()));
+        try (FramedProtocol protocol = new FramedProtocol(socket)) {
+            protocol.sendRequest(new DaemonRequest(DaemonCommand.SHUTDOWN));
+            assertEquals(DaemonResponse.error("Not authenticated"), protocol.receiveResponse());
+            assertEquals(Optional.empty(), protocol.receiveRequest());
+        }
+        assertFalse(server.isClosed());
+    }
+}
@@ -0,0 +1,135 @@
+package org.jabref.logic.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.logic.search.LibraryCache.CachedLibrary;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LibraryCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private Path file;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws IOException {
+        file = tempDir.resolve("library.bib");
+        Files.writeString(file, "first");
+    }
+
+    private BibDatabaseContext load(Path path) throws IOException {
+        loads.incrementAndGet();
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, Files.readString(path));
+        return new BibDatabaseContext(new BibDatabase(List.of(entry)));
+    }
+
+    @Test
+    void unchangedLibraryIsParsedOnce() throws IOException {
+        LibraryCache cache = new LibraryCache(this::load, databaseContext -> null);
+
+        CachedLibrary library = cache.get(file);
+
+        assertSame(library, cache.get(file));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void changedLibraryIsParsedAgain() throws IOException {
+        LibraryCache cache = new LibraryCache(this::load, databaseContext -> null);
+        CachedLibrary library = cache.get(file);
+
+        Files.writeString(file, "second version");
+
+        CachedLibrary changedLibrary = cache.get(file);
+        assertNotSame(library, changedLibrary);
+        assertEquals(Optional.of("second version"), changedLibrary.getDatabaseContext().getEntries().get(0).getTitle());
+    }
+
+    @Test
+    void invalidatedLibraryIsParsedAgain() throws IOException {
+        LibraryCache cache = new LibraryCache(this::load, databaseContext -> null);
+        cache.get(file);
+
+        cache.invalidate(file);
+        cache.get(file);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void failedParseIsNotCached() throws IOException {
+        LibraryCache cache = new LibraryCache(path -> {
+            if (loads.get() == 0) {
+                loads.incrementAndGet();
+                throw new IOException("Could not parse");
+            }
+            return load(path);
+        }, databaseContext -> null);
+
+        assertThrows(IOException.class, () -> cache.get(file));
+        cache.get(file);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void concurrentRequestsWaitForSingleParse() throws Exception {
+        CountDownLatch parsing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        LibraryCache cache = new LibraryCache(path -> {
+            parsing.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return load(path);
+        }, databaseContext -> null);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<CachedLibrary> first = executor.submit(() -> cache.get(file));
+            assertTrue(parsing.await(5, TimeUnit.SECONDS));
+            Future<CachedLibrary> second = executor.submit(() -> cache.get(file));
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void matchesAreSearchedWithoutIndex() throws IOException {
+        LibraryCache cache = new LibraryCache(this::load, databaseContext -> null);
+        CachedLibrary library = cache.get(file);
+
+        List<BibEntry> matches = library.getMatches(Optional.of(new SearchQuery("title=first", EnumSet.noneOf(SearchFlags.class))), Optional.empty(), false);
+
+        assertEquals(library.getDatabaseContext().getEntries(), matches);
+    }
+}
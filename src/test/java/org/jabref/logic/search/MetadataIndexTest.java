@@ -0,0 +1,128 @@
+package org.jabref.logic.search;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.rules.SearchRules.SearchFlags;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetadataIndexTest {
+
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Simon Harrer")
+            .withField(StandardField.TITLE, "Java Code Conventions")
+            .withField(StandardField.YEAR, "2015");
+    private final BibEntry lenhard = new BibEntry(StandardEntryType.Book)
+            .withField(StandardField.AUTHOR, "Jörg Lenhard")
+            .withField(StandardField.TITLE, "Process Engines")
+            .withField(StandardField.YEAR, "2016");
+
+    private ByteBuffersDirectory directory;
+    private MetadataIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        directory = new ByteBuffersDirectory();
+        index = new MetadataIndex(directory);
+        index.synchronize(List.of(harrer, lenhard));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void findsCandidatesOfContainsQuery() {
+        assertEquals(Optional.of(List.of(harrer)), index.getCandidates(new SearchQuery("conventions", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void findsCandidatesOfQueryWithoutAccents() {
+        assertEquals(Optional.of(List.of(lenhard)), index.getCandidates(new SearchQuery("jorg", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void findsCandidatesOfFieldQuery() {
+        assertEquals(Optional.of(List.of(harrer)), index.getCandidates(new SearchQuery("author=harrer", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void doesNotFindValueInOtherField() {
+        assertEquals(Optional.of(List.of()), index.getCandidates(new SearchQuery("title=harrer", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void negatedQueryKeepsAllEntries() {
+        assertEquals(Optional.of(List.of(harrer, lenhard)), index.getCandidates(new SearchQuery("author!=harrer", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void fulltextQueryIsNotAnswered() {
+        assertEquals(Optional.empty(), index.getCandidates(new SearchQuery("conventions", EnumSet.of(SearchFlags.FULLTEXT))));
+    }
+
+    @Test
+    void unchangedEntriesAreNotIndexedAgain() throws Exception {
+        BibEntry newEntry = new BibEntry(StandardEntryType.Misc).withField(StandardField.TITLE, "Something new");
+
+        assertEquals(1, index.synchronize(List.of(harrer, lenhard, newEntry)));
+    }
+
+    @Test
+    void removedEntriesAreNoCandidates() throws Exception {
+        index.synchronize(List.of(lenhard));
+
+        assertEquals(Optional.of(List.of()), index.getCandidates(new SearchQuery("harrer", EnumSet.noneOf(SearchFlags.class))));
+    }
+
+    @Test
+    void deletesIndicesOfMissingLibrariesAndOutdatedFormats(@TempDir Path baseDirectory) throws Exception {
+        Path library = Files.createFile(baseDirectory.resolve("library.bib"));
+        Path indexOfExistingLibrary = createIndexDirectory(baseDirectory, "1-metadata-1", library);
+        Path indexOfMissingLibrary = createIndexDirectory(baseDirectory, "2-metadata-1", baseDirectory.resolve("renamed.bib"));
+        Path indexOfOutdatedFormat = createIndexDirectory(baseDirectory, "3-metadata-0", library);
+        Path fulltextIndex = Files.createDirectory(baseDirectory.resolve("4"));
+
+        MetadataIndex.deleteStaleIndices(baseDirectory, true);
+
+        assertTrue(Files.exists(indexOfExistingLibrary));
+        assertFalse(Files.exists(indexOfMissingLibrary));
+        assertFalse(Files.exists(indexOfOutdatedFormat));
+        assertTrue(Files.exists(fulltextIndex));
+    }
+
+    @Test
+    void deletesAllIndicesIfTheyAreNotKept(@TempDir Path baseDirectory) throws Exception {
+        Path library = Files.createFile(baseDirectory.resolve("library.bib"));
+        Path indexOfExistingLibrary = createIndexDirectory(baseDirectory, "1-metadata-1", library);
+
+        MetadataIndex.deleteStaleIndices(baseDirectory, false);
+
+        assertFalse(Files.exists(indexOfExistingLibrary));
+        assertTrue(Files.exists(library));
+    }
+
+    private static Path createIndexDirectory(Path baseDirectory, String name, Path library) throws IOException {
+        Path indexDirectory = Files.createDirectory(baseDirectory.resolve(name));
+        Files.writeString(indexDirectory.resolve("_0.cfs"), "segment");
+        Files.writeString(indexDirectory.resolve(MetadataIndex.LIBRARY_FILE), library.toAbsolutePath().toString());
+        return indexDirectory;
+    }
+}
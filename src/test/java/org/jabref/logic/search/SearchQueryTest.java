@@ -38,6 +38,29 @@ public class SearchQueryTest {
         assertTrue(new SearchQuery("author=asdf", EnumSet.of(SearchRules.SearchFlags.CASE_SENSITIVE)).isGrammarBasedSearch());
     }
 
+    @Test
+    public void testIsRefinementOf() {
+        SearchQuery query = new SearchQuery("asd", EnumSet.noneOf(SearchFlags.class));
+        assertTrue(new SearchQuery("asdf", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(query));
+        assertTrue(new SearchQuery("asd f", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(query));
+        assertTrue(new SearchQuery("asd", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(query));
+        assertFalse(new SearchQuery("as", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(query));
+        assertFalse(new SearchQuery("asdf", EnumSet.of(SearchFlags.CASE_SENSITIVE)).isRefinementOf(query));
+    }
+
+    @Test
+    public void testExtendedGrammarQueryIsNoRefinement() {
+        SearchQuery query = new SearchQuery("author=asd", EnumSet.noneOf(SearchFlags.class));
+        assertTrue(new SearchQuery("author=asd", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(query));
+        assertFalse(new SearchQuery("author=asd or title=a", EnumSet.noneOf(SearchFlags.class)).isRefinementOf(query));
+    }
+
+    @Test
+    public void testFulltextQueryIsNoRefinement() {
+        SearchQuery query = new SearchQuery("asd", EnumSet.of(SearchFlags.FULLTEXT));
+        assertFalse(new SearchQuery("asd", EnumSet.of(SearchFlags.FULLTEXT)).isRefinementOf(query));
+    }
+
     @Test
     public void testGrammarSearch() {
         BibEntry entry = new BibEntry();
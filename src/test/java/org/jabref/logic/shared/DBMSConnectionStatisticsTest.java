@@ -0,0 +1,45 @@
+package org.jabref.logic.shared;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DBMSConnectionStatisticsTest {
+
+    private final DBMSConnectionStatistics statistics = new DBMSConnectionStatistics();
+
+    @Test
+    void noLatenciesWithoutQueries() {
+        assertEquals(Optional.empty(), statistics.getAverageReadLatency());
+        assertEquals(Optional.empty(), statistics.getAverageWriteLatency());
+        assertEquals(Optional.empty(), statistics.getLastHealthCheckLatency());
+    }
+
+    @Test
+    void averagesReadsAndWritesSeparately() {
+        statistics.recordRead(Duration.ofMillis(10).toNanos());
+        statistics.recordRead(Duration.ofMillis(30).toNanos());
+        statistics.recordWrite(Duration.ofMillis(5).toNanos());
+
+        assertEquals(2, statistics.getReads());
+        assertEquals(Optional.of(Duration.ofMillis(20)), statistics.getAverageReadLatency());
+        assertEquals(Optional.of(Duration.ofMillis(5)), statistics.getAverageWriteLatency());
+    }
+
+    @Test
+    void lastHealthCheckDeterminesHealth() {
+        statistics.recordHealthCheck(false, 0);
+        assertFalse(statistics.isHealthy());
+
+        statistics.recordHealthCheck(true, Duration.ofMillis(2).toNanos());
+
+        assertTrue(statistics.isHealthy());
+        assertEquals(1, statistics.getFailedHealthChecks());
+        assertEquals(Optional.of(Duration.ofMillis(2)), statistics.getLastHealthCheckLatency());
+    }
+}
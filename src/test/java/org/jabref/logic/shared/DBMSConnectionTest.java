@@ -1,32 +1,96 @@
 package org.jabref.logic.shared;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 
 import org.jabref.testutils.category.DatabaseTest;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
-@DatabaseTest
 public class DBMSConnectionTest {
 
+    private static DBMSConnectionProperties createProperties(DBMSType dbmsType) {
+        return new DBMSConnectionPropertiesBuilder()
+                .setType(dbmsType)
+                .setHost("XXXX")
+                .setPort(33778)
+                .setDatabase("XXXX")
+                .setUser("XXXX")
+                .setPassword("XXXX")
+                .setUseSSL(false)
+                .setServerTimezone("XXXX")
+                .createDBMSConnectionProperties();
+    }
+
+    @DatabaseTest
     @ParameterizedTest
     @EnumSource(DBMSType.class)
     public void getConnectionFailsWhenconnectingToInvalidHost(DBMSType dbmsType) {
         assertThrows(SQLException.class,
-                () -> new DBMSConnection(
-                        new DBMSConnectionPropertiesBuilder()
-                                .setType(dbmsType)
-                                .setHost("XXXX")
-                                .setPort(33778)
-                                .setDatabase("XXXX")
-                                .setUser("XXXX")
-                                .setPassword("XXXX")
-                                .setUseSSL(false)
-                                .setServerTimezone("XXXX")
-                                .createDBMSConnectionProperties())
+                () -> new DBMSConnection(createProperties(dbmsType))
                         .getConnection());
     }
+
+    @Test
+    public void readsUseSeparateConnection() throws Exception {
+        Connection connection = mock(Connection.class);
+        Connection readConnection = mock(Connection.class);
+        DBMSConnection dbmsConnection = new DBMSConnection(createProperties(DBMSType.POSTGRESQL), openingInTurn(connection, readConnection));
+
+        assertSame(readConnection, dbmsConnection.getReadConnection());
+        assertFalse(dbmsConnection.isReadConnectionShared());
+
+        dbmsConnection.close();
+        verify(readConnection).close();
+        verify(connection).close();
+    }
+
+    @Test
+    public void readsUseConnectionForWritingIfReadConnectionIsRefused() throws Exception {
+        Connection connection = mock(Connection.class);
+        DBMSConnection dbmsConnection = new DBMSConnection(createProperties(DBMSType.POSTGRESQL), openingInTurn(connection, null));
+
+        assertSame(connection, dbmsConnection.getReadConnection());
+        assertTrue(dbmsConnection.isReadConnectionShared());
+
+        // The shared connection is closed once
+        dbmsConnection.close();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    public void notificationsUseOwnConnectionIfReadConnectionIsRefused() throws Exception {
+        Connection connection = mock(Connection.class);
+        Connection notificationConnection = mock(Connection.class);
+        DBMSConnection dbmsConnection = new DBMSConnection(createProperties(DBMSType.POSTGRESQL), openingInTurn(connection, null, notificationConnection));
+
+        assertSame(connection, dbmsConnection.getReadConnection());
+        // Notifications still get a connection of their own
+        assertNotSame(connection, dbmsConnection.getNotificationConnection());
+    }
+
+    /**
+     * Returns a factory opening the given connections in turn, where <code>null</code> stands for a refused connection
+     */
+    private static DBMSConnection.ConnectionFactory openingInTurn(Connection... connections) {
+        int[] next = {0};
+        return () -> {
+            Connection connection = connections[next[0]++];
+            if (connection == null) {
+                throw new SQLException("Too many connections");
+            }
+            return connection;
+        };
+    }
 }
@@ -31,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 @DatabaseTest
 @Execution(ExecutionMode.SAME_THREAD)
@@ -51,7 +52,7 @@ class DBMSProcessorTest {
 
     @AfterEach
     public void closeDbmsConnection() throws SQLException {
-        this.dbmsConnection.getConnection().close();
+        this.dbmsConnection.close();
     }
 
     @Test
@@ -182,6 +183,48 @@ class DBMSProcessorTest {
         assertThrows(OfflineLockException.class, () -> dbmsProcessor.updateEntry(bibEntry));
     }
 
+    @Test
+    void testUpdateNewerEntryKeepsSharedFields() {
+        BibEntry bibEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(bibEntry);
+        BibEntry sharedEntry = dbmsProcessor.getSharedEntry(bibEntry.getSharedBibEntryData().getSharedID()).get();
+
+        bibEntry.getSharedBibEntryData().setVersion(0);
+        bibEntry.clearField(StandardField.BOOKTITLE);
+
+        assertThrows(OfflineLockException.class, () -> dbmsProcessor.updateEntry(bibEntry));
+        assertEquals(Optional.of(sharedEntry), dbmsProcessor.getSharedEntry(bibEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void testInsertAndRemoveEntriesInSeveralBatches() {
+        dbmsProcessor.setBatchSize(2);
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "title " + i)
+                                                               .withField(StandardField.YEAR, Integer.toString(2000 + i)));
+        }
+
+        dbmsProcessor.insertEntries(entries);
+        assertEquals(entries, dbmsProcessor.getSharedEntries());
+
+        dbmsProcessor.removeEntries(entries.subList(0, 4));
+        assertEquals(List.of(entries.get(4)), dbmsProcessor.getSharedEntries());
+    }
+
+    @Test
+    void testFailedInsertionOfFieldsInsertsNoEntry() {
+        BibEntry validEntry = getBibEntryExample();
+        // The name is longer than the column of the field names
+        BibEntry invalidEntry = new BibEntry(StandardEntryType.Article).withField(new UnknownField("x".repeat(300)), "value");
+
+        dbmsProcessor.insertEntries(List.of(validEntry, invalidEntry));
+
+        assertEquals(List.of(), dbmsProcessor.getSharedEntries());
+        assertEquals(-1, validEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(-1, invalidEntry.getSharedBibEntryData().getSharedID());
+    }
+
     @Test
     void testUpdateEqualEntry() throws OfflineLockException, SQLException {
         BibEntry expectedBibEntry = getBibEntryExample();
@@ -366,6 +409,18 @@ class DBMSProcessorTest {
                 .withCitationKey("infigame1981");
     }
 
+    @Test
+    void notifyClientsAppendsToChangelogOfMySQL() throws SQLException {
+        assumeTrue(dbmsType == DBMSType.MYSQL);
+        MySQLProcessor mySQLProcessor = (MySQLProcessor) dbmsProcessor;
+
+        mySQLProcessor.notifyClients();
+        mySQLProcessor.notifyClients();
+
+        assertEquals(2, mySQLProcessor.getLatestChangeId());
+        assertEquals(Map.of(2L, mySQLProcessor.getProcessorId()), mySQLProcessor.getChangesAfter(1, 10));
+    }
+
     @Test
     void testInsertMultipleEntries() throws SQLException {
         List<BibEntry> entries = new ArrayList<>();
@@ -0,0 +1,69 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementCacheTest {
+
+    private Connection connection;
+    private PreparedStatementCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        cache = new PreparedStatementCache(connection);
+    }
+
+    @Test
+    void sameQueryReusesStatement() throws Exception {
+        PreparedStatement statement = cache.prepare("SELECT 1");
+
+        assertSame(statement, cache.prepare("SELECT 1"));
+        verify(connection, times(1)).prepareStatement("SELECT 1");
+    }
+
+    @Test
+    void reusedStatementIsCleared() throws Exception {
+        PreparedStatement statement = cache.prepare("SELECT ?");
+
+        cache.prepare("SELECT ?");
+
+        verify(statement).clearParameters();
+        verify(statement).clearBatch();
+    }
+
+    @Test
+    void closedStatementIsPreparedAgain() throws Exception {
+        PreparedStatement statement = cache.prepare("SELECT 1");
+        when(statement.isClosed()).thenReturn(true);
+
+        assertNotSame(statement, cache.prepare("SELECT 1"));
+    }
+
+    @Test
+    void leastRecentlyUsedStatementIsClosedWhenFull() throws Exception {
+        PreparedStatement first = cache.prepare("SELECT 0");
+        PreparedStatement second = cache.prepare("SELECT 1");
+        cache.prepare("SELECT 0");
+
+        for (int i = 2; i <= PreparedStatementCache.CAPACITY; i++) {
+            cache.prepare("SELECT " + i);
+        }
+
+        verify(second).close();
+        verify(first, never()).close();
+    }
+}
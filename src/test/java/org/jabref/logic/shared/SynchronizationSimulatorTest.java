@@ -2,6 +2,8 @@ package org.jabref.logic.shared;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import org.jabref.logic.citationkeypattern.GlobalCitationKeyPattern;
 import org.jabref.model.database.BibDatabaseContext;
@@ -94,6 +96,31 @@ public class SynchronizationSimulatorTest {
         assertEquals(clientContextA.getDatabase().getEntries(), clientContextB.getDatabase().getEntries());
     }
 
+    @Test
+    public void simulateEntryUpdateReachingOtherClientWithoutManualPull() throws Exception {
+        BibEntry bibEntry = getBibEntryExample(1);
+        // client A inserts an entry, client B is notified and pulls it
+        clientContextA.getDatabase().insertEntry(bibEntry);
+        waitUntil(() -> clientContextB.getDatabase().getEntryCount() == 1);
+
+        // client A changes the entry
+        bibEntry.setField(StandardField.YEAR, "2001");
+
+        waitUntil(() -> clientContextB.getDatabase().getEntries().get(0).getField(StandardField.YEAR).equals(Optional.of("2001")));
+        assertEquals(clientContextA.getDatabase().getEntries(), clientContextB.getDatabase().getEntries());
+    }
+
+    /**
+     * Waits for the notification listener of a client, which pulls the changes on its own thread
+     */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && (System.currentTimeMillis() < deadline)) {
+            Thread.sleep(50);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
     @Test
     public void simulateEntryDelitionAndManualPull() throws Exception {
         BibEntry bibEntry = getBibEntryExample(1);
@@ -0,0 +1,126 @@
+package org.jabref.logic.shared.listener;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.MySQLProcessor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MySQLChangeFeedListenerTest {
+
+    private static final String OWN_PROCESSOR_ID = "own";
+    private static final String OTHER_PROCESSOR_ID = "other";
+    private static final long WINDOW_START = 100 - MySQLChangeFeedListener.RECHECK_WINDOW;
+
+    private DBMSSynchronizer dbmsSynchronizer;
+    private MySQLProcessor processor;
+    private MySQLChangeFeedListener listener;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dbmsSynchronizer = mock(DBMSSynchronizer.class);
+        processor = mock(MySQLProcessor.class);
+        when(processor.getProcessorId()).thenReturn(OWN_PROCESSOR_ID);
+        when(processor.getChangesAfter(anyLong(), anyInt())).thenReturn(Map.of());
+        listener = new MySQLChangeFeedListener(dbmsSynchronizer, processor, List.of(99L, 100L));
+    }
+
+    private static Map<Long, String> changes(long firstId, int count, String processorId) {
+        Map<Long, String> changes = new LinkedHashMap<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            changes.put(id, processorId);
+        }
+        return changes;
+    }
+
+    @Test
+    void ownChangesAreNotPulled() throws Exception {
+        when(processor.getChangesAfter(WINDOW_START, MySQLChangeFeedListener.BATCH_SIZE)).thenReturn(changes(101, 2, OWN_PROCESSOR_ID));
+
+        assertFalse(listener.poll());
+        verify(dbmsSynchronizer, never()).pullChanges();
+    }
+
+    @Test
+    void changesOfOtherClientsArePulledOnce() throws Exception {
+        when(processor.getChangesAfter(WINDOW_START, MySQLChangeFeedListener.BATCH_SIZE)).thenReturn(changes(101, 3, OTHER_PROCESSOR_ID));
+
+        assertTrue(listener.poll());
+        verify(dbmsSynchronizer, times(1)).pullChanges();
+    }
+
+    @Test
+    void knownChangesAreNotPulledAgain() throws Exception {
+        when(processor.getChangesAfter(WINDOW_START, MySQLChangeFeedListener.BATCH_SIZE)).thenReturn(changes(99, 5, OTHER_PROCESSOR_ID));
+        when(processor.getChangesAfter(103 - MySQLChangeFeedListener.RECHECK_WINDOW, MySQLChangeFeedListener.BATCH_SIZE)).thenReturn(changes(99, 5, OTHER_PROCESSOR_ID));
+        listener.poll();
+
+        assertFalse(listener.poll());
+        verify(dbmsSynchronizer, times(1)).pullChanges();
+    }
+
+    @Test
+    void changeCommittedAfterHigherChangeIsPulled() throws Exception {
+        Map<Long, String> changesWithGap = changes(101, 3, OWN_PROCESSOR_ID);
+        changesWithGap.remove(102L);
+        when(processor.getChangesAfter(WINDOW_START, MySQLChangeFeedListener.BATCH_SIZE)).thenReturn(changesWithGap);
+        Map<Long, String> changesWithoutGap = changes(101, 3, OWN_PROCESSOR_ID);
+        changesWithoutGap.put(102L, OTHER_PROCESSOR_ID);
+        when(processor.getChangesAfter(103 - MySQLChangeFeedListener.RECHECK_WINDOW, MySQLChangeFeedListener.BATCH_SIZE)).thenReturn(changesWithoutGap);
+
+        assertFalse(listener.poll());
+        assertTrue(listener.poll());
+        verify(dbmsSynchronizer, times(1)).pullChanges();
+    }
+
+    @Test
+    void fullBatchIsFollowedByNextBatch() throws Exception {
+        int batchSize = MySQLChangeFeedListener.BATCH_SIZE;
+        when(processor.getChangesAfter(WINDOW_START, batchSize)).thenReturn(changes(101, batchSize, OWN_PROCESSOR_ID));
+        when(processor.getChangesAfter(100 + batchSize, batchSize)).thenReturn(changes(101 + batchSize, 1, OTHER_PROCESSOR_ID));
+
+        assertTrue(listener.poll());
+        verify(dbmsSynchronizer, times(1)).pullChanges();
+    }
+
+    @Test
+    void listenerContinuesAfterFailedPoll() throws Exception {
+        when(processor.getChangesAfter(anyLong(), anyInt()))
+                .thenThrow(new SQLException("Connection lost"))
+                .thenReturn(changes(101, 1, OTHER_PROCESSOR_ID));
+        Thread thread = new Thread(listener);
+        thread.start();
+
+        verify(dbmsSynchronizer, timeout(5000)).pullChanges();
+        listener.stop();
+        thread.join(5000);
+        assertFalse(thread.isAlive());
+    }
+
+    @Test
+    void intervalGrowsUpToMaximum() {
+        long interval = MySQLChangeFeedListener.MIN_INTERVAL_MILLIS;
+        for (int i = 0; i < 10; i++) {
+            interval = MySQLChangeFeedListener.getNextInterval(interval);
+        }
+
+        assertEquals(MySQLChangeFeedListener.MAX_INTERVAL_MILLIS, interval);
+    }
+}
@@ -0,0 +1,140 @@
+package org.jabref.logic.texparser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.model.texparser.Citation;
+import org.jabref.model.texparser.LatexParserResult;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatexCitationIndexTest {
+
+    @TempDir
+    Path indexDirectory;
+    @TempDir
+    Path projectDirectory;
+
+    private Path texFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        texFile = projectDirectory.resolve("paper.tex");
+        Files.writeString(texFile, "\\cite{Einstein1920}\n");
+    }
+
+    @Test
+    void storedCitationsAreReusedByANewParser() {
+        new DefaultLatexParser(new LatexCitationIndex(indexDirectory, projectDirectory)).parse(texFile);
+
+        LatexCitationIndex index = new LatexCitationIndex(indexDirectory, projectDirectory);
+        List<Path> parsedFiles = new ArrayList<>();
+        Map<Path, TexFileContent> contents = index.getContents(List.of(texFile), file -> {
+            parsedFiles.add(file);
+            return new TexFileContent(-1, -1, null, List.of(), List.of(), List.of());
+        });
+
+        assertEquals(List.of(), parsedFiles);
+        assertEquals(List.of(new TexFileContent.TexCitation("Einstein1920", 1, 0, 19, "\\cite{Einstein1920}")), contents.get(texFile).citations());
+    }
+
+    @Test
+    void changedFileIsParsedAgain() throws IOException {
+        LatexCitationIndex index = new LatexCitationIndex(indexDirectory, projectDirectory);
+        new DefaultLatexParser(index).parse(texFile);
+
+        Files.writeString(texFile, "\\cite{Einstein1920}\n\\cite{Darwin1888}\n");
+        Files.setLastModifiedTime(texFile, FileTime.fromMillis(Files.getLastModifiedTime(texFile).toMillis() + 10_000));
+        LatexParserResult result = new DefaultLatexParser(index).parse(texFile);
+
+        assertEquals(List.of(new Citation(texFile, 2, 0, 17, "\\cite{Darwin1888}")), List.copyOf(result.getCitationsByKey("Darwin1888")));
+    }
+
+    @Test
+    void fileWithSameSizeAndModificationTimeIsNotRead() throws IOException {
+        LatexCitationIndex index = new LatexCitationIndex(indexDirectory, projectDirectory);
+        new DefaultLatexParser(index).parse(texFile);
+
+        // The content is not hashed, thus a change keeping the size and the modification time is not noticed
+        FileTime lastModified = Files.getLastModifiedTime(texFile);
+        Files.writeString(texFile, "\\cite{Einstein1921}\n");
+        Files.setLastModifiedTime(texFile, lastModified);
+        List<Path> parsedFiles = new ArrayList<>();
+        index.getContents(List.of(texFile), file -> {
+            parsedFiles.add(file);
+            return new TexFileContent(-1, -1, null, List.of(), List.of(), List.of());
+        });
+
+        assertEquals(List.of(), parsedFiles);
+    }
+
+    @Test
+    void touchedFileWithSameContentIsNotParsedAgain() throws IOException {
+        LatexCitationIndex index = new LatexCitationIndex(indexDirectory, projectDirectory);
+        new DefaultLatexParser(index).parse(texFile);
+
+        Files.setLastModifiedTime(texFile, FileTime.fromMillis(Files.getLastModifiedTime(texFile).toMillis() + 10_000));
+        List<Path> parsedFiles = new ArrayList<>();
+        Map<Path, TexFileContent> contents = index.getContents(List.of(texFile), file -> {
+            parsedFiles.add(file);
+            return new TexFileContent(-1, -1, null, List.of(), List.of(), List.of());
+        });
+
+        assertEquals(List.of(), parsedFiles);
+        assertEquals(Files.getLastModifiedTime(texFile).toMillis(), contents.get(texFile).lastModified());
+    }
+
+    @Test
+    void touchedFileWithOtherContentOfSameSizeIsParsedAgain() throws IOException {
+        LatexCitationIndex index = new LatexCitationIndex(indexDirectory, projectDirectory);
+        new DefaultLatexParser(index).parse(texFile);
+
+        Files.writeString(texFile, "\\cite{Einstein1921}\n");
+        Files.setLastModifiedTime(texFile, FileTime.fromMillis(Files.getLastModifiedTime(texFile).toMillis() + 10_000));
+        LatexParserResult result = new DefaultLatexParser(index).parse(texFile);
+
+        assertEquals(List.of(new Citation(texFile, 1, 0, 19, "\\cite{Einstein1921}")), List.copyOf(result.getCitationsByKey("Einstein1921")));
+    }
+
+    @Test
+    void deletedFileIsRemovedFromIndex() throws IOException {
+        Path otherFile = projectDirectory.resolve("other.tex");
+        Files.writeString(otherFile, "\\cite{Darwin1888}\n");
+        LatexCitationIndex index = new LatexCitationIndex(indexDirectory, projectDirectory);
+        new DefaultLatexParser(index).parse(List.of(texFile, otherFile));
+
+        Files.delete(texFile);
+        new DefaultLatexParser(index).parse(otherFile);
+        // Same content as before, thus it would be taken from the index if it was still there
+        Files.writeString(texFile, "\\cite{Einstein1920}\n");
+        List<Path> parsedFiles = new ArrayList<>();
+        index.getContents(List.of(texFile), file -> {
+            parsedFiles.add(file);
+            return new TexFileContent(-1, -1, null, List.of(), List.of(), List.of());
+        });
+
+        assertEquals(List.of(texFile), parsedFiles);
+    }
+
+    @Test
+    void cyclicIncludesAreParsedOnce() throws IOException {
+        Path chapter = projectDirectory.resolve("chapter.tex");
+        Files.writeString(texFile, "\\input{chapter}\n");
+        Files.writeString(chapter, "\\include{paper}\n\\cite{Darwin1888}\n");
+
+        LatexParserResult result = new DefaultLatexParser().parse(texFile);
+
+        assertEquals(List.of(texFile), result.getFileList());
+        assertEquals(List.of(chapter), result.getNestedFiles());
+        assertEquals(1, result.getCitationsByKey("Darwin1888").size());
+    }
+}
@@ -0,0 +1,85 @@
+package org.jabref.logic.util;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTaskGraphTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final StartupTimeline timeline = new StartupTimeline();
+    private final StartupTaskGraph graph = new StartupTaskGraph(executor, timeline);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void dependentTaskStartsAfterDependency() {
+        graph.add("first", () -> sleep(50));
+        graph.add("second", () -> { }, "first");
+        graph.awaitAll();
+
+        StartupTimeline.Phase first = timeline.getPhase("first").orElseThrow();
+        StartupTimeline.Phase second = timeline.getPhase("second").orElseThrow();
+        assertTrue(second.start().compareTo(first.end()) >= 0);
+        assertEquals(List.of("first", "second"), timeline.getPhases().stream().map(StartupTimeline.Phase::name).toList());
+    }
+
+    @Test
+    void independentTasksRunConcurrently() throws InterruptedException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Runnable task = () -> {
+            bothStarted.countDown();
+            try {
+                bothStarted.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        graph.add("a", task);
+        graph.add("b", task);
+        graph.awaitAll();
+
+        assertEquals(0, bothStarted.getCount());
+    }
+
+    @Test
+    void failureSkipsDependentTasks() {
+        AtomicBoolean dependentRan = new AtomicBoolean();
+        graph.add("failing", () -> {
+            throw new IllegalStateException("failed");
+        });
+        graph.add("dependent", () -> dependentRan.set(true), "failing");
+
+        IllegalStateException exception = assertThrows(IllegalStateException.class, graph::awaitAll);
+        assertEquals("failed", exception.getMessage());
+        assertFalse(dependentRan.get());
+        assertTrue(timeline.getPhase("failing").isPresent());
+    }
+
+    @Test
+    void unknownDependencyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> graph.add("task", () -> { }, "unknown"));
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jabref.model.FieldChange;
@@ -58,6 +59,51 @@ class BibEntryTest {
         assertThrows(NullPointerException.class, () -> entry.setField(null));
     }
 
+    @Test
+    void getFieldAsLowerCaseWordsIsUpdatedOnFieldChange() {
+        entry.setField(StandardField.KEYWORDS, "Machine Learning, Graphs");
+        assertEquals(Set.of("machine", "learning", "graphs"), entry.getFieldAsLowerCaseWords(StandardField.KEYWORDS));
+
+        entry.setField(StandardField.KEYWORDS, "Databases");
+        assertEquals(Set.of("databases"), entry.getFieldAsLowerCaseWords(StandardField.KEYWORDS));
+    }
+
+    @Test
+    void getFieldAsKeywordSetIsUpdatedOnFieldChange() {
+        entry.setField(StandardField.KEYWORDS, "one, two");
+        assertEquals(Set.of(new Keyword("one"), new Keyword("two")), entry.getFieldAsKeywordSet(StandardField.KEYWORDS, ','));
+
+        entry.clearField(StandardField.KEYWORDS);
+        assertEquals(Set.of(), entry.getFieldAsKeywordSet(StandardField.KEYWORDS, ','));
+    }
+
+    @Test
+    void getFieldAsWordsIsUnmodifiable() {
+        entry.setField(StandardField.TITLE, "Graph databases");
+        assertThrows(UnsupportedOperationException.class, () -> entry.getFieldAsWords(StandardField.TITLE).add("other"));
+    }
+
+    @Test
+    void cachedWordsAreNotUsedForOtherFieldValue() {
+        entry.setField(StandardField.KEYWORDS, "one, two");
+        entry.getFieldAsWords(StandardField.KEYWORDS);
+        entry.getFieldAsKeywordSet(StandardField.KEYWORDS, ',');
+
+        // Replaces the fields without invalidating the caches, as a write racing with a cache update would
+        entry.withFields(Map.of(StandardField.KEYWORDS, "three"));
+
+        assertEquals(Set.of("three"), entry.getFieldAsWords(StandardField.KEYWORDS));
+        assertEquals(Set.of(new Keyword("three")), entry.getFieldAsKeywordSet(StandardField.KEYWORDS, ','));
+    }
+
+    @Test
+    void modifyingReturnedKeywordsDoesNotChangeCache() {
+        entry.setField(StandardField.KEYWORDS, "one, two");
+        entry.getFieldAsKeywords(StandardField.KEYWORDS, ',').add("three");
+
+        assertEquals(new KeywordList("one", "two"), entry.getFieldAsKeywords(StandardField.KEYWORDS, ','));
+    }
+
     @Test
     void getFieldIsCaseInsensitive() throws Exception {
         entry.setField(new UnknownField("TeSt"), "value");
@@ -846,4 +892,39 @@ class BibEntryTest {
     void isNotEmpty(BibEntry entry) {
         assertFalse(entry.isEmpty());
     }
+
+    @Test
+    void sortKeyIsReusedUntilEntryChanges() {
+        SortKeyCriterion<String> criterion = new SortKeyCriterion<>(StandardField.TITLE, String.class);
+        entry.setField(StandardField.TITLE, "old");
+        List<String> computedKeys = new ArrayList<>();
+        Function<BibEntry, String> keyFunction = bibEntry -> {
+            String key = bibEntry.getField(StandardField.TITLE).orElseThrow();
+            computedKeys.add(key);
+            return key;
+        };
+
+        assertEquals("old", entry.getSortKey(criterion, keyFunction));
+        assertEquals("old", entry.getSortKey(criterion, keyFunction));
+        entry.setField(StandardField.TITLE, "new");
+        assertEquals("new", entry.getSortKey(criterion, keyFunction));
+
+        assertEquals(List.of("old", "new"), computedKeys);
+    }
+
+    @Test
+    void sortKeyComputedWhileEntryChangesIsNotReused() {
+        SortKeyCriterion<String> criterion = new SortKeyCriterion<>(StandardField.TITLE, String.class);
+        entry.setField(StandardField.TITLE, "old");
+
+        String outdatedKey = entry.getSortKey(criterion, bibEntry -> {
+            String key = bibEntry.getField(StandardField.TITLE).orElseThrow();
+            // Another thread changes the entry after the key was computed from the old value
+            bibEntry.setField(StandardField.TITLE, "new");
+            return key;
+        });
+
+        assertEquals("old", outdatedKey);
+        assertEquals("new", entry.getSortKey(criterion, bibEntry -> bibEntry.getField(StandardField.TITLE).orElseThrow()));
+    }
 }
@@ -0,0 +1,146 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipEvaluatorTest {
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    private GroupTreeNode root;
+    private GroupTreeNode refiningNode;
+    private GroupTreeNode includingNode;
+
+    /**
+     * Root
+     *      A "a", Independent
+     *          B "b", Refining (= refiningNode)
+     *              C "c", Refining
+     *      A "d", Including (= includingNode)
+     *          B "e", Independent
+     *          B "f", Including
+     *              C "g", Independent
+     *          B "h", Refining
+     */
+    @BeforeEach
+    void setUp() {
+        root = GroupTreeNode.fromGroup(new AllEntriesGroup("All entries"));
+        GroupTreeNode a = root.addSubgroup(keywordGroup("a", GroupHierarchyType.INDEPENDENT));
+        refiningNode = a.addSubgroup(keywordGroup("b", GroupHierarchyType.REFINING));
+        refiningNode.addSubgroup(keywordGroup("c", GroupHierarchyType.REFINING));
+        includingNode = root.addSubgroup(keywordGroup("d", GroupHierarchyType.INCLUDING));
+        includingNode.addSubgroup(keywordGroup("e", GroupHierarchyType.INDEPENDENT));
+        GroupTreeNode f = includingNode.addSubgroup(keywordGroup("f", GroupHierarchyType.INCLUDING));
+        f.addSubgroup(keywordGroup("g", GroupHierarchyType.INDEPENDENT));
+        includingNode.addSubgroup(keywordGroup("h", GroupHierarchyType.REFINING));
+
+        // More entries than a single chunk to exercise the parallel evaluation
+        String[] keywords = {"a", "b", "c", "d", "e", "f", "g", "h"};
+        for (int i = 0; i < (2 * GroupMembershipEvaluator.CHUNK_SIZE) + 17; i++) {
+            List<String> entryKeywords = new ArrayList<>();
+            for (int bit = 0; bit < keywords.length; bit++) {
+                if (((i >> bit) & 1) == 1) {
+                    entryKeywords.add(keywords[bit]);
+                }
+            }
+            entries.add(new BibEntry().withField(StandardField.KEYWORDS, String.join(",", entryKeywords)));
+        }
+    }
+
+    private static WordKeywordGroup keywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', true);
+    }
+
+    @Test
+    void matchesAreEqualToFindMatchesForEveryNode() {
+        GroupMembership membership = GroupMembershipEvaluator.evaluate(root, entries);
+
+        assertEquals(9, membership.getNodes().size());
+        for (GroupTreeNode node : membership.getNodes()) {
+            assertEquals(node.findMatches(entries), membership.getMatches(node), node.getName());
+            assertEquals(node.findMatches(entries).size(), membership.getNumberOfMatches(node), node.getName());
+        }
+    }
+
+    @Test
+    void matchingGroupsAreEqualToGetMatchingGroups() {
+        GroupMembership membership = GroupMembershipEvaluator.evaluate(root, entries);
+
+        for (BibEntry entry : entries) {
+            assertEquals(root.getMatchingGroups(entry), membership.getMatchingGroups(entry));
+        }
+    }
+
+    @Test
+    void evaluationStartsAtRootForInnerNode() {
+        GroupMembership membership = GroupMembershipEvaluator.evaluate(refiningNode, entries);
+
+        assertEquals(refiningNode.findMatches(entries), membership.getMatches(refiningNode));
+        assertEquals(includingNode.findMatches(entries), membership.getMatches(includingNode));
+    }
+
+    @Test
+    void unknownEntryIsNotMatched() {
+        GroupMembership membership = GroupMembershipEvaluator.evaluate(root, entries);
+        BibEntry unknownEntry = new BibEntry().withField(StandardField.KEYWORDS, "a");
+
+        assertTrue(membership.getMatchingGroups(unknownEntry).isEmpty());
+        assertFalse(membership.matches(root, unknownEntry));
+    }
+
+    @Test
+    void reevaluationOnlyAsksNewGroupsAndChangedEntries() {
+        CountingGroup existingGroup = new CountingGroup("a");
+        root.addSubgroup(existingGroup);
+        GroupMembership previous = GroupMembershipEvaluator.evaluate(root, entries);
+        existingGroup.calls.set(0);
+
+        CountingGroup addedGroup = new CountingGroup("b");
+        root.addSubgroup(addedGroup);
+        BibEntry changedEntry = entries.get(0);
+        changedEntry.setField(StandardField.KEYWORDS, "a,b");
+        GroupMembership membership = GroupMembershipEvaluator.reevaluate(previous, root, entries, Set.of(changedEntry));
+
+        assertEquals(1, existingGroup.calls.get());
+        assertEquals(entries.size(), addedGroup.calls.get());
+        for (BibEntry entry : entries) {
+            assertEquals(root.getMatchingGroups(entry), membership.getMatchingGroups(entry));
+        }
+    }
+
+    @Test
+    void reevaluationEvaluatesNewEntries() {
+        GroupMembership previous = GroupMembershipEvaluator.evaluate(root, entries);
+        BibEntry newEntry = new BibEntry().withField(StandardField.KEYWORDS, "a,b");
+        entries.add(newEntry);
+
+        GroupMembership membership = GroupMembershipEvaluator.reevaluate(previous, root, entries, Set.of());
+
+        assertEquals(root.getMatchingGroups(newEntry), membership.getMatchingGroups(newEntry));
+    }
+
+    private static class CountingGroup extends WordKeywordGroup {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        CountingGroup(String keyword) {
+            super(keyword, GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, keyword, true, ',', true);
+        }
+
+        @Override
+        public boolean contains(BibEntry entry) {
+            calls.incrementAndGet();
+            return super.contains(entry);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.jabref.model.groups;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegexKeywordGroupTest {
+
+    @Test
+    void literalExpressionMatchesWholeWordIgnoringCase() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", false);
+
+        assertTrue(group.contains(new BibEntry().withField(StandardField.KEYWORDS, "A TEST entry")));
+        assertFalse(group.contains(new BibEntry().withField(StandardField.KEYWORDS, "testing")));
+        assertFalse(group.contains(new BibEntry().withField(StandardField.KEYWORDS, "other")));
+    }
+
+    @Test
+    void literalExpressionRespectsCaseSensitivity() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "test", true);
+
+        assertFalse(group.contains(new BibEntry().withField(StandardField.KEYWORDS, "A TEST entry")));
+        assertTrue(group.contains(new BibEntry().withField(StandardField.KEYWORDS, "a test entry")));
+    }
+
+    @Test
+    void regularExpressionIsEvaluated() {
+        RegexKeywordGroup group = new RegexKeywordGroup("name", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "te.t", false);
+
+        assertTrue(group.contains(new BibEntry().withField(StandardField.KEYWORDS, "text")));
+    }
+}
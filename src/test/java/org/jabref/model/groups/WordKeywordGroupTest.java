@@ -121,4 +121,14 @@ public class WordKeywordGroupTest {
 
         assertEquals(Optional.of("blubb"), entry.getField(StandardField.KEYWORDS));
     }
+
+    @Test
+    public void containsIgnoresCaseAfterFieldChange() {
+        entry.setField(StandardField.KEYWORDS, "other");
+        assertFalse(testGroup.contains(entry));
+
+        entry.setField(StandardField.KEYWORDS, "TEST, other");
+        assertTrue(testGroup.contains(entry));
+        assertFalse(testCaseSensitiveGroup.contains(entry));
+    }
 }
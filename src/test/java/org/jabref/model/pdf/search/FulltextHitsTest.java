@@ -0,0 +1,60 @@
+package org.jabref.model.pdf.search;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FulltextHitsTest {
+
+    private final SearchResult firstPage = new SearchResult("paper.pdf", 1, 0, 2.0f, null, null);
+    private final SearchResult secondPage = new SearchResult("paper.pdf", 2, 0, 1.0f, null, null);
+    private final SearchResult thesisPage = new SearchResult("thesis.pdf", 1, 0, 1.5f, null, null);
+    private final FulltextHits hits = new FulltextHits("test", new PdfSearchResults(List.of(firstPage, secondPage, thesisPage)));
+
+    @Test
+    void entryWithHitInLinkedFileHasResults() {
+        BibEntry entry = entryWithFiles(List.of(new LinkedFile("", "paper.pdf", "PDF")));
+
+        assertTrue(hits.hasResultsFor(entry));
+        assertEquals(List.of(secondPage, firstPage), hits.getResultsFor(entry).getSearchResults());
+    }
+
+    @Test
+    void entryWithoutHitsHasNoResults() {
+        BibEntry entry = entryWithFiles(List.of(new LinkedFile("", "other.pdf", "PDF")));
+
+        assertFalse(hits.hasResultsFor(entry));
+        assertEquals(0, hits.getResultsFor(entry).numSearchResults());
+    }
+
+    @Test
+    void fileLinkedTwiceIsCountedOnce() {
+        BibEntry entry = entryWithFiles(List.of(
+                new LinkedFile("", "thesis.pdf", "PDF"),
+                new LinkedFile("Copy", "thesis.pdf", "PDF")));
+
+        assertEquals(List.of(thesisPage), hits.getResultsFor(entry).getSearchResults());
+    }
+
+    @Test
+    void emptyHitsMatchNothing() {
+        BibEntry entry = entryWithFiles(List.of(new LinkedFile("", "paper.pdf", "PDF")));
+
+        assertFalse(FulltextHits.EMPTY.hasResultsFor(entry));
+        assertEquals(0, FulltextHits.EMPTY.size());
+        assertEquals(3, hits.size());
+    }
+
+    private static BibEntry entryWithFiles(List<LinkedFile> files) {
+        BibEntry entry = new BibEntry();
+        entry.setFiles(files);
+        return entry;
+    }
+}
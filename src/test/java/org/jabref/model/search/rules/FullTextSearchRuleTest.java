@@ -0,0 +1,83 @@
+package org.jabref.model.search.rules;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.pdf.search.indexing.PdfIndexer;
+import org.jabref.logic.pdf.search.retrieval.PdfSearcher;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.pdf.search.PdfSearchResults;
+import org.jabref.model.pdf.search.SearchResult;
+import org.jabref.preferences.FilePreferences;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FullTextSearchRuleTest {
+
+    private final BibDatabase database = new BibDatabase();
+    private final BibDatabaseContext context = mock(BibDatabaseContext.class);
+
+    @BeforeEach
+    void setUp(@TempDir Path indexDir) throws IOException {
+        when(context.getFileDirectories(Mockito.any())).thenReturn(Collections.singletonList(Path.of("src/test/resources/pdfs")));
+        when(context.getFulltextIndexPath()).thenReturn(indexDir);
+        when(context.getDatabase()).thenReturn(database);
+        when(context.getEntries()).thenReturn(database.getEntries());
+        for (String file : List.of("example.pdf", "metaData.pdf", "thesis-example.pdf")) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article);
+            entry.setFiles(Collections.singletonList(new LinkedFile("", file, StandardFileType.PDF.getName())));
+            database.insertEntry(entry);
+        }
+
+        PdfIndexer indexer = PdfIndexer.of(context, mock(FilePreferences.class));
+        indexer.createIndex();
+        indexer.addToIndex(context);
+        Globals.stateManager.setActiveDatabase(context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Globals.stateManager.setActiveDatabase(null);
+    }
+
+    @Test
+    void entriesLinkingFilesWithHitsMatch() throws IOException {
+        PdfSearchResults hits = PdfSearcher.of(context).search("annotation");
+        assertEquals(2, hits.numSearchResults());
+        List<String> filesWithHits = hits.getSearchResults().stream().map(SearchResult::getPath).distinct().toList();
+        ContainsBasedSearchRule rule = new ContainsBasedSearchRule(EnumSet.of(SearchRules.SearchFlags.FULLTEXT));
+
+        for (BibEntry entry : database.getEntries()) {
+            boolean linksFileWithHits = filesWithHits.contains(entry.getFiles().get(0).getLink());
+            assertEquals(linksFileWithHits, rule.applyRule("annotation", entry));
+            assertEquals(hits.getSearchResults().stream().filter(hit -> hit.isResultFor(entry)).count(),
+                    rule.getFulltextResults("annotation", entry).numSearchResults());
+        }
+    }
+
+    @Test
+    void withoutFulltextFlagNoFileIsSearched() {
+        ContainsBasedSearchRule rule = new ContainsBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+
+        for (BibEntry entry : database.getEntries()) {
+            assertEquals(0, rule.getFulltextResults("annotation", entry).numSearchResults());
+        }
+    }
+}
@@ -91,6 +91,40 @@ public class GrammarBasedSearchRuleTest {
         assertTrue(searchRule.applyRule(query, new BibEntry(StandardEntryType.PhdThesis)));
     }
 
+    @Test
+    void chainedOperandsAreAllEvaluated() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.noneOf(SearchRules.SearchFlags.class));
+        String query = "anyfield=larviculture and author=shields and entrytype=incollection and not year=2002";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry().withField(StandardField.YEAR, "2002")));
+    }
+
+    @Test
+    void caseSensitiveLiteralComparisonsWork() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.of(SearchRules.SearchFlags.CASE_SENSITIVE));
+        assertTrue(searchRule.validateSearchStrings("author==\"Kevin Shields\" and title=finfish"));
+        assertTrue(searchRule.applyRule("author==\"Kevin Shields\" and title=finfish", makeBibtexEntry()));
+        assertTrue(searchRule.validateSearchStrings("author==Kevin or title=Finfish"));
+        assertFalse(searchRule.applyRule("author==Kevin or title=Finfish", makeBibtexEntry()));
+    }
+
+    @Test
+    void invalidRegexFailsSearchWhenReached() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.of(SearchRules.SearchFlags.REGULAR_EXPRESSION));
+        String query = "title=\"(unclosed\" or author=shields";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void invalidRegexIsNotReachedIfPreviousOperandDecides() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(EnumSet.of(SearchRules.SearchFlags.REGULAR_EXPRESSION));
+        String query = "author=shields or title=\"(unclosed\"";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
     public BibEntry makeBibtexEntry() {
         return new BibEntry(StandardEntryType.InCollection)
                 .withCitationKey("shields01")
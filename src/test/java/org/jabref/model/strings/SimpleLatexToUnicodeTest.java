@@ -0,0 +1,55 @@
+package org.jabref.model.strings;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SimpleLatexToUnicodeTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Plain text without any LaTeX",
+            "O'Connor",
+            "1-2",
+            "{A} Title with {Protected} Words",
+            "M{\\\"{o}}nch",
+            "{\\\"a}",
+            "Mali\\'nski",
+            "Monta\\~{n}a",
+            "\\L\\k{e}ski",
+            "{\\c{c}}a va",
+            "Stra{\\ss}e",
+            "{\\O}stergaard",
+            "Smith \\& Wesson",
+            "50\\%"})
+    void convertsLikeTheParser(String latex) {
+        assertEquals(LatexToUnicodeAdapter.parseWithLibrary(latex), SimpleLatexToUnicode.convert(latex));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "$\\sigma$",
+            "A~tie",
+            "1--2",
+            "``quoted''",
+            "Lorem ipsum_lorem ipsum",
+            "\\textit{text}",
+            "\\\"{\\i}",
+            "\\aaaa",
+            "{unbalanced",
+            "\\ss x",
+            "two  spaces",
+            "line\nbreak"})
+    void leavesOtherLatexToTheParser(String latex) {
+        assertEquals(Optional.empty(), SimpleLatexToUnicode.convert(latex));
+    }
+
+    @Test
+    void convertsAccentsToComposedCharacters() {
+        assertEquals(Optional.of("Mönch"), SimpleLatexToUnicode.convert("M{\\\"{o}}nch"));
+    }
+}